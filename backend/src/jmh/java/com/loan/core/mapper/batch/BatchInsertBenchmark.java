@@ -0,0 +1,163 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.RepaymentMethod;
+import com.loan.core.service.RepaymentCalculator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one disbursement's repayment schedule two ways: one INSERT per row, and the JDBC batch used by
+ * {@link RepaymentScheduleBatchWriter}. Each runs with the driver defaults and with the driver settings of the
+ * {@code prod} profile.
+ * Needs a database with the application schema, by default the docker-compose Postgres:
+ * <pre>
+ * docker compose up -d postgres &amp;&amp; gradle bootRun   # once, to create the schema
+ * BENCH_DB_URL=jdbc:postgresql://localhost:5433/credit_loan gradle jmh -Pjmh.includes=BatchInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO repayment_schedules (contract_id, installment_no, due_date, principal_amount,
+                                             interest_amount, total_amount, outstanding_balance_after,
+                                             status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Param({"default", "tuned"})
+    private String driverSettings;
+
+    @Param({"360"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private RepaymentScheduleBatchWriter scheduleWriter;
+    private long customerId;
+    private long applicationId;
+    private long contractId;
+    private List<RepaymentSchedule> schedules;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = env("BENCH_DB_URL", "jdbc:postgresql://localhost:5433/credit_loan");
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(env("BENCH_DB_USERNAME", "postgres"));
+        dataSource.setPassword(env("BENCH_DB_PASSWORD", "postgres"));
+        dataSource.setMaximumPoolSize(2);
+        if ("tuned".equals(driverSettings) && url.startsWith("jdbc:postgresql:")) {
+            // Same values as spring.datasource.hikari.data-source-properties in application-prod.yml
+            dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+            dataSource.addDataSourceProperty("prepareThreshold", "3");
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", "512");
+            dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB", "10");
+        }
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        scheduleWriter = new RepaymentScheduleBatchWriter(jdbcTemplate, new LoanBatchProperties());
+
+        createContract();
+        schedules = RepaymentCalculator.generateSchedules(contractId, new BigDecimal("300000000"),
+                new BigDecimal("4.5"), rows, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST, LocalDate.of(2026, 1, 1));
+        LocalDateTime now = LocalDateTime.now();
+        schedules.forEach(schedule -> {
+            schedule.setCreatedAt(now);
+            schedule.setUpdatedAt(now);
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void clearSchedules() {
+        jdbcTemplate.update("DELETE FROM repayment_schedules WHERE contract_id = ?", contractId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clearSchedules();
+        jdbcTemplate.update("DELETE FROM loan_contracts WHERE id = ?", contractId);
+        jdbcTemplate.update("DELETE FROM loan_applications WHERE id = ?", applicationId);
+        jdbcTemplate.update("DELETE FROM customers WHERE id = ?", customerId);
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Integer singleInserts() {
+        return transactionTemplate.execute(status -> {
+            int written = 0;
+            for (RepaymentSchedule schedule : schedules) {
+                written += jdbcTemplate.update(INSERT_SQL, schedule.getContractId(), schedule.getInstallmentNo(),
+                        schedule.getDueDate(), schedule.getPrincipalAmount(), schedule.getInterestAmount(),
+                        schedule.getTotalAmount(), schedule.getOutstandingBalanceAfter(), schedule.getStatus().name(),
+                        schedule.getCreatedAt(), schedule.getUpdatedAt());
+            }
+            return written;
+        });
+    }
+
+    @Benchmark
+    public Integer jdbcBatch() {
+        return transactionTemplate.execute(status -> scheduleWriter.write(schedules.iterator()));
+    }
+
+    /**
+     * Inserts a customer, application and contract to own the benchmark rows, so existing data is never touched.
+     */
+    private void createContract() throws SQLException {
+        String suffix = Long.toString(System.nanoTime() % 1_000_000_000_000L);
+        try (Connection connection = dataSource.getConnection()) {
+            customerId = insert(connection, """
+                    INSERT INTO customers (customer_no, name, annual_income, employment_type)
+                    VALUES ('BC%s', '벤치마크', 100000000, 'REGULAR')
+                    """.formatted(suffix));
+            applicationId = insert(connection, """
+                    INSERT INTO loan_applications (application_no, customer_id, requested_amount, requested_term_months,
+                                                   repayment_method, status)
+                    VALUES ('BA%s', %d, 300000000, %d, 'EQUAL_PRINCIPAL_AND_INTEREST', 'EXECUTED')
+                    """.formatted(suffix, customerId, rows));
+            contractId = insert(connection, """
+                    INSERT INTO loan_contracts (contract_no, application_id, customer_id, principal_amount, interest_rate,
+                                                term_months, repayment_method, monthly_payment, outstanding_balance, status)
+                    VALUES ('BL%s', %d, %d, 300000000, 4.5, %d, 'EQUAL_PRINCIPAL_AND_INTEREST', 0, 300000000, 'ACTIVE')
+                    """.formatted(suffix, applicationId, customerId, rows));
+        }
+    }
+
+    private static long insert(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"})) {
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
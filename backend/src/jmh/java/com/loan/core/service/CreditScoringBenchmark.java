@@ -0,0 +1,52 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.enums.EmploymentType;
+import com.loan.core.domain.enums.RepaymentMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditScoringBenchmark {
+
+    @Param({"REGULAR", "FREELANCE", "UNEMPLOYED"})
+    private EmploymentType employmentType;
+
+    private Customer customer;
+    private LoanApplication application;
+
+    @Setup
+    public void setUp() {
+        customer = Customer.builder()
+                .id(1L)
+                .annualIncome(new BigDecimal("55000000"))
+                .employmentType(employmentType)
+                .build();
+        application = LoanApplication.builder()
+                .id(1L)
+                .customerId(1L)
+                .requestedAmount(new BigDecimal("30000000"))
+                .requestedTermMonths(36)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .existingLoanAmount(new BigDecimal("5000000"))
+                .build();
+    }
+
+    @Benchmark
+    public int creditScore() {
+        return CreditAssessmentService.calculateCreditScore(customer);
+    }
+
+    @Benchmark
+    public BigDecimal dsrRatio() {
+        return CreditAssessmentService.calculateDsrRatio(application, customer);
+    }
+}
@@ -0,0 +1,60 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.RepaymentMethod;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepaymentCalculatorBenchmark {
+
+    @Param({"12", "60", "360"})
+    private int termMonths;
+
+    @Param({"EQUAL_PRINCIPAL_AND_INTEREST", "EQUAL_PRINCIPAL", "BULLET"})
+    private RepaymentMethod method;
+
+    private final BigDecimal principal = new BigDecimal("300000000");
+    private final BigDecimal annualRate = new BigDecimal("4.5");
+    private final LocalDate startDate = LocalDate.of(2026, 1, 1);
+
+    @Benchmark
+    public BigDecimal calculateMonthlyPayment() {
+        return RepaymentCalculator.calculateMonthlyPayment(principal, annualRate, termMonths, method);
+    }
+
+    @Benchmark
+    public List<RepaymentSchedule> generateSchedules() {
+        return RepaymentCalculator.generateSchedules(1L, principal, annualRate, termMonths, method, startDate);
+    }
+
+    @Benchmark
+    public BigDecimal fixedPointCalculateMonthlyPayment() {
+        return FixedPointRepaymentCalculator.calculateMonthlyPayment(principal, annualRate, termMonths, method);
+    }
+
+    @Benchmark
+    public List<RepaymentSchedule> fixedPointGenerateSchedules() {
+        return FixedPointRepaymentCalculator.generateSchedules(1L, principal, annualRate, termMonths, method, startDate);
+    }
+
+    @Benchmark
+    public void fixedPointCursor(Blackhole blackhole) {
+        FixedPointRepaymentCalculator.InstallmentCursor cursor = FixedPointRepaymentCalculator.amortize(
+                FixedPointRepaymentCalculator.toMinorUnits(principal), annualRate, termMonths, method);
+        while (cursor.next()) {
+            blackhole.consume(cursor.total());
+            blackhole.consume(cursor.outstandingAfter());
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.loan.core.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Closed-loop HTTP load test against a running server. A fixed number of client threads each send the next
+ * request as soon as the previous one returns, first against loan application creation and then against
+ * installment repayment, and the run's throughput and latency percentiles are written to
+ * {@code <resultsDir>/<label>.json}. Every earlier result in that directory is printed next to the new one, so
+ * running once with platform threads and once with the virtual-threads profile gives a side-by-side comparison.
+ * <p>
+ * Setup creates its own customers and contracts through the API. Each contract has 360 installments and every
+ * successful repayment uses one, so {@code contracts * 360} bounds how many repayments a run can post.
+ */
+public final class EndpointLoadTest {
+
+    private static final int TERM_MONTHS = 360;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration duration;
+    private final HttpClient client;
+
+    private EndpointLoadTest(String baseUrl, int concurrency, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String label = System.getProperty("load.label", "run");
+        String baseUrl = System.getProperty("load.url", "http://localhost:8080");
+        int concurrency = Integer.getInteger("load.concurrency", 200);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration", 30));
+        int contracts = Integer.getInteger("load.contracts", 200);
+        Path resultsDir = Path.of(System.getProperty("load.resultsDir", "build/reports/loadtest"));
+
+        EndpointLoadTest test = new EndpointLoadTest(baseUrl, concurrency, duration);
+        System.out.printf("Setting up %d contracts on %s%n", contracts, baseUrl);
+        Fixture fixture = test.setUp(contracts);
+
+        AtomicLong nextContract = new AtomicLong();
+        List<ScenarioResult> scenarios = List.of(
+                test.run("POST /loans/applications", () -> test.post("/api/v1/loans/applications",
+                        applicationBody(fixture.customerIds[ThreadLocalRandom.current().nextInt(fixture.customerIds.length)]))),
+                test.run("POST /loans/contracts/{id}/repay", () -> {
+                    long contractId = fixture.contractIds[(int) (nextContract.getAndIncrement() % fixture.contractIds.length)];
+                    return test.post("/api/v1/loans/contracts/" + contractId + "/repay", Map.of("amount", 100000));
+                }));
+
+        RunResult result = new RunResult(label, baseUrl, concurrency, duration.toSeconds(), scenarios);
+        Files.createDirectories(resultsDir);
+        JSON.writeValue(resultsDir.resolve(label + ".json").toFile(), result);
+        printComparison(resultsDir);
+    }
+
+    private Fixture setUp(int contracts) throws Exception {
+        long[] customerIds = new long[contracts];
+        long[] contractIds = new long[contracts];
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(16, concurrency));
+        try {
+            List<Future<?>> futures = new ArrayList<>(contracts);
+            for (int i = 0; i < contracts; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    long customerId = id(post("/api/v1/customers", customerBody(index)));
+                    long applicationId = id(post("/api/v1/loans/applications", applicationBody(customerId)));
+                    expectOk(post("/api/v1/loans/applications/" + applicationId + "/submit", null));
+                    expectOk(post("/api/v1/loans/applications/" + applicationId + "/assess", null));
+                    customerIds[index] = customerId;
+                    contractIds[index] = id(post("/api/v1/loans/contracts/execute/" + applicationId, null));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new Fixture(customerIds, contractIds);
+    }
+
+    private ScenarioResult run(String name, Supplier<HttpResponse<String>> request) throws Exception {
+        System.out.printf("%s: %d clients, %ds warmup, %ds measured%n", name, concurrency, WARMUP.toSeconds(), duration.toSeconds());
+        drive(request, WARMUP);
+        List<Recorder> recorders = drive(request, duration);
+
+        long[] latencies = recorders.stream().flatMapToLong(recorder -> Arrays.stream(recorder.latencies, 0, recorder.count)).sorted().toArray();
+        long errors = recorders.stream().mapToLong(recorder -> recorder.errors).sum();
+        ScenarioResult result = new ScenarioResult(name, latencies.length, errors,
+                latencies.length / (double) duration.toSeconds(),
+                millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.90)),
+                millis(percentile(latencies, 0.99)), millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+        System.out.println("  " + result);
+        return result;
+    }
+
+    private List<Recorder> drive(Supplier<HttpResponse<String>> request, Duration length) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(pool.submit(() -> {
+                    Recorder recorder = new Recorder();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        HttpResponse<String> response = request.get();
+                        recorder.record(System.nanoTime() - start, response != null && response.statusCode() / 100 == 2);
+                    }
+                    return recorder;
+                }));
+            }
+            List<Recorder> recorders = new ArrayList<>(concurrency);
+            for (Future<Recorder> future : futures) {
+                recorders.add(future.get(length.toSeconds() + 60, TimeUnit.SECONDS));
+            }
+            return recorders;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private HttpResponse<String> post(String path, Object body) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json");
+            builder.POST(body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+            return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static Map<String, Object> customerBody(int index) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "부하테스트" + index);
+        body.put("email", "load" + index + "@example.com");
+        body.put("phone", "010-0000-0000");
+        body.put("annualIncome", 120_000_000);
+        body.put("employmentType", "REGULAR");
+        body.put("birthDate", "1985-01-01");
+        return body;
+    }
+
+    private static Map<String, Object> applicationBody(long customerId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("customerId", customerId);
+        body.put("requestedAmount", 30_000_000);
+        body.put("requestedTermMonths", TERM_MONTHS);
+        body.put("repaymentMethod", "EQUAL_PRINCIPAL_AND_INTEREST");
+        body.put("purpose", "부하테스트");
+        return body;
+    }
+
+    private static long id(HttpResponse<String> response) throws IOException {
+        return expectOk(response).path("data").path("id").asLong();
+    }
+
+    private static JsonNode expectOk(HttpResponse<String> response) throws IOException {
+        if (response == null || response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Setup request failed: "
+                    + (response == null ? "no response" : response.statusCode() + " " + response.body()));
+        }
+        return JSON.readTree(response.body());
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private static void printComparison(Path resultsDir) throws IOException {
+        List<RunResult> runs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(resultsDir)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).sorted().toList()) {
+                runs.add(JSON.readValue(file.toFile(), RunResult.class));
+            }
+        }
+        System.out.println();
+        System.out.printf("%-34s %-12s %12s %10s %10s %10s %10s %8s%n", "endpoint", "run", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+        List<String> names = runs.stream().flatMap(run -> run.scenarios().stream().map(ScenarioResult::name)).distinct().toList();
+        for (String name : names) {
+            for (RunResult run : runs) {
+                run.scenarios().stream().filter(scenario -> scenario.name().equals(name)).findFirst().ifPresent(scenario ->
+                        System.out.printf("%-34s %-12s %12.1f %10.2f %10.2f %10.2f %10.2f %8d%n", name,
+                                run.label() + "/" + run.concurrency(), scenario.throughput(), scenario.p50Millis(),
+                                scenario.p90Millis(), scenario.p99Millis(), scenario.maxMillis(), scenario.errors()));
+            }
+        }
+    }
+
+    private record Fixture(long[] customerIds, long[] contractIds) {
+    }
+
+    record RunResult(String label, String url, int concurrency, long durationSeconds, List<ScenarioResult> scenarios) {
+    }
+
+    record ScenarioResult(String name, long requests, long errors, double throughput,
+                          double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Recorder {
+
+        private long[] latencies = new long[4096];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.loan.core.config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class BatchExecutorConfig {
+
+    /**
+     * Fixed-size pool for CPU-bound scoring. The queue is bounded and overflow runs on the caller,
+     * so a large run applies back-pressure instead of piling up tasks. With {@code spring.threads.virtual.enabled}
+     * on Java 21+ the workers are virtual threads; the pool size still caps how many score at once.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor assessmentExecutor(LoanBatchProperties batchProperties, Environment environment) {
+        int threads = batchProperties.getAssessmentThreads();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("assessment-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Workers for nightly penalty accrual. Each task is one chunk transaction doing I/O, so the pool size also caps
+     * the connections the run holds; overflow runs on the submitting thread, which pauses paging the next chunk.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor penaltyExecutor(LoanPenaltyProperties penaltyProperties, Environment environment) {
+        int threads = penaltyProperties.getThreads();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("penalty-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Workers for rate repricing, sized and queued like {@link #penaltyExecutor}.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor repricingExecutor(LoanRepricingProperties repricingProperties, Environment environment) {
+        int threads = repricingProperties.getThreads();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("repricing-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
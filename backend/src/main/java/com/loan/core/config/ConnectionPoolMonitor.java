@@ -0,0 +1,62 @@
+package com.loan.core.config;
+
+import com.loan.core.dto.response.ConnectionPoolStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports every Hikari pool in the context: the single auto-configured pool, or the primary and replica pools
+ * when replica routing is on. The driver does not expose prepared statement cache hits, so the statement
+ * settings are reported as configured.
+ */
+@Component
+public class ConnectionPoolMonitor {
+
+    private static final List<String> STATEMENT_SETTINGS = List.of(
+            "prepareThreshold", "preparedStatementCacheQueries", "preparedStatementCacheSizeMiB", "reWriteBatchedInserts");
+
+    private final ListableBeanFactory beanFactory;
+
+    public ConnectionPoolMonitor(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    public List<ConnectionPoolStats> stats() {
+        // Looked up per call: the routing pools are not autowire candidates and so cannot be injected as a list
+        return beanFactory.getBeansOfType(HikariDataSource.class).values().stream()
+                .map(ConnectionPoolMonitor::stats)
+                .toList();
+    }
+
+    static ConnectionPoolStats stats(HikariDataSource dataSource) {
+        Map<String, String> statementSettings = new LinkedHashMap<>();
+        for (String name : STATEMENT_SETTINGS) {
+            Object value = dataSource.getDataSourceProperties().get(name);
+            if (value != null) {
+                statementSettings.put(name, value.toString());
+            }
+        }
+        ConnectionPoolStats.ConnectionPoolStatsBuilder stats = ConnectionPoolStats.builder()
+                .poolName(dataSource.getPoolName())
+                .maximumPoolSize(dataSource.getMaximumPoolSize())
+                .minimumIdle(dataSource.getMinimumIdle())
+                .connectionTimeoutMillis(dataSource.getConnectionTimeout())
+                .statementSettings(statementSettings);
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return stats.started(false).build();
+        }
+        return stats.started(true)
+                .active(pool.getActiveConnections())
+                .idle(pool.getIdleConnections())
+                .total(pool.getTotalConnections())
+                .threadsAwaitingConnection(pool.getThreadsAwaitingConnection())
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.loan.core.dto.response.ApiResponse;
 import com.loan.core.exception.BusinessException;
 import com.loan.core.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -37,6 +38,13 @@ public class GlobalExceptionHandler {
         return ApiResponse.error(ex.getMessage());
     }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Void> handleConcurrencyFailureException(ConcurrencyFailureException ex) {
+        log.warn("Concurrent update: {}", ex.getMessage());
+        return ApiResponse.error("다른 요청과 동시에 처리되어 반영하지 못했습니다. 잠시 후 다시 시도해 주세요");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiResponse<Void> handleValidationException(MethodArgumentNotValidException ex) {
@@ -0,0 +1,48 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.audit")
+public class LoanAuditProperties {
+
+    /**
+     * How status history rows reach the database; see {@link Mode}.
+     */
+    private Mode mode = Mode.TRANSACTIONAL;
+
+    /**
+     * Entries held in memory in {@link Mode#WRITE_BEHIND} before callers start writing their own entries.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Rows per insert batch written by the background writer.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long a caller waits for room in a full queue before writing its entries itself.
+     */
+    private Duration offerTimeout = Duration.ofMillis(20);
+
+    public enum Mode {
+        /**
+         * One INSERT per state change, inside the business transaction.
+         */
+        DIRECT,
+        /**
+         * Entries are buffered per transaction and inserted in one JDBC batch just before it commits, so they
+         * commit or roll back with the change they describe.
+         */
+        TRANSACTIONAL,
+        /**
+         * Entries are queued after the transaction commits and inserted in batches by a background thread.
+         * Cheapest for the caller, but entries still in the queue are lost if the process dies.
+         */
+        WRITE_BEHIND
+    }
+}
@@ -0,0 +1,20 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "loan.batch")
+public class LoanBatchProperties {
+
+    /**
+     * Rows bound per JDBC batch before flushing. 10 columns x 500 rows stays far below the
+     * 65535 bind-parameter limit of the Postgres driver.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Worker threads that score applications in parallel during a batch assessment run.
+     */
+    private int assessmentThreads = 4;
+}
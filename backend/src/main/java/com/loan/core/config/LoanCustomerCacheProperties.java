@@ -0,0 +1,27 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.customer-cache")
+public class LoanCustomerCacheProperties {
+
+    /**
+     * When off every lookup goes to the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Customers kept in memory; the oldest entries are evicted first once this is exceeded.
+     */
+    private int maximumSize = 10_000;
+
+    /**
+     * How long an entry is served after it was loaded. Updates made on another instance become visible here
+     * after at most this long.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
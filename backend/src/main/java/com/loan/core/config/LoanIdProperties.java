@@ -0,0 +1,15 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "loan.id")
+public class LoanIdProperties {
+
+    /**
+     * Node id (0-1023) embedded in every business number. Must be unique per running instance and is required:
+     * startup fails without it. The dev profile defaults it to 0.
+     */
+    private Integer nodeId;
+}
@@ -0,0 +1,22 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.lock")
+public class LoanLockProperties {
+
+    /**
+     * Lock stripes shared by all contracts, rounded up to a power of two. More stripes mean fewer unrelated
+     * contracts queueing behind each other, at the cost of one lock object per stripe.
+     */
+    private int contractStripes = 256;
+
+    /**
+     * How long a request waits for its contract's stripe before giving up with a 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,16 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.metrics")
+public class LoanMetricsProperties {
+
+    /**
+     * Mapper statements taking at least this long are logged at WARN with their SQL and counted as slow.
+     */
+    private Duration slowStatementThreshold = Duration.ofMillis(200);
+}
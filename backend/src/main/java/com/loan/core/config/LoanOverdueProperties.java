@@ -0,0 +1,34 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.overdue")
+public class LoanOverdueProperties {
+
+    /**
+     * When the sweep is attempted. Every attempt after the day's run has completed is a no-op, so firing
+     * repeatedly through the batch window lets another instance resume a run whose owner died.
+     */
+    private String sweepCron = "0 */10 1-5 * * *";
+
+    /**
+     * Days an installment may stay unpaid past its due date before the contract turns OVERDUE. The installment
+     * itself is marked OVERDUE the day after it falls due.
+     */
+    private int overdueGraceDays = 3;
+
+    /**
+     * Days past due of the oldest unpaid installment after which the contract is DEFAULTED.
+     */
+    private int defaultGraceDays = 90;
+
+    /**
+     * How long a sweep owns the job without committing a chunk. Each chunk extends it, so it only has to cover
+     * one chunk; an instance that dies mid-run blocks others for at most this long.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
@@ -0,0 +1,38 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.penalty")
+public class LoanPenaltyProperties {
+
+    /**
+     * When accrual is attempted. Like the overdue sweep, attempts after the day's run has completed are no-ops.
+     * Installments the sweep has not marked yet are caught up from their due date on the next run.
+     */
+    private String accrualCron = "0 5/10 1-5 * * *";
+
+    /**
+     * Annual penalty rate in percent, added on top of the contract rate.
+     */
+    private BigDecimal rateSpread = new BigDecimal("3.00");
+
+    /**
+     * Upper bound of contract rate plus spread, in percent per year.
+     */
+    private BigDecimal maxRate = new BigDecimal("15.00");
+
+    /**
+     * Workers accruing contract chunks in parallel, each in its own transaction.
+     */
+    private int threads = 4;
+
+    /**
+     * How long a run owns the job without committing a chunk; see {@link LoanOverdueProperties#getLeaseDuration()}.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
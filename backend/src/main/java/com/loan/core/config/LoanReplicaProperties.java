@@ -0,0 +1,54 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "loan.replica")
+public class LoanReplicaProperties {
+
+    /**
+     * Sends read-only transactions to the replica below. When off everything uses {@code spring.datasource}.
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Optional; derived from the URL when unset.
+     */
+    private String driverClassName;
+
+    private int maximumPoolSize = 20;
+
+    /**
+     * How long a read waits for a replica connection before falling back to the primary. Kept short because
+     * the primary can always serve the read.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * JDBC driver properties for replica connections, like {@code spring.datasource.hikari.data-source-properties}.
+     */
+    private Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+
+    /**
+     * After a customer's data is written, reads for that customer go to the primary for this long. Must exceed
+     * the replica's normal replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * How often the replica is probed. A replica that fails a probe or a connection attempt takes no reads
+     * until a later probe succeeds.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+}
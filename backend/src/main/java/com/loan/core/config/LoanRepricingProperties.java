@@ -0,0 +1,28 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.repricing")
+public class LoanRepricingProperties {
+
+    /**
+     * When repricing is attempted. An attempt runs only when an index rate took effect since the last completed
+     * run, so attempts in between are no-ops.
+     */
+    private String repricingCron = "0 7/10 * * * *";
+
+    /**
+     * Workers repricing contract chunks in parallel, each in its own transaction. A rate move touches the whole
+     * variable-rate book, so this defaults to one per core; the connection pool must have room for them.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * How long a run owns the job without committing a chunk; see {@link LoanOverdueProperties#getLeaseDuration()}.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
@@ -0,0 +1,30 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.retry")
+public class LoanRetryProperties {
+
+    /**
+     * Retries after the first attempt when a write loses an optimistic-concurrency race.
+     */
+    private int maxRetries = 8;
+
+    /**
+     * First backoff; each further retry multiplies it by {@link #multiplier} up to {@link #maxDelay}.
+     */
+    private Duration delay = Duration.ofMillis(10);
+
+    private double multiplier = 2.0;
+
+    private Duration maxDelay = Duration.ofMillis(200);
+
+    /**
+     * Random spread added to each backoff so contending writers do not retry in lockstep.
+     */
+    private Duration jitter = Duration.ofMillis(5);
+}
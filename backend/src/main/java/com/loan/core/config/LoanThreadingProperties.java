@@ -0,0 +1,22 @@
+package com.loan.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loan.threading")
+public class LoanThreadingProperties {
+
+    /**
+     * Virtual-thread pins shorter than this are not recorded. Pins inside the JDBC driver while a query runs
+     * last as long as the query, so anything above a few milliseconds means a carrier thread was blocked on I/O.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    /**
+     * Frames kept per recorded pin; the first application frame is used to group them.
+     */
+    private int pinningStackDepth = 32;
+}
@@ -0,0 +1,40 @@
+package com.loan.core.config;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    /**
+     * Applies Micrometer's {@link TimedAspect} to {@link Timed} methods. It is wrapped in an infrastructure
+     * advisor rather than registered as an aspect because an aspect cannot be ordered ahead of the transaction
+     * advisor, and the timing should include the commit. The registry is looked up on first use because advisors
+     * are created before ordinary beans.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor timedAdvisor(ObjectProvider<MeterRegistry> registry) {
+        SingletonSupplier<TimedAspect> aspect = SingletonSupplier.of(() -> new TimedAspect(registry.getObject()));
+        MethodInterceptor interceptor = invocation -> aspect.obtain()
+                .timedMethod(new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Timed.class), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,66 @@
+package com.loan.core.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source when {@code loan.replica.enabled} is set. The application sees one
+ * {@link LazyConnectionDataSourceProxy} that fetches its real connection on the first statement, once the
+ * transaction's read-only flag is known: read-only transactions get a connection from
+ * {@link ReadReplicaDataSource}, everything else from the primary pool configured under
+ * {@code spring.datasource}. The two pools are not autowire candidates, so nothing else picks them up by type.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "loan.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource replicaDataSource(LoanReplicaProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        if (properties.getDriverClassName() != null) {
+            dataSource.setDriverClassName(properties.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        properties.getDataSourceProperties().forEach(dataSource::addDataSourceProperty);
+        dataSource.setReadOnly(true);
+        // Start even if the replica is down; reads fall back to the primary until it answers
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReadReplicaDataSource readReplicaDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                       @Qualifier("replicaDataSource") DataSource replica,
+                                                       ReadReplicaRouting routing, LoanReplicaProperties properties) {
+        return new ReadReplicaDataSource(primary, replica, routing, properties.getHealthCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("readReplicaDataSource") ReadReplicaDataSource readReplica) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(readReplica);
+        return dataSource;
+    }
+}
@@ -0,0 +1,105 @@
+package com.loan.core.config;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection source for read-only transactions. Serves connections from the replica unless the current
+ * transaction was pinned to the primary by {@link ReadReplicaRouting#readingCustomer}, or the replica is
+ * unhealthy. A replica that refuses a connection is marked unhealthy at once and that read falls back to the
+ * primary; a background probe marks it healthy again once it answers.
+ */
+public class ReadReplicaDataSource extends AbstractDataSource implements SmartLifecycle {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadReplicaRouting routing;
+    private final Duration healthCheckInterval;
+
+    private volatile ScheduledExecutorService prober;
+
+    public ReadReplicaDataSource(DataSource primary, DataSource replica, ReadReplicaRouting routing, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.routing = routing;
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = healthCheckInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::probe, interval, interval, TimeUnit.MILLISECONDS);
+        prober = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = prober;
+        prober = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return prober != null;
+    }
+
+    void probe() {
+        try (Connection connection = replica.getConnection()) {
+            routing.replicaHealthChanged(connection.isValid(VALIDATION_TIMEOUT_SECONDS), null);
+        } catch (SQLException | RuntimeException e) {
+            routing.replicaHealthChanged(false, e);
+        }
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        if (routing.isPrimaryRequired()) {
+            routing.recordPinnedRead();
+            return source.open(primary);
+        }
+        if (routing.isReplicaHealthy()) {
+            try {
+                Connection connection = source.open(replica);
+                routing.recordReplicaRead();
+                return connection;
+            } catch (SQLException e) {
+                routing.replicaHealthChanged(false, e);
+            }
+        }
+        routing.recordFallbackRead();
+        return source.open(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
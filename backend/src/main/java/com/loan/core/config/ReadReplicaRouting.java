@@ -0,0 +1,161 @@
+package com.loan.core.config;
+
+import com.loan.core.dto.response.ReadRoutingStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-your-writes guard for replica reads. Services call {@link #markWritten} when a transaction changes a
+ * customer's data, and {@link #readingCustomer} at the start of a read-only method that is about one customer,
+ * before its first query. For {@code loan.replica.read-your-writes-window} after a customer was written, the
+ * read runs on the primary instead of a replica that may not have the change yet.
+ * <p>
+ * Writes are remembered per instance only, and reads that do not name a customer (lookups by id, unfiltered
+ * lists) are always served by the replica, so they may lag by up to the replication delay.
+ */
+@Slf4j
+@Component
+public class ReadReplicaRouting {
+
+    private final LoanReplicaProperties properties;
+    private final Clock clock;
+
+    // customerId -> epoch millis until which that customer's reads go to the primary
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurge = new AtomicLong();
+    private final ThreadLocal<Boolean> primaryRequired = new ThreadLocal<>();
+    private volatile boolean replicaHealthy = true;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+    private final LongAdder replicaFailures = new LongAdder();
+
+    @Autowired
+    public ReadReplicaRouting(LoanReplicaProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ReadReplicaRouting(LoanReplicaProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public void markWritten(Long customerId) {
+        markWritten(customerId != null ? List.of(customerId) : List.of());
+    }
+
+    /**
+     * Pins the customers now, so reads racing the commit already go to the primary, and again after commit so
+     * the window starts when the change became visible.
+     */
+    public void markWritten(Collection<Long> customerIds) {
+        if (!properties.isEnabled() || customerIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = customerIds.stream().filter(Objects::nonNull).distinct().toList();
+        pin(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pin(ids);
+                }
+            });
+        }
+    }
+
+    /**
+     * Sends the rest of the current transaction to the primary if the customer was written recently. Has no
+     * effect once the transaction has run its first query, since its connection is then already chosen.
+     */
+    public void readingCustomer(Long customerId) {
+        if (customerId == null || !properties.isEnabled() || primaryRequired.get() != null
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Long until = pinnedUntil.get(customerId);
+        if (until == null || until <= clock.millis()) {
+            return;
+        }
+        primaryRequired.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                primaryRequired.remove();
+            }
+        });
+    }
+
+    public ReadRoutingStats stats() {
+        return ReadRoutingStats.builder()
+                .replicaEnabled(properties.isEnabled())
+                .replicaHealthy(properties.isEnabled() && replicaHealthy)
+                .replicaReads(replicaReads.sum())
+                .pinnedReads(pinnedReads.sum())
+                .fallbackReads(fallbackReads.sum())
+                .replicaFailures(replicaFailures.sum())
+                .recentlyWrittenCustomers(pinnedUntil.size())
+                .build();
+    }
+
+    boolean isPrimaryRequired() {
+        return primaryRequired.get() != null;
+    }
+
+    boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    void replicaHealthChanged(boolean healthy, Exception cause) {
+        if (!healthy) {
+            replicaFailures.increment();
+        }
+        if (replicaHealthy == healthy) {
+            return;
+        }
+        replicaHealthy = healthy;
+        if (healthy) {
+            log.info("Replica is healthy again; read-only transactions go back to the replica");
+        } else {
+            log.warn("Replica unavailable; read-only transactions fall back to the primary: {}",
+                    cause != null ? cause.getMessage() : "probe failed");
+        }
+    }
+
+    void recordReplicaRead() {
+        replicaReads.increment();
+    }
+
+    void recordPinnedRead() {
+        pinnedReads.increment();
+    }
+
+    void recordFallbackRead() {
+        fallbackReads.increment();
+    }
+
+    private void pin(List<Long> customerIds) {
+        long now = clock.millis();
+        long window = properties.getReadYourWritesWindow().toMillis();
+        for (Long customerId : customerIds) {
+            pinnedUntil.put(customerId, now + window);
+        }
+        long last = lastPurge.get();
+        if (now - last >= window && lastPurge.compareAndSet(last, now)) {
+            pinnedUntil.values().removeIf(until -> until <= now);
+        }
+    }
+}
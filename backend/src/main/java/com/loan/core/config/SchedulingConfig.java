@@ -0,0 +1,14 @@
+package com.loan.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background jobs can be switched off with {@code loan.scheduling.enabled=false}, e.g. on secondary instances.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "loan.scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,146 @@
+package com.loan.core.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event while virtual threads are enabled, so that a carrier
+ * thread blocked inside {@code synchronized} JDBC or pool code shows up in the log instead of as unexplained
+ * throughput loss. Pins are grouped by where they happen and by the application frame that led there; each new
+ * site is logged with its stack once, and a per-site summary is logged every minute while new pins arrive.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.loan.";
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoanThreadingProperties properties;
+    private final Map<String, PinSite> sites = new ConcurrentHashMap<>();
+    private final LongAdder pins = new LongAdder();
+
+    private volatile RecordingStream stream;
+    private long reportedPins;
+    private long lastReportNanos = System.nanoTime();
+
+    public VirtualThreadPinningMonitor(LoanThreadingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(properties.getPinningThreshold()).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.onFlush(this::reportIfDue);
+        recording.startAsync();
+        stream = recording;
+        log.info("Recording virtual thread pinning above {} ms", properties.getPinningThreshold().toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+            report();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = siteOf(frames);
+        PinSite pinSite = sites.computeIfAbsent(site, key -> new PinSite());
+        pins.increment();
+        if (pinSite.record(event.getDuration()) == 1) {
+            log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, format(frames));
+        }
+    }
+
+    private String siteOf(List<RecordedFrame> frames) {
+        if (frames.isEmpty()) {
+            return "<no stack>";
+        }
+        String top = frame(frames.get(0));
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(frame -> top + " <- " + frame(frame))
+                .orElse(top);
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        frames.stream().limit(properties.getPinningStackDepth()).forEach(frame -> sb.append("\n\tat ").append(frame(frame)));
+        return sb.toString();
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private synchronized void reportIfDue() {
+        if (pins.sum() != reportedPins && System.nanoTime() - lastReportNanos >= REPORT_INTERVAL_NANOS) {
+            report();
+        }
+    }
+
+    private synchronized void report() {
+        reportedPins = pins.sum();
+        lastReportNanos = System.nanoTime();
+        if (reportedPins == 0) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, PinSite> entry) -> entry.getValue().totalNanos.sum()).reversed())
+                .forEach(entry -> sb.append("\n\t").append(entry.getValue()).append("  ").append(entry.getKey()));
+        log.warn("Virtual thread pinning: {} pins at {} sites{}", reportedPins, sites.size(), sb);
+    }
+
+    private static final class PinSite {
+
+        private final AtomicLong count = new AtomicLong();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        long record(Duration duration) {
+            long nanos = duration.toNanos();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            return count.incrementAndGet();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d total=%dms max=%dms", count.get(),
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()), TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        }
+    }
+}
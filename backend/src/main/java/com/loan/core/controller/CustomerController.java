@@ -2,7 +2,9 @@ package com.loan.core.controller;
 
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.dto.request.CustomerCreateRequest;
+import com.loan.core.dto.request.CustomerUpdateRequest;
 import com.loan.core.dto.response.ApiResponse;
+import com.loan.core.dto.response.CursorPage;
 import com.loan.core.dto.response.CustomerResponse;
 import com.loan.core.service.CustomerService;
 import jakarta.validation.Valid;
@@ -11,7 +13,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/customers")
@@ -28,6 +29,13 @@ public class CustomerController {
         return ApiResponse.ok(CustomerResponse.from(customer), "고객이 등록되었습니다");
     }
 
+    @PutMapping("/{id}")
+    public ApiResponse<CustomerResponse> updateCustomer(@PathVariable Long id, @Valid @RequestBody CustomerUpdateRequest request) {
+        log.info("PUT /api/v1/customers/{}", id);
+        Customer customer = customerService.updateCustomer(id, request);
+        return ApiResponse.ok(CustomerResponse.from(customer), "고객 정보가 수정되었습니다");
+    }
+
     @GetMapping("/{id}")
     public ApiResponse<CustomerResponse> getCustomer(@PathVariable Long id) {
         log.info("GET /api/v1/customers/{}", id);
@@ -36,11 +44,10 @@ public class CustomerController {
     }
 
     @GetMapping
-    public ApiResponse<List<CustomerResponse>> getAllCustomers() {
-        log.info("GET /api/v1/customers");
-        List<CustomerResponse> customers = customerService.getAllCustomers().stream()
-                .map(CustomerResponse::from)
-                .collect(Collectors.toList());
-        return ApiResponse.ok(customers);
+    public ApiResponse<List<CustomerResponse>> getAllCustomers(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        log.info("GET /api/v1/customers - cursor={}, size={}", cursor, size);
+        CursorPage<Customer> page = customerService.getCustomerPage(cursor, size);
+        return ApiResponse.page(page.map(CustomerResponse::from));
     }
 }
@@ -1,12 +1,24 @@
 package com.loan.core.controller;
 
+import com.loan.core.config.ConnectionPoolMonitor;
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.dto.response.ApiResponse;
+import com.loan.core.dto.response.AuditQueueStats;
+import com.loan.core.dto.response.ConnectionPoolStats;
+import com.loan.core.dto.response.CustomerCacheStats;
 import com.loan.core.dto.response.DashboardResponse;
+import com.loan.core.dto.response.PortfolioReconciliationReport;
+import com.loan.core.dto.response.ReadRoutingStats;
+import com.loan.core.service.CustomerCache;
 import com.loan.core.service.DashboardService;
+import com.loan.core.service.PortfolioSnapshotService;
+import com.loan.core.service.StatusHistoryRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/dashboard")
 @RequiredArgsConstructor
@@ -14,6 +26,11 @@ import org.springframework.web.bind.annotation.*;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final PortfolioSnapshotService snapshotService;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final CustomerCache customerCache;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
 
     @GetMapping
     public ApiResponse<DashboardResponse> getDashboard(@RequestParam(required = false) Long customerId) {
@@ -21,4 +38,35 @@ public class DashboardController {
         DashboardResponse dashboard = dashboardService.getDashboard(customerId);
         return ApiResponse.ok(dashboard);
     }
+
+    @PostMapping("/reconcile")
+    public ApiResponse<PortfolioReconciliationReport> reconcile() {
+        log.info("POST /api/v1/dashboard/reconcile");
+        PortfolioReconciliationReport report = snapshotService.reconcile();
+        return ApiResponse.ok(report, "포트폴리오 집계가 재계산되었습니다");
+    }
+
+    @GetMapping("/audit-queue")
+    public ApiResponse<AuditQueueStats> getAuditQueueStats() {
+        log.info("GET /api/v1/dashboard/audit-queue");
+        return ApiResponse.ok(statusHistoryRecorder.stats());
+    }
+
+    @GetMapping("/customer-cache")
+    public ApiResponse<CustomerCacheStats> getCustomerCacheStats() {
+        log.info("GET /api/v1/dashboard/customer-cache");
+        return ApiResponse.ok(customerCache.stats());
+    }
+
+    @GetMapping("/read-routing")
+    public ApiResponse<ReadRoutingStats> getReadRoutingStats() {
+        log.info("GET /api/v1/dashboard/read-routing");
+        return ApiResponse.ok(readReplicaRouting.stats());
+    }
+
+    @GetMapping("/connection-pools")
+    public ApiResponse<List<ConnectionPoolStats>> getConnectionPoolStats() {
+        log.info("GET /api/v1/dashboard/connection-pools");
+        return ApiResponse.ok(connectionPoolMonitor.stats());
+    }
 }
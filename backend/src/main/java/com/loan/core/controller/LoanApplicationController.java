@@ -5,9 +5,13 @@ import com.loan.core.domain.entity.LoanApplication;
 import com.loan.core.domain.entity.StatusHistory;
 import com.loan.core.dto.request.LoanApplicationCreateRequest;
 import com.loan.core.dto.response.ApiResponse;
+import com.loan.core.dto.response.BatchAssessmentReport;
 import com.loan.core.dto.response.CreditAssessmentResponse;
+import com.loan.core.dto.response.CursorPage;
 import com.loan.core.dto.response.LoanApplicationResponse;
+import com.loan.core.exception.BusinessException;
 import com.loan.core.mapper.StatusHistoryMapper;
+import com.loan.core.service.BatchAssessmentService;
 import com.loan.core.service.CreditAssessmentService;
 import com.loan.core.service.LoanApplicationService;
 import jakarta.validation.Valid;
@@ -16,7 +20,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/loans/applications")
@@ -26,6 +29,7 @@ public class LoanApplicationController {
 
     private final LoanApplicationService applicationService;
     private final CreditAssessmentService assessmentService;
+    private final BatchAssessmentService batchAssessmentService;
     private final StatusHistoryMapper statusHistoryMapper;
 
     @PostMapping
@@ -49,6 +53,21 @@ public class LoanApplicationController {
         return ApiResponse.ok(CreditAssessmentResponse.from(assessment), "심사가 완료되었습니다");
     }
 
+    @PostMapping("/assess/batch")
+    public ApiResponse<BatchAssessmentReport> assessPendingApplications() {
+        log.info("POST /api/v1/loans/applications/assess/batch");
+        BatchAssessmentReport report = batchAssessmentService.assessPending();
+        return ApiResponse.ok(report, "일괄 심사가 완료되었습니다");
+    }
+
+    @GetMapping("/assess/batch")
+    public ApiResponse<BatchAssessmentReport> getBatchAssessmentProgress() {
+        log.info("GET /api/v1/loans/applications/assess/batch");
+        BatchAssessmentReport report = batchAssessmentService.getProgress()
+                .orElseThrow(() -> new BusinessException("실행된 일괄 심사가 없습니다"));
+        return ApiResponse.ok(report);
+    }
+
     @GetMapping("/{id}")
     public ApiResponse<LoanApplicationResponse> getApplication(@PathVariable Long id) {
         log.info("GET /api/v1/loans/applications/{}", id);
@@ -57,18 +76,12 @@ public class LoanApplicationController {
     }
 
     @GetMapping
-    public ApiResponse<List<LoanApplicationResponse>> getAllApplications(@RequestParam(required = false) Long customerId) {
-        log.info("GET /api/v1/loans/applications - customerId={}", customerId);
-        List<LoanApplication> applications;
-        if (customerId != null) {
-            applications = applicationService.getApplicationsByCustomer(customerId);
-        } else {
-            applications = applicationService.getAllApplications();
-        }
-        List<LoanApplicationResponse> responses = applications.stream()
-                .map(LoanApplicationResponse::from)
-                .collect(Collectors.toList());
-        return ApiResponse.ok(responses);
+    public ApiResponse<List<LoanApplicationResponse>> getAllApplications(@RequestParam(required = false) Long customerId,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(required = false) Integer size) {
+        log.info("GET /api/v1/loans/applications - customerId={}, cursor={}, size={}", customerId, cursor, size);
+        CursorPage<LoanApplication> page = applicationService.getApplicationPage(customerId, cursor, size);
+        return ApiResponse.page(page.map(LoanApplicationResponse::from));
     }
 
     @GetMapping("/{id}/assessment")
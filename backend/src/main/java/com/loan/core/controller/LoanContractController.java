@@ -3,11 +3,23 @@ package com.loan.core.controller;
 import com.loan.core.domain.entity.LoanContract;
 import com.loan.core.domain.entity.LoanTransaction;
 import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.dto.request.BulkExecutionRequest;
+import com.loan.core.dto.request.RateIndexLinkRequest;
 import com.loan.core.dto.response.ApiResponse;
+import com.loan.core.dto.response.BulkOperationResponse;
+import com.loan.core.dto.response.CursorPage;
 import com.loan.core.dto.response.LoanContractResponse;
 import com.loan.core.dto.response.LoanTransactionResponse;
+import com.loan.core.dto.response.OverdueSweepReport;
+import com.loan.core.dto.response.PenaltyAccrualReport;
+import com.loan.core.dto.response.RepricingReport;
 import com.loan.core.dto.response.RepaymentScheduleResponse;
+import com.loan.core.exception.BusinessException;
 import com.loan.core.service.LoanContractService;
+import com.loan.core.service.OverdueSweepService;
+import com.loan.core.service.PenaltyAccrualService;
+import com.loan.core.service.RateRepricingService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +34,9 @@ import java.util.stream.Collectors;
 public class LoanContractController {
 
     private final LoanContractService contractService;
+    private final OverdueSweepService overdueSweepService;
+    private final PenaltyAccrualService penaltyAccrualService;
+    private final RateRepricingService repricingService;
 
     @PostMapping("/execute/{applicationId}")
     public ApiResponse<LoanContractResponse> executeLoan(@PathVariable Long applicationId) {
@@ -30,19 +45,72 @@ public class LoanContractController {
         return ApiResponse.ok(LoanContractResponse.from(contract), "대출이 실행되었습니다");
     }
 
+    @PostMapping("/execute/bulk")
+    public ApiResponse<BulkOperationResponse> executeLoans(@Valid @RequestBody BulkExecutionRequest request) {
+        log.info("POST /api/v1/loans/contracts/execute/bulk - count={}", request.getApplicationIds().size());
+        BulkOperationResponse response = contractService.executeLoans(request.getApplicationIds());
+        return ApiResponse.ok(response, "일괄 대출 실행이 완료되었습니다");
+    }
+
+    @PostMapping("/overdue-sweep")
+    public ApiResponse<OverdueSweepReport> sweepOverdue() {
+        log.info("POST /api/v1/loans/contracts/overdue-sweep");
+        OverdueSweepReport report = overdueSweepService.sweepNow();
+        return ApiResponse.ok(report, "연체 점검이 완료되었습니다");
+    }
+
+    @GetMapping("/overdue-sweep")
+    public ApiResponse<OverdueSweepReport> getOverdueSweepProgress() {
+        log.info("GET /api/v1/loans/contracts/overdue-sweep");
+        OverdueSweepReport report = overdueSweepService.getProgress()
+                .orElseThrow(() -> new BusinessException("이 인스턴스에서 실행된 연체 점검이 없습니다"));
+        return ApiResponse.ok(report);
+    }
+
+    @PostMapping("/penalty-accrual")
+    public ApiResponse<PenaltyAccrualReport> accruePenalty() {
+        log.info("POST /api/v1/loans/contracts/penalty-accrual");
+        PenaltyAccrualReport report = penaltyAccrualService.accrueNow();
+        return ApiResponse.ok(report, "연체이자 계산이 완료되었습니다");
+    }
+
+    @GetMapping("/penalty-accrual")
+    public ApiResponse<PenaltyAccrualReport> getPenaltyAccrualProgress() {
+        log.info("GET /api/v1/loans/contracts/penalty-accrual");
+        PenaltyAccrualReport report = penaltyAccrualService.getProgress()
+                .orElseThrow(() -> new BusinessException("이 인스턴스에서 실행된 연체이자 계산이 없습니다"));
+        return ApiResponse.ok(report);
+    }
+
+    @PostMapping("/repricing")
+    public ApiResponse<RepricingReport> reprice() {
+        log.info("POST /api/v1/loans/contracts/repricing");
+        RepricingReport report = repricingService.repriceNow();
+        return ApiResponse.ok(report, "금리 재산정이 완료되었습니다");
+    }
+
+    @GetMapping("/repricing")
+    public ApiResponse<RepricingReport> getRepricingProgress() {
+        log.info("GET /api/v1/loans/contracts/repricing");
+        RepricingReport report = repricingService.getProgress()
+                .orElseThrow(() -> new BusinessException("이 인스턴스에서 실행된 금리 재산정이 없습니다"));
+        return ApiResponse.ok(report);
+    }
+
+    @PutMapping("/{id}/rate-index")
+    public ApiResponse<LoanContractResponse> linkRateIndex(@PathVariable Long id, @Valid @RequestBody RateIndexLinkRequest request) {
+        log.info("PUT /api/v1/loans/contracts/{}/rate-index - indexCode={}, spread={}", id, request.getIndexCode(), request.getSpread());
+        LoanContract contract = repricingService.linkRateIndex(id, request.getIndexCode(), request.getSpread());
+        return ApiResponse.ok(LoanContractResponse.from(contract), "변동금리로 전환되었습니다");
+    }
+
     @GetMapping
-    public ApiResponse<List<LoanContractResponse>> getAllContracts(@RequestParam(required = false) Long customerId) {
-        log.info("GET /api/v1/loans/contracts - customerId={}", customerId);
-        List<LoanContract> contracts;
-        if (customerId != null) {
-            contracts = contractService.getContractsByCustomer(customerId);
-        } else {
-            contracts = contractService.getAllContracts();
-        }
-        List<LoanContractResponse> responses = contracts.stream()
-                .map(LoanContractResponse::from)
-                .collect(Collectors.toList());
-        return ApiResponse.ok(responses);
+    public ApiResponse<List<LoanContractResponse>> getAllContracts(@RequestParam(required = false) Long customerId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer size) {
+        log.info("GET /api/v1/loans/contracts - customerId={}, cursor={}, size={}", customerId, cursor, size);
+        CursorPage<LoanContract> page = contractService.getContractPage(customerId, cursor, size);
+        return ApiResponse.page(page.map(LoanContractResponse::from));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,39 @@
+package com.loan.core.controller;
+
+import com.loan.core.domain.entity.RateIndex;
+import com.loan.core.dto.request.RateIndexPublishRequest;
+import com.loan.core.dto.response.ApiResponse;
+import com.loan.core.dto.response.RateIndexResponse;
+import com.loan.core.service.RateRepricingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/rate-indexes")
+@RequiredArgsConstructor
+@Slf4j
+public class RateIndexController {
+
+    private final RateRepricingService repricingService;
+
+    @PostMapping
+    public ApiResponse<RateIndexResponse> publishRate(@Valid @RequestBody RateIndexPublishRequest request) {
+        log.info("POST /api/v1/rate-indexes - indexCode={}, effectiveDate={}, rate={}",
+                request.getIndexCode(), request.getEffectiveDate(), request.getRate());
+        RateIndex rateIndex = repricingService.publishRate(request.getIndexCode(), request.getEffectiveDate(), request.getRate());
+        return ApiResponse.ok(RateIndexResponse.from(rateIndex), "기준금리가 공시되었습니다");
+    }
+
+    @GetMapping("/{indexCode}")
+    public ApiResponse<List<RateIndexResponse>> getRateHistory(@PathVariable String indexCode) {
+        log.info("GET /api/v1/rate-indexes/{}", indexCode);
+        List<RateIndexResponse> responses = repricingService.getRateHistory(indexCode).stream()
+                .map(RateIndexResponse::from)
+                .toList();
+        return ApiResponse.ok(responses);
+    }
+}
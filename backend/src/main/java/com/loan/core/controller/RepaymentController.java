@@ -1,8 +1,10 @@
 package com.loan.core.controller;
 
 import com.loan.core.domain.entity.LoanTransaction;
+import com.loan.core.dto.request.BulkEarlyRepaymentRequest;
 import com.loan.core.dto.request.RepaymentRequest;
 import com.loan.core.dto.response.ApiResponse;
+import com.loan.core.dto.response.BulkOperationResponse;
 import com.loan.core.dto.response.LoanTransactionResponse;
 import com.loan.core.service.RepaymentService;
 import jakarta.validation.Valid;
@@ -21,8 +23,8 @@ public class RepaymentController {
     @PostMapping("/{id}/repay")
     public ApiResponse<LoanTransactionResponse> repay(@PathVariable Long id,
                                                        @Valid @RequestBody RepaymentRequest request) {
-        log.info("POST /api/v1/loans/contracts/{}/repay - amount={}", id, request.getAmount());
-        LoanTransaction transaction = repaymentService.repay(id, request.getAmount());
+        log.info("POST /api/v1/loans/contracts/{}/repay - amount={}, reamortization={}", id, request.getAmount(), request.getReamortization());
+        LoanTransaction transaction = repaymentService.repay(id, request.getAmount(), request.getReamortization());
         return ApiResponse.ok(LoanTransactionResponse.from(transaction), "상환이 완료되었습니다");
     }
 
@@ -32,4 +34,11 @@ public class RepaymentController {
         LoanTransaction transaction = repaymentService.earlyRepay(id);
         return ApiResponse.ok(LoanTransactionResponse.from(transaction), "조기상환이 완료되었습니다");
     }
+
+    @PostMapping("/early-repay/bulk")
+    public ApiResponse<BulkOperationResponse> earlyRepayAll(@Valid @RequestBody BulkEarlyRepaymentRequest request) {
+        log.info("POST /api/v1/loans/contracts/early-repay/bulk - count={}", request.getContractIds().size());
+        BulkOperationResponse response = repaymentService.earlyRepayAll(request.getContractIds());
+        return ApiResponse.ok(response, "일괄 조기상환이 완료되었습니다");
+    }
 }
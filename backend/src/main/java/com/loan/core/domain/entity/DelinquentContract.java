@@ -0,0 +1,28 @@
+package com.loan.core.domain.entity;
+
+import com.loan.core.domain.enums.LoanStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A contract with at least one OVERDUE installment, with the due date of the oldest one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DelinquentContract {
+
+    private Long id;
+    private Long customerId;
+    private LoanStatus status;
+    private long version;
+    private BigDecimal interestRate;
+    private BigDecimal outstandingBalance;
+    private LocalDate oldestDueDate;
+}
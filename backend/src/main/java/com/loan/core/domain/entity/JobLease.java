@@ -0,0 +1,28 @@
+package com.loan.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Claim on a singleton batch job plus the job's progress: the business date of its current run, the last key
+ * it committed and when that run finished.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+
+    private String jobName;
+    private String owner;
+    private LocalDateTime leaseExpiresAt;
+    private LocalDate runDate;
+    private long watermark;
+    private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
+}
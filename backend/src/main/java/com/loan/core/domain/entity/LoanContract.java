@@ -32,6 +32,11 @@ public class LoanContract {
     private LocalDate startDate;
     private LocalDate endDate;
     private LocalDateTime executedAt;
+    private Integer nextInstallmentNo;
+    private String rateIndexCode;
+    private BigDecimal rateSpread;
+    private LocalDate rateEffectiveDate;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
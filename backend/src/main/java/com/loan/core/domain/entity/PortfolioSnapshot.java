@@ -0,0 +1,25 @@
+package com.loan.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Portfolio-wide dashboard figures. Stored as counter slots in {@code portfolio_snapshot} and read as their sum.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioSnapshot {
+
+    private long activeLoans;
+    private long overdueLoans;
+    private long pendingApplications;
+    private BigDecimal totalOutstanding;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.loan.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One published value of a reference rate, in percent per year, applying from {@code effectiveDate}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateIndex {
+
+    private Long id;
+    private String indexCode;
+    private LocalDate effectiveDate;
+    private BigDecimal rate;
+    private LocalDateTime createdAt;
+}
@@ -27,6 +27,10 @@ public class RepaymentSchedule {
     private RepaymentStatus status;
     private LocalDate paidDate;
     private BigDecimal paidAmount;
+    private BigDecimal accruedPenalty;
+    private BigDecimal paidPenalty;
+    private LocalDate penaltyAccruedTo;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
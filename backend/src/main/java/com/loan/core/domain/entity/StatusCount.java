@@ -0,0 +1,23 @@
+package com.loan.core.domain.entity;
+
+import com.loan.core.domain.enums.LoanStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of a {@code GROUP BY status} aggregate.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusCount {
+
+    private LoanStatus status;
+    private long count;
+    private BigDecimal totalAmount;
+}
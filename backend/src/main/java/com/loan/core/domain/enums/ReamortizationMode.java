@@ -0,0 +1,15 @@
+package com.loan.core.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ReamortizationMode {
+    KEEP_TERM("기간 유지, 월 상환액 감액"),
+    KEEP_PAYMENT("월 상환액 유지, 기간 단축");
+
+    private final String description;
+
+    ReamortizationMode(String description) {
+        this.description = description;
+    }
+}
@@ -9,6 +9,7 @@ public enum TransactionType {
     INTEREST_PAYMENT("이자납부"),
     EARLY_REPAYMENT("조기상환"),
     OVERDUE_INTEREST("연체이자"),
+    PENALTY_ACCRUAL("연체이자 부과"),
     FEE("수수료");
 
     private final String description;
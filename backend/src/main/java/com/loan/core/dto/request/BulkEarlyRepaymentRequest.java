@@ -0,0 +1,22 @@
+package com.loan.core.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEarlyRepaymentRequest {
+
+    @NotEmpty(message = "계약 ID 목록은 필수입니다")
+    @Size(max = 10000, message = "한 번에 최대 10,000건까지 조기상환할 수 있습니다")
+    private List<@NotNull Long> contractIds;
+}
@@ -0,0 +1,32 @@
+package com.loan.core.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateIndexLinkRequest {
+
+    @NotBlank(message = "기준금리 코드는 필수입니다")
+    private String indexCode;
+
+    /**
+     * Added to the index rate, in percent per year; may be negative.
+     */
+    @NotNull(message = "가산금리는 필수입니다")
+    @DecimalMin(value = "-100.00", message = "가산금리는 -100 이상이어야 합니다")
+    @DecimalMax(value = "100.00", message = "가산금리는 100 이하여야 합니다")
+    @Digits(integer = 3, fraction = 2, message = "가산금리는 소수점 둘째 자리까지 입력할 수 있습니다")
+    private BigDecimal spread;
+}
@@ -0,0 +1,35 @@
+package com.loan.core.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateIndexPublishRequest {
+
+    @NotBlank(message = "기준금리 코드는 필수입니다")
+    @Size(max = 20, message = "기준금리 코드는 20자 이하여야 합니다")
+    private String indexCode;
+
+    @NotNull(message = "적용일은 필수입니다")
+    private LocalDate effectiveDate;
+
+    @NotNull(message = "금리는 필수입니다")
+    @DecimalMin(value = "0.00", message = "금리는 0 이상이어야 합니다")
+    @DecimalMax(value = "100.00", message = "금리는 100 이하여야 합니다")
+    @Digits(integer = 3, fraction = 2, message = "금리는 소수점 둘째 자리까지 입력할 수 있습니다")
+    private BigDecimal rate;
+}
@@ -1,5 +1,7 @@
 package com.loan.core.dto.request;
 
+import com.loan.core.domain.enums.ReamortizationMode;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -17,5 +19,18 @@ public class RepaymentRequest {
 
     @NotNull(message = "상환 금액은 필수입니다")
     @Positive(message = "상환 금액은 양수여야 합니다")
+    @Digits(integer = 13, fraction = 2, message = "상환 금액은 소수점 둘째 자리까지 입력할 수 있습니다")
     private BigDecimal amount;
+
+    /**
+     * How a prepayment re-amortizes the remaining installments. By default the payment stays and the loan ends
+     * sooner.
+     */
+    @Builder.Default
+    private ReamortizationMode reamortization = ReamortizationMode.KEEP_PAYMENT;
+
+    // Jackson builds the request through the no-args constructor, which leaves an omitted field null
+    public ReamortizationMode getReamortization() {
+        return reamortization != null ? reamortization : ReamortizationMode.KEEP_PAYMENT;
+    }
 }
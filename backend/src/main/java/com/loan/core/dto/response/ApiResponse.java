@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -18,6 +19,7 @@ public class ApiResponse<T> {
     private boolean success;
     private String message;
     private T data;
+    private String nextCursor;
     private LocalDateTime timestamp;
 
     public static <T> ApiResponse<T> ok(T data) {
@@ -38,6 +40,16 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<List<T>> page(CursorPage<T> page) {
+        return ApiResponse.<List<T>>builder()
+                .success(true)
+                .message("성공")
+                .data(page.items())
+                .nextCursor(page.nextCursor())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return ApiResponse.<T>builder()
                 .success(false)
@@ -0,0 +1,26 @@
+package com.loan.core.dto.response;
+
+import com.loan.core.config.LoanAuditProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditQueueStats {
+
+    private LoanAuditProperties.Mode mode;
+    private int depth;
+    private int capacity;
+    private int highWaterMark;
+    private long enqueued;
+    private long written;
+    /**
+     * Entries the caller wrote itself because the queue stayed full past the offer timeout.
+     */
+    private long callerRuns;
+    private long failed;
+}
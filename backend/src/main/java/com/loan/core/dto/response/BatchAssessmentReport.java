@@ -0,0 +1,28 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAssessmentReport {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private Status status;
+    private int chunks;
+    private int scanned;
+    private int approved;
+    private int rejected;
+    private int skipped;
+    private int failed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+}
@@ -0,0 +1,38 @@
+package com.loan.core.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    private Long id;
+    private boolean success;
+    private Long resultId;
+    private String reference;
+    private String message;
+
+    public static BulkItemResult succeeded(Long id, Long resultId, String reference) {
+        return BulkItemResult.builder()
+                .id(id)
+                .success(true)
+                .resultId(resultId)
+                .reference(reference)
+                .build();
+    }
+
+    public static BulkItemResult failed(Long id, String message) {
+        return BulkItemResult.builder()
+                .id(id)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
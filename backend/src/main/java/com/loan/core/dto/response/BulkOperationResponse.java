@@ -0,0 +1,30 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> items;
+
+    public static BulkOperationResponse of(List<BulkItemResult> items) {
+        int succeeded = (int) items.stream().filter(BulkItemResult::isSuccess).count();
+        return BulkOperationResponse.builder()
+                .requested(items.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStats {
+
+    private String poolName;
+    /**
+     * False until the pool opens its first connection; the counts below are then zero.
+     */
+    private boolean started;
+    private int active;
+    private int idle;
+    private int total;
+    /**
+     * Threads blocked waiting for a connection; anything above zero means the pool is the bottleneck.
+     */
+    private int threadsAwaitingConnection;
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private long connectionTimeoutMillis;
+    /**
+     * Driver settings for statement preparation, prepared statement caching and batch rewriting, as configured.
+     */
+    private Map<String, String> statementSettings;
+}
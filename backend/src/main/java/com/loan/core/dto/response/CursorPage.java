@@ -0,0 +1,44 @@
+package com.loan.core.dto.response;
+
+import com.loan.core.dto.request.PageCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Clamps a requested page size into {@code [1, MAX_SIZE]}, using {@code DEFAULT_SIZE} when absent.
+     */
+    public static int resolveSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit = size + 1}; the extra row only signals that
+     * another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size,
+                                       Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        T last = items.get(size - 1);
+        return new CursorPage<>(items, new PageCursor(createdAt.apply(last), id.apply(last)).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerCacheStats {
+
+    private boolean enabled;
+    private int size;
+    private int maximumSize;
+    private long hits;
+    private long misses;
+    /**
+     * Entries dropped to stay within the maximum size.
+     */
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+    private double hitRatio;
+}
@@ -24,6 +24,9 @@ public class LoanContractResponse {
     private String applicationNo;
     private BigDecimal principalAmount;
     private BigDecimal interestRate;
+    private String rateIndexCode;
+    private BigDecimal rateSpread;
+    private LocalDate rateEffectiveDate;
     private Integer termMonths;
     private String repaymentMethod;
     private String repaymentMethodLabel;
@@ -49,6 +52,9 @@ public class LoanContractResponse {
                 .applicationNo(contract.getApplicationNo())
                 .principalAmount(contract.getPrincipalAmount())
                 .interestRate(contract.getInterestRate())
+                .rateIndexCode(contract.getRateIndexCode())
+                .rateSpread(contract.getRateSpread())
+                .rateEffectiveDate(contract.getRateEffectiveDate())
                 .termMonths(contract.getTermMonths())
                 .repaymentMethod(contract.getRepaymentMethod() != null ? contract.getRepaymentMethod().name() : null)
                 .repaymentMethodLabel(contract.getRepaymentMethod() != null ? contract.getRepaymentMethod().getDescription() : null)
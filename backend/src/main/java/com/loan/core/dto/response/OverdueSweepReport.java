@@ -0,0 +1,37 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueSweepReport {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private Status status;
+    private LocalDate runDate;
+    /**
+     * Contract id the run resumed after; 0 for a fresh run.
+     */
+    private long resumedAfterId;
+    private int chunks;
+    private int installmentsMarked;
+    private int contractsScanned;
+    private int contractsOverdue;
+    private int contractsDefaulted;
+    /**
+     * Contracts due for a transition that a concurrent repayment changed first; the next run re-evaluates them.
+     */
+    private int contractsSkipped;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+}
@@ -0,0 +1,39 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PenaltyAccrualReport {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private Status status;
+    private LocalDate runDate;
+    private int chunks;
+    /**
+     * Chunks rolled back on an error; the run is left incomplete so the next attempt picks them up.
+     */
+    private int chunksFailed;
+    private int contractsScanned;
+    private int contractsCharged;
+    private int installmentsAccrued;
+    /**
+     * Installments paid or accrued by someone else between the read and the write; they are left as they are.
+     */
+    private int installmentsSkipped;
+    @Builder.Default
+    private BigDecimal penaltyAccrued = BigDecimal.ZERO;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+}
@@ -0,0 +1,25 @@
+package com.loan.core.dto.response;
+
+import com.loan.core.domain.entity.PortfolioSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioReconciliationReport {
+
+    private PortfolioSnapshot before;
+    private PortfolioSnapshot actual;
+    /**
+     * {@code actual - before}; all zero when the incremental counters were correct.
+     */
+    private PortfolioSnapshot drift;
+    private boolean drifted;
+    private LocalDateTime reconciledAt;
+}
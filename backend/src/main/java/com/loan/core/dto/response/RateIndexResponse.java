@@ -0,0 +1,35 @@
+package com.loan.core.dto.response;
+
+import com.loan.core.domain.entity.RateIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateIndexResponse {
+
+    private Long id;
+    private String indexCode;
+    private LocalDate effectiveDate;
+    private BigDecimal rate;
+    private LocalDateTime createdAt;
+
+    public static RateIndexResponse from(RateIndex rateIndex) {
+        if (rateIndex == null) return null;
+        return RateIndexResponse.builder()
+                .id(rateIndex.getId())
+                .indexCode(rateIndex.getIndexCode())
+                .effectiveDate(rateIndex.getEffectiveDate())
+                .rate(rateIndex.getRate())
+                .createdAt(rateIndex.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadRoutingStats {
+
+    private boolean replicaEnabled;
+    private boolean replicaHealthy;
+    private long replicaReads;
+    /**
+     * Read-only transactions sent to the primary because their customer was written recently.
+     */
+    private long pinnedReads;
+    /**
+     * Read-only transactions sent to the primary because the replica was unhealthy or refused a connection.
+     */
+    private long fallbackReads;
+    private long replicaFailures;
+    private int recentlyWrittenCustomers;
+}
@@ -28,6 +28,8 @@ public class RepaymentScheduleResponse {
     private String statusLabel;
     private LocalDate paidDate;
     private BigDecimal paidAmount;
+    private BigDecimal accruedPenalty;
+    private BigDecimal paidPenalty;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -46,6 +48,8 @@ public class RepaymentScheduleResponse {
                 .statusLabel(schedule.getStatus() != null ? schedule.getStatus().getDescription() : null)
                 .paidDate(schedule.getPaidDate())
                 .paidAmount(schedule.getPaidAmount())
+                .accruedPenalty(schedule.getAccruedPenalty())
+                .paidPenalty(schedule.getPaidPenalty())
                 .createdAt(schedule.getCreatedAt())
                 .updatedAt(schedule.getUpdatedAt())
                 .build();
@@ -0,0 +1,41 @@
+package com.loan.core.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepricingReport {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private Status status;
+    private LocalDate runDate;
+    /**
+     * Index rates in effect on the run date, each applied to the contracts linked to it.
+     */
+    private int indexes;
+    private int chunks;
+    /**
+     * Chunks rolled back on an error; the run is left incomplete so the next attempt picks them up.
+     */
+    private int chunksFailed;
+    private int contractsScanned;
+    private int contractsRepriced;
+    /**
+     * Contracts repaid or changed by someone else between the read and the write. The run then records no
+     * watermark, so the next scheduled attempt reprices them.
+     */
+    private int contractsSkipped;
+    private int installmentsRewritten;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+}
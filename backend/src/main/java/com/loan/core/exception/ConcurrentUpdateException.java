@@ -0,0 +1,15 @@
+package com.loan.core.exception;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * A conditional UPDATE matched no row because another transaction changed it first. Part of Spring's
+ * {@code ConcurrencyFailureException} family, so the same retry policy covers it and lock failures reported by the
+ * database.
+ */
+public class ConcurrentUpdateException extends OptimisticLockingFailureException {
+
+    public ConcurrentUpdateException(String entityType, Long id) {
+        super(String.format("다른 요청이 먼저 변경했습니다: %s (id=%d)", entityType, id));
+    }
+}
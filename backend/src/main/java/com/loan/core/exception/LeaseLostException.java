@@ -0,0 +1,12 @@
+package com.loan.core.exception;
+
+/**
+ * A job's lease was taken over by another instance, typically after this one stalled past the lease duration.
+ * Thrown from inside the chunk transaction so the chunk rolls back instead of committing alongside the new owner.
+ */
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(String jobName, String owner) {
+        super(String.format("작업 점유권을 잃었습니다: %s (owner=%s)", jobName, owner));
+    }
+}
@@ -2,6 +2,9 @@ package com.loan.core.mapper;
 
 import com.loan.core.domain.entity.CreditAssessment;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
 public interface CreditAssessmentMapper {
@@ -9,4 +12,6 @@ public interface CreditAssessmentMapper {
     void insert(CreditAssessment assessment);
 
     CreditAssessment findByApplicationId(Long applicationId);
+
+    List<CreditAssessment> findByApplicationIds(@Param("applicationIds") List<Long> applicationIds);
 }
@@ -1,7 +1,9 @@
 package com.loan.core.mapper;
 
 import com.loan.core.domain.entity.Customer;
+import com.loan.core.dto.request.PageCursor;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -14,7 +16,11 @@ public interface CustomerMapper {
 
     Customer findByCustomerNo(String customerNo);
 
+    List<Customer> findByIds(@Param("ids") List<Long> ids);
+
     List<Customer> findAll();
 
+    List<Customer> findPage(@Param("cursor") PageCursor cursor, @Param("limit") int limit);
+
     void update(Customer customer);
 }
@@ -0,0 +1,40 @@
+package com.loan.core.mapper;
+
+import com.loan.core.domain.entity.JobLease;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Mapper
+public interface JobLeaseMapper {
+
+    void insert(JobLease lease);
+
+    JobLease findByJobName(String jobName);
+
+    int acquire(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    int startRun(@Param("jobName") String jobName,
+                 @Param("owner") String owner,
+                 @Param("runDate") LocalDate runDate);
+
+    int checkpoint(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("watermark") long watermark,
+                   @Param("expiresAt") LocalDateTime expiresAt);
+
+    int renew(@Param("jobName") String jobName,
+              @Param("owner") String owner,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    int complete(@Param("jobName") String jobName,
+                 @Param("owner") String owner,
+                 @Param("completedAt") LocalDateTime completedAt);
+
+    int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
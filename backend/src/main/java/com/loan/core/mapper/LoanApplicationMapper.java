@@ -1,6 +1,8 @@
 package com.loan.core.mapper;
 
 import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.entity.StatusCount;
+import com.loan.core.dto.request.PageCursor;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -17,8 +19,20 @@ public interface LoanApplicationMapper {
 
     List<LoanApplication> findByCustomerId(Long customerId);
 
+    List<LoanApplication> findByIds(@Param("ids") List<Long> ids);
+
     List<LoanApplication> findAll();
 
+    List<LoanApplication> findPage(@Param("customerId") Long customerId,
+                                   @Param("cursor") PageCursor cursor,
+                                   @Param("limit") int limit);
+
+    List<LoanApplication> findByStatusAfterId(@Param("status") String status,
+                                              @Param("afterId") Long afterId,
+                                              @Param("limit") int limit);
+
+    List<StatusCount> countGroupByStatus(@Param("customerId") Long customerId);
+
     void updateStatus(@Param("id") Long id, @Param("status") String status);
 
     void update(LoanApplication application);
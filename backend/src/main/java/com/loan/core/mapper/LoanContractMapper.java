@@ -1,10 +1,13 @@
 package com.loan.core.mapper;
 
 import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.StatusCount;
+import com.loan.core.dto.request.PageCursor;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -18,15 +21,44 @@ public interface LoanContractMapper {
 
     List<LoanContract> findByCustomerId(Long customerId);
 
+    List<LoanContract> findByIds(@Param("ids") List<Long> ids);
+
     List<LoanContract> findAll();
 
+    List<LoanContract> findPage(@Param("customerId") Long customerId,
+                                @Param("cursor") PageCursor cursor,
+                                @Param("limit") int limit);
+
     void updateStatus(@Param("id") Long id, @Param("status") String status);
 
-    void updateBalance(@Param("id") Long id,
+    List<LoanContract> findRepricingCandidates(@Param("indexCode") String indexCode,
+                                               @Param("effectiveDate") LocalDate effectiveDate,
+                                               @Param("afterId") long afterId,
+                                               @Param("limit") int limit);
+
+    int linkRateIndex(@Param("id") Long id,
+                      @Param("version") long version,
+                      @Param("indexCode") String indexCode,
+                      @Param("rateSpread") BigDecimal rateSpread);
+
+    void updateAmortization(@Param("id") Long id,
+                            @Param("monthlyPayment") BigDecimal monthlyPayment,
+                            @Param("endDate") LocalDate endDate);
+
+    int applyRepayment(@Param("id") Long id,
+                       @Param("version") long version,
+                       @Param("paidInstallmentNo") int paidInstallmentNo,
                        @Param("outstandingBalance") BigDecimal balance,
                        @Param("totalInterestPaid") BigDecimal totalInterestPaid);
 
+    int payOff(@Param("id") Long id,
+               @Param("version") long version,
+               @Param("status") String status,
+               @Param("totalInterestPaid") BigDecimal totalInterestPaid);
+
     int countByStatus(@Param("status") String status);
 
     BigDecimal sumOutstandingBalance(@Param("customerId") Long customerId);
+
+    List<StatusCount> countGroupByStatus(@Param("customerId") Long customerId);
 }
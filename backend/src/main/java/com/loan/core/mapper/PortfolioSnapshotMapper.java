@@ -0,0 +1,22 @@
+package com.loan.core.mapper;
+
+import com.loan.core.domain.entity.PortfolioSnapshot;
+import com.loan.core.service.PortfolioDelta;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface PortfolioSnapshotMapper {
+
+    PortfolioSnapshot sum();
+
+    int applyDelta(@Param("slot") int slot, @Param("delta") PortfolioDelta delta);
+
+    List<Integer> lockSlots();
+
+    void insertSlot(@Param("slot") int slot);
+
+    void overwrite(@Param("snapshot") PortfolioSnapshot snapshot);
+}
@@ -0,0 +1,26 @@
+package com.loan.core.mapper;
+
+import com.loan.core.domain.entity.RateIndex;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface RateIndexMapper {
+
+    void insert(RateIndex rateIndex);
+
+    List<RateIndex> findByIndexCode(String indexCode);
+
+    /**
+     * The rate of {@code indexCode} in effect on {@code asOf}, or {@code null} if none was published yet.
+     */
+    RateIndex findCurrent(@Param("indexCode") String indexCode, @Param("asOf") LocalDate asOf);
+
+    /**
+     * The rate in effect on {@code asOf} for every index.
+     */
+    List<RateIndex> findAllCurrent(@Param("asOf") LocalDate asOf);
+}
@@ -1,26 +1,36 @@
 package com.loan.core.mapper;
 
+import com.loan.core.domain.entity.DelinquentContract;
 import com.loan.core.domain.entity.RepaymentSchedule;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
 public interface RepaymentScheduleMapper {
 
-    void insertBatch(@Param("list") List<RepaymentSchedule> schedules);
-
     List<RepaymentSchedule> findByContractId(Long contractId);
 
+    List<RepaymentSchedule> findUnpaid(@Param("contractId") Long contractId,
+                                       @Param("fromInstallmentNo") int fromInstallmentNo);
+
     RepaymentSchedule findById(Long id);
 
-    void updateStatus(@Param("id") Long id,
-                      @Param("status") String status,
-                      @Param("paidDate") LocalDate paidDate,
-                      @Param("paidAmount") BigDecimal paidAmount);
+    int payOffRemaining(@Param("contractIds") List<Long> contractIds,
+                        @Param("paidDate") LocalDate paidDate);
+
+    List<RepaymentSchedule> findOverdueSchedules(@Param("date") LocalDate date, @Param("limit") int limit);
+
+    int markOverdue(@Param("ids") List<Long> ids);
+
+    int countOverdue(Long contractId);
+
+    List<DelinquentContract> findDelinquentContracts(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    List<RepaymentSchedule> findOverdueByContractIds(@Param("contractIds") List<Long> contractIds);
 
-    List<RepaymentSchedule> findOverdueSchedules(@Param("date") LocalDate date);
+    List<RepaymentSchedule> findScheduledByContractIds(@Param("contractIds") List<Long> contractIds,
+                                                       @Param("dueAfter") LocalDate dueAfter);
 }
@@ -0,0 +1,48 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.CreditAssessment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CreditAssessmentBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO credit_assessments (application_id, credit_score, credit_grade, dsr_ratio,
+                                            approved_rate, approved_amount, approved_term_months,
+                                            result, rejection_reason, assessed_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoanBatchProperties batchProperties;
+
+    public void insertAll(List<CreditAssessment> assessments) {
+        if (assessments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, assessments, batchProperties.getChunkSize(), (ps, assessment) -> {
+            ps.setLong(1, assessment.getApplicationId());
+            ps.setInt(2, assessment.getCreditScore());
+            ps.setString(3, assessment.getCreditGrade().name());
+            ps.setBigDecimal(4, assessment.getDsrRatio());
+            ps.setBigDecimal(5, assessment.getApprovedRate());
+            ps.setBigDecimal(6, assessment.getApprovedAmount());
+            if (assessment.getApprovedTermMonths() != null) {
+                ps.setInt(7, assessment.getApprovedTermMonths());
+            } else {
+                ps.setNull(7, Types.INTEGER);
+            }
+            ps.setString(8, assessment.getResult().name());
+            ps.setString(9, assessment.getRejectionReason());
+            ps.setObject(10, assessment.getAssessedAt());
+            ps.setObject(11, assessment.getCreatedAt());
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.enums.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class LoanApplicationBatchWriter {
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE loan_applications
+            SET status = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND status = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoanBatchProperties batchProperties;
+
+    /**
+     * Moves each application from {@code from} to {@code to} with one conditional UPDATE per row, sent as
+     * JDBC batches.
+     *
+     * @return the ids whose row was actually transitioned; ids already moved by a concurrent writer are left out
+     */
+    public List<Long> transitionStatus(List<Long> ids, LoanStatus from, LoanStatus to) {
+        List<Long> transitioned = new ArrayList<>(ids.size());
+        if (ids.isEmpty()) {
+            return transitioned;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, ids, batchProperties.getChunkSize(), (ps, id) -> {
+            ps.setString(1, to.name());
+            ps.setLong(2, id);
+            ps.setString(3, from.name());
+        });
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count > 0) {
+                    transitioned.add(ids.get(index));
+                }
+                index++;
+            }
+        }
+        return transitioned;
+    }
+}
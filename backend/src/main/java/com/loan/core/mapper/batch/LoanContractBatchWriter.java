@@ -0,0 +1,195 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.enums.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class LoanContractBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO loan_contracts (contract_no, application_id, customer_id, principal_amount, interest_rate,
+                                        term_months, repayment_method, monthly_payment, outstanding_balance,
+                                        total_interest_paid, status, start_date, end_date, executed_at,
+                                        created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String PAY_OFF_SQL = """
+            UPDATE loan_contracts
+            SET status = ?, outstanding_balance = 0, total_interest_paid = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND status = 'ACTIVE' AND version = ?
+            """;
+
+    private static final String TRANSITION_SQL = """
+            UPDATE loan_contracts
+            SET status = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND status = ? AND version = ?
+            """;
+
+    private static final String REPRICE_SQL = """
+            UPDATE loan_contracts
+            SET interest_rate = ?, monthly_payment = ?, rate_effective_date = ?,
+                version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND status IN ('ACTIVE', 'OVERDUE') AND version = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoanBatchProperties batchProperties;
+
+    /**
+     * Inserts contracts in JDBC batches and assigns the generated ids back onto each contract.
+     */
+    public void insertAll(List<LoanContract> contracts) {
+        int chunkSize = batchProperties.getChunkSize();
+        for (int from = 0; from < contracts.size(); from += chunkSize) {
+            insertChunk(contracts.subList(from, Math.min(from + chunkSize, contracts.size())));
+        }
+    }
+
+    /**
+     * Closes ACTIVE contracts into {@code to} with a zero balance and the interest total the caller settled, one
+     * conditional UPDATE per row sent as JDBC batches. Each row is guarded by the version the caller read, so a repayment posted in between makes the
+     * claim miss instead of settling a stale amount.
+     *
+     * @return the contracts that were actually closed
+     */
+    public List<LoanContract> payOff(List<LoanContract> contracts, LoanStatus to) {
+        List<LoanContract> closed = new ArrayList<>(contracts.size());
+        if (contracts.isEmpty()) {
+            return closed;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(PAY_OFF_SQL, contracts, batchProperties.getChunkSize(), (ps, contract) -> {
+            ps.setString(1, to.name());
+            ps.setBigDecimal(2, contract.getTotalInterestPaid());
+            ps.setLong(3, contract.getId());
+            ps.setLong(4, contract.getVersion());
+        });
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count > 0) {
+                    closed.add(contracts.get(index));
+                }
+                index++;
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Moves each contract from the status it was read with to {@code to}, guarded by that status and version like
+     * {@link #payOff}.
+     *
+     * @return the contracts that were actually moved
+     */
+    public List<LoanContract> transitionStatus(List<LoanContract> contracts, LoanStatus to) {
+        List<LoanContract> moved = new ArrayList<>(contracts.size());
+        if (contracts.isEmpty()) {
+            return moved;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(TRANSITION_SQL, contracts, batchProperties.getChunkSize(), (ps, contract) -> {
+            ps.setString(1, to.name());
+            ps.setLong(2, contract.getId());
+            ps.setString(3, contract.getStatus().name());
+            ps.setLong(4, contract.getVersion());
+        });
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count > 0) {
+                    moved.add(contracts.get(index));
+                }
+                index++;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Stores each contract's new {@code interestRate}, {@code monthlyPayment} and {@code rateEffectiveDate}, guarded
+     * by the version the caller read like {@link #payOff}, so a contract repaid in between keeps its old rate until
+     * the next repricing run.
+     *
+     * @return the contracts that were actually repriced
+     */
+    public List<LoanContract> reprice(List<LoanContract> contracts) {
+        List<LoanContract> repriced = new ArrayList<>(contracts.size());
+        if (contracts.isEmpty()) {
+            return repriced;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(REPRICE_SQL, contracts, batchProperties.getChunkSize(), (ps, contract) -> {
+            ps.setBigDecimal(1, contract.getInterestRate());
+            ps.setBigDecimal(2, contract.getMonthlyPayment());
+            ps.setObject(3, contract.getRateEffectiveDate());
+            ps.setLong(4, contract.getId());
+            ps.setLong(5, contract.getVersion());
+        });
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count > 0) {
+                    repriced.add(contracts.get(index));
+                }
+                index++;
+            }
+        }
+        return repriced;
+    }
+
+    private void insertChunk(List<LoanContract> chunk) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, chunk.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("Generated key count mismatch: expected " + chunk.size() + ", got " + keys.size());
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private void bind(PreparedStatement ps, LoanContract contract) throws SQLException {
+        ps.setString(1, contract.getContractNo());
+        ps.setLong(2, contract.getApplicationId());
+        ps.setLong(3, contract.getCustomerId());
+        ps.setBigDecimal(4, contract.getPrincipalAmount());
+        ps.setBigDecimal(5, contract.getInterestRate());
+        ps.setInt(6, contract.getTermMonths());
+        ps.setString(7, contract.getRepaymentMethod().name());
+        ps.setBigDecimal(8, contract.getMonthlyPayment());
+        ps.setBigDecimal(9, contract.getOutstandingBalance());
+        ps.setBigDecimal(10, contract.getTotalInterestPaid());
+        ps.setString(11, contract.getStatus().name());
+        ps.setObject(12, contract.getStartDate());
+        ps.setObject(13, contract.getEndDate());
+        ps.setObject(14, contract.getExecutedAt());
+        ps.setObject(15, contract.getCreatedAt());
+        ps.setObject(16, contract.getUpdatedAt());
+    }
+}
@@ -0,0 +1,39 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.LoanTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class LoanTransactionBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO loan_transactions (transaction_no, contract_id, type, amount, balance_after,
+                                           description, transacted_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoanBatchProperties batchProperties;
+
+    public void insertAll(List<LoanTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, batchProperties.getChunkSize(), (ps, transaction) -> {
+            ps.setString(1, transaction.getTransactionNo());
+            ps.setLong(2, transaction.getContractId());
+            ps.setString(3, transaction.getType().name());
+            ps.setBigDecimal(4, transaction.getAmount());
+            ps.setBigDecimal(5, transaction.getBalanceAfter());
+            ps.setString(6, transaction.getDescription());
+            ps.setObject(7, transaction.getTransactedAt());
+            ps.setObject(8, transaction.getCreatedAt());
+        });
+    }
+}
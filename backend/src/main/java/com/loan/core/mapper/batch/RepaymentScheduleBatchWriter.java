@@ -0,0 +1,218 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Writes repayment schedules through a single reused prepared statement, flushing a JDBC batch every
+ * {@code chunkSize} rows. Rows are pulled from the iterator one at a time and never collected, so the
+ * SQL text and memory stay constant for any term length.
+ */
+@Component
+@RequiredArgsConstructor
+public class RepaymentScheduleBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO repayment_schedules (contract_id, installment_no, due_date, principal_amount,
+                                             interest_amount, total_amount, outstanding_balance_after,
+                                             status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String ACCRUE_PENALTY_SQL = """
+            UPDATE repayment_schedules
+            SET accrued_penalty = ?, penalty_accrued_to = ?, version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND status = 'OVERDUE' AND version = ?
+            """;
+
+    private static final String APPLY_PAYMENT_SQL = """
+            UPDATE repayment_schedules
+            SET principal_amount = ?, interest_amount = ?, total_amount = ?, outstanding_balance_after = ?,
+                status = ?, paid_date = ?, paid_amount = ?, paid_penalty = ?,
+                version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND version = ?
+            """;
+
+    private static final String REAMORTIZE_SQL = """
+            UPDATE repayment_schedules
+            SET principal_amount = ?, interest_amount = ?, total_amount = ?, outstanding_balance_after = ?,
+                version = version + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND status = 'SCHEDULED' AND version = ?
+            """;
+
+    private static final String REMOVE_SQL = """
+            DELETE FROM repayment_schedules
+            WHERE id = ? AND status = 'SCHEDULED' AND version = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoanBatchProperties batchProperties;
+
+    /**
+     * @return number of rows written
+     */
+    public int write(Iterator<RepaymentSchedule> schedules) {
+        return write(schedules, batchProperties.getChunkSize());
+    }
+
+    public int write(Iterator<RepaymentSchedule> schedules, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        if (!schedules.hasNext()) {
+            return 0;
+        }
+        Integer written = jdbcTemplate.execute(INSERT_SQL, (PreparedStatement ps) -> {
+            int rows = 0;
+            int pending = 0;
+            while (schedules.hasNext()) {
+                bind(ps, schedules.next());
+                ps.addBatch();
+                rows++;
+                if (++pending == chunkSize) {
+                    ps.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                ps.executeBatch();
+            }
+            return rows;
+        });
+        return written == null ? 0 : written;
+    }
+
+    /**
+     * Stores each installment's new {@code accruedPenalty} and {@code penaltyAccruedTo}, one conditional UPDATE per
+     * row sent as JDBC batches. Rows are guarded by the version the caller read, so an installment paid or accrued
+     * in between is left alone rather than charged twice.
+     *
+     * @return the installments that were actually updated
+     */
+    public List<RepaymentSchedule> accruePenalty(List<RepaymentSchedule> schedules) {
+        List<RepaymentSchedule> accrued = new ArrayList<>(schedules.size());
+        if (schedules.isEmpty()) {
+            return accrued;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(ACCRUE_PENALTY_SQL, schedules, batchProperties.getChunkSize(), (ps, schedule) -> {
+            ps.setBigDecimal(1, schedule.getAccruedPenalty());
+            ps.setObject(2, schedule.getPenaltyAccruedTo());
+            ps.setLong(3, schedule.getId());
+            ps.setLong(4, schedule.getVersion());
+        });
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count > 0) {
+                    accrued.add(schedules.get(index));
+                }
+                index++;
+            }
+        }
+        return accrued;
+    }
+
+    /**
+     * Writes back the installments a repayment changed, amounts and payment state alike, through one statement
+     * sent as a single JDBC batch. Rows are guarded by the version the caller read.
+     *
+     * @return number of rows updated; fewer than given means another write got there first
+     */
+    public int applyPayments(List<RepaymentSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(APPLY_PAYMENT_SQL, schedules, schedules.size(), (ps, schedule) -> {
+            ps.setBigDecimal(1, schedule.getPrincipalAmount());
+            ps.setBigDecimal(2, schedule.getInterestAmount());
+            ps.setBigDecimal(3, schedule.getTotalAmount());
+            ps.setBigDecimal(4, schedule.getOutstandingBalanceAfter());
+            ps.setString(5, schedule.getStatus().name());
+            ps.setObject(6, schedule.getPaidDate());
+            ps.setBigDecimal(7, schedule.getPaidAmount());
+            ps.setBigDecimal(8, schedule.getPaidPenalty() != null ? schedule.getPaidPenalty() : BigDecimal.ZERO);
+            ps.setLong(9, schedule.getId());
+            ps.setLong(10, schedule.getVersion());
+        });
+        int updated = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Writes recalculated amounts of SCHEDULED installments, sent as JDBC batches of {@code chunkSize}. Payment
+     * state is left alone, and rows are guarded by the version the caller read.
+     *
+     * @return number of rows updated; fewer than given means another write got there first
+     */
+    public int reamortize(List<RepaymentSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(REAMORTIZE_SQL, schedules, batchProperties.getChunkSize(), (ps, schedule) -> {
+            ps.setBigDecimal(1, schedule.getPrincipalAmount());
+            ps.setBigDecimal(2, schedule.getInterestAmount());
+            ps.setBigDecimal(3, schedule.getTotalAmount());
+            ps.setBigDecimal(4, schedule.getOutstandingBalanceAfter());
+            ps.setLong(5, schedule.getId());
+            ps.setLong(6, schedule.getVersion());
+        });
+        int updated = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Deletes installments a shortened schedule no longer needs, as one JDBC batch. Only SCHEDULED rows at the
+     * version the caller read are removed, so an installment that fell due or was touched meanwhile survives.
+     *
+     * @return number of rows deleted; fewer than given means another write got there first
+     */
+    public int remove(List<RepaymentSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(REMOVE_SQL, schedules, schedules.size(), (ps, schedule) -> {
+            ps.setLong(1, schedule.getId());
+            ps.setLong(2, schedule.getVersion());
+        });
+        int removed = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                removed += Math.max(count, 0);
+            }
+        }
+        return removed;
+    }
+
+    private void bind(PreparedStatement ps, RepaymentSchedule schedule) throws SQLException {
+        ps.setLong(1, schedule.getContractId());
+        ps.setInt(2, schedule.getInstallmentNo());
+        ps.setObject(3, schedule.getDueDate());
+        ps.setBigDecimal(4, schedule.getPrincipalAmount());
+        ps.setBigDecimal(5, schedule.getInterestAmount());
+        ps.setBigDecimal(6, schedule.getTotalAmount());
+        ps.setBigDecimal(7, schedule.getOutstandingBalanceAfter());
+        ps.setString(8, schedule.getStatus().name());
+        ps.setObject(9, schedule.getCreatedAt());
+        ps.setObject(10, schedule.getUpdatedAt());
+    }
+}
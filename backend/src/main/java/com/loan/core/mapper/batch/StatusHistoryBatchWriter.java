@@ -0,0 +1,37 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.StatusHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class StatusHistoryBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO status_histories (entity_type, entity_id, from_status, to_status, changed_by, reason, changed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoanBatchProperties batchProperties;
+
+    public void insertAll(List<StatusHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, batchProperties.getChunkSize(), (ps, history) -> {
+            ps.setString(1, history.getEntityType());
+            ps.setLong(2, history.getEntityId());
+            ps.setString(3, history.getFromStatus());
+            ps.setString(4, history.getToStatus());
+            ps.setString(5, history.getChangedBy());
+            ps.setString(6, history.getReason());
+            ps.setObject(7, history.getChangedAt());
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.loan.core.metrics;
+
+import com.loan.core.config.LoanMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every mapper statement and counts the rows it returned or changed, per statement id. Statements slower
+ * than {@code loan.metrics.slow-statement-threshold} are counted and logged with their SQL (without bound
+ * values, which may hold customer data). Writes sent through the JDBC batch writers bypass MyBatis and are
+ * not covered here.
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    static final String DURATION = "loan.mapper.statement.duration";
+    static final String ROWS = "loan.mapper.statement.rows";
+    static final String SLOW = "loan.mapper.slow.statements";
+    static final String ERRORS = "loan.mapper.statement.errors";
+
+    private final MeterRegistry registry;
+    private final LoanMetricsProperties properties;
+    private final Map<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+
+    public MapperMetricsInterceptor(MeterRegistry registry, LoanMetricsProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        StatementMetrics statementMetrics = statements.computeIfAbsent(statement.getId(), id -> register(statement));
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            statementMetrics.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            statementMetrics.errors().increment();
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        long rows = rows(result);
+        statementMetrics.timer().record(elapsed, TimeUnit.NANOSECONDS);
+        if (rows > 0) {
+            statementMetrics.rows().increment(rows);
+        }
+        if (elapsed >= properties.getSlowStatementThreshold().toNanos()) {
+            statementMetrics.slow().increment();
+            log.warn("Slow statement {}: {} ms, rows={}, sql={}", statementMetrics.name(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), rows,
+                    statement.getBoundSql(invocation.getArgs()[1]).getSql().replaceAll("\\s+", " ").trim());
+        }
+        return result;
+    }
+
+    private StatementMetrics register(MappedStatement statement) {
+        // com.loan.core.mapper.CustomerMapper.findById -> CustomerMapper.findById
+        String id = statement.getId();
+        int typeStart = id.lastIndexOf('.', id.lastIndexOf('.') - 1);
+        String name = id.substring(typeStart + 1);
+        String command = statement.getSqlCommandType().name().toLowerCase();
+        return new StatementMetrics(name,
+                Timer.builder(DURATION).description("Mapper statement latency")
+                        .tags("statement", name, "command", command).register(registry),
+                Counter.builder(ROWS).description("Rows returned by selects or changed by writes")
+                        .tag("statement", name).register(registry),
+                Counter.builder(SLOW).description("Statements slower than loan.metrics.slow-statement-threshold")
+                        .tag("statement", name).register(registry),
+                Counter.builder(ERRORS).description("Statements that threw")
+                        .tag("statement", name).register(registry));
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        // Batch executors return a negative placeholder instead of an update count
+        if (result instanceof Integer count && count > 0) {
+            return count;
+        }
+        return 0;
+    }
+
+    private record StatementMetrics(String name, Timer timer, Counter rows, Counter slow, Counter errors) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.loan.core.metrics;
+
+import com.loan.core.config.ConnectionPoolMonitor;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.dto.response.ConnectionPoolStats;
+import com.loan.core.service.CustomerCache;
+import com.loan.core.service.StatusHistoryRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Publishes the stats behind the dashboard's operational endpoints as meters: connection pools, the customer
+ * cache, the audit queue and read routing. Everything is read from the components' own counters when scraped, so
+ * nothing is added to the request path. Pools are those in the context when the registry is bound.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsMeterBinder implements MeterBinder {
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final CustomerCache customerCache;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final ReadReplicaRouting readReplicaRouting;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindConnectionPools(registry);
+        bindCustomerCache(registry);
+        bindAuditQueue(registry);
+        bindReadRouting(registry);
+    }
+
+    private void bindConnectionPools(MeterRegistry registry) {
+        for (ConnectionPoolStats pool : connectionPoolMonitor.stats()) {
+            String name = pool.getPoolName();
+            poolGauge(registry, "loan.db.pool.connections", "Pool connections by state", name, ConnectionPoolStats::getActive, "state", "active");
+            poolGauge(registry, "loan.db.pool.connections", "Pool connections by state", name, ConnectionPoolStats::getIdle, "state", "idle");
+            poolGauge(registry, "loan.db.pool.pending.threads", "Threads waiting for a pool connection", name, ConnectionPoolStats::getThreadsAwaitingConnection);
+            poolGauge(registry, "loan.db.pool.max.connections", "Configured maximum pool size", name, ConnectionPoolStats::getMaximumPoolSize);
+        }
+    }
+
+    /**
+     * A gauge on one pool, with no value until the pool has opened its first connection.
+     */
+    private void poolGauge(MeterRegistry registry, String meter, String description, String pool,
+                           ToIntFunction<ConnectionPoolStats> value, String... tags) {
+        Gauge.builder(meter, connectionPoolMonitor, monitor -> monitor.stats().stream()
+                        .filter(stats -> stats.isStarted() && stats.getPoolName().equals(pool))
+                        .mapToDouble(value::applyAsInt)
+                        .findFirst()
+                        .orElse(Double.NaN))
+                .description(description)
+                .tag("pool", pool)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private void bindCustomerCache(MeterRegistry registry) {
+        Gauge.builder("loan.customer.cache.size", customerCache, cache -> cache.stats().getSize())
+                .description("Cached customers")
+                .register(registry);
+        FunctionCounter.builder("loan.customer.cache.requests", customerCache, cache -> cache.stats().getHits())
+                .description("Customer lookups by cache result")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("loan.customer.cache.requests", customerCache, cache -> cache.stats().getMisses())
+                .description("Customer lookups by cache result")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("loan.customer.cache.removals", customerCache, cache -> cache.stats().getEvictions())
+                .description("Entries dropped from the customer cache by cause")
+                .tag("cause", "size")
+                .register(registry);
+        FunctionCounter.builder("loan.customer.cache.removals", customerCache, cache -> cache.stats().getExpirations())
+                .description("Entries dropped from the customer cache by cause")
+                .tag("cause", "expired")
+                .register(registry);
+        FunctionCounter.builder("loan.customer.cache.removals", customerCache, cache -> cache.stats().getInvalidations())
+                .description("Entries dropped from the customer cache by cause")
+                .tag("cause", "invalidated")
+                .register(registry);
+    }
+
+    private void bindAuditQueue(MeterRegistry registry) {
+        Gauge.builder("loan.audit.queue.depth", statusHistoryRecorder, recorder -> recorder.stats().getDepth())
+                .description("Status history entries waiting for the write-behind writer")
+                .register(registry);
+        Gauge.builder("loan.audit.queue.capacity", statusHistoryRecorder, recorder -> recorder.stats().getCapacity())
+                .description("Write-behind queue capacity")
+                .register(registry);
+        FunctionCounter.builder("loan.audit.entries.enqueued", statusHistoryRecorder, recorder -> recorder.stats().getEnqueued())
+                .description("Status history entries handed to the write-behind writer")
+                .register(registry);
+        FunctionCounter.builder("loan.audit.entries.written", statusHistoryRecorder, recorder -> recorder.stats().getWritten())
+                .description("Status history entries written by the write-behind writer")
+                .register(registry);
+        FunctionCounter.builder("loan.audit.entries.caller.runs", statusHistoryRecorder, recorder -> recorder.stats().getCallerRuns())
+                .description("Status history entries the caller wrote itself because the queue stayed full")
+                .register(registry);
+        FunctionCounter.builder("loan.audit.entries.failed", statusHistoryRecorder, recorder -> recorder.stats().getFailed())
+                .description("Status history entries the write-behind writer gave up on")
+                .register(registry);
+    }
+
+    private void bindReadRouting(MeterRegistry registry) {
+        FunctionCounter.builder("loan.read.routing.transactions", readReplicaRouting, routing -> routing.stats().getReplicaReads())
+                .description("Read-only transactions by the database they were routed to")
+                .tag("route", "replica")
+                .register(registry);
+        FunctionCounter.builder("loan.read.routing.transactions", readReplicaRouting, routing -> routing.stats().getPinnedReads())
+                .description("Read-only transactions by the database they were routed to")
+                .tag("route", "pinned")
+                .register(registry);
+        FunctionCounter.builder("loan.read.routing.transactions", readReplicaRouting, routing -> routing.stats().getFallbackReads())
+                .description("Read-only transactions by the database they were routed to")
+                .tag("route", "fallback")
+                .register(registry);
+        FunctionCounter.builder("loan.read.routing.replica.failures", readReplicaRouting, routing -> routing.stats().getReplicaFailures())
+                .description("Failed replica health checks and connection attempts")
+                .register(registry);
+        Gauge.builder("loan.read.routing.replica.healthy", readReplicaRouting, routing -> routing.stats().isReplicaHealthy() ? 1 : 0)
+                .description("1 while reads can be routed to the replica")
+                .register(registry);
+        Gauge.builder("loan.read.routing.pinned.customers", readReplicaRouting, routing -> routing.stats().getRecentlyWrittenCustomers())
+                .description("Customers whose reads stay on the primary after a recent write")
+                .register(registry);
+    }
+}
@@ -0,0 +1,209 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.CreditAssessment;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.entity.StatusHistory;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.dto.response.BatchAssessmentReport;
+import com.loan.core.exception.BusinessException;
+import com.loan.core.mapper.CreditAssessmentMapper;
+import com.loan.core.mapper.CustomerMapper;
+import com.loan.core.mapper.LoanApplicationMapper;
+import com.loan.core.mapper.batch.CreditAssessmentBatchWriter;
+import com.loan.core.mapper.batch.LoanApplicationBatchWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assesses every APPLIED application in one run. Applications are scanned in id order, one chunk per
+ * transaction: customers are loaded with a single IN-query, scoring runs in parallel on the bounded
+ * {@code assessmentExecutor}, and assessments, status changes and histories are written as JDBC batches.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BatchAssessmentService {
+
+    private final LoanApplicationMapper applicationMapper;
+    private final CustomerMapper customerMapper;
+    private final CreditAssessmentMapper assessmentMapper;
+    private final LoanApplicationBatchWriter applicationBatchWriter;
+    private final CreditAssessmentBatchWriter assessmentBatchWriter;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor assessmentExecutor;
+    private final LoanBatchProperties batchProperties;
+    private final PortfolioSnapshotService snapshotService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<BatchAssessmentReport> lastReport = new AtomicReference<>();
+
+    public BatchAssessmentReport assessPending() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("이미 일괄 심사가 진행 중입니다");
+        }
+        try {
+            return run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Progress of the current run, or the result of the last finished run.
+     */
+    public Optional<BatchAssessmentReport> getProgress() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    private BatchAssessmentReport run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        BatchAssessmentReport report = BatchAssessmentReport.builder()
+                .status(BatchAssessmentReport.Status.RUNNING)
+                .startedAt(startedAt)
+                .build();
+        lastReport.set(report.toBuilder().build());
+        log.info("Batch assessment started: chunkSize={}, threads={}",
+                batchProperties.getChunkSize(), batchProperties.getAssessmentThreads());
+
+        long afterId = 0L;
+        try {
+            while (true) {
+                List<LoanApplication> chunk = applicationMapper.findByStatusAfterId(
+                        LoanStatus.APPLIED.name(), afterId, batchProperties.getChunkSize());
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).getId();
+
+                ChunkOutcome outcome;
+                try {
+                    outcome = transactionTemplate.execute(status -> assessChunk(chunk));
+                } catch (RuntimeException e) {
+                    // The chunk rolled back and stays APPLIED, so the next run picks it up again
+                    log.error("Batch assessment chunk failed: firstId={}, lastId={}", chunk.get(0).getId(), afterId, e);
+                    outcome = new ChunkOutcome(0, 0, 0, chunk.size());
+                }
+
+                report.setChunks(report.getChunks() + 1);
+                report.setScanned(report.getScanned() + chunk.size());
+                report.setApproved(report.getApproved() + outcome.approved());
+                report.setRejected(report.getRejected() + outcome.rejected());
+                report.setSkipped(report.getSkipped() + outcome.skipped());
+                report.setFailed(report.getFailed() + outcome.failed());
+                report.setElapsedMillis(Duration.between(startedAt, LocalDateTime.now()).toMillis());
+                lastReport.set(report.toBuilder().build());
+                log.info("Batch assessment progress: chunks={}, scanned={}, approved={}, rejected={}, skipped={}, failed={}",
+                        report.getChunks(), report.getScanned(), report.getApproved(), report.getRejected(),
+                        report.getSkipped(), report.getFailed());
+            }
+            report.setStatus(BatchAssessmentReport.Status.COMPLETED);
+        } catch (RuntimeException e) {
+            report.setStatus(BatchAssessmentReport.Status.FAILED);
+            throw e;
+        } finally {
+            report.setFinishedAt(LocalDateTime.now());
+            report.setElapsedMillis(Duration.between(startedAt, report.getFinishedAt()).toMillis());
+            lastReport.set(report.toBuilder().build());
+            log.info("Batch assessment finished: status={}, scanned={}, elapsedMs={}",
+                    report.getStatus(), report.getScanned(), report.getElapsedMillis());
+        }
+        return report;
+    }
+
+    private ChunkOutcome assessChunk(List<LoanApplication> chunk) {
+        List<Long> applicationIds = chunk.stream().map(LoanApplication::getId).toList();
+        List<Long> customerIds = chunk.stream().map(LoanApplication::getCustomerId).distinct().toList();
+        Map<Long, Customer> customers = customerMapper.findByIds(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        Set<Long> alreadyAssessed = assessmentMapper.findByApplicationIds(applicationIds).stream()
+                .map(CreditAssessment::getApplicationId)
+                .collect(Collectors.toSet());
+
+        int skipped = 0;
+        int failed = 0;
+        Map<Long, LoanApplication> assessable = new LinkedHashMap<>();
+        for (LoanApplication application : chunk) {
+            if (alreadyAssessed.contains(application.getId())) {
+                skipped++;
+            } else if (!customers.containsKey(application.getCustomerId())) {
+                log.warn("Batch assessment skipped application without customer: applicationId={}, customerId={}",
+                        application.getId(), application.getCustomerId());
+                failed++;
+            } else {
+                assessable.put(application.getId(), application);
+            }
+        }
+
+        // Conditional claim: applications moved by a concurrent single assessment are left out
+        List<Long> claimed = applicationBatchWriter.transitionStatus(
+                new ArrayList<>(assessable.keySet()), LoanStatus.APPLIED, LoanStatus.REVIEWING);
+        skipped += assessable.size() - claimed.size();
+        if (claimed.isEmpty()) {
+            return new ChunkOutcome(0, 0, skipped, failed);
+        }
+
+        List<CreditAssessment> assessments = score(claimed.stream().map(assessable::get).toList(), customers);
+
+        List<Long> approved = new ArrayList<>();
+        List<Long> rejected = new ArrayList<>();
+        List<StatusHistory> histories = new ArrayList<>(assessments.size() * 2);
+        for (CreditAssessment assessment : assessments) {
+            LoanStatus decided = CreditAssessmentService.decidedStatus(assessment);
+            (decided == LoanStatus.APPROVED ? approved : rejected).add(assessment.getApplicationId());
+            histories.add(StatusHistoryRecorder.entry("LOAN_APPLICATION", assessment.getApplicationId(),
+                    LoanStatus.APPLIED.name(), LoanStatus.REVIEWING.name(), "SYSTEM", "심사 시작"));
+            histories.add(StatusHistoryRecorder.entry("LOAN_APPLICATION", assessment.getApplicationId(),
+                    LoanStatus.REVIEWING.name(), decided.name(), "SYSTEM", CreditAssessmentService.decisionReason(assessment)));
+        }
+
+        applicationBatchWriter.transitionStatus(approved, LoanStatus.REVIEWING, LoanStatus.APPROVED);
+        applicationBatchWriter.transitionStatus(rejected, LoanStatus.REVIEWING, LoanStatus.REJECTED);
+        assessmentBatchWriter.insertAll(assessments);
+        statusHistoryRecorder.recordAll(histories);
+        snapshotService.apply(PortfolioDelta.applicationTransition(LoanStatus.APPLIED, LoanStatus.APPROVED).times(approved.size())
+                .plus(PortfolioDelta.applicationTransition(LoanStatus.APPLIED, LoanStatus.REJECTED).times(rejected.size())));
+        return new ChunkOutcome(approved.size(), rejected.size(), skipped, failed);
+    }
+
+    /**
+     * Splits the chunk into one slice per worker and scores the slices in parallel. Order is preserved.
+     */
+    private List<CreditAssessment> score(List<LoanApplication> applications, Map<Long, Customer> customers) {
+        int slices = Math.max(1, Math.min(batchProperties.getAssessmentThreads(), applications.size()));
+        int sliceSize = (applications.size() + slices - 1) / slices;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<CompletableFuture<List<CreditAssessment>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < applications.size(); from += sliceSize) {
+            List<LoanApplication> slice = applications.subList(from, Math.min(from + sliceSize, applications.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> slice.stream()
+                    .map(application -> CreditAssessmentService.evaluate(
+                            application, customers.get(application.getCustomerId()), now))
+                    .toList(), assessmentExecutor));
+        }
+
+        List<CreditAssessment> assessments = new ArrayList<>(applications.size());
+        for (CompletableFuture<List<CreditAssessment>> future : futures) {
+            assessments.addAll(future.join());
+        }
+        return assessments;
+    }
+
+    private record ChunkOutcome(int approved, int rejected, int skipped, int failed) {
+    }
+}
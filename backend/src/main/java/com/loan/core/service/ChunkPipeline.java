@@ -0,0 +1,74 @@
+package com.loan.core.service;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs the chunks of a paged batch job on a worker executor, each in its own transaction, while the calling thread
+ * keeps paging. Outcomes are handed to the collector on the calling thread in submission order, with the cause
+ * instead of an outcome for a chunk that failed and was rolled back.
+ * <p>
+ * One pipeline serves a single run and is not thread-safe.
+ */
+final class ChunkPipeline<O> {
+
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final BiConsumer<O, Throwable> collector;
+    private final Deque<CompletableFuture<O>> inFlight = new ArrayDeque<>();
+
+    ChunkPipeline(TransactionTemplate transactionTemplate, Executor executor, int threads, BiConsumer<O, Throwable> collector) {
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.maxInFlight = Math.max(1, threads);
+        this.collector = collector;
+    }
+
+    /**
+     * Hands a chunk to the workers, first collecting the oldest outcomes so paging stays at most one round of
+     * chunks ahead of them.
+     */
+    void submit(Supplier<O> chunk) {
+        inFlight.add(CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> chunk.get()), executor));
+        while (inFlight.size() > maxInFlight) {
+            collect(inFlight.poll());
+        }
+    }
+
+    /**
+     * Waits for and collects every chunk still in flight.
+     */
+    void drain() {
+        while (!inFlight.isEmpty()) {
+            collect(inFlight.poll());
+        }
+    }
+
+    /**
+     * Waits for the chunks in flight without collecting them, for a run that is failing: chunks already handed out
+     * still commit, and whatever is left is picked up by the job's next attempt.
+     */
+    void abandon() {
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).handle((ignored, error) -> null).join();
+        inFlight.clear();
+    }
+
+    private void collect(CompletableFuture<O> future) {
+        O outcome;
+        try {
+            outcome = future.join();
+        } catch (CompletionException e) {
+            collector.accept(null, e.getCause());
+            return;
+        }
+        collector.accept(outcome, null);
+    }
+}
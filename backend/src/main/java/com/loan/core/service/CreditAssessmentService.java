@@ -1,9 +1,9 @@
 package com.loan.core.service;
 
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.CreditAssessment;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.entity.LoanApplication;
-import com.loan.core.domain.entity.StatusHistory;
 import com.loan.core.domain.enums.AssessmentResult;
 import com.loan.core.domain.enums.CreditGrade;
 import com.loan.core.domain.enums.EmploymentType;
@@ -12,9 +12,8 @@ import com.loan.core.exception.BusinessException;
 import com.loan.core.exception.InvalidStatusTransitionException;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.mapper.CreditAssessmentMapper;
-import com.loan.core.mapper.CustomerMapper;
 import com.loan.core.mapper.LoanApplicationMapper;
-import com.loan.core.mapper.StatusHistoryMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,8 +33,10 @@ public class CreditAssessmentService {
 
     private final CreditAssessmentMapper assessmentMapper;
     private final LoanApplicationMapper applicationMapper;
-    private final CustomerMapper customerMapper;
-    private final StatusHistoryMapper statusHistoryMapper;
+    private final CustomerCache customerCache;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final PortfolioSnapshotService snapshotService;
 
     private static final BigDecimal TEN_MILLION = new BigDecimal("10000000");
     private static final BigDecimal INCOME_FACTOR_MULTIPLIER = new BigDecimal("50");
@@ -44,6 +45,7 @@ public class CreditAssessmentService {
     private static final int MIN_APPROVAL_SCORE = 500;
     private static final BigDecimal MAX_DSR_RATIO = new BigDecimal("40");
 
+    @Timed("loan.service.duration")
     @Transactional
     public CreditAssessment assessApplication(Long applicationId) {
         log.info("Starting credit assessment: applicationId={}", applicationId);
@@ -62,33 +64,53 @@ public class CreditAssessmentService {
 
         validateStatusTransition(application.getStatus(), LoanStatus.REVIEWING);
         applicationMapper.updateStatus(applicationId, LoanStatus.REVIEWING.name());
-        recordStatusHistory("LOAN_APPLICATION", applicationId, application.getStatus().name(), LoanStatus.REVIEWING.name(), "SYSTEM", "심사 시작");
+        statusHistoryRecorder.record("LOAN_APPLICATION", applicationId, application.getStatus().name(), LoanStatus.REVIEWING.name(), "SYSTEM", "심사 시작");
 
         // 2. Get customer
-        Customer customer = customerMapper.findById(application.getCustomerId());
+        Customer customer = customerCache.findById(application.getCustomerId());
         if (customer == null) {
             throw new ResourceNotFoundException("Customer", application.getCustomerId());
         }
 
-        // 3. Simulate credit score
-        int creditScore = calculateCreditScore(customer);
-        log.info("Credit score calculated: score={}, customerId={}", creditScore, customer.getId());
+        // 3-8. Score and decide
+        CreditAssessment assessment = evaluate(application, customer, LocalDateTime.now());
+        log.info("Credit score calculated: score={}, customerId={}", assessment.getCreditScore(), customer.getId());
+        log.info("DSR ratio calculated: dsr={}%, customerId={}", assessment.getDsrRatio(), customer.getId());
 
-        // 4. Get credit grade
-        CreditGrade creditGrade = CreditGrade.fromScore(creditScore);
+        // 9. Update application status
+        LoanStatus newStatus = decidedStatus(assessment);
+        applicationMapper.updateStatus(applicationId, newStatus.name());
+        readReplicaRouting.markWritten(application.getCustomerId());
+        statusHistoryRecorder.record("LOAN_APPLICATION", applicationId, LoanStatus.REVIEWING.name(), newStatus.name(), "SYSTEM",
+                decisionReason(assessment));
+        snapshotService.apply(PortfolioDelta.applicationTransition(application.getStatus(), newStatus));
+
+        // 10. Insert assessment
+        assessmentMapper.insert(assessment);
+        log.info("Credit assessment completed: applicationId={}, result={}, score={}",
+                applicationId, assessment.getResult(), assessment.getCreditScore());
+
+        return assessment;
+    }
+
+    public CreditAssessment getAssessmentByApplicationId(Long applicationId) {
+        CreditAssessment assessment = assessmentMapper.findByApplicationId(applicationId);
+        if (assessment == null) {
+            throw new ResourceNotFoundException("CreditAssessment", "applicationId=" + applicationId);
+        }
+        return assessment;
+    }
 
-        // 5. Calculate DSR
+    /**
+     * Scores an application and decides the outcome without touching the database. Shared by the
+     * single-application path and {@link BatchAssessmentService}.
+     */
+    static CreditAssessment evaluate(LoanApplication application, Customer customer, LocalDateTime now) {
+        int creditScore = calculateCreditScore(customer);
+        CreditGrade creditGrade = CreditGrade.fromScore(creditScore);
         BigDecimal dsrRatio = calculateDsrRatio(application, customer);
-        log.info("DSR ratio calculated: dsr={}%, customerId={}", dsrRatio, customer.getId());
-
-        // 6-8. Determine result
-        AssessmentResult result;
-        String rejectionReason = null;
-        BigDecimal approvedRate = null;
-        BigDecimal approvedAmount = null;
-        Integer approvedTermMonths = null;
-        List<String> rejectionReasons = new ArrayList<>();
 
+        List<String> rejectionReasons = new ArrayList<>();
         if (creditScore < MIN_APPROVAL_SCORE) {
             rejectionReasons.add("신용점수 부족 (현재: " + creditScore + ", 최소: " + MIN_APPROVAL_SCORE + ")");
         }
@@ -96,52 +118,38 @@ public class CreditAssessmentService {
             rejectionReasons.add("DSR 비율 초과 (현재: " + dsrRatio + "%, 최대: " + MAX_DSR_RATIO + "%)");
         }
 
-        if (!rejectionReasons.isEmpty()) {
-            result = AssessmentResult.REJECTED;
-            rejectionReason = String.join("; ", rejectionReasons);
-        } else {
-            result = AssessmentResult.APPROVED;
-            approvedRate = BigDecimal.valueOf(creditGrade.getBaseRate());
-            approvedAmount = application.getRequestedAmount();
-            approvedTermMonths = application.getRequestedTermMonths();
-        }
-
-        // 9. Update application status
-        LoanStatus newStatus = result == AssessmentResult.APPROVED ? LoanStatus.APPROVED : LoanStatus.REJECTED;
-        applicationMapper.updateStatus(applicationId, newStatus.name());
-        recordStatusHistory("LOAN_APPLICATION", applicationId, LoanStatus.REVIEWING.name(), newStatus.name(), "SYSTEM",
-                result == AssessmentResult.APPROVED ? "심사 승인" : "심사 거절: " + rejectionReason);
-
-        // 10. Insert assessment
-        CreditAssessment assessment = CreditAssessment.builder()
-                .applicationId(applicationId)
+        CreditAssessment.CreditAssessmentBuilder assessment = CreditAssessment.builder()
+                .applicationId(application.getId())
                 .creditScore(creditScore)
                 .creditGrade(creditGrade)
                 .dsrRatio(dsrRatio)
-                .approvedRate(approvedRate)
-                .approvedAmount(approvedAmount)
-                .approvedTermMonths(approvedTermMonths)
-                .result(result)
-                .rejectionReason(rejectionReason)
-                .assessedAt(LocalDateTime.now())
-                .createdAt(LocalDateTime.now())
+                .assessedAt(now)
+                .createdAt(now);
+        if (!rejectionReasons.isEmpty()) {
+            return assessment
+                    .result(AssessmentResult.REJECTED)
+                    .rejectionReason(String.join("; ", rejectionReasons))
+                    .build();
+        }
+        return assessment
+                .result(AssessmentResult.APPROVED)
+                .approvedRate(BigDecimal.valueOf(creditGrade.getBaseRate()))
+                .approvedAmount(application.getRequestedAmount())
+                .approvedTermMonths(application.getRequestedTermMonths())
                 .build();
+    }
 
-        assessmentMapper.insert(assessment);
-        log.info("Credit assessment completed: applicationId={}, result={}, score={}", applicationId, result, creditScore);
-
-        return assessment;
+    static LoanStatus decidedStatus(CreditAssessment assessment) {
+        return assessment.getResult() == AssessmentResult.APPROVED ? LoanStatus.APPROVED : LoanStatus.REJECTED;
     }
 
-    public CreditAssessment getAssessmentByApplicationId(Long applicationId) {
-        CreditAssessment assessment = assessmentMapper.findByApplicationId(applicationId);
-        if (assessment == null) {
-            throw new ResourceNotFoundException("CreditAssessment", "applicationId=" + applicationId);
-        }
-        return assessment;
+    static String decisionReason(CreditAssessment assessment) {
+        return assessment.getResult() == AssessmentResult.APPROVED
+                ? "심사 승인"
+                : "심사 거절: " + assessment.getRejectionReason();
     }
 
-    private int calculateCreditScore(Customer customer) {
+    static int calculateCreditScore(Customer customer) {
         int score = BASE_SCORE;
 
         // Income factor: annualIncome / 10,000,000 * 50, max 300
@@ -162,7 +170,7 @@ public class CreditAssessmentService {
         return Math.max(0, Math.min(1000, score));
     }
 
-    private int getEmploymentScore(EmploymentType employmentType) {
+    private static int getEmploymentScore(EmploymentType employmentType) {
         return switch (employmentType) {
             case REGULAR -> 100;
             case CONTRACT -> 50;
@@ -172,7 +180,7 @@ public class CreditAssessmentService {
         };
     }
 
-    private BigDecimal calculateDsrRatio(LoanApplication application, Customer customer) {
+    static BigDecimal calculateDsrRatio(LoanApplication application, Customer customer) {
         if (customer.getAnnualIncome() == null || customer.getAnnualIncome().compareTo(BigDecimal.ZERO) <= 0) {
             return new BigDecimal("100.00");
         }
@@ -203,17 +211,4 @@ public class CreditAssessmentService {
             throw new InvalidStatusTransitionException(current, target);
         }
     }
-
-    private void recordStatusHistory(String entityType, Long entityId, String fromStatus, String toStatus, String changedBy, String reason) {
-        StatusHistory history = StatusHistory.builder()
-                .entityType(entityType)
-                .entityId(entityId)
-                .fromStatus(fromStatus)
-                .toStatus(toStatus)
-                .changedBy(changedBy)
-                .reason(reason)
-                .changedAt(LocalDateTime.now())
-                .build();
-        statusHistoryMapper.insert(history);
-    }
 }
@@ -0,0 +1,193 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanCustomerCacheProperties;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.dto.response.CustomerCacheStats;
+import com.loan.core.mapper.CustomerMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache in front of {@link CustomerMapper} for lookups by id and customer number. Entries expire
+ * after {@code loan.customer-cache.ttl}, and the oldest are evicted once {@code maximumSize} is exceeded.
+ * Missing customers are not cached, so a customer created a moment ago is found on the next call.
+ * <p>
+ * Writers call {@link #invalidate(Long)} when a customer changes. The entry is dropped at once and again when
+ * the writing transaction ends, and a load that overlapped an invalidation is not stored, so a reader that
+ * saw the old row cannot put it back. Other instances pick up the change when their entry expires.
+ * <p>
+ * Cached instances are shared between callers and must not be modified.
+ */
+@Component
+public class CustomerCache {
+
+    private final CustomerMapper customerMapper;
+    private final LoanCustomerCacheProperties properties;
+    private final Clock clock;
+
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Long> idByCustomerNo = new ConcurrentHashMap<>();
+    // Insertion order for size eviction; may hold entries already replaced or removed, which are skipped
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong invalidationStamp = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public CustomerCache(CustomerMapper customerMapper, LoanCustomerCacheProperties properties) {
+        this(customerMapper, properties, Clock.systemUTC());
+    }
+
+    CustomerCache(CustomerMapper customerMapper, LoanCustomerCacheProperties properties, Clock clock) {
+        this.customerMapper = customerMapper;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public Customer findById(Long id) {
+        if (!properties.isEnabled()) {
+            return customerMapper.findById(id);
+        }
+        Customer cached = lookup(id);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = invalidationStamp.get();
+        Customer loaded = customerMapper.findById(id);
+        store(loaded, stamp);
+        return loaded;
+    }
+
+    public Customer findByCustomerNo(String customerNo) {
+        if (!properties.isEnabled()) {
+            return customerMapper.findByCustomerNo(customerNo);
+        }
+        Long id = idByCustomerNo.get(customerNo);
+        Customer cached = id != null ? lookup(id) : null;
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = invalidationStamp.get();
+        Customer loaded = customerMapper.findByCustomerNo(customerNo);
+        store(loaded, stamp);
+        return loaded;
+    }
+
+    public void invalidate(Long id) {
+        remove(id);
+        invalidations.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(id);
+                }
+            });
+        }
+    }
+
+    public CustomerCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return CustomerCacheStats.builder()
+                .enabled(properties.isEnabled())
+                .size(byId.size())
+                .maximumSize(properties.getMaximumSize())
+                .hits(hitCount)
+                .misses(missCount)
+                .evictions(evictions.sum())
+                .expirations(expirations.sum())
+                .invalidations(invalidations.sum())
+                .hitRatio(requests == 0 ? 0 : (double) hitCount / requests)
+                .build();
+    }
+
+    private Customer lookup(Long id) {
+        Entry entry = byId.get(id);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (clock.millis() >= entry.expiresAt) {
+            if (unlink(entry)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.customer;
+    }
+
+    private void store(Customer customer, long stamp) {
+        if (customer == null || invalidationStamp.get() != stamp) {
+            return;
+        }
+        Entry entry = new Entry(customer, clock.millis() + properties.getTtl().toMillis());
+        byId.put(customer.getId(), entry);
+        idByCustomerNo.put(customer.getCustomerNo(), customer.getId());
+        if (invalidationStamp.get() != stamp) {
+            // Invalidated while we were reading; what we read may predate the change
+            unlink(entry);
+            return;
+        }
+        insertionOrder.add(entry);
+        queued.incrementAndGet();
+        while (queued.get() > properties.getMaximumSize()) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            queued.decrementAndGet();
+            if (unlink(oldest)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(Long id) {
+        invalidationStamp.incrementAndGet();
+        Entry entry = byId.get(id);
+        if (entry != null) {
+            unlink(entry);
+        }
+    }
+
+    private boolean unlink(Entry entry) {
+        Customer customer = entry.customer;
+        if (!byId.remove(customer.getId(), entry)) {
+            return false;
+        }
+        idByCustomerNo.remove(customer.getCustomerNo(), customer.getId());
+        return true;
+    }
+
+    // Compared by identity so a stale reference in insertionOrder never removes a newer entry
+    private static final class Entry {
+
+        private final Customer customer;
+        private final long expiresAt;
+
+        private Entry(Customer customer, long expiresAt) {
+            this.customer = customer;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.loan.core.service;
 
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.enums.EmploymentType;
 import com.loan.core.dto.request.CustomerCreateRequest;
+import com.loan.core.dto.request.CustomerUpdateRequest;
+import com.loan.core.dto.request.PageCursor;
+import com.loan.core.dto.response.CursorPage;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.mapper.CustomerMapper;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +18,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Slf4j
@@ -23,13 +26,15 @@ import java.util.concurrent.atomic.AtomicLong;
 public class CustomerService {
 
     private final CustomerMapper customerMapper;
-    private static final AtomicLong CUSTOMER_SEQ = new AtomicLong(System.nanoTime() % 10000);
+    private final CustomerCache customerCache;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Customer createCustomer(CustomerCreateRequest request) {
         log.info("Creating customer: name={}", request.getName());
 
-        String customerNo = generateCustomerNo();
+        String customerNo = idGenerator.customerNo();
 
         Customer customer = Customer.builder()
                 .customerNo(customerNo)
@@ -45,26 +50,58 @@ public class CustomerService {
                 .build();
 
         customerMapper.insert(customer);
+        readReplicaRouting.markWritten(customer.getId());
         log.info("Customer created: customerNo={}, id={}", customerNo, customer.getId());
 
         return customer;
     }
 
-    public Customer getCustomer(Long id) {
-        Customer customer = customerMapper.findById(id);
-        if (customer == null) {
+    /**
+     * Every change to a customer row must go through here so the cached copy is invalidated.
+     */
+    @Transactional
+    public Customer updateCustomer(Long id, CustomerUpdateRequest request) {
+        log.info("Updating customer: id={}", id);
+
+        Customer current = customerMapper.findById(id);
+        if (current == null) {
             throw new ResourceNotFoundException("Customer", id);
         }
+
+        Customer customer = Customer.builder()
+                .id(id)
+                .customerNo(current.getCustomerNo())
+                .name(request.getName())
+                .email(request.getEmail())
+                .phone(request.getPhone())
+                .annualIncome(request.getAnnualIncome())
+                .employmentType(EmploymentType.valueOf(request.getEmploymentType()))
+                .company(request.getCompany())
+                .birthDate(current.getBirthDate())
+                .createdAt(current.getCreatedAt())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        customerMapper.update(customer);
+        customerCache.invalidate(id);
+        readReplicaRouting.markWritten(id);
+        log.info("Customer updated: customerNo={}, id={}", customer.getCustomerNo(), id);
+
         return customer;
     }
 
-    public List<Customer> getAllCustomers() {
-        return customerMapper.findAll();
+    public Customer getCustomer(Long id) {
+        readReplicaRouting.readingCustomer(id);
+        Customer customer = customerCache.findById(id);
+        if (customer == null) {
+            throw new ResourceNotFoundException("Customer", id);
+        }
+        return customer;
     }
 
-    private String generateCustomerNo() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        long seq = CUSTOMER_SEQ.incrementAndGet() % 10000;
-        return String.format("CUS%s%04d", datePart, seq);
+    public CursorPage<Customer> getCustomerPage(String cursor, Integer size) {
+        int pageSize = CursorPage.resolveSize(size);
+        List<Customer> rows = customerMapper.findPage(PageCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, Customer::getCreatedAt, Customer::getId);
     }
 }
@@ -1,20 +1,19 @@
 package com.loan.core.service;
 
-import com.loan.core.domain.entity.LoanApplication;
-import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.domain.entity.PortfolioSnapshot;
 import com.loan.core.dto.response.DashboardResponse;
 import com.loan.core.dto.response.LoanApplicationResponse;
 import com.loan.core.dto.response.LoanContractResponse;
 import com.loan.core.mapper.LoanApplicationMapper;
 import com.loan.core.mapper.LoanContractMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -22,66 +21,37 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardService {
 
+    private static final int RECENT_LIMIT = 5;
+
     private final LoanContractMapper contractMapper;
     private final LoanApplicationMapper applicationMapper;
+    private final PortfolioSnapshotService snapshotService;
+    private final ReadReplicaRouting readReplicaRouting;
 
+    @Timed("loan.service.duration")
     public DashboardResponse getDashboard(Long customerId) {
         log.info("Building dashboard: customerId={}", customerId);
+        readReplicaRouting.readingCustomer(customerId);
 
-        List<LoanContract> contracts;
-        List<LoanApplication> applications;
-
-        if (customerId != null) {
-            contracts = contractMapper.findByCustomerId(customerId);
-            applications = applicationMapper.findByCustomerId(customerId);
-        } else {
-            contracts = contractMapper.findAll();
-            applications = applicationMapper.findAll();
-        }
-
-        int activeLoans = (int) contracts.stream()
-                .filter(c -> c.getStatus() != null && c.getStatus().name().equals("ACTIVE"))
-                .count();
-
-        int pendingApplications = (int) applications.stream()
-                .filter(a -> a.getStatus() != null &&
-                        (a.getStatus().name().equals("DRAFT") ||
-                         a.getStatus().name().equals("APPLIED") ||
-                         a.getStatus().name().equals("REVIEWING")))
-                .count();
+        // Portfolio-wide figures come from the maintained snapshot; a single customer is small enough to aggregate
+        PortfolioSnapshot figures = customerId == null
+                ? snapshotService.getSnapshot()
+                : PortfolioSnapshotService.fromCounts(
+                        contractMapper.countGroupByStatus(customerId), applicationMapper.countGroupByStatus(customerId));
 
-        BigDecimal totalOutstanding = contracts.stream()
-                .filter(c -> c.getOutstandingBalance() != null)
-                .map(LoanContract::getOutstandingBalance)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        int overdueCount = (int) contracts.stream()
-                .filter(c -> c.getStatus() != null && c.getStatus().name().equals("OVERDUE"))
-                .count();
-
-        List<LoanContractResponse> recentContracts = contracts.stream()
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null || b.getCreatedAt() == null) return 0;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .limit(5)
+        // Recent rows come from the first keyset page, so only RECENT_LIMIT rows are read
+        List<LoanContractResponse> recentContracts = contractMapper.findPage(customerId, null, RECENT_LIMIT).stream()
                 .map(LoanContractResponse::from)
-                .collect(Collectors.toList());
-
-        List<LoanApplicationResponse> recentApplications = applications.stream()
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null || b.getCreatedAt() == null) return 0;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .limit(5)
+                .toList();
+        List<LoanApplicationResponse> recentApplications = applicationMapper.findPage(customerId, null, RECENT_LIMIT).stream()
                 .map(LoanApplicationResponse::from)
-                .collect(Collectors.toList());
+                .toList();
 
         return DashboardResponse.builder()
-                .activeLoans(activeLoans)
-                .pendingApplications(pendingApplications)
-                .totalOutstanding(totalOutstanding)
-                .overdueCount(overdueCount)
+                .activeLoans((int) figures.getActiveLoans())
+                .pendingApplications((int) figures.getPendingApplications())
+                .totalOutstanding(figures.getTotalOutstanding())
+                .overdueCount((int) figures.getOverdueLoans())
                 .recentContracts(recentContracts)
                 .recentApplications(recentApplications)
                 .build();
@@ -0,0 +1,351 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.RepaymentMethod;
+import com.loan.core.domain.enums.RepaymentStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Amortization engine working on fixed-point {@code long} values instead of {@link BigDecimal}.
+ *
+ * <p>Rounding contract (identical to {@link RepaymentCalculator}, which remains the reference oracle):
+ * <ul>
+ *   <li>Amounts are minor units (1/100 of a won), so every amount must have at most 2 fraction digits.</li>
+ *   <li>The monthly rate is {@code annualRate / 100 / 12}, each division rounded HALF_UP to 10 fraction
+ *       digits, and is kept as a {@code long} in units of 1e-10.</li>
+ *   <li>Interest is {@code balance * monthlyRate} rounded HALF_UP to minor units, computed exactly
+ *       without intermediate overflow.</li>
+ *   <li>The equal principal-and-interest payment is the only value still derived through
+ *       {@link RepaymentCalculator} (once per schedule), because its {@code MathContext(20)} power
+ *       series cannot be reproduced bit-for-bit in fixed point.</li>
+ * </ul>
+ */
+public final class FixedPointRepaymentCalculator {
+
+    static final int SCALE = 2;
+    static final int RATE_SCALE = 10;
+    static final long RATE_ONE = 10_000_000_000L;
+
+    private static final long RATE_SPLIT = 100_000L;
+
+    private FixedPointRepaymentCalculator() {
+        // utility class
+    }
+
+    /**
+     * Calculate monthly payment amount based on repayment method.
+     */
+    public static BigDecimal calculateMonthlyPayment(BigDecimal principal,
+                                                      BigDecimal annualRate,
+                                                      int termMonths,
+                                                      RepaymentMethod method) {
+        return fromMinorUnits(calculateMonthlyPayment(toMinorUnits(principal), annualRate, termMonths, method));
+    }
+
+    /**
+     * Calculate monthly payment in minor units.
+     */
+    public static long calculateMonthlyPayment(long principal,
+                                               BigDecimal annualRate,
+                                               int termMonths,
+                                               RepaymentMethod method) {
+        long monthlyRate = monthlyRate(annualRate);
+        return switch (method) {
+            case EQUAL_PRINCIPAL_AND_INTEREST -> equalPrincipalAndInterestPayment(principal, annualRate, termMonths);
+            case EQUAL_PRINCIPAL -> divideHalfUp(principal, termMonths) + interest(principal, monthlyRate);
+            case BULLET -> interest(principal, monthlyRate);
+        };
+    }
+
+    /**
+     * Generate full repayment schedule.
+     */
+    public static List<RepaymentSchedule> generateSchedules(Long contractId,
+                                                              BigDecimal principal,
+                                                              BigDecimal annualRate,
+                                                              int termMonths,
+                                                              RepaymentMethod method,
+                                                              LocalDate startDate) {
+        List<RepaymentSchedule> schedules = new ArrayList<>(termMonths);
+        streamSchedules(contractId, principal, annualRate, termMonths, method, startDate).forEachRemaining(schedules::add);
+        return schedules;
+    }
+
+    /**
+     * Lazily build repayment schedules one installment at a time, so a consumer that writes and drops
+     * each row keeps memory flat regardless of term length.
+     */
+    public static Iterator<RepaymentSchedule> streamSchedules(Long contractId,
+                                                              BigDecimal principal,
+                                                              BigDecimal annualRate,
+                                                              int termMonths,
+                                                              RepaymentMethod method,
+                                                              LocalDate startDate) {
+        return new ScheduleIterator(contractId, startDate,
+                amortize(toMinorUnits(principal), annualRate, termMonths, method));
+    }
+
+    /**
+     * Start a primitive cursor over the installments of a schedule. Nothing is allocated per installment.
+     */
+    public static InstallmentCursor amortize(long principal,
+                                             BigDecimal annualRate,
+                                             int termMonths,
+                                             RepaymentMethod method) {
+        if (principal < 0) {
+            throw new IllegalArgumentException("principal must not be negative: " + principal);
+        }
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("termMonths must be positive: " + termMonths);
+        }
+        long monthlyRate = monthlyRate(annualRate);
+        long payment = method == RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST
+                ? equalPrincipalAndInterestPayment(principal, annualRate, termMonths)
+                : 0L;
+        long monthlyPrincipal = method == RepaymentMethod.EQUAL_PRINCIPAL ? divideHalfUp(principal, termMonths) : 0L;
+        return new InstallmentCursor(method, principal, monthlyRate, termMonths, payment, monthlyPrincipal);
+    }
+
+    /**
+     * Start a cursor that keeps a level payment and shortens the term instead of recalculating the payment:
+     * {@code payment} is the equal payment for EQUAL_PRINCIPAL_AND_INTEREST and the principal part for
+     * EQUAL_PRINCIPAL. The term is the fewest installments that repay {@code principal}, capped at
+     * {@code maxTermMonths}, whose last installment then takes whatever is left. BULLET has no level payment to
+     * keep and always runs {@code maxTermMonths}.
+     */
+    public static InstallmentCursor amortizeKeepingPayment(long principal,
+                                                           BigDecimal annualRate,
+                                                           int maxTermMonths,
+                                                           RepaymentMethod method,
+                                                           long payment) {
+        if (principal < 0) {
+            throw new IllegalArgumentException("principal must not be negative: " + principal);
+        }
+        if (maxTermMonths <= 0) {
+            throw new IllegalArgumentException("maxTermMonths must be positive: " + maxTermMonths);
+        }
+        if (payment <= 0) {
+            throw new IllegalArgumentException("payment must be positive: " + payment);
+        }
+        long monthlyRate = monthlyRate(annualRate);
+        int termMonths = switch (method) {
+            case EQUAL_PRINCIPAL_AND_INTEREST -> termKeepingPayment(principal, monthlyRate, payment, maxTermMonths);
+            case EQUAL_PRINCIPAL -> (int) Math.min(maxTermMonths, Math.max(1L, (principal + payment - 1) / payment));
+            case BULLET -> maxTermMonths;
+        };
+        return method == RepaymentMethod.EQUAL_PRINCIPAL
+                ? new InstallmentCursor(method, principal, monthlyRate, termMonths, 0L, payment)
+                : new InstallmentCursor(method, principal, monthlyRate, termMonths, payment, 0L);
+    }
+
+    /**
+     * Number of installments of {@code payment} that repay {@code principal}; a payment that does not cover the
+     * interest never does, so the term stays at the cap.
+     */
+    private static int termKeepingPayment(long principal, long monthlyRate, long payment, int maxTermMonths) {
+        long remaining = principal;
+        int term = 0;
+        while (term < maxTermMonths) {
+            term++;
+            long principalPart = payment - interest(remaining, monthlyRate);
+            if (principalPart <= 0) {
+                return maxTermMonths;
+            }
+            if (principalPart >= remaining) {
+                return term;
+            }
+            remaining -= principalPart;
+        }
+        return maxTermMonths;
+    }
+
+    /**
+     * Monthly rate in units of 1e-10: {@code round(round(annualRate / 100, 10) / 12, 10)}.
+     */
+    public static long monthlyRate(BigDecimal annualRate) {
+        if (annualRate.signum() < 0) {
+            throw new IllegalArgumentException("annualRate must not be negative: " + annualRate);
+        }
+        long annualFraction = annualRate.movePointLeft(2)
+                .setScale(RATE_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+        return divideHalfUp(annualFraction, 12);
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long amount) {
+        return BigDecimal.valueOf(amount, SCALE);
+    }
+
+    /**
+     * {@code balance * monthlyRate} rounded HALF_UP to minor units.
+     */
+    static long interest(long balance, long monthlyRate) {
+        return multiplyRateHalfUp(balance, monthlyRate);
+    }
+
+    /**
+     * Exact {@code round(amount * rate / 1e10)} for non-negative operands with {@code rate < 1e10}.
+     * Both operands are split so that every partial product stays below 2^63.
+     */
+    static long multiplyRateHalfUp(long amount, long rate) {
+        if (amount < 0 || rate < 0 || rate >= RATE_ONE) {
+            throw new IllegalArgumentException("amount=" + amount + ", rate=" + rate);
+        }
+        long high = amount / RATE_ONE;
+        long low = amount % RATE_ONE;
+
+        long rateHigh = rate / RATE_SPLIT;
+        long rateLow = rate % RATE_SPLIT;
+        long lowTimesRateHigh = low * rateHigh;
+        long remainder = (lowTimesRateHigh % RATE_SPLIT) * RATE_SPLIT + low * rateLow;
+
+        long quotient = Math.addExact(Math.multiplyExact(high, rate), lowTimesRateHigh / RATE_SPLIT)
+                + remainder / RATE_ONE;
+        return remainder % RATE_ONE * 2 >= RATE_ONE ? quotient + 1 : quotient;
+    }
+
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        return (dividend % divisor) * 2 >= divisor ? quotient + 1 : quotient;
+    }
+
+    private static long equalPrincipalAndInterestPayment(long principal, BigDecimal annualRate, int termMonths) {
+        return toMinorUnits(RepaymentCalculator.calculateMonthlyPayment(
+                fromMinorUnits(principal), annualRate, termMonths, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST));
+    }
+
+    /**
+     * Mutable, allocation-free view over one installment at a time.
+     */
+    public static final class InstallmentCursor {
+
+        private final RepaymentMethod method;
+        private final long originalPrincipal;
+        private final long monthlyRate;
+        private final int termMonths;
+        private final long payment;
+        private final long monthlyPrincipal;
+        private final long bulletInterest;
+
+        private long remaining;
+        private int installmentNo;
+        private long principal;
+        private long interest;
+
+        private InstallmentCursor(RepaymentMethod method, long principal, long monthlyRate, int termMonths, long payment,
+                                  long monthlyPrincipal) {
+            this.method = method;
+            this.originalPrincipal = principal;
+            this.monthlyRate = monthlyRate;
+            this.termMonths = termMonths;
+            this.payment = payment;
+            this.monthlyPrincipal = monthlyPrincipal;
+            this.bulletInterest = method == RepaymentMethod.BULLET ? FixedPointRepaymentCalculator.interest(principal, monthlyRate) : 0L;
+            this.remaining = principal;
+        }
+
+        /**
+         * Advance to the next installment; returns {@code false} once the schedule is exhausted.
+         */
+        public boolean next() {
+            if (installmentNo >= termMonths) {
+                return false;
+            }
+            installmentNo++;
+            boolean last = installmentNo == termMonths;
+
+            switch (method) {
+                case EQUAL_PRINCIPAL_AND_INTEREST -> {
+                    interest = FixedPointRepaymentCalculator.interest(remaining, monthlyRate);
+                    principal = last ? remaining : payment - interest;
+                }
+                case EQUAL_PRINCIPAL -> {
+                    interest = FixedPointRepaymentCalculator.interest(remaining, monthlyRate);
+                    principal = last ? remaining : monthlyPrincipal;
+                }
+                case BULLET -> {
+                    interest = bulletInterest;
+                    principal = last ? originalPrincipal : 0L;
+                }
+            }
+
+            remaining = Math.max(0L, remaining - principal);
+            return true;
+        }
+
+        public int installmentNo() {
+            return installmentNo;
+        }
+
+        public long principal() {
+            return principal;
+        }
+
+        public long interest() {
+            return interest;
+        }
+
+        public long total() {
+            return principal + interest;
+        }
+
+        public long outstandingAfter() {
+            return remaining;
+        }
+
+        public int termMonths() {
+            return termMonths;
+        }
+    }
+
+    private static final class ScheduleIterator implements Iterator<RepaymentSchedule> {
+
+        private final Long contractId;
+        private final LocalDate startDate;
+        private final InstallmentCursor cursor;
+        private final LocalDateTime now = LocalDateTime.now();
+
+        private ScheduleIterator(Long contractId, LocalDate startDate, InstallmentCursor cursor) {
+            this.contractId = contractId;
+            this.startDate = startDate;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor.installmentNo() < cursor.termMonths();
+        }
+
+        @Override
+        public RepaymentSchedule next() {
+            if (!cursor.next()) {
+                throw new NoSuchElementException();
+            }
+            return RepaymentSchedule.builder()
+                    .contractId(contractId)
+                    .installmentNo(cursor.installmentNo())
+                    .dueDate(startDate.plusMonths(cursor.installmentNo()))
+                    .principalAmount(fromMinorUnits(cursor.principal()))
+                    .interestAmount(fromMinorUnits(cursor.interest()))
+                    .totalAmount(fromMinorUnits(cursor.total()))
+                    .outstandingBalanceAfter(fromMinorUnits(cursor.outstandingAfter()))
+                    .status(RepaymentStatus.SCHEDULED)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+        }
+    }
+}
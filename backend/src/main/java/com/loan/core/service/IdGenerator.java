@@ -0,0 +1,135 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanIdProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Time-ordered business numbers formatted as prefix + yyyyMMdd + 15 digits.
+ * <p>
+ * The digits pack millisecond-of-day (27 bits), node id (10 bits) and a per-millisecond sequence (12 bits), so
+ * instances with distinct node ids never collide and each one issues up to 4096 numbers per millisecond. The
+ * last (millisecond, sequence) pair is kept in a single {@link AtomicLong} and advanced with compare-and-set;
+ * when a millisecond's sequence runs out, or the wall clock steps back, numbers continue on the next logical
+ * millisecond instead of waiting.
+ * <p>
+ * The node id has to be configured: a derived one (from the host name, say) can repeat across hosts, and two
+ * instances sharing a node id issue the same numbers.
+ */
+@Slf4j
+@Component
+public class IdGenerator {
+
+    public static final String CUSTOMER = "CUS";
+    public static final String APPLICATION = "APP";
+    public static final String CONTRACT = "CNT";
+    public static final String TRANSACTION = "TXN";
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int DIGITS = 15;
+
+    private final int nodeId;
+    private final Clock clock;
+    private final AtomicLong state;
+    private final AtomicReference<Day> day = new AtomicReference<>(new Day(0, 0, ""));
+
+    @Autowired
+    public IdGenerator(LoanIdProperties properties) {
+        this(requireNodeId(properties), Clock.systemDefaultZone());
+    }
+
+    IdGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("loan.id.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.state = new AtomicLong(clock.millis() << SEQUENCE_BITS);
+        log.info("IdGenerator initialized: nodeId={}", nodeId);
+    }
+
+    public String customerNo() {
+        return next(CUSTOMER);
+    }
+
+    public String applicationNo() {
+        return next(APPLICATION);
+    }
+
+    public String contractNo() {
+        return next(CONTRACT);
+    }
+
+    public String transactionNo() {
+        return next(TRANSACTION);
+    }
+
+    public String next(String prefix) {
+        long stamp = nextStamp();
+        long millis = stamp >>> SEQUENCE_BITS;
+        Day current = dayOf(millis);
+        long body = ((millis - current.startMillis) << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | (stamp & SEQUENCE_MASK);
+
+        StringBuilder sb = new StringBuilder(prefix.length() + 8 + DIGITS)
+                .append(prefix)
+                .append(current.date);
+        String digits = Long.toString(body);
+        for (int i = digits.length(); i < DIGITS; i++) {
+            sb.append('0');
+        }
+        return sb.append(digits).toString();
+    }
+
+    /**
+     * @return logical millisecond in the high bits and the sequence within it in the low {@value #SEQUENCE_BITS}
+     */
+    private long nextStamp() {
+        long now = clock.millis() << SEQUENCE_BITS;
+        while (true) {
+            long last = state.get();
+            // Incrementing past the sequence mask carries into the millisecond bits
+            long next = now > last ? now : last + 1;
+            if (state.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private Day dayOf(long millis) {
+        Day current = day.get();
+        if (millis >= current.startMillis && millis < current.endMillis) {
+            return current;
+        }
+        ZoneId zone = clock.getZone();
+        LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+        Day computed = new Day(
+                date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli(),
+                String.format("%04d%02d%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        day.set(computed);
+        return computed;
+    }
+
+    static int requireNodeId(LoanIdProperties properties) {
+        if (properties.getNodeId() == null) {
+            throw new IllegalStateException("loan.id.node-id (LOAN_NODE_ID) is not set; every running instance needs its own node id");
+        }
+        return properties.getNodeId();
+    }
+
+    private record Day(long startMillis, long endMillis, String date) {
+    }
+}
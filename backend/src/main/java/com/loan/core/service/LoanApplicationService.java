@@ -1,26 +1,23 @@
 package com.loan.core.service;
 
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.LoanApplication;
-import com.loan.core.domain.entity.StatusHistory;
 import com.loan.core.domain.enums.LoanStatus;
 import com.loan.core.domain.enums.RepaymentMethod;
 import com.loan.core.dto.request.LoanApplicationCreateRequest;
+import com.loan.core.dto.request.PageCursor;
+import com.loan.core.dto.response.CursorPage;
 import com.loan.core.exception.InvalidStatusTransitionException;
 import com.loan.core.exception.ResourceNotFoundException;
-import com.loan.core.mapper.CustomerMapper;
 import com.loan.core.mapper.LoanApplicationMapper;
-import com.loan.core.mapper.StatusHistoryMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Slf4j
@@ -29,20 +26,22 @@ import java.util.concurrent.atomic.AtomicLong;
 public class LoanApplicationService {
 
     private final LoanApplicationMapper applicationMapper;
-    private final CustomerMapper customerMapper;
-    private final StatusHistoryMapper statusHistoryMapper;
-    private static final AtomicLong APP_SEQ = new AtomicLong(System.nanoTime() % 10000);
+    private final CustomerCache customerCache;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final PortfolioSnapshotService snapshotService;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public LoanApplication createApplication(LoanApplicationCreateRequest request) {
         log.info("Creating loan application: customerId={}, amount={}", request.getCustomerId(), request.getRequestedAmount());
 
         // Validate customer exists
-        if (customerMapper.findById(request.getCustomerId()) == null) {
+        if (customerCache.findById(request.getCustomerId()) == null) {
             throw new ResourceNotFoundException("Customer", request.getCustomerId());
         }
 
-        String applicationNo = generateApplicationNo();
+        String applicationNo = idGenerator.applicationNo();
         BigDecimal existingLoanAmount = request.getExistingLoanAmount() != null
                 ? request.getExistingLoanAmount()
                 : BigDecimal.ZERO;
@@ -61,9 +60,11 @@ public class LoanApplicationService {
                 .build();
 
         applicationMapper.insert(application);
+        readReplicaRouting.markWritten(application.getCustomerId());
 
         // Record status history
-        recordStatusHistory("LOAN_APPLICATION", application.getId(), null, LoanStatus.DRAFT.name(), "SYSTEM", "대출 신청서 생성");
+        statusHistoryRecorder.record("LOAN_APPLICATION", application.getId(), null, LoanStatus.DRAFT.name(), "SYSTEM", "대출 신청서 생성");
+        snapshotService.apply(PortfolioDelta.applicationTransition(null, LoanStatus.DRAFT));
 
         log.info("Loan application created: applicationNo={}, id={}", applicationNo, application.getId());
         return application;
@@ -80,8 +81,10 @@ public class LoanApplicationService {
         application.setStatus(LoanStatus.APPLIED);
         application.setAppliedAt(LocalDateTime.now());
         applicationMapper.update(application);
+        readReplicaRouting.markWritten(application.getCustomerId());
 
-        recordStatusHistory("LOAN_APPLICATION", id, fromStatus.name(), LoanStatus.APPLIED.name(), "SYSTEM", "대출 신청서 제출");
+        statusHistoryRecorder.record("LOAN_APPLICATION", id, fromStatus.name(), LoanStatus.APPLIED.name(), "SYSTEM", "대출 신청서 제출");
+        snapshotService.apply(PortfolioDelta.applicationTransition(fromStatus, LoanStatus.APPLIED));
 
         log.info("Loan application submitted: id={}", id);
         return application;
@@ -95,12 +98,11 @@ public class LoanApplicationService {
         return application;
     }
 
-    public List<LoanApplication> getApplicationsByCustomer(Long customerId) {
-        return applicationMapper.findByCustomerId(customerId);
-    }
-
-    public List<LoanApplication> getAllApplications() {
-        return applicationMapper.findAll();
+    public CursorPage<LoanApplication> getApplicationPage(Long customerId, String cursor, Integer size) {
+        readReplicaRouting.readingCustomer(customerId);
+        int pageSize = CursorPage.resolveSize(size);
+        List<LoanApplication> rows = applicationMapper.findPage(customerId, PageCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, LoanApplication::getCreatedAt, LoanApplication::getId);
     }
 
     private void validateStatusTransition(LoanStatus current, LoanStatus target) {
@@ -108,23 +110,4 @@ public class LoanApplicationService {
             throw new InvalidStatusTransitionException(current, target);
         }
     }
-
-    private void recordStatusHistory(String entityType, Long entityId, String fromStatus, String toStatus, String changedBy, String reason) {
-        StatusHistory history = StatusHistory.builder()
-                .entityType(entityType)
-                .entityId(entityId)
-                .fromStatus(fromStatus)
-                .toStatus(toStatus)
-                .changedBy(changedBy)
-                .reason(reason)
-                .changedAt(LocalDateTime.now())
-                .build();
-        statusHistoryMapper.insert(history);
-    }
-
-    private String generateApplicationNo() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        long seq = APP_SEQ.incrementAndGet() % 10000;
-        return String.format("APP%s%04d", datePart, seq);
-    }
 }
@@ -1,23 +1,33 @@
 package com.loan.core.service;
 
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.*;
 import com.loan.core.domain.enums.LoanStatus;
 import com.loan.core.domain.enums.TransactionType;
+import com.loan.core.dto.request.PageCursor;
+import com.loan.core.dto.response.BulkItemResult;
+import com.loan.core.dto.response.BulkOperationResponse;
+import com.loan.core.dto.response.CursorPage;
 import com.loan.core.exception.InvalidStatusTransitionException;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.mapper.*;
+import com.loan.core.mapper.batch.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 @Service
 @Slf4j
@@ -28,12 +38,21 @@ public class LoanContractService {
     private final LoanContractMapper contractMapper;
     private final LoanApplicationMapper applicationMapper;
     private final CreditAssessmentMapper assessmentMapper;
-    private final CustomerMapper customerMapper;
+    private final CustomerCache customerCache;
+    private final ReadReplicaRouting readReplicaRouting;
     private final RepaymentScheduleMapper scheduleMapper;
     private final LoanTransactionMapper transactionMapper;
-    private final StatusHistoryMapper statusHistoryMapper;
-    private static final AtomicLong CONTRACT_SEQ = new AtomicLong(System.nanoTime() % 10000);
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final RepaymentScheduleBatchWriter scheduleWriter;
+    private final LoanContractBatchWriter contractBatchWriter;
+    private final LoanApplicationBatchWriter applicationBatchWriter;
+    private final LoanTransactionBatchWriter transactionBatchWriter;
+    private final LoanBatchProperties batchProperties;
+    private final PortfolioSnapshotService snapshotService;
+    private final IdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
 
+    @Timed("loan.service.duration")
     @Transactional
     public LoanContract executeLoan(Long applicationId) {
         log.info("Executing loan: applicationId={}", applicationId);
@@ -51,84 +70,150 @@ public class LoanContractService {
             throw new ResourceNotFoundException("CreditAssessment", "applicationId=" + applicationId);
         }
 
-        Customer customer = customerMapper.findById(application.getCustomerId());
+        Customer customer = customerCache.findById(application.getCustomerId());
         if (customer == null) {
             throw new ResourceNotFoundException("Customer", application.getCustomerId());
         }
 
-        // 2. Generate contractNo
-        String contractNo = generateContractNo();
-
-        // 3. Calculate monthly payment
-        BigDecimal principalAmount = assessment.getApprovedAmount();
-        BigDecimal interestRate = assessment.getApprovedRate();
-        int termMonths = assessment.getApprovedTermMonths();
-        BigDecimal monthlyPayment = RepaymentCalculator.calculateMonthlyPayment(
-                principalAmount, interestRate, termMonths, application.getRepaymentMethod());
-
-        LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusMonths(termMonths);
+        // 2-4. Create contract with EXECUTED status
         LocalDateTime now = LocalDateTime.now();
-
-        // 4. Create contract with EXECUTED status
-        LoanContract contract = LoanContract.builder()
-                .contractNo(contractNo)
-                .applicationId(applicationId)
-                .customerId(application.getCustomerId())
-                .principalAmount(principalAmount)
-                .interestRate(interestRate)
-                .termMonths(termMonths)
-                .repaymentMethod(application.getRepaymentMethod())
-                .monthlyPayment(monthlyPayment)
-                .outstandingBalance(principalAmount)
-                .totalInterestPaid(BigDecimal.ZERO)
-                .status(LoanStatus.EXECUTED)
-                .startDate(startDate)
-                .endDate(endDate)
-                .executedAt(now)
-                .createdAt(now)
-                .updatedAt(now)
-                .customerName(customer.getName())
-                .applicationNo(application.getApplicationNo())
-                .build();
-
+        LoanContract contract = buildContract(application, assessment, customer.getName(), LoanStatus.EXECUTED, now);
         contractMapper.insert(contract);
+        readReplicaRouting.markWritten(contract.getCustomerId());
 
         // Update application status to EXECUTED
         applicationMapper.updateStatus(applicationId, LoanStatus.EXECUTED.name());
-        recordStatusHistory("LOAN_APPLICATION", applicationId, LoanStatus.APPROVED.name(), LoanStatus.EXECUTED.name(), "SYSTEM", "대출 실행");
+        statusHistoryRecorder.record("LOAN_APPLICATION", applicationId, LoanStatus.APPROVED.name(), LoanStatus.EXECUTED.name(), "SYSTEM", "대출 실행");
 
         // Transition contract to ACTIVE
         contractMapper.updateStatus(contract.getId(), LoanStatus.ACTIVE.name());
         contract.setStatus(LoanStatus.ACTIVE);
-        recordStatusHistory("LOAN_CONTRACT", contract.getId(), LoanStatus.EXECUTED.name(), LoanStatus.ACTIVE.name(), "SYSTEM", "대출 활성화");
-
-        // 5. Generate repayment schedules
-        List<RepaymentSchedule> schedules = RepaymentCalculator.generateSchedules(
-                contract.getId(), principalAmount, interestRate, termMonths,
-                application.getRepaymentMethod(), startDate);
-        if (!schedules.isEmpty()) {
-            scheduleMapper.insertBatch(schedules);
-        }
+        statusHistoryRecorder.record("LOAN_CONTRACT", contract.getId(), LoanStatus.EXECUTED.name(), LoanStatus.ACTIVE.name(), "SYSTEM", "대출 활성화");
+
+        // 5. Generate and stream repayment schedules in chunked JDBC batches
+        scheduleWriter.write(streamSchedules(contract));
 
         // 6. Record disbursement transaction
-        String txNo = generateTransactionNo();
-        LoanTransaction disbursement = LoanTransaction.builder()
-                .transactionNo(txNo)
-                .contractId(contract.getId())
-                .type(TransactionType.DISBURSEMENT)
-                .amount(principalAmount)
-                .balanceAfter(principalAmount)
-                .description("대출 실행: " + contractNo + ", 금액: " + principalAmount)
-                .transactedAt(now)
-                .createdAt(now)
-                .build();
-        transactionMapper.insert(disbursement);
+        transactionMapper.insert(buildDisbursement(contract, now));
+        snapshotService.apply(PortfolioDelta.contractTransition(null, LoanStatus.ACTIVE)
+                .plus(PortfolioDelta.outstanding(contract.getPrincipalAmount())));
 
-        log.info("Loan executed: contractNo={}, amount={}, rate={}", contractNo, principalAmount, interestRate);
+        log.info("Loan executed: contractNo={}, amount={}, rate={}",
+                contract.getContractNo(), contract.getPrincipalAmount(), contract.getInterestRate());
         return contract;
     }
 
+    /**
+     * Executes many approved applications, one chunk per transaction. Applications, assessments and customers
+     * are loaded with IN-queries per chunk, and every write is sent as a JDBC batch. Applications that cannot
+     * be executed are reported per item instead of failing the whole run; a chunk that fails while writing
+     * rolls back on its own, and its applications are reported as failed and stay APPROVED.
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public BulkOperationResponse executeLoans(List<Long> applicationIds) {
+        List<Long> ids = applicationIds.stream().distinct().toList();
+        log.info("Executing loans in bulk: count={}", ids.size());
+
+        Map<Long, BulkItemResult> results = new LinkedHashMap<>();
+        int chunkSize = batchProperties.getChunkSize();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Map<Long, BulkItemResult> chunkResults = new HashMap<>();
+            try {
+                transactionTemplate.executeWithoutResult(status -> executeChunk(chunk, chunkResults));
+            } catch (RuntimeException e) {
+                log.error("Bulk loan execution chunk rolled back: firstId={}, lastId={}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+                for (Long id : chunk) {
+                    BulkItemResult result = chunkResults.get(id);
+                    if (result == null || result.isSuccess()) {
+                        chunkResults.put(id, BulkItemResult.failed(id, "일괄 실행 중 오류가 발생하여 처리되지 않았습니다"));
+                    }
+                }
+            }
+            results.putAll(chunkResults);
+        }
+
+        BulkOperationResponse response = BulkOperationResponse.of(ids.stream().map(results::get).toList());
+        log.info("Bulk loan execution finished: requested={}, succeeded={}, failed={}",
+                response.getRequested(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    private void executeChunk(List<Long> applicationIds, Map<Long, BulkItemResult> results) {
+        Map<Long, LoanApplication> applications = applicationMapper.findByIds(applicationIds).stream()
+                .collect(Collectors.toMap(LoanApplication::getId, Function.identity()));
+        Map<Long, CreditAssessment> assessments = assessmentMapper.findByApplicationIds(applicationIds).stream()
+                .collect(Collectors.toMap(CreditAssessment::getApplicationId, Function.identity()));
+
+        List<Long> executable = new ArrayList<>(applicationIds.size());
+        for (Long applicationId : applicationIds) {
+            String failure = checkExecutable(applicationId, applications.get(applicationId), assessments.get(applicationId));
+            if (failure != null) {
+                results.put(applicationId, BulkItemResult.failed(applicationId, failure));
+            } else {
+                executable.add(applicationId);
+            }
+        }
+
+        // Claim applications with conditional updates so a concurrent execution cannot double-disburse
+        List<Long> claimed = applicationBatchWriter.transitionStatus(executable, LoanStatus.APPROVED, LoanStatus.EXECUTED);
+        if (claimed.size() < executable.size()) {
+            Set<Long> claimedIds = new HashSet<>(claimed);
+            executable.stream()
+                    .filter(id -> !claimedIds.contains(id))
+                    .forEach(id -> results.put(id, BulkItemResult.failed(id, "다른 요청에 의해 상태가 변경되었습니다")));
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanContract> contracts = new ArrayList<>(claimed.size());
+        for (Long applicationId : claimed) {
+            LoanApplication application = applications.get(applicationId);
+            contracts.add(buildContract(application, assessments.get(applicationId),
+                    application.getCustomer().getName(), LoanStatus.ACTIVE, now));
+        }
+        contractBatchWriter.insertAll(contracts);
+        readReplicaRouting.markWritten(contracts.stream().map(LoanContract::getCustomerId).toList());
+
+        List<StatusHistory> histories = new ArrayList<>(contracts.size() * 2);
+        List<LoanTransaction> disbursements = new ArrayList<>(contracts.size());
+        for (LoanContract contract : contracts) {
+            histories.add(StatusHistoryRecorder.entry("LOAN_APPLICATION", contract.getApplicationId(), LoanStatus.APPROVED.name(), LoanStatus.EXECUTED.name(), "SYSTEM", "대출 실행"));
+            histories.add(StatusHistoryRecorder.entry("LOAN_CONTRACT", contract.getId(), LoanStatus.EXECUTED.name(), LoanStatus.ACTIVE.name(), "SYSTEM", "대출 활성화"));
+            disbursements.add(buildDisbursement(contract, now));
+            results.put(contract.getApplicationId(),
+                    BulkItemResult.succeeded(contract.getApplicationId(), contract.getId(), contract.getContractNo()));
+        }
+        statusHistoryRecorder.recordAll(histories);
+        transactionBatchWriter.insertAll(disbursements);
+        snapshotService.apply(PortfolioDelta.contractTransition(null, LoanStatus.ACTIVE).times(contracts.size())
+                .plus(PortfolioDelta.outstanding(contracts.stream()
+                        .map(LoanContract::getPrincipalAmount)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))));
+        scheduleWriter.write(contracts.stream()
+                .flatMap(contract -> StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(streamSchedules(contract), Spliterator.ORDERED), false))
+                .iterator());
+    }
+
+    private String checkExecutable(Long applicationId, LoanApplication application, CreditAssessment assessment) {
+        if (application == null) {
+            return new ResourceNotFoundException("LoanApplication", applicationId).getMessage();
+        }
+        if (!application.getStatus().canTransitionTo(LoanStatus.EXECUTED)) {
+            return new InvalidStatusTransitionException(application.getStatus(), LoanStatus.EXECUTED).getMessage();
+        }
+        if (assessment == null) {
+            return new ResourceNotFoundException("CreditAssessment", "applicationId=" + applicationId).getMessage();
+        }
+        if (application.getCustomer() == null || application.getCustomer().getId() == null) {
+            return new ResourceNotFoundException("Customer", application.getCustomerId()).getMessage();
+        }
+        return null;
+    }
+
     public LoanContract getContract(Long id) {
         LoanContract contract = contractMapper.findById(id);
         if (contract == null) {
@@ -137,12 +222,11 @@ public class LoanContractService {
         return contract;
     }
 
-    public List<LoanContract> getContractsByCustomer(Long customerId) {
-        return contractMapper.findByCustomerId(customerId);
-    }
-
-    public List<LoanContract> getAllContracts() {
-        return contractMapper.findAll();
+    public CursorPage<LoanContract> getContractPage(Long customerId, String cursor, Integer size) {
+        readReplicaRouting.readingCustomer(customerId);
+        int pageSize = CursorPage.resolveSize(size);
+        List<LoanContract> rows = contractMapper.findPage(customerId, PageCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, LoanContract::getCreatedAt, LoanContract::getId);
     }
 
     public List<RepaymentSchedule> getSchedules(Long contractId) {
@@ -163,28 +247,54 @@ public class LoanContractService {
         }
     }
 
-    private void recordStatusHistory(String entityType, Long entityId, String fromStatus, String toStatus, String changedBy, String reason) {
-        StatusHistory history = StatusHistory.builder()
-                .entityType(entityType)
-                .entityId(entityId)
-                .fromStatus(fromStatus)
-                .toStatus(toStatus)
-                .changedBy(changedBy)
-                .reason(reason)
-                .changedAt(LocalDateTime.now())
+    private LoanContract buildContract(LoanApplication application, CreditAssessment assessment,
+                                       String customerName, LoanStatus status, LocalDateTime now) {
+        BigDecimal principalAmount = assessment.getApprovedAmount();
+        BigDecimal interestRate = assessment.getApprovedRate();
+        int termMonths = assessment.getApprovedTermMonths();
+        BigDecimal monthlyPayment = FixedPointRepaymentCalculator.calculateMonthlyPayment(
+                principalAmount, interestRate, termMonths, application.getRepaymentMethod());
+        LocalDate startDate = now.toLocalDate();
+
+        return LoanContract.builder()
+                .contractNo(idGenerator.contractNo())
+                .applicationId(application.getId())
+                .customerId(application.getCustomerId())
+                .principalAmount(principalAmount)
+                .interestRate(interestRate)
+                .termMonths(termMonths)
+                .repaymentMethod(application.getRepaymentMethod())
+                .monthlyPayment(monthlyPayment)
+                .outstandingBalance(principalAmount)
+                .totalInterestPaid(BigDecimal.ZERO)
+                .status(status)
+                .startDate(startDate)
+                .endDate(startDate.plusMonths(termMonths))
+                .executedAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .customerName(customerName)
+                .applicationNo(application.getApplicationNo())
                 .build();
-        statusHistoryMapper.insert(history);
     }
 
-    private String generateContractNo() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        long seq = CONTRACT_SEQ.incrementAndGet() % 10000;
-        return String.format("CNT%s%04d", datePart, seq);
+    private Iterator<RepaymentSchedule> streamSchedules(LoanContract contract) {
+        return FixedPointRepaymentCalculator.streamSchedules(
+                contract.getId(), contract.getPrincipalAmount(), contract.getInterestRate(),
+                contract.getTermMonths(), contract.getRepaymentMethod(), contract.getStartDate());
     }
 
-    private String generateTransactionNo() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 10).toUpperCase();
-        return String.format("TXN%s%s", datePart, uuid);
+    private LoanTransaction buildDisbursement(LoanContract contract, LocalDateTime now) {
+        return LoanTransaction.builder()
+                .transactionNo(idGenerator.transactionNo())
+                .contractId(contract.getId())
+                .type(TransactionType.DISBURSEMENT)
+                .amount(contract.getPrincipalAmount())
+                .balanceAfter(contract.getPrincipalAmount())
+                .description("대출 실행: " + contract.getContractNo() + ", 금액: " + contract.getPrincipalAmount())
+                .transactedAt(now)
+                .createdAt(now)
+                .build();
     }
+
 }
@@ -0,0 +1,63 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanRetryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.retry.RetryException;
+import org.springframework.core.retry.RetryListener;
+import org.springframework.core.retry.RetryPolicy;
+import org.springframework.core.retry.RetryTemplate;
+import org.springframework.core.retry.Retryable;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in its own transaction and re-runs it with backoff when it loses an optimistic-concurrency
+ * race. The retry sits outside the transaction, so every attempt re-reads committed state. Any other failure is
+ * rethrown as is on the first attempt.
+ */
+@Slf4j
+@Component
+public class OptimisticTransactionRunner {
+
+    private final TransactionTemplate transactionTemplate;
+    private final RetryTemplate retryTemplate;
+
+    public OptimisticTransactionRunner(TransactionTemplate transactionTemplate, LoanRetryProperties retryProperties) {
+        this.transactionTemplate = transactionTemplate;
+        this.retryTemplate = new RetryTemplate(RetryPolicy.builder()
+                .includes(ConcurrencyFailureException.class)
+                .maxRetries(retryProperties.getMaxRetries())
+                .delay(retryProperties.getDelay())
+                .multiplier(retryProperties.getMultiplier())
+                .maxDelay(retryProperties.getMaxDelay())
+                .jitter(retryProperties.getJitter())
+                .build());
+        this.retryTemplate.setRetryListener(new RetryListener() {
+            @Override
+            public void beforeRetry(RetryPolicy policy, Retryable<?> retryable) {
+                log.debug("Retrying after concurrent update");
+            }
+        });
+    }
+
+    public <T> T run(Supplier<T> work) {
+        try {
+            return retryTemplate.execute(() -> transactionTemplate.execute(status -> work.get()));
+        } catch (RetryException e) {
+            Throwable last = e.getLastException();
+            if (last instanceof ConcurrencyFailureException) {
+                log.warn("Giving up after {} retries: {}", e.getRetryCount(), last.getMessage());
+            }
+            if (last instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (last instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(last);
+        }
+    }
+}
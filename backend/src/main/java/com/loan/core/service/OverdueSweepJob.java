@@ -0,0 +1,23 @@
+package com.loan.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OverdueSweepJob {
+
+    private final OverdueSweepService sweepService;
+
+    @Scheduled(cron = "${loan.overdue.sweep-cron:0 */10 1-5 * * *}")
+    public void sweepPeriodically() {
+        try {
+            sweepService.sweepIfDue();
+        } catch (RuntimeException e) {
+            log.error("Overdue sweep failed, the next attempt resumes from the last checkpoint", e);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.LoanOverdueProperties;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.domain.entity.DelinquentContract;
+import com.loan.core.domain.entity.JobLease;
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.entity.StatusHistory;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.dto.response.OverdueSweepReport;
+import com.loan.core.exception.BusinessException;
+import com.loan.core.mapper.RepaymentScheduleMapper;
+import com.loan.core.mapper.batch.LoanContractBatchWriter;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Nightly delinquency pass over the whole book, run by one instance at a time under a {@link JobLeaseManager}
+ * lease. It works in two set-based phases, one chunk per transaction:
+ * <ol>
+ *     <li>installments still SCHEDULED after their due date are marked OVERDUE. Marked rows leave the
+ *     SCHEDULED index the scan walks, so this phase resumes by itself after a crash;</li>
+ *     <li>contracts with OVERDUE installments are walked in id order and moved ACTIVE → OVERDUE → DEFAULTED by
+ *     how long their oldest unpaid installment has been due. Each chunk commits its contract id as the run's
+ *     watermark together with its transitions, so an interrupted run resumes after the last committed chunk.</li>
+ * </ol>
+ * Contract transitions are version-checked; a contract repaid in between is left for the next run.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OverdueSweepService {
+
+    static final String JOB_NAME = "overdue-sweep";
+    private static final String OVERDUE_REASON = "상환 지연으로 연체 전환";
+    private static final String DEFAULTED_REASON = "연체 장기화로 부실 처리";
+
+    private final RepaymentScheduleMapper scheduleMapper;
+    private final LoanContractBatchWriter contractBatchWriter;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final PortfolioSnapshotService snapshotService;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final JobLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final LoanBatchProperties batchProperties;
+    private final LoanOverdueProperties overdueProperties;
+
+    private final AtomicReference<OverdueSweepReport> lastReport = new AtomicReference<>();
+
+    /**
+     * Runs today's sweep unless it already completed, resuming an interrupted run. Empty when another instance
+     * holds the lease or today's run already completed.
+     */
+    @Timed("loan.service.duration")
+    public Optional<OverdueSweepReport> sweepIfDue() {
+        return sweep(LocalDate.now(), false);
+    }
+
+    /**
+     * Runs a sweep now, starting over if today's run already completed.
+     */
+    @Timed("loan.service.duration")
+    public OverdueSweepReport sweepNow() {
+        return sweep(LocalDate.now(), true)
+                .orElseThrow(() -> new BusinessException("이미 연체 점검이 진행 중입니다"));
+    }
+
+    /**
+     * Progress of the current run on this instance, or the result of its last finished run.
+     */
+    public Optional<OverdueSweepReport> getProgress() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    Optional<OverdueSweepReport> sweep(LocalDate asOf, boolean rerunCompleted) {
+        Duration leaseDuration = overdueProperties.getLeaseDuration();
+        Optional<JobLease> acquired = leaseManager.tryAcquire(JOB_NAME, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.debug("Overdue sweep skipped, lease held by another instance");
+            return Optional.empty();
+        }
+        try {
+            JobLease lease = acquired.get();
+            boolean sameRun = asOf.equals(lease.getRunDate());
+            if (sameRun && lease.getCompletedAt() != null && !rerunCompleted) {
+                return Optional.empty();
+            }
+            long afterId = 0L;
+            if (sameRun && lease.getCompletedAt() == null) {
+                afterId = lease.getWatermark();
+            } else {
+                leaseManager.startRun(JOB_NAME, asOf);
+            }
+            return Optional.of(run(asOf, afterId, leaseDuration));
+        } finally {
+            leaseManager.release(JOB_NAME);
+        }
+    }
+
+    private OverdueSweepReport run(LocalDate asOf, long resumeAfterId, Duration leaseDuration) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        OverdueSweepReport report = OverdueSweepReport.builder()
+                .status(OverdueSweepReport.Status.RUNNING)
+                .runDate(asOf)
+                .resumedAfterId(resumeAfterId)
+                .startedAt(startedAt)
+                .build();
+        lastReport.set(report.toBuilder().build());
+        log.info("Overdue sweep started: runDate={}, resumeAfterId={}, owner={}", asOf, resumeAfterId, leaseManager.owner());
+
+        int chunkSize = batchProperties.getChunkSize();
+        try {
+            // Phase 1: past-due installments; the watermark is left where it was
+            while (true) {
+                ChunkOutcome outcome = transactionTemplate.execute(status -> markChunk(asOf, resumeAfterId, chunkSize, leaseDuration));
+                if (outcome.scanned() == 0) {
+                    break;
+                }
+                report.setInstallmentsMarked(report.getInstallmentsMarked() + outcome.marked());
+                progress(report, startedAt);
+                if (outcome.scanned() < chunkSize) {
+                    break;
+                }
+            }
+
+            // Phase 2: contract transitions, resumable from the watermark
+            long afterId = resumeAfterId;
+            while (true) {
+                long from = afterId;
+                ChunkOutcome outcome = transactionTemplate.execute(status -> transitionChunk(asOf, from, chunkSize, leaseDuration));
+                if (outcome.scanned() == 0) {
+                    break;
+                }
+                afterId = outcome.lastId();
+                report.setContractsScanned(report.getContractsScanned() + outcome.scanned());
+                report.setContractsOverdue(report.getContractsOverdue() + outcome.overdue());
+                report.setContractsDefaulted(report.getContractsDefaulted() + outcome.defaulted());
+                report.setContractsSkipped(report.getContractsSkipped() + outcome.skipped());
+                progress(report, startedAt);
+                if (outcome.scanned() < chunkSize) {
+                    break;
+                }
+            }
+
+            leaseManager.complete(JOB_NAME);
+            report.setStatus(OverdueSweepReport.Status.COMPLETED);
+        } catch (RuntimeException e) {
+            // Committed chunks stay; the next attempt resumes after the last checkpoint
+            report.setStatus(OverdueSweepReport.Status.FAILED);
+            throw e;
+        } finally {
+            report.setFinishedAt(LocalDateTime.now());
+            report.setElapsedMillis(Duration.between(startedAt, report.getFinishedAt()).toMillis());
+            lastReport.set(report.toBuilder().build());
+            log.info("Overdue sweep finished: status={}, installmentsMarked={}, contractsScanned={}, overdue={}, defaulted={}, skipped={}, elapsedMs={}",
+                    report.getStatus(), report.getInstallmentsMarked(), report.getContractsScanned(),
+                    report.getContractsOverdue(), report.getContractsDefaulted(), report.getContractsSkipped(),
+                    report.getElapsedMillis());
+        }
+        return report;
+    }
+
+    private ChunkOutcome markChunk(LocalDate asOf, long watermark, int chunkSize, Duration leaseDuration) {
+        List<RepaymentSchedule> chunk = scheduleMapper.findOverdueSchedules(asOf, chunkSize);
+        if (chunk.isEmpty()) {
+            return ChunkOutcome.EMPTY;
+        }
+        // Rows paid since the read stay PAID, and either way they leave the scan
+        int marked = scheduleMapper.markOverdue(chunk.stream().map(RepaymentSchedule::getId).toList());
+        leaseManager.checkpoint(JOB_NAME, watermark, leaseDuration);
+        return new ChunkOutcome(chunk.size(), watermark, marked, 0, 0, 0);
+    }
+
+    private ChunkOutcome transitionChunk(LocalDate asOf, long afterId, int chunkSize, Duration leaseDuration) {
+        List<DelinquentContract> chunk = scheduleMapper.findDelinquentContracts(afterId, chunkSize);
+        if (chunk.isEmpty()) {
+            return ChunkOutcome.EMPTY;
+        }
+
+        List<LoanContract> toOverdue = new ArrayList<>();
+        List<LoanContract> activeToDefaulted = new ArrayList<>();
+        List<LoanContract> overdueToDefaulted = new ArrayList<>();
+        for (DelinquentContract contract : chunk) {
+            LoanStatus target = targetStatus(contract, asOf);
+            if (target == contract.getStatus()) {
+                continue;
+            }
+            if (contract.getStatus() == LoanStatus.ACTIVE && target == LoanStatus.OVERDUE) {
+                toOverdue.add(claim(contract));
+            } else if (contract.getStatus() == LoanStatus.ACTIVE && target == LoanStatus.DEFAULTED) {
+                activeToDefaulted.add(claim(contract));
+            } else if (contract.getStatus() == LoanStatus.OVERDUE && target == LoanStatus.DEFAULTED) {
+                overdueToDefaulted.add(claim(contract));
+            }
+        }
+
+        List<LoanContract> overdue = contractBatchWriter.transitionStatus(toOverdue, LoanStatus.OVERDUE);
+        List<LoanContract> defaultedFromActive = contractBatchWriter.transitionStatus(activeToDefaulted, LoanStatus.DEFAULTED);
+        List<LoanContract> defaultedFromOverdue = contractBatchWriter.transitionStatus(overdueToDefaulted, LoanStatus.DEFAULTED);
+
+        List<StatusHistory> histories = new ArrayList<>();
+        List<Long> customerIds = new ArrayList<>();
+        for (LoanContract contract : overdue) {
+            histories.add(StatusHistoryRecorder.entry("LOAN_CONTRACT", contract.getId(), LoanStatus.ACTIVE.name(), LoanStatus.OVERDUE.name(), "SYSTEM", OVERDUE_REASON));
+            customerIds.add(contract.getCustomerId());
+        }
+        // A contract found past both grace periods at once still passes through OVERDUE in its history
+        for (LoanContract contract : defaultedFromActive) {
+            histories.add(StatusHistoryRecorder.entry("LOAN_CONTRACT", contract.getId(), LoanStatus.ACTIVE.name(), LoanStatus.OVERDUE.name(), "SYSTEM", OVERDUE_REASON));
+            histories.add(StatusHistoryRecorder.entry("LOAN_CONTRACT", contract.getId(), LoanStatus.OVERDUE.name(), LoanStatus.DEFAULTED.name(), "SYSTEM", DEFAULTED_REASON));
+            customerIds.add(contract.getCustomerId());
+        }
+        for (LoanContract contract : defaultedFromOverdue) {
+            histories.add(StatusHistoryRecorder.entry("LOAN_CONTRACT", contract.getId(), LoanStatus.OVERDUE.name(), LoanStatus.DEFAULTED.name(), "SYSTEM", DEFAULTED_REASON));
+            customerIds.add(contract.getCustomerId());
+        }
+        statusHistoryRecorder.recordAll(histories);
+        readReplicaRouting.markWritten(customerIds);
+        snapshotService.apply(PortfolioDelta.contractTransition(LoanStatus.ACTIVE, LoanStatus.OVERDUE).times(overdue.size())
+                .plus(PortfolioDelta.contractTransition(LoanStatus.ACTIVE, LoanStatus.DEFAULTED).times(defaultedFromActive.size()))
+                .plus(PortfolioDelta.contractTransition(LoanStatus.OVERDUE, LoanStatus.DEFAULTED).times(defaultedFromOverdue.size())));
+
+        long lastId = chunk.get(chunk.size() - 1).getId();
+        leaseManager.checkpoint(JOB_NAME, lastId, leaseDuration);
+
+        int claimed = toOverdue.size() + activeToDefaulted.size() + overdueToDefaulted.size();
+        int moved = overdue.size() + defaultedFromActive.size() + defaultedFromOverdue.size();
+        return new ChunkOutcome(chunk.size(), lastId, 0, overdue.size(),
+                defaultedFromActive.size() + defaultedFromOverdue.size(), claimed - moved);
+    }
+
+    private LoanStatus targetStatus(DelinquentContract contract, LocalDate asOf) {
+        long daysPastDue = ChronoUnit.DAYS.between(contract.getOldestDueDate(), asOf);
+        if (daysPastDue > overdueProperties.getDefaultGraceDays()) {
+            return LoanStatus.DEFAULTED;
+        }
+        if (daysPastDue > overdueProperties.getOverdueGraceDays()) {
+            return LoanStatus.OVERDUE;
+        }
+        return contract.getStatus();
+    }
+
+    private static LoanContract claim(DelinquentContract contract) {
+        return LoanContract.builder()
+                .id(contract.getId())
+                .customerId(contract.getCustomerId())
+                .status(contract.getStatus())
+                .version(contract.getVersion())
+                .build();
+    }
+
+    private void progress(OverdueSweepReport report, LocalDateTime startedAt) {
+        report.setChunks(report.getChunks() + 1);
+        report.setElapsedMillis(Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        lastReport.set(report.toBuilder().build());
+        log.debug("Overdue sweep progress: chunks={}, installmentsMarked={}, contractsScanned={}",
+                report.getChunks(), report.getInstallmentsMarked(), report.getContractsScanned());
+    }
+
+    private record ChunkOutcome(int scanned, long lastId, int marked, int overdue, int defaulted, int skipped) {
+
+        static final ChunkOutcome EMPTY = new ChunkOutcome(0, 0, 0, 0, 0, 0);
+    }
+}
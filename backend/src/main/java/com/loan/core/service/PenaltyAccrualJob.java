@@ -0,0 +1,23 @@
+package com.loan.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PenaltyAccrualJob {
+
+    private final PenaltyAccrualService accrualService;
+
+    @Scheduled(cron = "${loan.penalty.accrual-cron:0 5/10 1-5 * * *}")
+    public void accruePeriodically() {
+        try {
+            accrualService.accrueIfDue();
+        } catch (RuntimeException e) {
+            log.error("Penalty accrual failed, the next attempt picks up installments not yet accrued", e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.LoanPenaltyProperties;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.domain.entity.DelinquentContract;
+import com.loan.core.domain.entity.JobLease;
+import com.loan.core.domain.entity.LoanTransaction;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.TransactionType;
+import com.loan.core.dto.response.PenaltyAccrualReport;
+import com.loan.core.exception.BusinessException;
+import com.loan.core.mapper.RepaymentScheduleMapper;
+import com.loan.core.mapper.batch.LoanTransactionBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Nightly penalty interest on every OVERDUE installment, run by one instance at a time under a
+ * {@link JobLeaseManager} lease. The calling thread pages delinquent contracts in id order and hands each chunk to
+ * {@code penaltyExecutor}, where it is accrued in its own transaction: the chunk's overdue installments are loaded
+ * with one IN-query, their new totals written as a conditional JDBC batch and one PENALTY_ACCRUAL transaction per
+ * contract batch inserted.
+ * <p>
+ * Each installment accrues from {@code penalty_accrued_to} (or its due date) up to the run date, so accrual is
+ * incremental and a chunk that runs twice adds nothing the second time. That makes chunks independent: they need
+ * no watermark or fence, and a failed chunk is simply picked up by the next attempt.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PenaltyAccrualService {
+
+    static final String JOB_NAME = "penalty-accrual";
+
+    private static final BigDecimal DAYS_PER_YEAR_PERCENT = BigDecimal.valueOf(36500);
+    private static final int SCALE = 2;
+
+    private final RepaymentScheduleMapper scheduleMapper;
+    private final RepaymentScheduleBatchWriter scheduleBatchWriter;
+    private final LoanTransactionBatchWriter transactionBatchWriter;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final IdGenerator idGenerator;
+    private final JobLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor penaltyExecutor;
+    private final LoanBatchProperties batchProperties;
+    private final LoanPenaltyProperties penaltyProperties;
+
+    private final AtomicReference<PenaltyAccrualReport> lastReport = new AtomicReference<>();
+
+    /**
+     * Runs today's accrual unless it already completed. Empty when another instance holds the lease or today's run
+     * already completed.
+     */
+    @Timed("loan.service.duration")
+    public Optional<PenaltyAccrualReport> accrueIfDue() {
+        return accrue(LocalDate.now(), false);
+    }
+
+    /**
+     * Runs accrual now, even if today's run already completed; installments already accrued to today are unchanged.
+     */
+    @Timed("loan.service.duration")
+    public PenaltyAccrualReport accrueNow() {
+        return accrue(LocalDate.now(), true)
+                .orElseThrow(() -> new BusinessException("이미 연체이자 계산이 진행 중입니다"));
+    }
+
+    /**
+     * Progress of the current run on this instance, or the result of its last finished run.
+     */
+    public Optional<PenaltyAccrualReport> getProgress() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    /**
+     * Penalty for {@code days} on {@code base} at an annual rate in percent, truncated to the amount scale.
+     */
+    static BigDecimal penalty(BigDecimal base, BigDecimal annualRate, long days) {
+        return base.multiply(annualRate)
+                .multiply(BigDecimal.valueOf(days))
+                .divide(DAYS_PER_YEAR_PERCENT, SCALE, RoundingMode.DOWN);
+    }
+
+    BigDecimal penaltyRate(BigDecimal contractRate) {
+        return contractRate.add(penaltyProperties.getRateSpread()).min(penaltyProperties.getMaxRate());
+    }
+
+    Optional<PenaltyAccrualReport> accrue(LocalDate asOf, boolean rerunCompleted) {
+        Duration leaseDuration = penaltyProperties.getLeaseDuration();
+        Optional<JobLease> acquired = leaseManager.tryAcquire(JOB_NAME, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.debug("Penalty accrual skipped, lease held by another instance");
+            return Optional.empty();
+        }
+        try {
+            JobLease lease = acquired.get();
+            if (asOf.equals(lease.getRunDate()) && lease.getCompletedAt() != null && !rerunCompleted) {
+                return Optional.empty();
+            }
+            leaseManager.startRun(JOB_NAME, asOf);
+            return Optional.of(run(asOf, leaseDuration));
+        } finally {
+            leaseManager.release(JOB_NAME);
+        }
+    }
+
+    private PenaltyAccrualReport run(LocalDate asOf, Duration leaseDuration) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        PenaltyAccrualReport report = PenaltyAccrualReport.builder()
+                .status(PenaltyAccrualReport.Status.RUNNING)
+                .runDate(asOf)
+                .startedAt(startedAt)
+                .build();
+        lastReport.set(report.toBuilder().build());
+        log.info("Penalty accrual started: runDate={}, owner={}", asOf, leaseManager.owner());
+
+        int chunkSize = batchProperties.getChunkSize();
+        ChunkPipeline<ChunkOutcome> pipeline = new ChunkPipeline<>(transactionTemplate, penaltyExecutor,
+                penaltyProperties.getThreads(), (outcome, failure) -> collect(outcome, failure, report, startedAt));
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<DelinquentContract> chunk = scheduleMapper.findDelinquentContracts(afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).getId();
+                pipeline.submit(() -> accrueChunk(chunk, asOf));
+                leaseManager.renew(JOB_NAME, leaseDuration);
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
+            pipeline.drain();
+
+            if (report.getChunksFailed() == 0) {
+                leaseManager.complete(JOB_NAME);
+                report.setStatus(PenaltyAccrualReport.Status.COMPLETED);
+            } else {
+                report.setStatus(PenaltyAccrualReport.Status.FAILED);
+            }
+        } catch (RuntimeException e) {
+            pipeline.abandon();
+            report.setStatus(PenaltyAccrualReport.Status.FAILED);
+            throw e;
+        } finally {
+            report.setFinishedAt(LocalDateTime.now());
+            report.setElapsedMillis(Duration.between(startedAt, report.getFinishedAt()).toMillis());
+            lastReport.set(report.toBuilder().build());
+            log.info("Penalty accrual finished: status={}, chunks={}, failed={}, contractsScanned={}, charged={}, installmentsAccrued={}, skipped={}, penalty={}, elapsedMs={}",
+                    report.getStatus(), report.getChunks(), report.getChunksFailed(), report.getContractsScanned(),
+                    report.getContractsCharged(), report.getInstallmentsAccrued(), report.getInstallmentsSkipped(),
+                    report.getPenaltyAccrued(), report.getElapsedMillis());
+        }
+        return report;
+    }
+
+    private void collect(ChunkOutcome outcome, Throwable failure, PenaltyAccrualReport report, LocalDateTime startedAt) {
+        if (failure != null) {
+            report.setChunksFailed(report.getChunksFailed() + 1);
+            log.warn("Penalty accrual chunk failed and was rolled back", failure);
+        } else {
+            report.setContractsScanned(report.getContractsScanned() + outcome.scanned());
+            report.setContractsCharged(report.getContractsCharged() + outcome.charged());
+            report.setInstallmentsAccrued(report.getInstallmentsAccrued() + outcome.accrued());
+            report.setInstallmentsSkipped(report.getInstallmentsSkipped() + outcome.skipped());
+            report.setPenaltyAccrued(report.getPenaltyAccrued().add(outcome.penalty()));
+        }
+        report.setChunks(report.getChunks() + 1);
+        report.setElapsedMillis(Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        lastReport.set(report.toBuilder().build());
+        log.debug("Penalty accrual progress: chunks={}, contractsScanned={}, installmentsAccrued={}",
+                report.getChunks(), report.getContractsScanned(), report.getInstallmentsAccrued());
+    }
+
+    private ChunkOutcome accrueChunk(List<DelinquentContract> chunk, LocalDate asOf) {
+        Map<Long, DelinquentContract> contracts = chunk.stream()
+                .collect(Collectors.toMap(DelinquentContract::getId, Function.identity()));
+        List<RepaymentSchedule> installments = scheduleMapper.findOverdueByContractIds(List.copyOf(contracts.keySet()));
+
+        List<RepaymentSchedule> updates = new ArrayList<>(installments.size());
+        Map<Long, BigDecimal> increments = new HashMap<>();
+        for (RepaymentSchedule installment : installments) {
+            LocalDate from = installment.getPenaltyAccruedTo() != null ? installment.getPenaltyAccruedTo() : installment.getDueDate();
+            long days = ChronoUnit.DAYS.between(from, asOf);
+            if (days <= 0) {
+                continue;
+            }
+            BigDecimal unpaid = installment.getTotalAmount()
+                    .subtract(installment.getPaidAmount() != null ? installment.getPaidAmount() : BigDecimal.ZERO);
+            BigDecimal increment = penalty(unpaid, penaltyRate(contracts.get(installment.getContractId()).getInterestRate()), days);
+            // Too small to show yet; left unaccrued so the days carry over to the next run
+            if (increment.signum() <= 0) {
+                continue;
+            }
+            BigDecimal accrued = installment.getAccruedPenalty() != null ? installment.getAccruedPenalty() : BigDecimal.ZERO;
+            updates.add(RepaymentSchedule.builder()
+                    .id(installment.getId())
+                    .contractId(installment.getContractId())
+                    .version(installment.getVersion())
+                    .accruedPenalty(accrued.add(increment))
+                    .penaltyAccruedTo(asOf)
+                    .build());
+            increments.put(installment.getId(), increment);
+        }
+
+        List<RepaymentSchedule> accrued = scheduleBatchWriter.accruePenalty(updates);
+
+        Map<Long, BigDecimal> byContract = new LinkedHashMap<>();
+        Map<Long, Integer> counts = new HashMap<>();
+        for (RepaymentSchedule installment : accrued) {
+            byContract.merge(installment.getContractId(), increments.get(installment.getId()), BigDecimal::add);
+            counts.merge(installment.getContractId(), 1, Integer::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanTransaction> transactions = new ArrayList<>(byContract.size());
+        BigDecimal total = BigDecimal.ZERO;
+        for (Map.Entry<Long, BigDecimal> entry : byContract.entrySet()) {
+            DelinquentContract contract = contracts.get(entry.getKey());
+            transactions.add(LoanTransaction.builder()
+                    .transactionNo(idGenerator.transactionNo())
+                    .contractId(contract.getId())
+                    .type(TransactionType.PENALTY_ACCRUAL)
+                    .amount(entry.getValue())
+                    .balanceAfter(contract.getOutstandingBalance())
+                    .description(String.format("연체이자 부과: %d개 회차, %s까지", counts.get(contract.getId()), asOf))
+                    .transactedAt(now)
+                    .createdAt(now)
+                    .build());
+            total = total.add(entry.getValue());
+        }
+        transactionBatchWriter.insertAll(transactions);
+        readReplicaRouting.markWritten(byContract.keySet().stream().map(id -> contracts.get(id).getCustomerId()).toList());
+
+        return new ChunkOutcome(chunk.size(), byContract.size(), accrued.size(), updates.size() - accrued.size(), total);
+    }
+
+    private record ChunkOutcome(int scanned, int charged, int accrued, int skipped, BigDecimal penalty) {
+    }
+}
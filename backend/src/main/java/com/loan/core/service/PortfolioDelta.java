@@ -0,0 +1,62 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.enums.LoanStatus;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Change to the portfolio snapshot caused by one state change. Deltas are derived from status transitions,
+ * so callers describe what happened and never compute counter arithmetic themselves.
+ */
+public record PortfolioDelta(long activeLoans, long overdueLoans, long pendingApplications, BigDecimal totalOutstanding) {
+
+    public static final PortfolioDelta ZERO = new PortfolioDelta(0, 0, 0, BigDecimal.ZERO);
+
+    public static final Set<LoanStatus> PENDING_STATUSES = EnumSet.of(LoanStatus.DRAFT, LoanStatus.APPLIED, LoanStatus.REVIEWING);
+
+    /**
+     * @param from previous contract status, or {@code null} for a new contract
+     */
+    public static PortfolioDelta contractTransition(LoanStatus from, LoanStatus to) {
+        return new PortfolioDelta(
+                indicator(to == LoanStatus.ACTIVE) - indicator(from == LoanStatus.ACTIVE),
+                indicator(to == LoanStatus.OVERDUE) - indicator(from == LoanStatus.OVERDUE),
+                0, BigDecimal.ZERO);
+    }
+
+    /**
+     * @param from previous application status, or {@code null} for a new application
+     */
+    public static PortfolioDelta applicationTransition(LoanStatus from, LoanStatus to) {
+        return new PortfolioDelta(0, 0,
+                indicator(PENDING_STATUSES.contains(to)) - indicator(from != null && PENDING_STATUSES.contains(from)),
+                BigDecimal.ZERO);
+    }
+
+    public static PortfolioDelta outstanding(BigDecimal change) {
+        return new PortfolioDelta(0, 0, 0, change);
+    }
+
+    public PortfolioDelta plus(PortfolioDelta other) {
+        return new PortfolioDelta(
+                activeLoans + other.activeLoans,
+                overdueLoans + other.overdueLoans,
+                pendingApplications + other.pendingApplications,
+                totalOutstanding.add(other.totalOutstanding));
+    }
+
+    public PortfolioDelta times(long factor) {
+        return new PortfolioDelta(activeLoans * factor, overdueLoans * factor, pendingApplications * factor,
+                totalOutstanding.multiply(BigDecimal.valueOf(factor)));
+    }
+
+    public boolean isZero() {
+        return activeLoans == 0 && overdueLoans == 0 && pendingApplications == 0 && totalOutstanding.signum() == 0;
+    }
+
+    private static long indicator(boolean condition) {
+        return condition ? 1 : 0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.loan.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PortfolioReconciliationJob {
+
+    private final PortfolioSnapshotService snapshotService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${loan.portfolio.reconcile-cron:0 */15 * * * *}")
+    public void reconcilePeriodically() {
+        reconcile();
+    }
+
+    private void reconcile() {
+        try {
+            snapshotService.reconcile();
+        } catch (RuntimeException e) {
+            log.error("Portfolio snapshot reconciliation failed", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.PortfolioSnapshot;
+import com.loan.core.domain.entity.StatusCount;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.dto.response.PortfolioReconciliationReport;
+import com.loan.core.mapper.LoanApplicationMapper;
+import com.loan.core.mapper.LoanContractMapper;
+import com.loan.core.mapper.PortfolioSnapshotMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Maintains the materialized portfolio figures behind the global dashboard. Services that change loan
+ * state {@link #apply} a delta in their own transaction, so the counters commit or roll back with the
+ * change. {@link #reconcile} recomputes the figures from the source tables and reports any drift.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PortfolioSnapshotService {
+
+    /**
+     * Number of counter rows seeded by the schema. Each transaction picks one slot at random and keeps it, so
+     * concurrent writers spread over the rows and a transaction locks at most one of them.
+     */
+    static final int SLOT_COUNT = 16;
+
+    private final PortfolioSnapshotMapper snapshotMapper;
+    private final LoanContractMapper contractMapper;
+    private final LoanApplicationMapper applicationMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(PortfolioDelta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        int slot = currentSlot();
+        if (snapshotMapper.applyDelta(slot, delta) == 0) {
+            log.warn("Portfolio snapshot slot missing, delta dropped until next reconciliation: slot={}", slot);
+        }
+    }
+
+    private static int currentSlot() {
+        // Synchronizations are per transaction and suspended with it, so a REQUIRES_NEW inner one picks its own slot
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof SlotHolder holder) {
+                return holder.slot();
+            }
+        }
+        SlotHolder holder = new SlotHolder(ThreadLocalRandom.current().nextInt(SLOT_COUNT));
+        TransactionSynchronizationManager.registerSynchronization(holder);
+        return holder.slot();
+    }
+
+    public PortfolioSnapshot getSnapshot() {
+        return snapshotMapper.sum();
+    }
+
+    @Transactional
+    public PortfolioReconciliationReport reconcile() {
+        // Lock every slot first: in-flight writers finish before the source tables are read,
+        // and later writers apply their delta on top of the recomputed figures
+        List<Integer> slots = snapshotMapper.lockSlots();
+        if (slots.size() < SLOT_COUNT) {
+            Set<Integer> existing = new HashSet<>(slots);
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                if (!existing.contains(slot)) {
+                    snapshotMapper.insertSlot(slot);
+                }
+            }
+        }
+
+        PortfolioSnapshot before = snapshotMapper.sum();
+        PortfolioSnapshot actual = fromCounts(contractMapper.countGroupByStatus(null), applicationMapper.countGroupByStatus(null));
+        PortfolioSnapshot drift = PortfolioSnapshot.builder()
+                .activeLoans(actual.getActiveLoans() - before.getActiveLoans())
+                .overdueLoans(actual.getOverdueLoans() - before.getOverdueLoans())
+                .pendingApplications(actual.getPendingApplications() - before.getPendingApplications())
+                .totalOutstanding(actual.getTotalOutstanding().subtract(before.getTotalOutstanding()))
+                .build();
+        boolean drifted = drift.getActiveLoans() != 0 || drift.getOverdueLoans() != 0
+                || drift.getPendingApplications() != 0 || drift.getTotalOutstanding().signum() != 0;
+
+        snapshotMapper.overwrite(actual);
+
+        if (drifted) {
+            log.warn("Portfolio snapshot drift corrected: active={}, overdue={}, pending={}, outstanding={}",
+                    drift.getActiveLoans(), drift.getOverdueLoans(), drift.getPendingApplications(), drift.getTotalOutstanding());
+        } else {
+            log.info("Portfolio snapshot reconciled without drift");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        actual.setUpdatedAt(now);
+        return PortfolioReconciliationReport.builder()
+                .before(before)
+                .actual(actual)
+                .drift(drift)
+                .drifted(drifted)
+                .reconciledAt(now)
+                .build();
+    }
+
+    static PortfolioSnapshot fromCounts(List<StatusCount> contractCounts, List<StatusCount> applicationCounts) {
+        return PortfolioSnapshot.builder()
+                .activeLoans(countOf(contractCounts, Set.of(LoanStatus.ACTIVE)))
+                .overdueLoans(countOf(contractCounts, Set.of(LoanStatus.OVERDUE)))
+                .pendingApplications(countOf(applicationCounts, PortfolioDelta.PENDING_STATUSES))
+                .totalOutstanding(contractCounts.stream()
+                        .map(StatusCount::getTotalAmount)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+    }
+
+    private static long countOf(List<StatusCount> counts, Set<LoanStatus> statuses) {
+        return counts.stream()
+                .filter(c -> statuses.contains(c.getStatus()))
+                .mapToLong(StatusCount::getCount)
+                .sum();
+    }
+
+    private record SlotHolder(int slot) implements TransactionSynchronization {
+    }
+}
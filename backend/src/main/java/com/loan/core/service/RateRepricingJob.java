@@ -0,0 +1,23 @@
+package com.loan.core.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RateRepricingJob {
+
+    private final RateRepricingService repricingService;
+
+    @Scheduled(cron = "${loan.repricing.repricing-cron:0 7/10 * * * *}")
+    public void repricePeriodically() {
+        try {
+            repricingService.repriceIfDue();
+        } catch (RuntimeException e) {
+            log.error("Rate repricing failed, the next attempt picks up contracts not yet repriced", e);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.LoanRepricingProperties;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.domain.entity.JobLease;
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.RateIndex;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.domain.enums.ReamortizationMode;
+import com.loan.core.dto.response.RepricingReport;
+import com.loan.core.exception.BusinessException;
+import com.loan.core.exception.ConcurrentUpdateException;
+import com.loan.core.exception.ResourceNotFoundException;
+import com.loan.core.mapper.LoanContractMapper;
+import com.loan.core.mapper.RateIndexMapper;
+import com.loan.core.mapper.RepaymentScheduleMapper;
+import com.loan.core.mapper.batch.LoanContractBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Variable rates: a contract linked to a rate index pays the index rate plus its own spread. When a new index rate
+ * takes effect, every linked contract is moved onto it by one instance at a time under a {@link JobLeaseManager}
+ * lease. The calling thread pages each index's contracts in id order and hands each chunk to
+ * {@code repricingExecutor}, where it is repriced in its own transaction: the chunk's scheduled installments are
+ * loaded with one IN-query, each contract's unpaid tail is re-amortized over its remaining term by
+ * {@link ScheduleReamortizer}, and the new rates and the installments that changed are written as conditional JDBC
+ * batches.
+ * <p>
+ * A contract records the index date it was repriced to and the page query skips contracts already on it, so chunks
+ * are independent like penalty accrual: an interrupted run resumes by itself and a failed chunk is picked up by
+ * the next attempt. A completed run keeps a fingerprint of the index rates it applied as the lease watermark, so
+ * attempts while the same rates are in effect do nothing. A run that skipped contracts written to concurrently completes without
+ * one, so the next attempt picks them up.
+ * <p>
+ * A rate applies from the first interest period starting on or after its effective date. Installments already due,
+ * partly paid or in an earlier period keep their amounts.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RateRepricingService {
+
+    static final String JOB_NAME = "rate-repricing";
+
+    private final RateIndexMapper rateIndexMapper;
+    private final LoanContractMapper contractMapper;
+    private final RepaymentScheduleMapper scheduleMapper;
+    private final LoanContractBatchWriter contractBatchWriter;
+    private final RepaymentScheduleBatchWriter scheduleBatchWriter;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final JobLeaseManager leaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor repricingExecutor;
+    private final LoanBatchProperties batchProperties;
+    private final LoanRepricingProperties repricingProperties;
+
+    private final AtomicReference<RepricingReport> lastReport = new AtomicReference<>();
+
+    /**
+     * Records an index rate. Contracts move onto it with the first repricing run on or after its effective date.
+     */
+    @Transactional
+    public RateIndex publishRate(String indexCode, LocalDate effectiveDate, BigDecimal rate) {
+        RateIndex rateIndex = RateIndex.builder()
+                .indexCode(indexCode)
+                .effectiveDate(effectiveDate)
+                .rate(rate)
+                .build();
+        try {
+            rateIndexMapper.insert(rateIndex);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException("이미 공시된 기준금리입니다: " + indexCode + ", " + effectiveDate);
+        }
+        log.info("Rate index published: indexCode={}, effectiveDate={}, rate={}", indexCode, effectiveDate, rate);
+        return rateIndex;
+    }
+
+    public List<RateIndex> getRateHistory(String indexCode) {
+        return rateIndexMapper.findByIndexCode(indexCode);
+    }
+
+    /**
+     * Switches a contract to a variable rate and reprices it onto the index rate in effect today.
+     */
+    @Timed("loan.service.duration")
+    @Transactional
+    public LoanContract linkRateIndex(Long contractId, String indexCode, BigDecimal spread) {
+        LoanContract contract = contractMapper.findById(contractId);
+        if (contract == null) {
+            throw new ResourceNotFoundException("LoanContract", contractId);
+        }
+        if (contract.getStatus() != LoanStatus.ACTIVE && contract.getStatus() != LoanStatus.OVERDUE) {
+            throw new BusinessException("활성 또는 연체 상태의 대출만 변동금리로 전환할 수 있습니다. 현재 상태: " + contract.getStatus());
+        }
+        LocalDate today = LocalDate.now();
+        RateIndex index = rateIndexMapper.findCurrent(indexCode, today);
+        if (index == null) {
+            throw new ResourceNotFoundException("RateIndex", indexCode);
+        }
+
+        if (contractMapper.linkRateIndex(contractId, contract.getVersion(), indexCode, spread) == 0) {
+            throw new ConcurrentUpdateException("LoanContract", contractId);
+        }
+        contract.setRateIndexCode(indexCode);
+        contract.setRateSpread(spread);
+        contract.setVersion(contract.getVersion() + 1);
+        if (repriceContracts(List.of(contract), index, today).repriced() == 0) {
+            throw new ConcurrentUpdateException("LoanContract", contractId);
+        }
+        log.info("Contract linked to rate index: contractId={}, indexCode={}, spread={}, rate={}",
+                contractId, indexCode, spread, repricedRate(index, spread));
+        return contractMapper.findById(contractId);
+    }
+
+    /**
+     * Reprices onto the index rates in effect today unless a completed run already applied them. Empty when another
+     * instance holds the lease or there is nothing new to apply.
+     */
+    @Timed("loan.service.duration")
+    public Optional<RepricingReport> repriceIfDue() {
+        return reprice(LocalDate.now(), false);
+    }
+
+    /**
+     * Runs repricing now, even if the rates in effect were already applied; contracts already on them are skipped.
+     */
+    @Timed("loan.service.duration")
+    public RepricingReport repriceNow() {
+        return reprice(LocalDate.now(), true)
+                .orElseThrow(() -> new BusinessException("이미 금리 재산정이 진행 중입니다"));
+    }
+
+    /**
+     * Progress of the current run on this instance, or the result of its last finished run.
+     */
+    public Optional<RepricingReport> getProgress() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    /**
+     * Index rate plus spread, never below zero.
+     */
+    static BigDecimal repricedRate(RateIndex index, BigDecimal spread) {
+        return index.getRate().add(spread != null ? spread : BigDecimal.ZERO).max(BigDecimal.ZERO);
+    }
+
+    Optional<RepricingReport> reprice(LocalDate asOf, boolean force) {
+        Duration leaseDuration = repricingProperties.getLeaseDuration();
+        Optional<JobLease> acquired = leaseManager.tryAcquire(JOB_NAME, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.debug("Rate repricing skipped, lease held by another instance");
+            return Optional.empty();
+        }
+        try {
+            JobLease lease = acquired.get();
+            List<RateIndex> indexes = rateIndexMapper.findAllCurrent(asOf);
+            long ratesInEffect = fingerprint(indexes);
+            if (lease.getCompletedAt() != null && lease.getWatermark() == ratesInEffect && !force) {
+                return Optional.empty();
+            }
+            leaseManager.startRun(JOB_NAME, asOf);
+            return Optional.of(run(asOf, indexes, ratesInEffect, leaseDuration));
+        } finally {
+            leaseManager.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * Identifies the index rates in effect by their (index code, effective date) pairs, which change whenever a rate
+     * takes effect, whatever order the rates were published in. Published rates are never updated.
+     *
+     * @param indexes the rates in effect, one per index in index code order
+     */
+    static long fingerprint(List<RateIndex> indexes) {
+        long fingerprint = 0L;
+        for (RateIndex index : indexes) {
+            fingerprint = 31 * fingerprint + index.getIndexCode().hashCode();
+            fingerprint = 31 * fingerprint + index.getEffectiveDate().toEpochDay();
+        }
+        return fingerprint;
+    }
+
+    private RepricingReport run(LocalDate asOf, List<RateIndex> indexes, long ratesInEffect, Duration leaseDuration) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        RepricingReport report = RepricingReport.builder()
+                .status(RepricingReport.Status.RUNNING)
+                .runDate(asOf)
+                .indexes(indexes.size())
+                .startedAt(startedAt)
+                .build();
+        lastReport.set(report.toBuilder().build());
+        log.info("Rate repricing started: runDate={}, indexes={}, owner={}", asOf, indexes.size(), leaseManager.owner());
+
+        int chunkSize = batchProperties.getChunkSize();
+        ChunkPipeline<ChunkOutcome> pipeline = new ChunkPipeline<>(transactionTemplate, repricingExecutor,
+                repricingProperties.getThreads(), (outcome, failure) -> collect(outcome, failure, report, startedAt));
+        try {
+            for (RateIndex index : indexes) {
+                long afterId = 0L;
+                while (true) {
+                    List<LoanContract> chunk = contractMapper.findRepricingCandidates(
+                            index.getIndexCode(), index.getEffectiveDate(), afterId, chunkSize);
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                    pipeline.submit(() -> repriceContracts(chunk, index, asOf));
+                    leaseManager.renew(JOB_NAME, leaseDuration);
+                    if (chunk.size() < chunkSize) {
+                        break;
+                    }
+                }
+            }
+            pipeline.drain();
+
+            if (report.getChunksFailed() == 0) {
+                if (report.getContractsSkipped() == 0) {
+                    leaseManager.checkpoint(JOB_NAME, ratesInEffect, leaseDuration);
+                }
+                leaseManager.complete(JOB_NAME);
+                report.setStatus(RepricingReport.Status.COMPLETED);
+            } else {
+                report.setStatus(RepricingReport.Status.FAILED);
+            }
+        } catch (RuntimeException e) {
+            pipeline.abandon();
+            report.setStatus(RepricingReport.Status.FAILED);
+            throw e;
+        } finally {
+            report.setFinishedAt(LocalDateTime.now());
+            report.setElapsedMillis(Duration.between(startedAt, report.getFinishedAt()).toMillis());
+            lastReport.set(report.toBuilder().build());
+            log.info("Rate repricing finished: status={}, indexes={}, chunks={}, failed={}, contractsScanned={}, repriced={}, skipped={}, installmentsRewritten={}, elapsedMs={}",
+                    report.getStatus(), report.getIndexes(), report.getChunks(), report.getChunksFailed(),
+                    report.getContractsScanned(), report.getContractsRepriced(), report.getContractsSkipped(),
+                    report.getInstallmentsRewritten(), report.getElapsedMillis());
+        }
+        return report;
+    }
+
+    private void collect(ChunkOutcome outcome, Throwable failure, RepricingReport report, LocalDateTime startedAt) {
+        if (failure != null) {
+            report.setChunksFailed(report.getChunksFailed() + 1);
+            log.warn("Rate repricing chunk failed and was rolled back", failure);
+        } else {
+            report.setContractsScanned(report.getContractsScanned() + outcome.scanned());
+            report.setContractsRepriced(report.getContractsRepriced() + outcome.repriced());
+            report.setContractsSkipped(report.getContractsSkipped() + outcome.skipped());
+            report.setInstallmentsRewritten(report.getInstallmentsRewritten() + outcome.rewritten());
+        }
+        report.setChunks(report.getChunks() + 1);
+        report.setElapsedMillis(Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        lastReport.set(report.toBuilder().build());
+        log.debug("Rate repricing progress: chunks={}, contractsScanned={}, contractsRepriced={}",
+                report.getChunks(), report.getContractsScanned(), report.getContractsRepriced());
+    }
+
+    /**
+     * Reprices {@code contracts} onto {@code index}. Each contract is claimed by the version it was read with, which
+     * every repayment bumps, so the installments of a contract that was claimed were not paid into since the read.
+     */
+    private ChunkOutcome repriceContracts(List<LoanContract> contracts, RateIndex index, LocalDate asOf) {
+        List<Long> contractIds = contracts.stream().map(LoanContract::getId).toList();
+        Map<Long, List<RepaymentSchedule>> scheduled = scheduleMapper.findScheduledByContractIds(contractIds, asOf).stream()
+                .collect(Collectors.groupingBy(RepaymentSchedule::getContractId));
+
+        List<LoanContract> claims = new ArrayList<>(contracts.size());
+        Map<Long, List<RepaymentSchedule>> rewrites = new HashMap<>();
+        for (LoanContract contract : contracts) {
+            BigDecimal rate = repricedRate(index, contract.getRateSpread());
+            List<RepaymentSchedule> tail = repricedTail(scheduled.getOrDefault(contract.getId(), List.of()), index.getEffectiveDate());
+            BigDecimal monthlyPayment = contract.getMonthlyPayment();
+            List<RepaymentSchedule> rewritten = List.of();
+            if (!tail.isEmpty()) {
+                BigDecimal principal = tail.stream().map(RepaymentSchedule::getPrincipalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+                Reamortization reamortization = ScheduleReamortizer.reamortize(rate, contract.getRepaymentMethod(), tail,
+                        principal, ReamortizationMode.KEEP_TERM);
+                monthlyPayment = reamortization.monthlyPayment();
+                rewritten = reamortization.updated();
+            }
+            claims.add(LoanContract.builder()
+                    .id(contract.getId())
+                    .customerId(contract.getCustomerId())
+                    .version(contract.getVersion())
+                    .interestRate(rate)
+                    .monthlyPayment(monthlyPayment)
+                    .rateEffectiveDate(index.getEffectiveDate())
+                    .build());
+            rewrites.put(contract.getId(), rewritten);
+        }
+
+        List<LoanContract> repriced = contractBatchWriter.reprice(claims);
+        List<RepaymentSchedule> installments = repriced.stream()
+                .flatMap(contract -> rewrites.get(contract.getId()).stream())
+                .toList();
+        if (scheduleBatchWriter.reamortize(installments) < installments.size()) {
+            throw new ConcurrentUpdateException("RepaymentSchedule", installments.get(0).getId());
+        }
+        readReplicaRouting.markWritten(repriced.stream().map(LoanContract::getCustomerId).toList());
+
+        return new ChunkOutcome(contracts.size(), repriced.size(), contracts.size() - repriced.size(), installments.size());
+    }
+
+    /**
+     * The installments a new rate reaches: from the first one whose interest period starts on or after
+     * {@code effectiveDate} and has not been paid into.
+     *
+     * @param scheduled a contract's SCHEDULED installments not yet due, in installment order
+     */
+    static List<RepaymentSchedule> repricedTail(List<RepaymentSchedule> scheduled, LocalDate effectiveDate) {
+        int from = 0;
+        while (from < scheduled.size()) {
+            RepaymentSchedule installment = scheduled.get(from);
+            boolean paidInto = installment.getPaidAmount() != null && installment.getPaidAmount().signum() > 0;
+            if (!paidInto && !installment.getDueDate().minusMonths(1).isBefore(effectiveDate)) {
+                break;
+            }
+            from++;
+        }
+        return scheduled.subList(from, scheduled.size());
+    }
+
+    private record ChunkOutcome(int scanned, int repriced, int skipped, int rewritten) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.RepaymentSchedule;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The difference {@link ScheduleReamortizer} found between a schedule's unpaid tail and its recalculation.
+ *
+ * @param updated        tail installments whose amounts changed, updated in place and to be written back
+ * @param removed        tail installments past the shortened term, to be deleted
+ * @param monthlyPayment the new payment when the term was kept (always for BULLET), otherwise {@code null} as the
+ *                       payment is unchanged
+ * @param endDate        due date of the last installment left
+ */
+record Reamortization(List<RepaymentSchedule> updated,
+                      List<RepaymentSchedule> removed,
+                      BigDecimal monthlyPayment,
+                      LocalDate endDate) {
+}
@@ -0,0 +1,35 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.RepaymentSchedule;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * How one payment was split by {@link RepaymentAllocator}.
+ *
+ * @param changed            installments whose amounts or status changed, to be written back
+ * @param firstInstallmentNo first installment the payment was applied to, or {@code null} if none
+ * @param lastInstallmentNo  last installment of the due set the payment was applied to, or {@code null} if none
+ * @param nextInstallmentNo  first installment still unpaid afterwards; one past the last when none is left
+ * @param unapplied          the part of the payment exceeding everything owed, to be returned to the payer
+ * @param reamortization     how a partial prepayment changed the later installments, otherwise {@code null}
+ */
+record RepaymentAllocation(List<RepaymentSchedule> changed,
+                           Integer firstInstallmentNo,
+                           Integer lastInstallmentNo,
+                           int nextInstallmentNo,
+                           BigDecimal penalty,
+                           BigDecimal interest,
+                           BigDecimal principal,
+                           BigDecimal prepayment,
+                           BigDecimal unapplied,
+                           Reamortization reamortization) {
+
+    /**
+     * Principal the payment took off the contract's outstanding balance.
+     */
+    BigDecimal principalReduction() {
+        return principal.add(prepayment);
+    }
+}
@@ -0,0 +1,152 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.ReamortizationMode;
+import com.loan.core.domain.enums.RepaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits one payment over a contract's unpaid installments as a waterfall. The due set is every installment due by
+ * the payment date plus the one of the current period, which may be paid ahead. Across the due set the payment
+ * settles, oldest installment first within each step:
+ * <ol>
+ *     <li>accrued penalty interest;</li>
+ *     <li>scheduled interest;</li>
+ *     <li>scheduled principal;</li>
+ *     <li>what is left prepays the principal of the later installments, which {@link ScheduleReamortizer}
+ *     recalculates for the lower balance: either the payment stays and the loan ends sooner, or the term stays
+ *     and the payment drops.</li>
+ * </ol>
+ * Anything beyond the whole outstanding principal is reported as unapplied.
+ * <p>
+ * {@code paid_amount} of an installment accumulates interest and principal. Interest is always settled before any
+ * principal, so the split of a partly paid installment follows from that one amount. A partly paid installment
+ * keeps its SCHEDULED or OVERDUE status, so the overdue sweep and penalty accrual still see it.
+ */
+final class RepaymentAllocator {
+
+    private RepaymentAllocator() {
+        // utility class
+    }
+
+    /**
+     * Allocates {@code amount}, updating the given rows in place.
+     *
+     * @param unpaid the contract's unpaid installments in installment order
+     */
+    static RepaymentAllocation allocate(LoanContract contract, List<RepaymentSchedule> unpaid, BigDecimal amount,
+                                        LocalDate paidDate, ReamortizationMode mode) {
+        int split = 0;
+        while (split < unpaid.size() && !unpaid.get(split).getDueDate().isAfter(paidDate)) {
+            split++;
+        }
+        if (split < unpaid.size()) {
+            split++;
+        }
+        List<RepaymentSchedule> due = unpaid.subList(0, split);
+        List<RepaymentSchedule> tail = unpaid.subList(split, unpaid.size());
+
+        Map<Long, RepaymentSchedule> changed = new LinkedHashMap<>();
+        BigDecimal remaining = amount;
+
+        BigDecimal penalty = BigDecimal.ZERO;
+        for (RepaymentSchedule installment : due) {
+            BigDecimal pay = remaining.min(penaltyDue(installment));
+            if (pay.signum() > 0) {
+                installment.setPaidPenalty(orZero(installment.getPaidPenalty()).add(pay));
+                penalty = penalty.add(pay);
+                remaining = remaining.subtract(pay);
+                changed.put(installment.getId(), installment);
+            }
+        }
+        BigDecimal interest = BigDecimal.ZERO;
+        for (RepaymentSchedule installment : due) {
+            BigDecimal pay = remaining.min(interestDue(installment));
+            if (pay.signum() > 0) {
+                installment.setPaidAmount(orZero(installment.getPaidAmount()).add(pay));
+                interest = interest.add(pay);
+                remaining = remaining.subtract(pay);
+                changed.put(installment.getId(), installment);
+            }
+        }
+        BigDecimal principal = BigDecimal.ZERO;
+        for (RepaymentSchedule installment : due) {
+            BigDecimal pay = remaining.min(principalDue(installment));
+            if (pay.signum() > 0) {
+                installment.setPaidAmount(orZero(installment.getPaidAmount()).add(pay));
+                principal = principal.add(pay);
+                remaining = remaining.subtract(pay);
+                changed.put(installment.getId(), installment);
+            }
+        }
+        for (RepaymentSchedule installment : changed.values()) {
+            installment.setPaidDate(paidDate);
+            if (settled(installment)) {
+                installment.setStatus(RepaymentStatus.PAID);
+            }
+        }
+
+        BigDecimal tailPrincipal = tail.stream().map(RepaymentAllocator::principalDue).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal prepayment = remaining.min(tailPrincipal);
+        remaining = remaining.subtract(prepayment);
+        Reamortization reamortization = null;
+        if (prepayment.compareTo(tailPrincipal) == 0 && prepayment.signum() > 0) {
+            for (RepaymentSchedule installment : tail) {
+                installment.setPaidAmount(orZero(installment.getPaidAmount()).add(principalDue(installment)));
+                installment.setPaidDate(paidDate);
+                installment.setStatus(RepaymentStatus.PAID);
+                changed.put(installment.getId(), installment);
+            }
+        } else if (prepayment.signum() > 0) {
+            reamortization = ScheduleReamortizer.reamortize(contract.getInterestRate(), contract.getRepaymentMethod(),
+                    tail, tailPrincipal.subtract(prepayment), mode);
+            reamortization.updated().forEach(installment -> changed.put(installment.getId(), installment));
+        }
+
+        Integer first = null;
+        Integer last = null;
+        for (RepaymentSchedule installment : due) {
+            if (changed.containsKey(installment.getId())) {
+                first = first == null ? installment.getInstallmentNo() : first;
+                last = installment.getInstallmentNo();
+            }
+        }
+        int next = unpaid.isEmpty() ? 1 : unpaid.get(unpaid.size() - 1).getInstallmentNo() + 1;
+        for (RepaymentSchedule installment : unpaid) {
+            if (installment.getStatus() != RepaymentStatus.PAID) {
+                next = installment.getInstallmentNo();
+                break;
+            }
+        }
+        return new RepaymentAllocation(new ArrayList<>(changed.values()), first, last, next,
+                penalty, interest, principal, prepayment, remaining, reamortization);
+    }
+
+    static BigDecimal penaltyDue(RepaymentSchedule installment) {
+        return orZero(installment.getAccruedPenalty()).subtract(orZero(installment.getPaidPenalty())).max(BigDecimal.ZERO);
+    }
+
+    static BigDecimal interestDue(RepaymentSchedule installment) {
+        return installment.getInterestAmount().subtract(orZero(installment.getPaidAmount())).max(BigDecimal.ZERO);
+    }
+
+    static BigDecimal principalDue(RepaymentSchedule installment) {
+        return installment.getTotalAmount().subtract(orZero(installment.getPaidAmount())).subtract(interestDue(installment));
+    }
+
+    private static boolean settled(RepaymentSchedule installment) {
+        return orZero(installment.getPaidAmount()).compareTo(installment.getTotalAmount()) >= 0
+                && penaltyDue(installment).signum() == 0;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
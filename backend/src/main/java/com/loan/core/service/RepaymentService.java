@@ -1,29 +1,43 @@
 package com.loan.core.service;
 
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.LoanContract;
 import com.loan.core.domain.entity.LoanTransaction;
 import com.loan.core.domain.entity.RepaymentSchedule;
 import com.loan.core.domain.entity.StatusHistory;
 import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.domain.enums.ReamortizationMode;
 import com.loan.core.domain.enums.RepaymentStatus;
 import com.loan.core.domain.enums.TransactionType;
+import com.loan.core.dto.response.BulkItemResult;
+import com.loan.core.dto.response.BulkOperationResponse;
 import com.loan.core.exception.BusinessException;
+import com.loan.core.exception.ConcurrentUpdateException;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.mapper.LoanContractMapper;
-import com.loan.core.mapper.LoanTransactionMapper;
 import com.loan.core.mapper.RepaymentScheduleMapper;
-import com.loan.core.mapper.StatusHistoryMapper;
+import com.loan.core.mapper.batch.LoanContractBatchWriter;
+import com.loan.core.mapper.batch.LoanTransactionBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -33,73 +47,188 @@ public class RepaymentService {
 
     private final LoanContractMapper contractMapper;
     private final RepaymentScheduleMapper scheduleMapper;
-    private final LoanTransactionMapper transactionMapper;
-    private final StatusHistoryMapper statusHistoryMapper;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final PortfolioSnapshotService snapshotService;
+    private final LoanContractBatchWriter contractBatchWriter;
+    private final LoanTransactionBatchWriter transactionBatchWriter;
+    private final RepaymentScheduleBatchWriter scheduleBatchWriter;
+    private final LoanBatchProperties batchProperties;
+    private final OptimisticTransactionRunner transactionRunner;
+    private final StripedLockExecutor contractLocks;
+    private final ReadReplicaRouting readReplicaRouting;
+    private final IdGenerator idGenerator;
 
-    @Transactional
+    /**
+     * Posts a payment of any amount, allocated by {@link RepaymentAllocator}: penalty, interest and principal of the
+     * installments due, then prepayment of principal. Requests for the same contract queue on its lock stripe in
+     * this instance, so a burst of gateway callbacks runs one after another; the writes are still version-checked,
+     * and a repayment that loses the race to another instance is re-run from a fresh read.
+     */
+    @Timed("loan.service.duration")
+    @Transactional(propagation = Propagation.NEVER)
     public LoanTransaction repay(Long contractId, BigDecimal amount) {
-        log.info("Processing repayment: contractId={}, amount={}", contractId, amount);
+        return repay(contractId, amount, ReamortizationMode.KEEP_PAYMENT);
+    }
+
+    /**
+     * @param mode how a prepayment re-amortizes the remaining installments: keep the payment and end the loan
+     *             sooner, or keep the term and lower the payment
+     */
+    @Timed("loan.service.duration")
+    @Transactional(propagation = Propagation.NEVER)
+    public LoanTransaction repay(Long contractId, BigDecimal amount, ReamortizationMode mode) {
+        log.info("Processing repayment: contractId={}, amount={}, mode={}", contractId, amount, mode);
+        return contractLocks.execute(contractId, () -> transactionRunner.run(() -> postRepayment(contractId, amount, mode)));
+    }
 
-        // 1. Get contract, validate ACTIVE status
+    private LoanTransaction postRepayment(Long contractId, BigDecimal amount, ReamortizationMode mode) {
+        // 1. Get contract, validate ACTIVE or OVERDUE status
         LoanContract contract = contractMapper.findById(contractId);
         if (contract == null) {
             throw new ResourceNotFoundException("LoanContract", contractId);
         }
 
-        if (contract.getStatus() != LoanStatus.ACTIVE) {
-            throw new BusinessException("활성 상태의 대출만 상환 가능합니다. 현재 상태: " + contract.getStatus());
+        if (contract.getStatus() != LoanStatus.ACTIVE && contract.getStatus() != LoanStatus.OVERDUE) {
+            throw new BusinessException("활성 또는 연체 상태의 대출만 상환 가능합니다. 현재 상태: " + contract.getStatus());
         }
 
-        // 2. Find next SCHEDULED repayment
-        List<RepaymentSchedule> schedules = scheduleMapper.findByContractId(contractId);
-        RepaymentSchedule nextSchedule = schedules.stream()
-                .filter(s -> s.getStatus() == RepaymentStatus.SCHEDULED)
-                .findFirst()
-                .orElseThrow(() -> new BusinessException("예정된 상환 스케줄이 없습니다"));
+        // 2. Load the unpaid (SCHEDULED or OVERDUE) installments, starting at the contract's installment pointer
+        int fromInstallmentNo = contract.getNextInstallmentNo() != null ? contract.getNextInstallmentNo() : 1;
+        List<RepaymentSchedule> unpaid = scheduleMapper.findUnpaid(contractId, fromInstallmentNo);
+        if (unpaid.isEmpty()) {
+            throw new BusinessException("예정된 상환 스케줄이 없습니다");
+        }
 
-        // 3. Mark schedule as PAID
-        scheduleMapper.updateStatus(nextSchedule.getId(), RepaymentStatus.PAID.name(), LocalDate.now(), amount);
+        // 3. Allocate: penalty, interest, principal of the due installments, then prepayment
+        LocalDate today = LocalDate.now();
+        RepaymentAllocation allocation = RepaymentAllocator.allocate(contract, unpaid, amount, today, mode);
+        if (allocation.changed().isEmpty()) {
+            throw new BusinessException("상환할 금액이 없습니다");
+        }
 
-        // 4. Update contract outstandingBalance
-        BigDecimal newBalance = contract.getOutstandingBalance().subtract(nextSchedule.getPrincipalAmount());
+        // 4. Update contract outstandingBalance and move the pointer to the first installment still unpaid
+        BigDecimal newBalance = contract.getOutstandingBalance().subtract(allocation.principalReduction());
         if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
             newBalance = BigDecimal.ZERO;
         }
-        BigDecimal newTotalInterestPaid = contract.getTotalInterestPaid().add(nextSchedule.getInterestAmount());
-        contractMapper.updateBalance(contractId, newBalance, newTotalInterestPaid);
-
-        // 5. Record REPAYMENT transaction
-        String txNo = generateTransactionNo();
-        LoanTransaction transaction = LoanTransaction.builder()
-                .transactionNo(txNo)
-                .contractId(contractId)
-                .type(TransactionType.REPAYMENT)
-                .amount(amount)
-                .balanceAfter(newBalance)
-                .description(String.format("제%d회차 상환, 원금: %s, 이자: %s",
-                        nextSchedule.getInstallmentNo(),
-                        nextSchedule.getPrincipalAmount(),
-                        nextSchedule.getInterestAmount()))
-                .transactedAt(LocalDateTime.now())
-                .createdAt(LocalDateTime.now())
-                .build();
-        transactionMapper.insert(transaction);
-
-        // 6. If outstandingBalance == 0, transition to COMPLETED
-        if (newBalance.compareTo(BigDecimal.ZERO) == 0) {
+        BigDecimal newTotalInterestPaid = contract.getTotalInterestPaid().add(allocation.interest());
+        if (contractMapper.applyRepayment(contractId, contract.getVersion(), allocation.nextInstallmentNo() - 1, newBalance, newTotalInterestPaid) == 0) {
+            throw new ConcurrentUpdateException("LoanContract", contractId);
+        }
+        Reamortization reamortization = allocation.reamortization();
+        if (reamortization != null) {
+            contractMapper.updateAmortization(contractId,
+                    reamortization.monthlyPayment() != null ? reamortization.monthlyPayment() : contract.getMonthlyPayment(),
+                    reamortization.endDate());
+        }
+
+        // 5. Write every changed installment in one batch, then drop the installments a shorter term no longer needs
+        List<RepaymentSchedule> changed = allocation.changed();
+        if (scheduleBatchWriter.applyPayments(changed) < changed.size()) {
+            throw new ConcurrentUpdateException("RepaymentSchedule", changed.get(0).getId());
+        }
+        if (reamortization != null && scheduleBatchWriter.remove(reamortization.removed()) < reamortization.removed().size()) {
+            throw new ConcurrentUpdateException("RepaymentSchedule", reamortization.removed().get(0).getId());
+        }
+
+        // 6. Record the OVERDUE_INTEREST transaction, if any, then the REPAYMENT transaction
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanTransaction> transactions = new ArrayList<>(2);
+        if (allocation.penalty().signum() > 0) {
+            transactions.add(LoanTransaction.builder()
+                    .transactionNo(idGenerator.transactionNo())
+                    .contractId(contractId)
+                    .type(TransactionType.OVERDUE_INTEREST)
+                    .amount(allocation.penalty())
+                    .balanceAfter(newBalance)
+                    .description(String.format("%s 연체이자 납부", installmentRange(allocation)))
+                    .transactedAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+        BigDecimal repaid = allocation.interest().add(allocation.principalReduction());
+        if (repaid.signum() > 0) {
+            transactions.add(LoanTransaction.builder()
+                    .transactionNo(idGenerator.transactionNo())
+                    .contractId(contractId)
+                    .type(TransactionType.REPAYMENT)
+                    .amount(repaid)
+                    .balanceAfter(newBalance)
+                    .description(repaymentDescription(allocation))
+                    .transactedAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+        transactionBatchWriter.insertAll(transactions);
+        readReplicaRouting.markWritten(contract.getCustomerId());
+        if (allocation.unapplied().signum() > 0) {
+            log.warn("Repayment exceeds the amount owed, to be returned: contractId={}, unapplied={}", contractId, allocation.unapplied());
+        }
+
+        // 7. An OVERDUE contract with no overdue installment left is back to ACTIVE
+        PortfolioDelta delta = PortfolioDelta.outstanding(newBalance.subtract(contract.getOutstandingBalance()));
+        LoanStatus status = contract.getStatus();
+        if (status == LoanStatus.OVERDUE && scheduleMapper.countOverdue(contractId) == 0) {
+            contractMapper.updateStatus(contractId, LoanStatus.ACTIVE.name());
+            statusHistoryRecorder.record("LOAN_CONTRACT", contractId, LoanStatus.OVERDUE.name(), LoanStatus.ACTIVE.name(), "SYSTEM", "연체 해소");
+            delta = delta.plus(PortfolioDelta.contractTransition(LoanStatus.OVERDUE, LoanStatus.ACTIVE));
+            status = LoanStatus.ACTIVE;
+            log.info("Loan overdue cleared: contractId={}", contractId);
+        }
+
+        // 8. If outstandingBalance == 0, transition to COMPLETED
+        if (status == LoanStatus.ACTIVE && newBalance.compareTo(BigDecimal.ZERO) == 0) {
             contractMapper.updateStatus(contractId, LoanStatus.COMPLETED.name());
-            recordStatusHistory("LOAN_CONTRACT", contractId, LoanStatus.ACTIVE.name(), LoanStatus.COMPLETED.name(), "SYSTEM", "상환 완료");
+            statusHistoryRecorder.record("LOAN_CONTRACT", contractId, LoanStatus.ACTIVE.name(), LoanStatus.COMPLETED.name(), "SYSTEM", "상환 완료");
+            delta = delta.plus(PortfolioDelta.contractTransition(LoanStatus.ACTIVE, LoanStatus.COMPLETED));
             log.info("Loan completed: contractId={}", contractId);
         }
+        snapshotService.apply(delta);
+
+        log.info("Repayment processed: contractId={}, installments={}, penalty={}, interest={}, principal={}, prepayment={}, newBalance={}",
+                contractId, installmentRange(allocation), allocation.penalty(), allocation.interest(), allocation.principal(),
+                allocation.prepayment(), newBalance);
+        // The REPAYMENT transaction when there is one; a payment that only covered penalty returns OVERDUE_INTEREST
+        return transactions.get(transactions.size() - 1);
+    }
 
-        log.info("Repayment processed: contractId={}, installmentNo={}, newBalance={}", contractId, nextSchedule.getInstallmentNo(), newBalance);
-        return transaction;
+    private static String installmentRange(RepaymentAllocation allocation) {
+        if (allocation.firstInstallmentNo() == null) {
+            return "선납";
+        }
+        if (allocation.firstInstallmentNo().equals(allocation.lastInstallmentNo())) {
+            return "제" + allocation.firstInstallmentNo() + "회차";
+        }
+        return "제" + allocation.firstInstallmentNo() + "~" + allocation.lastInstallmentNo() + "회차";
     }
 
-    @Transactional
+    private static String repaymentDescription(RepaymentAllocation allocation) {
+        StringBuilder description = new StringBuilder(String.format("%s 상환, 원금: %s, 이자: %s",
+                installmentRange(allocation), allocation.principal(), allocation.interest()));
+        if (allocation.prepayment().signum() > 0) {
+            description.append(", 선납원금: ").append(allocation.prepayment());
+        }
+        Reamortization reamortization = allocation.reamortization();
+        if (reamortization != null && reamortization.monthlyPayment() != null) {
+            description.append(", 월 상환액 재산정: ").append(reamortization.monthlyPayment());
+        }
+        if (reamortization != null && !reamortization.removed().isEmpty()) {
+            description.append(", 만기 단축: ").append(reamortization.endDate());
+        }
+        if (allocation.unapplied().signum() > 0) {
+            description.append(", 미적용(반환 대상): ").append(allocation.unapplied());
+        }
+        return description.toString();
+    }
+
+    @Timed("loan.service.duration")
+    @Transactional(propagation = Propagation.NEVER)
     public LoanTransaction earlyRepay(Long contractId) {
         log.info("Processing early repayment: contractId={}", contractId);
+        return contractLocks.execute(contractId, () -> transactionRunner.run(() -> postEarlyRepayment(contractId)));
+    }
 
+    private LoanTransaction postEarlyRepayment(Long contractId) {
         // 1. Get contract, validate ACTIVE
         LoanContract contract = contractMapper.findById(contractId);
         if (contract == null) {
@@ -110,57 +239,197 @@ public class RepaymentService {
             throw new BusinessException("활성 상태의 대출만 조기상환 가능합니다. 현재 상태: " + contract.getStatus());
         }
 
-        BigDecimal repayAmount = contract.getOutstandingBalance();
+        // 2. Installments already past due (still within the grace period) are settled in full: interest and penalty
+        List<RepaymentSchedule> overdue = scheduleMapper.findOverdueByContractIds(List.of(contractId));
+        LocalDate today = LocalDate.now();
+        OverdueSettlement overdueSettlement = settleOverdue(overdue, today);
 
-        // 2. Mark all remaining schedules as PAID (only principal portion, no future interest)
-        List<RepaymentSchedule> schedules = scheduleMapper.findByContractId(contractId);
-        for (RepaymentSchedule schedule : schedules) {
-            if (schedule.getStatus() == RepaymentStatus.SCHEDULED) {
-                scheduleMapper.updateStatus(schedule.getId(), RepaymentStatus.PAID.name(), LocalDate.now(), schedule.getPrincipalAmount());
+        // 3. Close the contract: outstanding = 0 (no additional future interest charged), EARLY_REPAID
+        if (contractMapper.payOff(contractId, contract.getVersion(), LoanStatus.EARLY_REPAID.name(),
+                contract.getTotalInterestPaid().add(overdueSettlement.interest())) == 0) {
+            throw new ConcurrentUpdateException("LoanContract", contractId);
+        }
+
+        // 4. Write the overdue installments back, then mark the rest PAID in one statement (principal only)
+        if (scheduleBatchWriter.applyPayments(overdue) < overdue.size()) {
+            throw new ConcurrentUpdateException("RepaymentSchedule", overdue.get(0).getId());
+        }
+        int settled = scheduleMapper.payOffRemaining(List.of(contractId), today);
+        log.debug("Remaining schedules settled: contractId={}, overdue={}, installments={}", contractId, overdue.size(), settled);
+
+        // 5. Record the transition
+        statusHistoryRecorder.record("LOAN_CONTRACT", contractId, LoanStatus.ACTIVE.name(), LoanStatus.EARLY_REPAID.name(), "SYSTEM", "조기상환 완료");
+        snapshotService.apply(PortfolioDelta.contractTransition(LoanStatus.ACTIVE, LoanStatus.EARLY_REPAID)
+                .plus(PortfolioDelta.outstanding(contract.getOutstandingBalance().negate())));
+
+        // 6. Record the OVERDUE_INTEREST transaction, if any, then the EARLY_REPAYMENT transaction
+        List<LoanTransaction> transactions = buildEarlyRepayment(contract, overdueSettlement, LocalDateTime.now());
+        transactionBatchWriter.insertAll(transactions);
+        readReplicaRouting.markWritten(contract.getCustomerId());
+
+        log.info("Early repayment completed: contractId={}, principal={}, overdueInterest={}, penalty={}", contractId,
+                contract.getOutstandingBalance(), overdueSettlement.interest(), overdueSettlement.penalty());
+        return transactions.get(transactions.size() - 1);
+    }
+
+    /**
+     * Pays off many contracts with set-based writes: contracts are closed with conditional JDBC batches, every
+     * remaining installment of a chunk is settled by one UPDATE, and history and transaction rows are batch
+     * inserted. Each chunk commits on its own and is re-run from a fresh read when it loses a race. Contracts that
+     * are missing, not ACTIVE or repaid concurrently are reported per item.
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public BulkOperationResponse earlyRepayAll(List<Long> contractIds) {
+        List<Long> ids = contractIds.stream().distinct().toList();
+        log.info("Processing early repayment in bulk: count={}", ids.size());
+
+        Map<Long, BulkItemResult> results = new LinkedHashMap<>();
+        int chunkSize = batchProperties.getChunkSize();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            try {
+                results.putAll(transactionRunner.run(() -> earlyRepayChunk(chunk)));
+            } catch (RuntimeException e) {
+                log.error("Bulk early repayment chunk rolled back: firstId={}, lastId={}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+                chunk.forEach(id -> results.put(id, BulkItemResult.failed(id, "일괄 조기상환 중 오류가 발생하여 처리되지 않았습니다")));
             }
         }
 
-        // 3. Update contract: outstanding = 0 (no additional future interest charged)
-        contractMapper.updateBalance(contractId, BigDecimal.ZERO, contract.getTotalInterestPaid());
+        BulkOperationResponse response = BulkOperationResponse.of(ids.stream().map(results::get).toList());
+        log.info("Bulk early repayment finished: requested={}, succeeded={}, failed={}",
+                response.getRequested(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    private Map<Long, BulkItemResult> earlyRepayChunk(List<Long> contractIds) {
+        Map<Long, BulkItemResult> results = new LinkedHashMap<>();
+        Map<Long, LoanContract> contracts = contractMapper.findByIds(contractIds).stream()
+                .collect(Collectors.toMap(LoanContract::getId, Function.identity()));
 
-        // 4. Transition to EARLY_REPAID
-        contractMapper.updateStatus(contractId, LoanStatus.EARLY_REPAID.name());
-        recordStatusHistory("LOAN_CONTRACT", contractId, LoanStatus.ACTIVE.name(), LoanStatus.EARLY_REPAID.name(), "SYSTEM", "조기상환 완료");
+        List<LoanContract> repayable = new ArrayList<>(contractIds.size());
+        for (Long contractId : contractIds) {
+            LoanContract contract = contracts.get(contractId);
+            if (contract == null) {
+                results.put(contractId, BulkItemResult.failed(contractId, new ResourceNotFoundException("LoanContract", contractId).getMessage()));
+            } else if (contract.getStatus() != LoanStatus.ACTIVE) {
+                results.put(contractId, BulkItemResult.failed(contractId, "활성 상태의 대출만 조기상환 가능합니다. 현재 상태: " + contract.getStatus()));
+            } else {
+                repayable.add(contract);
+            }
+        }
+        if (repayable.isEmpty()) {
+            return results;
+        }
+
+        // Installments past due within the grace period are settled in full, as in a single early repayment
+        LocalDate today = LocalDate.now();
+        Map<Long, List<RepaymentSchedule>> overdueByContract = scheduleMapper.findOverdueByContractIds(
+                        repayable.stream().map(LoanContract::getId).toList()).stream()
+                .collect(Collectors.groupingBy(RepaymentSchedule::getContractId));
+        Map<Long, OverdueSettlement> overdueSettlements = new HashMap<>();
+        for (LoanContract contract : repayable) {
+            OverdueSettlement overdueSettlement = settleOverdue(overdueByContract.getOrDefault(contract.getId(), List.of()), today);
+            overdueSettlements.put(contract.getId(), overdueSettlement);
+            contract.setTotalInterestPaid(contract.getTotalInterestPaid().add(overdueSettlement.interest()));
+        }
 
-        // 5. Record transaction
-        String txNo = generateTransactionNo();
-        LoanTransaction transaction = LoanTransaction.builder()
-                .transactionNo(txNo)
-                .contractId(contractId)
+        List<LoanContract> closed = contractBatchWriter.payOff(repayable, LoanStatus.EARLY_REPAID);
+        if (closed.size() < repayable.size()) {
+            Set<Long> closedIds = closed.stream().map(LoanContract::getId).collect(Collectors.toSet());
+            repayable.stream()
+                    .filter(contract -> !closedIds.contains(contract.getId()))
+                    .forEach(contract -> results.put(contract.getId(),
+                            BulkItemResult.failed(contract.getId(), "다른 요청에 의해 상태가 변경되었습니다")));
+        }
+        if (closed.isEmpty()) {
+            return results;
+        }
+
+        List<Long> closedIds = closed.stream().map(LoanContract::getId).toList();
+        List<RepaymentSchedule> overdue = closedIds.stream()
+                .flatMap(id -> overdueByContract.getOrDefault(id, List.of()).stream())
+                .toList();
+        if (scheduleBatchWriter.applyPayments(overdue) < overdue.size()) {
+            throw new ConcurrentUpdateException("RepaymentSchedule", overdue.get(0).getId());
+        }
+        int settled = scheduleMapper.payOffRemaining(closedIds, today);
+        log.debug("Remaining schedules settled: contracts={}, overdue={}, installments={}", closedIds.size(), overdue.size(), settled);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<StatusHistory> histories = new ArrayList<>(closed.size());
+        List<LoanTransaction> transactions = new ArrayList<>(closed.size());
+        BigDecimal repaid = BigDecimal.ZERO;
+        for (LoanContract contract : closed) {
+            histories.add(StatusHistoryRecorder.entry("LOAN_CONTRACT", contract.getId(), LoanStatus.ACTIVE.name(), LoanStatus.EARLY_REPAID.name(), "SYSTEM", "조기상환 완료"));
+            List<LoanTransaction> contractTransactions = buildEarlyRepayment(contract, overdueSettlements.get(contract.getId()), now);
+            transactions.addAll(contractTransactions);
+            repaid = repaid.add(contract.getOutstandingBalance());
+            results.put(contract.getId(), BulkItemResult.succeeded(contract.getId(), contract.getId(),
+                    contractTransactions.get(contractTransactions.size() - 1).getTransactionNo()));
+        }
+        statusHistoryRecorder.recordAll(histories);
+        transactionBatchWriter.insertAll(transactions);
+        readReplicaRouting.markWritten(closed.stream().map(LoanContract::getCustomerId).toList());
+        snapshotService.apply(PortfolioDelta.contractTransition(LoanStatus.ACTIVE, LoanStatus.EARLY_REPAID).times(closed.size())
+                .plus(PortfolioDelta.outstanding(repaid.negate())));
+        return results;
+    }
+
+    /**
+     * Settles the overdue installments of a payoff in place: their unpaid interest and accrued penalty are owed
+     * on top of the outstanding principal, so each is closed at its full amount.
+     */
+    private static OverdueSettlement settleOverdue(List<RepaymentSchedule> overdue, LocalDate paidDate) {
+        BigDecimal interest = BigDecimal.ZERO;
+        BigDecimal penalty = BigDecimal.ZERO;
+        for (RepaymentSchedule installment : overdue) {
+            BigDecimal penaltyDue = RepaymentAllocator.penaltyDue(installment);
+            interest = interest.add(RepaymentAllocator.interestDue(installment));
+            penalty = penalty.add(penaltyDue);
+            installment.setPaidPenalty((installment.getPaidPenalty() != null ? installment.getPaidPenalty() : BigDecimal.ZERO).add(penaltyDue));
+            installment.setPaidAmount(installment.getTotalAmount());
+            installment.setPaidDate(paidDate);
+            installment.setStatus(RepaymentStatus.PAID);
+        }
+        return new OverdueSettlement(interest, penalty);
+    }
+
+    private List<LoanTransaction> buildEarlyRepayment(LoanContract contract, OverdueSettlement overdueSettlement, LocalDateTime now) {
+        List<LoanTransaction> transactions = new ArrayList<>(2);
+        if (overdueSettlement.penalty().signum() > 0) {
+            transactions.add(LoanTransaction.builder()
+                    .transactionNo(idGenerator.transactionNo())
+                    .contractId(contract.getId())
+                    .type(TransactionType.OVERDUE_INTEREST)
+                    .amount(overdueSettlement.penalty())
+                    .balanceAfter(BigDecimal.ZERO)
+                    .description("조기상환 연체이자 납부")
+                    .transactedAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+        BigDecimal principal = contract.getOutstandingBalance();
+        StringBuilder description = new StringBuilder("조기상환: 잔액 ").append(principal).append(" 전액 상환");
+        if (overdueSettlement.interest().signum() > 0) {
+            description.append(", 연체 회차 이자: ").append(overdueSettlement.interest());
+        }
+        transactions.add(LoanTransaction.builder()
+                .transactionNo(idGenerator.transactionNo())
+                .contractId(contract.getId())
                 .type(TransactionType.EARLY_REPAYMENT)
-                .amount(repayAmount)
+                .amount(principal.add(overdueSettlement.interest()))
                 .balanceAfter(BigDecimal.ZERO)
-                .description("조기상환: 잔액 " + repayAmount + " 전액 상환")
-                .transactedAt(LocalDateTime.now())
-                .createdAt(LocalDateTime.now())
-                .build();
-        transactionMapper.insert(transaction);
-
-        log.info("Early repayment completed: contractId={}, amount={}", contractId, repayAmount);
-        return transaction;
+                .description(description.toString())
+                .transactedAt(now)
+                .createdAt(now)
+                .build());
+        return transactions;
     }
 
-    private void recordStatusHistory(String entityType, Long entityId, String fromStatus, String toStatus, String changedBy, String reason) {
-        StatusHistory history = StatusHistory.builder()
-                .entityType(entityType)
-                .entityId(entityId)
-                .fromStatus(fromStatus)
-                .toStatus(toStatus)
-                .changedBy(changedBy)
-                .reason(reason)
-                .changedAt(LocalDateTime.now())
-                .build();
-        statusHistoryMapper.insert(history);
+    /**
+     * What a payoff owes for its overdue installments beyond the outstanding principal.
+     */
+    private record OverdueSettlement(BigDecimal interest, BigDecimal penalty) {
     }
 
-    private String generateTransactionNo() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 10).toUpperCase();
-        return String.format("TXN%s%s", datePart, uuid);
-    }
 }
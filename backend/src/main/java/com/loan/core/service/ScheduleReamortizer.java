@@ -0,0 +1,76 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.ReamortizationMode;
+import com.loan.core.domain.enums.RepaymentMethod;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.loan.core.service.FixedPointRepaymentCalculator.fromMinorUnits;
+import static com.loan.core.service.FixedPointRepaymentCalculator.toMinorUnits;
+
+/**
+ * Recalculates the unpaid tail of a schedule for a new outstanding balance and reports only the difference, so a
+ * prepayment rewrites the installments whose amounts actually moved instead of deleting and re-inserting the tail.
+ * Installment numbers, ids and due dates stay; the amounts come from {@link FixedPointRepaymentCalculator}'s
+ * cursor, so one contract costs a single pass over its tail without building a second schedule.
+ * <ul>
+ *     <li>{@link ReamortizationMode#KEEP_TERM} spreads the balance over the same installments, lowering the
+ *     payment;</li>
+ *     <li>{@link ReamortizationMode#KEEP_PAYMENT} keeps the level payment of the first tail installment (its
+ *     principal part for EQUAL_PRINCIPAL) and drops the installments no longer needed. A BULLET tail has no level
+ *     payment and keeps its term, so its payment is recomputed as under KEEP_TERM.</li>
+ * </ul>
+ */
+final class ScheduleReamortizer {
+
+    private ScheduleReamortizer() {
+        // utility class
+    }
+
+    /**
+     * Recalculates {@code tail} in place.
+     *
+     * @param tail      unpaid installments in installment order, none of them partly paid
+     * @param principal the balance the tail repays; must be positive
+     */
+    static Reamortization reamortize(BigDecimal annualRate, RepaymentMethod method, List<RepaymentSchedule> tail,
+                                     BigDecimal principal, ReamortizationMode mode) {
+        if (tail.isEmpty()) {
+            throw new IllegalArgumentException("tail must not be empty");
+        }
+        long balance = toMinorUnits(principal);
+        FixedPointRepaymentCalculator.InstallmentCursor cursor = mode == ReamortizationMode.KEEP_PAYMENT && method != RepaymentMethod.BULLET
+                ? FixedPointRepaymentCalculator.amortizeKeepingPayment(balance, annualRate, tail.size(), method,
+                        toMinorUnits(levelPayment(tail.get(0), method)))
+                : FixedPointRepaymentCalculator.amortize(balance, annualRate, tail.size(), method);
+
+        List<RepaymentSchedule> updated = new ArrayList<>(cursor.termMonths());
+        int index = 0;
+        while (cursor.next()) {
+            RepaymentSchedule installment = tail.get(index++);
+            if (toMinorUnits(installment.getPrincipalAmount()) != cursor.principal()
+                    || toMinorUnits(installment.getInterestAmount()) != cursor.interest()
+                    || installment.getOutstandingBalanceAfter() == null
+                    || toMinorUnits(installment.getOutstandingBalanceAfter()) != cursor.outstandingAfter()) {
+                installment.setPrincipalAmount(fromMinorUnits(cursor.principal()));
+                installment.setInterestAmount(fromMinorUnits(cursor.interest()));
+                installment.setTotalAmount(fromMinorUnits(cursor.total()));
+                installment.setOutstandingBalanceAfter(fromMinorUnits(cursor.outstandingAfter()));
+                updated.add(installment);
+            }
+        }
+        List<RepaymentSchedule> removed = List.copyOf(tail.subList(index, tail.size()));
+        // A BULLET tail keeps its term whatever the mode, so its interest-only payment moves with the balance
+        BigDecimal monthlyPayment = mode == ReamortizationMode.KEEP_TERM || method == RepaymentMethod.BULLET
+                ? FixedPointRepaymentCalculator.calculateMonthlyPayment(principal, annualRate, tail.size(), method)
+                : null;
+        return new Reamortization(updated, removed, monthlyPayment, tail.get(index - 1).getDueDate());
+    }
+
+    private static BigDecimal levelPayment(RepaymentSchedule first, RepaymentMethod method) {
+        return method == RepaymentMethod.EQUAL_PRINCIPAL ? first.getPrincipalAmount() : first.getTotalAmount();
+    }
+}
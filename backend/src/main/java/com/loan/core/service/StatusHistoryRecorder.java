@@ -0,0 +1,293 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanAuditProperties;
+import com.loan.core.config.LoanAuditProperties.Mode;
+import com.loan.core.domain.entity.StatusHistory;
+import com.loan.core.dto.response.AuditQueueStats;
+import com.loan.core.mapper.StatusHistoryMapper;
+import com.loan.core.mapper.batch.StatusHistoryBatchWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single entry point for the status_histories audit trail. Depending on {@link LoanAuditProperties#getMode()} an
+ * entry is inserted immediately, batched into the end of the current transaction, or queued after commit for a
+ * background writer. Outside a transaction the latter two write (or queue) straight away.
+ * <p>
+ * In write-behind mode the queue is bounded: when it stays full past the offer timeout the caller writes its own
+ * entries in a separate transaction, so a slow database slows callers down instead of dropping audit rows.
+ */
+@Slf4j
+@Component
+public class StatusHistoryRecorder implements SmartLifecycle {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final int WRITE_ATTEMPTS = 3;
+
+    private final StatusHistoryMapper statusHistoryMapper;
+    private final StatusHistoryBatchWriter statusHistoryBatchWriter;
+    private final TransactionTemplate writeTemplate;
+    private final LoanAuditProperties properties;
+    private final BlockingQueue<StatusHistory> queue;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public StatusHistoryRecorder(StatusHistoryMapper statusHistoryMapper, StatusHistoryBatchWriter statusHistoryBatchWriter,
+                                 PlatformTransactionManager transactionManager, LoanAuditProperties properties) {
+        this.statusHistoryMapper = statusHistoryMapper;
+        this.statusHistoryBatchWriter = statusHistoryBatchWriter;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    public static StatusHistory entry(String entityType, Long entityId, String fromStatus, String toStatus, String changedBy, String reason) {
+        return StatusHistory.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .changedBy(changedBy)
+                .reason(reason)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void record(String entityType, Long entityId, String fromStatus, String toStatus, String changedBy, String reason) {
+        recordAll(List.of(entry(entityType, entityId, fromStatus, toStatus, changedBy, reason)));
+    }
+
+    public void recordAll(List<StatusHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        Mode mode = properties.getMode();
+        if (mode == Mode.DIRECT) {
+            insert(histories);
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentBuffer().entries.addAll(histories);
+        } else if (mode == Mode.TRANSACTIONAL) {
+            insert(histories);
+        } else {
+            enqueue(histories);
+        }
+    }
+
+    public AuditQueueStats stats() {
+        return AuditQueueStats.builder()
+                .mode(properties.getMode())
+                .depth(queue.size())
+                .capacity(properties.getQueueCapacity())
+                .highWaterMark(highWaterMark.get())
+                .enqueued(enqueued.sum())
+                .written(written.sum())
+                .callerRuns(callerRuns.sum())
+                .failed(failed.sum())
+                .build();
+    }
+
+    /**
+     * Writes whatever is queued right now on the calling thread.
+     */
+    public void flush() {
+        List<StatusHistory> batch = new ArrayList<>(properties.getBatchSize());
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (properties.getMode() != Mode.WRITE_BEHIND || running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "status-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("Status history writer stopped: {}", stats());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void insert(List<StatusHistory> histories) {
+        if (histories.size() == 1) {
+            statusHistoryMapper.insert(histories.get(0));
+        } else {
+            statusHistoryBatchWriter.insertAll(histories);
+        }
+    }
+
+    private TransactionBuffer currentBuffer() {
+        // Synchronizations are per transaction and suspended with it, so a REQUIRES_NEW inner one gets its own buffer
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionBuffer buffer && buffer.owner() == this) {
+                return buffer;
+            }
+        }
+        TransactionBuffer buffer = new TransactionBuffer();
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+        return buffer;
+    }
+
+    private void enqueue(List<StatusHistory> histories) {
+        if (!running) {
+            writeInNewTransaction(histories);
+            return;
+        }
+        List<StatusHistory> overflow = null;
+        for (StatusHistory history : histories) {
+            if (!offer(history)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(history);
+            }
+        }
+        highWaterMark.accumulateAndGet(queue.size(), Math::max);
+        if (!running) {
+            // The writer stopped while we were offering; do not leave entries behind in the queue
+            flush();
+        }
+        if (overflow != null) {
+            callerRuns.add(overflow.size());
+            log.warn("Status history queue full ({} entries), writing {} on the caller", queue.size(), overflow.size());
+            writeInNewTransaction(overflow);
+        }
+    }
+
+    private boolean offer(StatusHistory history) {
+        try {
+            if (queue.offer(history, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                enqueued.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        List<StatusHistory> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                StatusHistory first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // Whatever piled up while the previous batch was being written goes out together
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<StatusHistory> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writeTemplate.executeWithoutResult(status -> statusHistoryBatchWriter.insertAll(batch));
+                written.add(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == WRITE_ATTEMPTS) {
+                    failed.add(batch.size());
+                    log.error("Dropped {} status history entries after {} attempts: {}", batch.size(), attempt, batch, e);
+                    return;
+                }
+                log.warn("Status history batch write failed (attempt {}), retrying: {}", attempt, e.getMessage());
+                if (!pause(IDLE_POLL_MILLIS * attempt)) {
+                    failed.add(batch.size());
+                    log.error("Dropped {} status history entries after interrupt: {}", batch.size(), batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeInNewTransaction(List<StatusHistory> histories) {
+        // May run from afterCommit, where the finished transaction's connection is still bound
+        writeTemplate.executeWithoutResult(status -> insert(histories));
+        written.add(histories.size());
+    }
+
+    private class TransactionBuffer implements TransactionSynchronization {
+
+        private final List<StatusHistory> entries = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (properties.getMode() == Mode.TRANSACTIONAL && !entries.isEmpty()) {
+                insert(entries);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (properties.getMode() == Mode.WRITE_BEHIND && !entries.isEmpty()) {
+                enqueue(entries);
+            }
+        }
+
+        private StatusHistoryRecorder owner() {
+            return StatusHistoryRecorder.this;
+        }
+    }
+}
@@ -100,3 +100,83 @@ CREATE TABLE IF NOT EXISTS status_histories (
     reason TEXT,
     changed_at TIMESTAMP DEFAULT NOW()
 );
+
+-- V2 keyset pagination: (created_at, id) cursor, optionally filtered by customer.
+-- The customer_id-leading indexes also serve findByCustomerId for applications and contracts.
+CREATE INDEX IF NOT EXISTS idx_customers_created_at_id ON customers (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_loan_applications_created_at_id ON loan_applications (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_loan_applications_customer_created_at_id ON loan_applications (customer_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_loan_contracts_created_at_id ON loan_contracts (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_loan_contracts_customer_created_at_id ON loan_contracts (customer_id, created_at DESC, id DESC);
+
+-- V3 dashboard counters, split into slots so concurrent writers rarely contend on the same row
+CREATE TABLE IF NOT EXISTS portfolio_snapshot (
+    slot INT PRIMARY KEY,
+    active_loans BIGINT NOT NULL DEFAULT 0,
+    overdue_loans BIGINT NOT NULL DEFAULT 0,
+    pending_applications BIGINT NOT NULL DEFAULT 0,
+    total_outstanding NUMERIC(20, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT NOW()
+);
+
+INSERT INTO portfolio_snapshot (slot)
+SELECT s FROM generate_series(0, 15) AS s
+ON CONFLICT (slot) DO NOTHING;
+
+-- V4 foreign-key and status lookups
+CREATE INDEX IF NOT EXISTS idx_loan_applications_status_id ON loan_applications (status, id);
+CREATE INDEX IF NOT EXISTS idx_loan_contracts_application_id ON loan_contracts (application_id);
+-- Overdue sweep only ever looks at unpaid rows, which stay a small fraction of the table
+CREATE INDEX IF NOT EXISTS idx_repayment_schedules_scheduled_due_date ON repayment_schedules (due_date) WHERE status = 'SCHEDULED';
+CREATE INDEX IF NOT EXISTS idx_loan_transactions_contract_transacted_at ON loan_transactions (contract_id, transacted_at DESC);
+CREATE INDEX IF NOT EXISTS idx_status_histories_entity ON status_histories (entity_type, entity_id, changed_at);
+
+-- V5 next-installment pointer; rows that predate it start at 1 and catch up on their next repayment
+ALTER TABLE loan_contracts ADD COLUMN IF NOT EXISTS next_installment_no INT NOT NULL DEFAULT 1;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_repayment_schedules_contract_installment ON repayment_schedules (contract_id, installment_no);
+-- Superseded by the unique index; databases initialized by an earlier V4 still carry it
+DROP INDEX IF EXISTS idx_repayment_schedules_contract_installment;
+
+-- V6 business numbers are prefix + yyyyMMdd + 15 digits (26 chars)
+ALTER TABLE customers ALTER COLUMN customer_no SET DATA TYPE VARCHAR(30);
+ALTER TABLE loan_applications ALTER COLUMN application_no SET DATA TYPE VARCHAR(30);
+ALTER TABLE loan_contracts ALTER COLUMN contract_no SET DATA TYPE VARCHAR(30);
+
+-- V7 optimistic concurrency: every write to these rows bumps version, conditional writes check it
+ALTER TABLE loan_contracts ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE repayment_schedules ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- V8 overdue sweep: instances take turns on singleton jobs through a lease row, which also keeps the
+-- job's run date and resume point; overdue installments get their own index as they age towards default
+CREATE TABLE IF NOT EXISTS job_leases (
+    job_name VARCHAR(50) PRIMARY KEY,
+    owner VARCHAR(100),
+    lease_expires_at TIMESTAMP,
+    run_date DATE,
+    watermark BIGINT NOT NULL DEFAULT 0,
+    completed_at TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT NOW()
+);
+CREATE INDEX IF NOT EXISTS idx_repayment_schedules_overdue_contract ON repayment_schedules (contract_id, due_date) WHERE status = 'OVERDUE';
+
+-- V9 penalty interest: overdue installments accrue it daily on their unpaid amount. penalty_accrued_to is the
+-- date accrual has reached, so a re-run on the same day adds nothing
+ALTER TABLE repayment_schedules ADD COLUMN IF NOT EXISTS accrued_penalty NUMERIC(15, 2) NOT NULL DEFAULT 0;
+ALTER TABLE repayment_schedules ADD COLUMN IF NOT EXISTS paid_penalty NUMERIC(15, 2) NOT NULL DEFAULT 0;
+ALTER TABLE repayment_schedules ADD COLUMN IF NOT EXISTS penalty_accrued_to DATE;
+
+-- V10 variable rates: a contract linked to a rate index pays the index rate plus its own spread. rate_indexes
+-- keeps every published rate; rate_effective_date is the index date a contract was last repriced to, so a
+-- repricing run skips contracts already on the current rate and an interrupted run resumes by itself
+CREATE TABLE IF NOT EXISTS rate_indexes (
+    id BIGSERIAL PRIMARY KEY,
+    index_code VARCHAR(20) NOT NULL,
+    effective_date DATE NOT NULL,
+    rate NUMERIC(5, 2) NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW(),
+    UNIQUE (index_code, effective_date)
+);
+ALTER TABLE loan_contracts ADD COLUMN IF NOT EXISTS rate_index_code VARCHAR(20);
+ALTER TABLE loan_contracts ADD COLUMN IF NOT EXISTS rate_spread NUMERIC(5, 2);
+ALTER TABLE loan_contracts ADD COLUMN IF NOT EXISTS rate_effective_date DATE;
+CREATE INDEX IF NOT EXISTS idx_loan_contracts_rate_index ON loan_contracts (rate_index_code, id) WHERE rate_index_code IS NOT NULL;
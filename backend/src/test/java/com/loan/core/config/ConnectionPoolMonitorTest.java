@@ -0,0 +1,41 @@
+package com.loan.core.config;
+
+import com.loan.core.dto.response.ConnectionPoolStats;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolMonitorTest {
+
+    @Test
+    @DisplayName("풀 사용 현황과 문장 캐시 설정을 보고하고 비밀번호 등 다른 드라이버 설정은 노출하지 않음")
+    void reportsPoolUsageAndStatementSettings() throws Exception {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setPoolName("primary");
+            dataSource.setJdbcUrl("jdbc:h2:mem:pool_monitor;DB_CLOSE_DELAY=-1");
+            dataSource.setUsername("sa");
+            dataSource.setMaximumPoolSize(3);
+            dataSource.setMinimumIdle(1);
+            dataSource.addDataSourceProperty("prepareThreshold", "3");
+            dataSource.addDataSourceProperty("password", "secret");
+
+            ConnectionPoolStats before = ConnectionPoolMonitor.stats(dataSource);
+            assertFalse(before.isStarted());
+            assertEquals(3, before.getMaximumPoolSize());
+
+            try (Connection connection = dataSource.getConnection()) {
+                ConnectionPoolStats stats = ConnectionPoolMonitor.stats(dataSource);
+                assertTrue(stats.isStarted());
+                assertEquals("primary", stats.getPoolName());
+                assertEquals(1, stats.getActive());
+                assertEquals(0, stats.getThreadsAwaitingConnection());
+                assertEquals(Map.of("prepareThreshold", "3"), stats.getStatementSettings());
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.loan.core.config;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsConfigTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("@Timed 메서드는 클래스, 메서드, 예외 태그로 기록하고 트랜잭션보다 바깥에서 측정")
+    void timesAnnotatedMethods() {
+        Advisor advisor = MetricsConfig.timedAdvisor(
+                new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class));
+        SampleService service = proxy(new SampleService(), advisor);
+
+        service.succeed();
+        service.succeed();
+        assertThrows(IllegalStateException.class, service::fail);
+        service.untimed();
+
+        assertEquals(2, registry.get("loan.service.duration")
+                .tags("method", "succeed", "exception", "none").timer().count());
+        assertEquals(1, registry.get("loan.service.duration")
+                .tags("method", "fail", "exception", "IllegalStateException").timer().count());
+        assertNull(registry.find("loan.service.duration").tag("method", "untimed").timer());
+        assertEquals(Ordered.HIGHEST_PRECEDENCE, ((Ordered) advisor).getOrder());
+    }
+
+    private SampleService proxy(SampleService target, Advisor advisor) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(advisor);
+        return (SampleService) factory.getProxy();
+    }
+
+    static class SampleService {
+
+        @Timed("loan.service.duration")
+        public String succeed() {
+            return "ok";
+        }
+
+        @Timed("loan.service.duration")
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        public void untimed() {
+        }
+    }
+}
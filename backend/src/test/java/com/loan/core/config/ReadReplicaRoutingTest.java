@@ -0,0 +1,199 @@
+package com.loan.core.config;
+
+import com.loan.core.dto.response.ReadRoutingStats;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; each holds one row naming itself, so a
+ * query shows which one served it.
+ */
+class ReadReplicaRoutingTest {
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+    private final ReadReplicaConfig config = new ReadReplicaConfig();
+
+    private HikariDataSource primary;
+    private HikariDataSource replicaPool;
+    private ToggleDataSource replica;
+    private ReadReplicaRouting routing;
+    private ReadReplicaDataSource readReplica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        LoanReplicaProperties properties = new LoanReplicaProperties();
+        properties.setEnabled(true);
+        properties.setUrl(database("replica"));
+        properties.setUsername("sa");
+        properties.setPassword("");
+        properties.setMaximumPoolSize(2);
+        properties.setReadYourWritesWindow(Duration.ofSeconds(5));
+
+        primary = new HikariDataSource();
+        primary.setJdbcUrl(database("primary"));
+        primary.setUsername("sa");
+        primary.setMaximumPoolSize(2);
+        replicaPool = config.replicaDataSource(properties);
+        seed(primary, "primary");
+        seed(replicaPool, "replica");
+
+        replica = new ToggleDataSource(replicaPool);
+        routing = new ReadReplicaRouting(properties, new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now.get());
+            }
+        });
+        readReplica = new ReadReplicaDataSource(primary, replica, routing, properties.getHealthCheckInterval());
+        DataSource dataSource = config.dataSource(primary, readReplica);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replicaPool.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 그 외는 주 DB에서 실행")
+    void routesReadOnlyTransactionsToReplica() {
+        assertEquals("replica", readTx.execute(status -> source()));
+        assertEquals("primary", writeTx.execute(status -> source()));
+        assertEquals("primary", source());
+
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET source = 'primary-updated'"));
+        assertEquals("primary-updated", writeTx.execute(status -> source()));
+        assertEquals("replica", readTx.execute(status -> source()));
+        assertEquals(2, routing.stats().getReplicaReads());
+    }
+
+    @Test
+    @DisplayName("최근에 변경된 고객의 조회는 정해진 시간 동안 주 DB에서 실행")
+    void pinsRecentlyWrittenCustomerToPrimary() {
+        writeTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE marker SET source = 'primary'");
+            routing.markWritten(7L);
+        });
+
+        assertEquals("primary", readTx.execute(status -> {
+            routing.readingCustomer(7L);
+            return source();
+        }));
+        assertEquals("replica", readTx.execute(status -> {
+            routing.readingCustomer(8L);
+            return source();
+        }));
+        // The pin belongs to the transaction that asked for it
+        assertEquals("replica", readTx.execute(status -> source()));
+
+        now.addAndGet(Duration.ofSeconds(5).toMillis());
+        assertEquals("replica", readTx.execute(status -> {
+            routing.readingCustomer(7L);
+            return source();
+        }));
+
+        ReadRoutingStats stats = routing.stats();
+        assertEquals(1, stats.getPinnedReads());
+        assertEquals(3, stats.getReplicaReads());
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 주 DB로 대체하고 점검이 성공하면 복귀")
+    void fallsBackToPrimaryWhileReplicaIsDown() {
+        replica.down = true;
+
+        assertEquals("primary", readTx.execute(status -> source()));
+        assertEquals("primary", readTx.execute(status -> source()));
+        assertEquals(1, replica.attempts.get(), "an unhealthy replica is not tried on every read");
+        assertFalse(routing.stats().isReplicaHealthy());
+
+        readReplica.probe();
+        assertFalse(routing.stats().isReplicaHealthy());
+
+        replica.down = false;
+        readReplica.probe();
+        assertTrue(routing.stats().isReplicaHealthy());
+        assertEquals("replica", readTx.execute(status -> source()));
+
+        ReadRoutingStats stats = routing.stats();
+        assertEquals(2, stats.getFallbackReads());
+        assertEquals(2, stats.getReplicaFailures());
+    }
+
+    private String source() {
+        return jdbcTemplate.queryForObject("SELECT source FROM marker", String.class);
+    }
+
+    private static String database(String name) {
+        return "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static void seed(HikariDataSource dataSource, String source) {
+        try (Connection connection = dataSource.getConnection()) {
+            // The replica pool hands out read-only connections; seeding stands in for replication
+            connection.setReadOnly(false);
+            connection.createStatement().execute("CREATE TABLE marker (source VARCHAR(20))");
+            connection.createStatement().execute("INSERT INTO marker VALUES ('" + source + "')");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ToggleDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile boolean down;
+
+        private ToggleDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                attempts.incrementAndGet();
+                throw new SQLException("replica unreachable");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.enums.EmploymentType;
 import com.loan.core.dto.request.CustomerCreateRequest;
+import com.loan.core.dto.request.CustomerUpdateRequest;
+import com.loan.core.dto.response.CursorPage;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.service.CustomerService;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +19,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -59,6 +63,32 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.data.customerNo").value("CUS202601010001"));
     }
 
+    @Test
+    @DisplayName("PUT /api/v1/customers/{id} - 정상 수정")
+    void updateCustomerSuccess() throws Exception {
+        Customer customer = Customer.builder()
+                .id(1L).customerNo("CUS202601010001").name("홍길동")
+                .email("new@test.com").phone("010-9999-9999")
+                .annualIncome(new BigDecimal("80000000"))
+                .employmentType(EmploymentType.SELF_EMPLOYED)
+                .birthDate(LocalDate.of(1990, 1, 15))
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+        when(customerService.updateCustomer(eq(1L), any())).thenReturn(customer);
+
+        CustomerUpdateRequest request = CustomerUpdateRequest.builder()
+                .name("홍길동").email("new@test.com").phone("010-9999-9999")
+                .annualIncome(new BigDecimal("80000000")).employmentType("SELF_EMPLOYED")
+                .build();
+
+        mockMvc.perform(put("/api/v1/customers/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.email").value("new@test.com"));
+    }
+
     @Test
     @DisplayName("POST /api/v1/customers - 이름 누락 시 400")
     void createCustomerNameMissing() throws Exception {
@@ -99,4 +129,19 @@ class CustomerControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.success").value(false));
     }
+    @Test
+    @DisplayName("GET /api/v1/customers - 페이지와 다음 커서 반환")
+    void getCustomerPage() throws Exception {
+        Customer customer = Customer.builder()
+                .id(1L).customerNo("CUS202601010001").name("홍길동")
+                .employmentType(EmploymentType.REGULAR)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+        when(customerService.getCustomerPage("abc", 1)).thenReturn(new CursorPage<>(List.of(customer), "next"));
+
+        mockMvc.perform(get("/api/v1/customers").param("cursor", "abc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("홍길동"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
 }
@@ -5,7 +5,9 @@ import com.loan.core.domain.entity.CreditAssessment;
 import com.loan.core.domain.entity.LoanApplication;
 import com.loan.core.domain.enums.*;
 import com.loan.core.dto.request.LoanApplicationCreateRequest;
+import com.loan.core.dto.response.BatchAssessmentReport;
 import com.loan.core.mapper.StatusHistoryMapper;
+import com.loan.core.service.BatchAssessmentService;
 import com.loan.core.service.CreditAssessmentService;
 import com.loan.core.service.LoanApplicationService;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +32,7 @@ class LoanApplicationControllerTest {
     @Autowired private MockMvc mockMvc;
     @MockitoBean private LoanApplicationService applicationService;
     @MockitoBean private CreditAssessmentService assessmentService;
+    @MockitoBean private BatchAssessmentService batchAssessmentService;
     @MockitoBean private StatusHistoryMapper statusHistoryMapper;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -99,6 +102,22 @@ class LoanApplicationControllerTest {
                 .andExpect(jsonPath("$.data.creditScore").value(850));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/loans/applications/assess/batch - 일괄 심사 결과 반환")
+    void assessPendingApplications() throws Exception {
+        BatchAssessmentReport report = BatchAssessmentReport.builder()
+                .status(BatchAssessmentReport.Status.COMPLETED)
+                .chunks(1).scanned(3).approved(2).rejected(1)
+                .build();
+        when(batchAssessmentService.assessPending()).thenReturn(report);
+
+        mockMvc.perform(post("/api/v1/loans/applications/assess/batch"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.approved").value(2))
+                .andExpect(jsonPath("$.data.rejected").value(1));
+    }
+
     @Test
     @DisplayName("GET /api/v1/loans/applications/{id} - 조회 성공")
     void getApplicationSuccess() throws Exception {
@@ -0,0 +1,59 @@
+package com.loan.core.controller;
+
+import com.loan.core.domain.entity.LoanTransaction;
+import com.loan.core.domain.enums.ReamortizationMode;
+import com.loan.core.domain.enums.TransactionType;
+import com.loan.core.service.RepaymentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(RepaymentController.class)
+class RepaymentControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @MockitoBean private RepaymentService repaymentService;
+
+    @Test
+    @DisplayName("POST /api/v1/loans/contracts/{id}/repay - 재산정 방식 생략 시 납입액 유지")
+    void repayDefaultsToKeepPayment() throws Exception {
+        LoanTransaction transaction = LoanTransaction.builder()
+                .id(1L).transactionNo("TXN202601010001").contractId(1L)
+                .type(TransactionType.REPAYMENT).amount(new BigDecimal("856075.50"))
+                .balanceAfter(new BigDecimal("9185592")).transactedAt(LocalDateTime.now())
+                .build();
+        when(repaymentService.repay(eq(1L), any(), eq(ReamortizationMode.KEEP_PAYMENT))).thenReturn(transaction);
+
+        mockMvc.perform(post("/api/v1/loans/contracts/1/repay")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 856075.50}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.amount").value(856075.50));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/loans/contracts/{id}/repay - 소수점 셋째 자리 금액은 400")
+    void repayWithThreeDecimalsRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/loans/contracts/1/repay")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 856075.505}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verifyNoInteractions(repaymentService);
+    }
+}
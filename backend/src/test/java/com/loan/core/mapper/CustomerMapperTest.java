@@ -3,6 +3,7 @@ package com.loan.core.mapper;
 import com.loan.core.config.TestDataSourceConfig;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.enums.EmploymentType;
+import com.loan.core.dto.request.PageCursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
@@ -13,6 +14,8 @@ import org.springframework.test.context.jdbc.Sql;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -83,4 +86,43 @@ class CustomerMapperTest {
 
         assertEquals(2, all.size());
     }
+
+    @Test
+    @DisplayName("findByIds 다건 조회")
+    void findByIds() {
+        Customer first = createTestCustomer("CUS202601010006");
+        Customer second = createTestCustomer("CUS202601010007");
+        customerMapper.insert(first);
+        customerMapper.insert(second);
+        customerMapper.insert(createTestCustomer("CUS202601010008"));
+
+        List<Customer> found = customerMapper.findByIds(List.of(first.getId(), second.getId(), 999L));
+
+        assertEquals(2, found.size());
+    }
+    @Test
+    @DisplayName("findPage - 생성일시가 같아도 커서로 중복/누락 없이 순회")
+    void findPageWalksTiesWithoutGaps() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < 5; i++) {
+            Customer customer = createTestCustomer("CUS20260101010" + i);
+            customer.setCreatedAt(createdAt);
+            customerMapper.insert(customer);
+        }
+
+        List<Long> seen = new ArrayList<>();
+        PageCursor cursor = null;
+        while (true) {
+            List<Customer> page = customerMapper.findPage(cursor, 2);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(c -> seen.add(c.getId()));
+            Customer last = page.get(page.size() - 1);
+            cursor = new PageCursor(last.getCreatedAt(), last.getId());
+        }
+
+        assertEquals(5, seen.size());
+        assertEquals(seen.stream().sorted(Comparator.reverseOrder()).toList(), seen);
+    }
 }
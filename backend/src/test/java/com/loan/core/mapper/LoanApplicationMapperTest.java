@@ -6,6 +6,7 @@ import com.loan.core.domain.entity.LoanApplication;
 import com.loan.core.domain.enums.EmploymentType;
 import com.loan.core.domain.enums.LoanStatus;
 import com.loan.core.domain.enums.RepaymentMethod;
+import com.loan.core.dto.request.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -117,4 +118,41 @@ class LoanApplicationMapperTest {
 
         assertFalse(all.isEmpty());
     }
+
+    @Test
+    @DisplayName("findByStatusAfterId - 상태별 ID 순 키셋 조회")
+    void findByStatusAfterId() {
+        for (int i = 7; i <= 9; i++) {
+            LoanApplication app = createApp("APP20260101000" + i);
+            app.setStatus(LoanStatus.APPLIED);
+            applicationMapper.insert(app);
+        }
+        applicationMapper.insert(createApp("APP202601010010"));
+
+        List<LoanApplication> first = applicationMapper.findByStatusAfterId(LoanStatus.APPLIED.name(), 0L, 2);
+        List<LoanApplication> rest = applicationMapper.findByStatusAfterId(
+                LoanStatus.APPLIED.name(), first.get(1).getId(), 2);
+
+        assertEquals(2, first.size());
+        assertTrue(first.get(0).getId() < first.get(1).getId());
+        assertEquals(1, rest.size());
+        assertEquals("APP202601010009", rest.get(0).getApplicationNo());
+    }
+    @Test
+    @DisplayName("findPage - 고객 필터 + 커서 이후 페이지, 고객 JOIN 포함")
+    void findPageWithCustomerFilter() {
+        for (int i = 11; i <= 13; i++) {
+            applicationMapper.insert(createApp("APP2026010100" + i));
+        }
+
+        List<LoanApplication> first = applicationMapper.findPage(customerId, null, 2);
+        LoanApplication last = first.get(1);
+        List<LoanApplication> second = applicationMapper.findPage(
+                customerId, new PageCursor(last.getCreatedAt(), last.getId()), 2);
+
+        assertEquals(2, first.size());
+        assertEquals("테스트고객", first.get(0).getCustomer().getName());
+        assertEquals(1, second.size());
+        assertTrue(applicationMapper.findPage(customerId + 1, null, 2).isEmpty());
+    }
 }
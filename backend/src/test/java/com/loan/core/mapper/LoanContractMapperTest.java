@@ -4,6 +4,7 @@ import com.loan.core.config.TestDataSourceConfig;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.entity.LoanApplication;
 import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.StatusCount;
 import com.loan.core.domain.enums.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.springframework.test.context.jdbc.Sql;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -117,15 +119,21 @@ class LoanContractMapperTest {
     }
 
     @Test
-    @DisplayName("updateBalance로 잔액 및 이자 변경")
-    void updateBalance() {
-        LoanContract contract = createContract("CNT202601010004");
-        contractMapper.insert(contract);
-
-        contractMapper.updateBalance(contract.getId(), new BigDecimal("9200000"), new BigDecimal("41667"));
-
-        LoanContract found = contractMapper.findById(contract.getId());
-        assertEquals(0, found.getOutstandingBalance().compareTo(new BigDecimal("9200000")));
-        assertEquals(0, found.getTotalInterestPaid().compareTo(new BigDecimal("41667")));
+    @DisplayName("countGroupByStatus - 상태별 건수와 잔액 합계, 고객 필터")
+    void countGroupByStatus() {
+        contractMapper.insert(createContract("CNT202601010005"));
+        contractMapper.insert(createContract("CNT202601010006"));
+        LoanContract completed = createContract("CNT202601010007");
+        completed.setStatus(LoanStatus.COMPLETED);
+        completed.setOutstandingBalance(BigDecimal.ZERO);
+        contractMapper.insert(completed);
+
+        List<StatusCount> counts = contractMapper.countGroupByStatus(customerId);
+
+        StatusCount active = counts.stream().filter(c -> c.getStatus() == LoanStatus.ACTIVE).findFirst().orElseThrow();
+        assertEquals(2, counts.size());
+        assertEquals(2, active.getCount());
+        assertEquals(0, active.getTotalAmount().compareTo(new BigDecimal("20000000")));
+        assertTrue(contractMapper.countGroupByStatus(customerId + 1).isEmpty());
     }
 }
@@ -0,0 +1,91 @@
+package com.loan.core.mapper;
+
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.entity.PortfolioSnapshot;
+import com.loan.core.domain.enums.EmploymentType;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.domain.enums.RepaymentMethod;
+import com.loan.core.dto.response.PortfolioReconciliationReport;
+import com.loan.core.service.PortfolioDelta;
+import com.loan.core.service.PortfolioSnapshotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MybatisTest
+@Import({TestDataSourceConfig.class, PortfolioSnapshotService.class})
+@Sql("classpath:schema-h2.sql")
+class PortfolioSnapshotMapperTest {
+
+    @Autowired private PortfolioSnapshotService snapshotService;
+    @Autowired private PortfolioSnapshotMapper snapshotMapper;
+    @Autowired private LoanApplicationMapper applicationMapper;
+    @Autowired private CustomerMapper customerMapper;
+
+    @Test
+    @DisplayName("스키마가 16개 슬롯을 0으로 초기화")
+    void slotsStartAtZero() {
+        PortfolioSnapshot snapshot = snapshotMapper.sum();
+
+        assertEquals(16, snapshotMapper.lockSlots().size());
+        assertEquals(0, snapshot.getActiveLoans());
+        assertEquals(0, snapshot.getTotalOutstanding().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("증분 반영 후 합계 조회")
+    void applyAccumulatesDeltas() {
+        snapshotService.apply(PortfolioDelta.contractTransition(null, LoanStatus.ACTIVE)
+                .plus(PortfolioDelta.outstanding(new BigDecimal("10000000"))));
+        snapshotService.apply(PortfolioDelta.contractTransition(LoanStatus.ACTIVE, LoanStatus.OVERDUE));
+
+        PortfolioSnapshot snapshot = snapshotService.getSnapshot();
+
+        assertEquals(0, snapshot.getActiveLoans());
+        assertEquals(1, snapshot.getOverdueLoans());
+        assertEquals(0, snapshot.getTotalOutstanding().compareTo(new BigDecimal("10000000")));
+    }
+
+    @Test
+    @DisplayName("재계산 시 원본 테이블 기준으로 보정하고 차이를 보고")
+    void reconcileCorrectsDrift() {
+        Customer customer = Customer.builder()
+                .customerNo("CUS202601010001").name("테스트고객")
+                .annualIncome(new BigDecimal("50000000")).employmentType(EmploymentType.REGULAR)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+        customerMapper.insert(customer);
+        for (int i = 1; i <= 2; i++) {
+            applicationMapper.insert(LoanApplication.builder()
+                    .applicationNo("APP20260101000" + i).customerId(customer.getId())
+                    .requestedAmount(new BigDecimal("10000000")).requestedTermMonths(12)
+                    .repaymentMethod(RepaymentMethod.BULLET).existingLoanAmount(BigDecimal.ZERO)
+                    .status(LoanStatus.APPLIED)
+                    .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        snapshotService.apply(PortfolioDelta.contractTransition(null, LoanStatus.ACTIVE));
+
+        PortfolioReconciliationReport report = snapshotService.reconcile();
+
+        assertTrue(report.isDrifted());
+        assertEquals(-1, report.getDrift().getActiveLoans());
+        assertEquals(2, report.getDrift().getPendingApplications());
+        PortfolioSnapshot after = snapshotService.getSnapshot();
+        assertEquals(0, after.getActiveLoans());
+        assertEquals(2, after.getPendingApplications());
+        assertFalse(snapshotService.reconcile().isDrifted());
+    }
+}
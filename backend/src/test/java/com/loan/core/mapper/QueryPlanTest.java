@@ -0,0 +1,73 @@
+package com.loan.core.mapper;
+
+import com.loan.core.config.TestDataSourceConfig;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on the SQL MyBatis actually generates so that a mapper or schema change cannot silently fall
+ * back to a table scan. H2 indexes foreign-key columns on its own, so the FK lookups pass here either way;
+ * the explicit indexes in schema.sql are what keep them off a sequential scan on Postgres.
+ */
+@MybatisTest
+@Import(TestDataSourceConfig.class)
+@Sql("classpath:schema-h2.sql")
+class QueryPlanTest {
+
+    @Autowired private SqlSessionFactory sqlSessionFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> statements() {
+        return Stream.of(
+                Arguments.of("LoanApplicationMapper.findByCustomerId", Map.of("customerId", 1L)),
+                Arguments.of("LoanApplicationMapper.findByStatusAfterId",
+                        Map.of("status", "APPLIED", "afterId", 0L, "limit", 500)),
+                Arguments.of("LoanContractMapper.findByCustomerId", Map.of("customerId", 1L)),
+                Arguments.of("LoanContractMapper.findRepricingCandidates", Map.of("indexCode", "COFIX",
+                        "effectiveDate", LocalDate.of(2026, 1, 1), "afterId", 0L, "limit", 500)),
+                Arguments.of("RateIndexMapper.findCurrent", Map.of("indexCode", "COFIX", "asOf", LocalDate.of(2026, 1, 1))),
+                Arguments.of("RepaymentScheduleMapper.findByContractId", Map.of("contractId", 1L)),
+                Arguments.of("RepaymentScheduleMapper.findUnpaid", Map.of("contractId", 1L, "fromInstallmentNo", 1)),
+                Arguments.of("RepaymentScheduleMapper.findOverdueSchedules", Map.of("date", LocalDate.of(2026, 1, 1), "limit", 500)),
+                Arguments.of("RepaymentScheduleMapper.countOverdue", Map.of("contractId", 1L)),
+                Arguments.of("RepaymentScheduleMapper.findDelinquentContracts", Map.of("afterId", 0L, "limit", 500)),
+                Arguments.of("RepaymentScheduleMapper.findOverdueByContractIds", Map.of("contractIds", List.of(1L, 2L))),
+                Arguments.of("RepaymentScheduleMapper.findScheduledByContractIds",
+                        Map.of("contractIds", List.of(1L, 2L), "dueAfter", LocalDate.of(2026, 1, 1))),
+                Arguments.of("LoanTransactionMapper.findByContractId", Map.of("contractId", 1L)),
+                Arguments.of("StatusHistoryMapper.findByEntity", Map.of("entityType", "LOAN_CONTRACT", "entityId", 1L)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("statements")
+    @DisplayName("조회 쿼리는 인덱스를 사용")
+    void statementUsesIndex(String statement, Map<String, Object> params) {
+        BoundSql boundSql = sqlSessionFactory.getConfiguration()
+                .getMappedStatement("com.loan.core.mapper." + statement)
+                .getBoundSql(params);
+        Object[] args = boundSql.getParameterMappings().stream()
+                .map(mapping -> params.get(mapping.getProperty()))
+                .toArray();
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + boundSql.getSql(), String.class, args);
+
+        assertNotNull(plan);
+        assertFalse(plan.contains(".tableScan"), () -> statement + " scans a table:\n" + plan);
+    }
+}
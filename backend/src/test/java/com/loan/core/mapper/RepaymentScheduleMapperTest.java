@@ -1,16 +1,19 @@
 package com.loan.core.mapper;
 
+import com.loan.core.config.LoanBatchProperties;
 import com.loan.core.config.TestDataSourceConfig;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.entity.LoanApplication;
 import com.loan.core.domain.entity.LoanContract;
 import com.loan.core.domain.entity.RepaymentSchedule;
 import com.loan.core.domain.enums.*;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -22,11 +25,13 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 @MybatisTest
-@Import(TestDataSourceConfig.class)
+@Import({TestDataSourceConfig.class, RepaymentScheduleBatchWriter.class})
+@EnableConfigurationProperties(LoanBatchProperties.class)
 @Sql("classpath:schema-h2.sql")
 class RepaymentScheduleMapperTest {
 
     @Autowired private RepaymentScheduleMapper scheduleMapper;
+    @Autowired private RepaymentScheduleBatchWriter scheduleWriter;
     @Autowired private LoanContractMapper contractMapper;
     @Autowired private LoanApplicationMapper applicationMapper;
     @Autowired private CustomerMapper customerMapper;
@@ -109,20 +114,10 @@ class RepaymentScheduleMapperTest {
         );
     }
 
-    @Test
-    @DisplayName("insertBatch로 일괄 삽입")
-    void insertBatch() {
-        List<RepaymentSchedule> schedules = createSchedules();
-        scheduleMapper.insertBatch(schedules);
-
-        List<RepaymentSchedule> found = scheduleMapper.findByContractId(contractId);
-        assertEquals(2, found.size());
-    }
-
     @Test
     @DisplayName("findByContractId - 회차순 정렬")
     void findByContractIdOrderedByInstallment() {
-        scheduleMapper.insertBatch(createSchedules());
+        scheduleWriter.write(createSchedules().iterator());
 
         List<RepaymentSchedule> found = scheduleMapper.findByContractId(contractId);
 
@@ -131,17 +126,57 @@ class RepaymentScheduleMapperTest {
     }
 
     @Test
-    @DisplayName("updateStatus - PAID 처리")
-    void updateStatusToPaid() {
-        scheduleMapper.insertBatch(createSchedules());
-        List<RepaymentSchedule> schedules = scheduleMapper.findByContractId(contractId);
-        Long firstId = schedules.get(0).getId();
+    @DisplayName("applyRepayment - 읽은 버전이 바뀌었으면 반영되지 않음")
+    void applyRepaymentIsGuardedByVersion() {
+        assertEquals(1, contractMapper.applyRepayment(contractId, 0L, 1, new BigDecimal("9000000"), new BigDecimal("40000")));
+        assertEquals(0, contractMapper.applyRepayment(contractId, 0L, 1, new BigDecimal("8000000"), new BigDecimal("80000")));
+
+        LoanContract contract = contractMapper.findById(contractId);
+        assertEquals(2, contract.getNextInstallmentNo());
+        assertEquals(1L, contract.getVersion());
+        assertEquals(0, contract.getOutstandingBalance().compareTo(new BigDecimal("9000000")));
+    }
 
-        scheduleMapper.updateStatus(firstId, RepaymentStatus.PAID.name(), LocalDate.now(), new BigDecimal("856075"));
+    @Test
+    @DisplayName("payOffRemaining - 남은 SCHEDULED 회차를 원금으로 한 번에 PAID 처리")
+    void payOffRemainingSettlesScheduledRowsAtPrincipal() {
+        scheduleWriter.write(createSchedules().iterator());
+        RepaymentSchedule first = scheduleMapper.findByContractId(contractId).get(0);
+        first.setStatus(RepaymentStatus.PAID);
+        first.setPaidDate(LocalDate.now());
+        first.setPaidAmount(new BigDecimal("856075"));
+        assertEquals(1, scheduleWriter.applyPayments(List.of(first)));
+
+        int settled = scheduleMapper.payOffRemaining(List.of(contractId), LocalDate.now());
+
+        assertEquals(1, settled);
+        RepaymentSchedule second = scheduleMapper.findByContractId(contractId).get(1);
+        assertEquals(RepaymentStatus.PAID, second.getStatus());
+        assertEquals(0, second.getPaidAmount().compareTo(new BigDecimal("817802")));
+        assertEquals(0, scheduleMapper.findByContractId(contractId).get(0).getPaidAmount().compareTo(new BigDecimal("856075")));
+    }
 
-        RepaymentSchedule found = scheduleMapper.findById(firstId);
-        assertEquals(RepaymentStatus.PAID, found.getStatus());
-        assertNotNull(found.getPaidDate());
+    @Test
+    @DisplayName("payOffRemaining - 일부 상환된 회차는 이미 받은 금액에 남은 원금만 더함")
+    void payOffRemainingKeepsPartialPayments() {
+        scheduleWriter.write(createSchedules().iterator());
+        List<RepaymentSchedule> schedules = scheduleMapper.findByContractId(contractId);
+        // Installment 1 received its interest and 100,000 of principal, installment 2 part of its interest
+        RepaymentSchedule first = schedules.get(0);
+        first.setPaidAmount(new BigDecimal("141667"));
+        first.setPaidDate(LocalDate.now());
+        RepaymentSchedule second = schedules.get(1);
+        second.setPaidAmount(new BigDecimal("20000"));
+        second.setPaidDate(LocalDate.now());
+        assertEquals(2, scheduleWriter.applyPayments(schedules));
+
+        int settled = scheduleMapper.payOffRemaining(List.of(contractId), LocalDate.now());
+
+        assertEquals(2, settled);
+        List<RepaymentSchedule> found = scheduleMapper.findByContractId(contractId);
+        assertTrue(found.stream().allMatch(s -> s.getStatus() == RepaymentStatus.PAID));
+        assertEquals(0, found.get(0).getPaidAmount().compareTo(new BigDecimal("856075")));
+        assertEquals(0, found.get(1).getPaidAmount().compareTo(new BigDecimal("837802")));
     }
 
     @Test
@@ -0,0 +1,152 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.enums.EmploymentType;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.domain.enums.RepaymentMethod;
+import com.loan.core.mapper.CustomerMapper;
+import com.loan.core.mapper.LoanApplicationMapper;
+import com.loan.core.mapper.LoanContractMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MybatisTest
+@Import({TestDataSourceConfig.class, LoanContractBatchWriter.class, LoanApplicationBatchWriter.class})
+@EnableConfigurationProperties(LoanBatchProperties.class)
+@Sql("classpath:schema-h2.sql")
+class LoanContractBatchWriterTest {
+
+    @Autowired private LoanContractBatchWriter contractBatchWriter;
+    @Autowired private LoanApplicationBatchWriter applicationBatchWriter;
+    @Autowired private LoanContractMapper contractMapper;
+    @Autowired private LoanApplicationMapper applicationMapper;
+    @Autowired private CustomerMapper customerMapper;
+    @Autowired private LoanBatchProperties batchProperties;
+
+    private Long customerId;
+    private final List<LoanApplication> applications = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = Customer.builder()
+                .customerNo("CUS202601010001")
+                .name("테스트고객")
+                .email("test@test.com")
+                .phone("010-1234-5678")
+                .annualIncome(new BigDecimal("50000000"))
+                .employmentType(EmploymentType.REGULAR)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        customerMapper.insert(customer);
+        customerId = customer.getId();
+
+        for (int i = 1; i <= 5; i++) {
+            LoanApplication app = LoanApplication.builder()
+                    .applicationNo("APP20260101000" + i)
+                    .customerId(customerId)
+                    .requestedAmount(new BigDecimal("10000000"))
+                    .requestedTermMonths(12)
+                    .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                    .existingLoanAmount(BigDecimal.ZERO)
+                    .status(i == 5 ? LoanStatus.REJECTED : LoanStatus.APPROVED)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            applicationMapper.insert(app);
+            applications.add(app);
+        }
+    }
+
+    @Test
+    @DisplayName("계약 일괄 등록 시 청크 경계를 넘어도 생성된 ID가 각 계약에 할당")
+    void insertAllAssignsGeneratedIds() {
+        batchProperties.setChunkSize(2);
+        List<LoanContract> contracts = applications.subList(0, 4).stream().map(this::contractFor).toList();
+
+        contractBatchWriter.insertAll(contracts);
+
+        for (LoanContract contract : contracts) {
+            assertNotNull(contract.getId());
+            LoanContract found = contractMapper.findById(contract.getId());
+            assertEquals(contract.getContractNo(), found.getContractNo());
+            assertEquals(contract.getApplicationId(), found.getApplicationId());
+        }
+        assertEquals(4, contractMapper.findByCustomerId(customerId).size());
+    }
+
+    @Test
+    @DisplayName("조건부 상태 전이는 기대 상태인 신청서만 변경하고 그 ID만 반환")
+    void transitionStatusOnlyMovesRowsInExpectedStatus() {
+        List<Long> ids = applications.stream().map(LoanApplication::getId).toList();
+
+        List<Long> first = applicationBatchWriter.transitionStatus(ids, LoanStatus.APPROVED, LoanStatus.EXECUTED);
+        List<Long> second = applicationBatchWriter.transitionStatus(ids, LoanStatus.APPROVED, LoanStatus.EXECUTED);
+
+        assertEquals(ids.subList(0, 4), first);
+        assertTrue(second.isEmpty());
+        assertEquals(LoanStatus.EXECUTED, applicationMapper.findById(ids.get(0)).getStatus());
+        assertEquals(LoanStatus.REJECTED, applicationMapper.findById(ids.get(4)).getStatus());
+    }
+
+    @Test
+    @DisplayName("일괄 조기상환 종결은 읽은 버전과 일치하는 ACTIVE 계약만 종결")
+    void payOffSkipsContractsChangedSinceRead() {
+        List<LoanContract> inserted = applications.subList(0, 3).stream().map(this::contractFor).toList();
+        contractBatchWriter.insertAll(inserted);
+        List<LoanContract> contracts = inserted.stream().map(contract -> contractMapper.findById(contract.getId())).toList();
+        contractMapper.applyRepayment(contracts.get(1).getId(), contracts.get(1).getVersion(), 1, new BigDecimal("9000000"), BigDecimal.ZERO);
+        contractMapper.updateStatus(contracts.get(2).getId(), LoanStatus.COMPLETED.name());
+        contracts.get(0).setTotalInterestPaid(new BigDecimal("41667.00"));
+
+        List<LoanContract> closed = contractBatchWriter.payOff(contracts, LoanStatus.EARLY_REPAID);
+
+        assertEquals(List.of(contracts.get(0)), closed);
+        LoanContract found = contractMapper.findById(contracts.get(0).getId());
+        assertEquals(LoanStatus.EARLY_REPAID, found.getStatus());
+        assertEquals(0, found.getOutstandingBalance().compareTo(BigDecimal.ZERO));
+        assertEquals(0, found.getTotalInterestPaid().compareTo(new BigDecimal("41667.00")));
+        assertEquals(LoanStatus.ACTIVE, contractMapper.findById(contracts.get(1).getId()).getStatus());
+    }
+
+    private LoanContract contractFor(LoanApplication app) {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        return LoanContract.builder()
+                .contractNo("CNT" + app.getApplicationNo().substring(3))
+                .applicationId(app.getId())
+                .customerId(customerId)
+                .principalAmount(new BigDecimal("10000000"))
+                .interestRate(new BigDecimal("5.00"))
+                .termMonths(12)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .monthlyPayment(new BigDecimal("856074.82"))
+                .outstandingBalance(new BigDecimal("10000000"))
+                .totalInterestPaid(BigDecimal.ZERO)
+                .status(LoanStatus.ACTIVE)
+                .startDate(start)
+                .endDate(start.plusMonths(12))
+                .executedAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
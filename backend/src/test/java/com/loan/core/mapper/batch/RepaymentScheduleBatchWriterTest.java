@@ -0,0 +1,136 @@
+package com.loan.core.mapper.batch;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.*;
+import com.loan.core.mapper.CustomerMapper;
+import com.loan.core.mapper.LoanApplicationMapper;
+import com.loan.core.mapper.LoanContractMapper;
+import com.loan.core.mapper.RepaymentScheduleMapper;
+import com.loan.core.service.FixedPointRepaymentCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MybatisTest
+@Import({TestDataSourceConfig.class, RepaymentScheduleBatchWriter.class})
+@EnableConfigurationProperties(LoanBatchProperties.class)
+@Sql("classpath:schema-h2.sql")
+class RepaymentScheduleBatchWriterTest {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("300000000");
+    private static final BigDecimal RATE = new BigDecimal("4.50");
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    @Autowired private RepaymentScheduleBatchWriter scheduleWriter;
+    @Autowired private RepaymentScheduleMapper scheduleMapper;
+    @Autowired private LoanContractMapper contractMapper;
+    @Autowired private LoanApplicationMapper applicationMapper;
+    @Autowired private CustomerMapper customerMapper;
+
+    private Long contractId;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = Customer.builder()
+                .customerNo("CUS202601010001")
+                .name("테스트고객")
+                .email("test@test.com")
+                .phone("010-1234-5678")
+                .annualIncome(new BigDecimal("50000000"))
+                .employmentType(EmploymentType.REGULAR)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        customerMapper.insert(customer);
+
+        LoanApplication app = LoanApplication.builder()
+                .applicationNo("APP202601010001")
+                .customerId(customer.getId())
+                .requestedAmount(PRINCIPAL)
+                .requestedTermMonths(360)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .existingLoanAmount(BigDecimal.ZERO)
+                .status(LoanStatus.APPROVED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        applicationMapper.insert(app);
+
+        LoanContract contract = LoanContract.builder()
+                .contractNo("CNT202601010001")
+                .applicationId(app.getId())
+                .customerId(customer.getId())
+                .principalAmount(PRINCIPAL)
+                .interestRate(RATE)
+                .termMonths(360)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .monthlyPayment(new BigDecimal("1520050.00"))
+                .outstandingBalance(PRINCIPAL)
+                .totalInterestPaid(BigDecimal.ZERO)
+                .status(LoanStatus.ACTIVE)
+                .startDate(START)
+                .endDate(START.plusMonths(360))
+                .executedAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        contractMapper.insert(contract);
+        contractId = contract.getId();
+    }
+
+    @Test
+    @DisplayName("360회차 스케줄을 청크 단위로 나눠 모두 기록")
+    void writesAllRowsAcrossChunks() {
+        int written = scheduleWriter.write(FixedPointRepaymentCalculator.streamSchedules(
+                contractId, PRINCIPAL, RATE, 360, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST, START), 7);
+
+        assertEquals(360, written);
+        List<RepaymentSchedule> found = scheduleMapper.findByContractId(contractId);
+        assertEquals(360, found.size());
+        assertEquals(360, found.get(359).getInstallmentNo());
+        assertEquals(0, found.get(359).getOutstandingBalanceAfter().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("기록된 값은 계산기 결과와 동일")
+    void writtenValuesMatchCalculator() {
+        scheduleWriter.write(FixedPointRepaymentCalculator.streamSchedules(
+                contractId, PRINCIPAL, RATE, 12, RepaymentMethod.EQUAL_PRINCIPAL, START));
+
+        List<RepaymentSchedule> expected = FixedPointRepaymentCalculator.generateSchedules(
+                contractId, PRINCIPAL, RATE, 12, RepaymentMethod.EQUAL_PRINCIPAL, START);
+        List<RepaymentSchedule> found = scheduleMapper.findByContractId(contractId);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getDueDate(), found.get(i).getDueDate());
+            assertEquals(0, expected.get(i).getPrincipalAmount().compareTo(found.get(i).getPrincipalAmount()));
+            assertEquals(0, expected.get(i).getInterestAmount().compareTo(found.get(i).getInterestAmount()));
+            assertEquals(RepaymentStatus.SCHEDULED, found.get(i).getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("빈 스트림은 아무것도 기록하지 않음")
+    void emptyIteratorWritesNothing() {
+        assertEquals(0, scheduleWriter.write(Collections.emptyIterator()));
+        assertTrue(scheduleMapper.findByContractId(contractId).isEmpty());
+    }
+}
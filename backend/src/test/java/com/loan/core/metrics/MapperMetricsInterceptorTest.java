@@ -0,0 +1,59 @@
+package com.loan.core.metrics;
+
+import com.loan.core.config.LoanMetricsProperties;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.enums.EmploymentType;
+import com.loan.core.mapper.CustomerMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MybatisTest(properties = "loan.metrics.slow-statement-threshold=0ms")
+@Import({TestDataSourceConfig.class, SimpleMeterRegistry.class, MapperMetricsInterceptor.class})
+@EnableConfigurationProperties(LoanMetricsProperties.class)
+@Sql("classpath:schema-h2.sql")
+class MapperMetricsInterceptorTest {
+
+    @Autowired
+    private CustomerMapper customerMapper;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    @DisplayName("매퍼 구문별로 소요 시간, 처리 건수, 느린 구문 수를 기록")
+    void recordsPerStatement() {
+        Customer customer = Customer.builder()
+                .customerNo("CUS202601019001")
+                .name("메트릭고객")
+                .annualIncome(new BigDecimal("50000000"))
+                .employmentType(EmploymentType.REGULAR)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        customerMapper.insert(customer);
+        customerMapper.findById(customer.getId());
+        customerMapper.findById(customer.getId());
+
+        assertEquals(1, registry.get(MapperMetricsInterceptor.DURATION)
+                .tags("statement", "CustomerMapper.insert", "command", "insert").timer().count());
+        assertEquals(2, registry.get(MapperMetricsInterceptor.DURATION)
+                .tags("statement", "CustomerMapper.findById", "command", "select").timer().count());
+        assertEquals(1, registry.get(MapperMetricsInterceptor.ROWS).tag("statement", "CustomerMapper.insert").counter().count());
+        assertEquals(2, registry.get(MapperMetricsInterceptor.ROWS).tag("statement", "CustomerMapper.findById").counter().count());
+        // A zero threshold makes every statement slow
+        assertEquals(2, registry.get(MapperMetricsInterceptor.SLOW).tag("statement", "CustomerMapper.findById").counter().count());
+    }
+}
@@ -0,0 +1,74 @@
+package com.loan.core.metrics;
+
+import com.loan.core.config.ConnectionPoolMonitor;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.dto.response.AuditQueueStats;
+import com.loan.core.dto.response.ConnectionPoolStats;
+import com.loan.core.dto.response.CustomerCacheStats;
+import com.loan.core.dto.response.ReadRoutingStats;
+import com.loan.core.service.CustomerCache;
+import com.loan.core.service.StatusHistoryRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatsMeterBinderTest {
+
+    @Mock private ConnectionPoolMonitor connectionPoolMonitor;
+    @Mock private CustomerCache customerCache;
+    @Mock private StatusHistoryRecorder statusHistoryRecorder;
+    @Mock private ReadReplicaRouting readReplicaRouting;
+
+    @InjectMocks
+    private StatsMeterBinder binder;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        when(connectionPoolMonitor.stats()).thenReturn(List.of(
+                ConnectionPoolStats.builder().poolName("primary").started(true).active(3).idle(2).maximumPoolSize(10).build(),
+                ConnectionPoolStats.builder().poolName("replica").started(false).maximumPoolSize(20).build()));
+        binder.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 현황은 풀별 게이지로, 아직 열리지 않은 풀은 값 없음")
+    void connectionPools() {
+        assertEquals(3, registry.get("loan.db.pool.connections").tags("pool", "primary", "state", "active").gauge().value());
+        assertEquals(2, registry.get("loan.db.pool.connections").tags("pool", "primary", "state", "idle").gauge().value());
+        assertEquals(10, registry.get("loan.db.pool.max.connections").tag("pool", "primary").gauge().value());
+        assertTrue(Double.isNaN(registry.get("loan.db.pool.max.connections").tag("pool", "replica").gauge().value()));
+    }
+
+    @Test
+    @DisplayName("고객 캐시, 감사 큐, 읽기 라우팅 통계를 스크레이프 시점에 읽음")
+    void componentStats() {
+        when(customerCache.stats()).thenReturn(CustomerCacheStats.builder().size(5).hits(8).misses(2).evictions(1).build());
+        when(statusHistoryRecorder.stats()).thenReturn(AuditQueueStats.builder().depth(4).capacity(100).callerRuns(6).build());
+        when(readReplicaRouting.stats()).thenReturn(ReadRoutingStats.builder().replicaHealthy(true).replicaReads(7).pinnedReads(1).build());
+
+        assertEquals(8, registry.get("loan.customer.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(2, registry.get("loan.customer.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("loan.customer.cache.removals").tag("cause", "size").functionCounter().count());
+        assertEquals(4, registry.get("loan.audit.queue.depth").gauge().value());
+        assertEquals(6, registry.get("loan.audit.entries.caller.runs").functionCounter().count());
+        assertEquals(7, registry.get("loan.read.routing.transactions").tag("route", "replica").functionCounter().count());
+        assertEquals(1, registry.get("loan.read.routing.replica.healthy").gauge().value());
+
+        when(customerCache.stats()).thenReturn(CustomerCacheStats.builder().hits(9).build());
+        assertEquals(9, registry.get("loan.customer.cache.requests").tag("result", "hit").functionCounter().count());
+    }
+}
@@ -0,0 +1,152 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.domain.entity.CreditAssessment;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.enums.*;
+import com.loan.core.dto.response.BatchAssessmentReport;
+import com.loan.core.mapper.CreditAssessmentMapper;
+import com.loan.core.mapper.CustomerMapper;
+import com.loan.core.mapper.LoanApplicationMapper;
+import com.loan.core.mapper.batch.CreditAssessmentBatchWriter;
+import com.loan.core.mapper.batch.LoanApplicationBatchWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchAssessmentServiceTest {
+
+    @Mock private LoanApplicationMapper applicationMapper;
+    @Mock private CustomerMapper customerMapper;
+    @Mock private CreditAssessmentMapper assessmentMapper;
+    @Mock private LoanApplicationBatchWriter applicationBatchWriter;
+    @Mock private CreditAssessmentBatchWriter assessmentBatchWriter;
+    @Mock private StatusHistoryRecorder statusHistoryRecorder;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private PortfolioSnapshotService snapshotService;
+
+    private ExecutorService executor;
+    private BatchAssessmentService batchAssessmentService;
+
+    @BeforeEach
+    void setUp() {
+        LoanBatchProperties batchProperties = new LoanBatchProperties();
+        batchProperties.setChunkSize(3);
+        batchProperties.setAssessmentThreads(2);
+        executor = Executors.newFixedThreadPool(2);
+        batchAssessmentService = new BatchAssessmentService(applicationMapper, customerMapper, assessmentMapper,
+                applicationBatchWriter, assessmentBatchWriter, statusHistoryRecorder, transactionTemplate,
+                executor, batchProperties, snapshotService);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private LoanApplication application(long id, long customerId) {
+        return LoanApplication.builder()
+                .id(id)
+                .customerId(customerId)
+                .status(LoanStatus.APPLIED)
+                .requestedAmount(new BigDecimal("10000000"))
+                .requestedTermMonths(12)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .existingLoanAmount(BigDecimal.ZERO)
+                .build();
+    }
+
+    private Customer customer(long id, BigDecimal income, EmploymentType employmentType) {
+        return Customer.builder().id(id).annualIncome(income).employmentType(employmentType).build();
+    }
+
+    @Test
+    @DisplayName("청크 단위로 조회 후 병렬 심사, 승인/거절 건을 배치로 기록")
+    void assessPendingWritesInBatches() {
+        Customer good = customer(1L, new BigDecimal("80000000"), EmploymentType.REGULAR);
+        Customer poor = customer(2L, new BigDecimal("5000000"), EmploymentType.UNEMPLOYED);
+        List<LoanApplication> firstChunk = List.of(application(1L, 1L), application(2L, 2L), application(3L, 1L));
+        List<LoanApplication> secondChunk = List.of(application(4L, 1L));
+
+        when(applicationMapper.findByStatusAfterId("APPLIED", 0L, 3)).thenReturn(firstChunk);
+        when(applicationMapper.findByStatusAfterId("APPLIED", 3L, 3)).thenReturn(secondChunk);
+        when(applicationMapper.findByStatusAfterId("APPLIED", 4L, 3)).thenReturn(List.of());
+        when(customerMapper.findByIds(anyList())).thenReturn(List.of(good, poor));
+        when(assessmentMapper.findByApplicationIds(anyList())).thenReturn(List.of());
+        when(applicationBatchWriter.transitionStatus(anyList(), eq(LoanStatus.APPLIED), eq(LoanStatus.REVIEWING)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchAssessmentReport report = batchAssessmentService.assessPending();
+
+        assertEquals(BatchAssessmentReport.Status.COMPLETED, report.getStatus());
+        assertEquals(2, report.getChunks());
+        assertEquals(4, report.getScanned());
+        assertEquals(3, report.getApproved());
+        assertEquals(1, report.getRejected());
+        verify(applicationBatchWriter).transitionStatus(List.of(1L, 3L), LoanStatus.REVIEWING, LoanStatus.APPROVED);
+        verify(applicationBatchWriter).transitionStatus(List.of(2L), LoanStatus.REVIEWING, LoanStatus.REJECTED);
+        verify(statusHistoryRecorder).recordAll(argThat(histories -> histories.size() == 6));
+        verify(applicationMapper, never()).updateStatus(any(), any());
+        verify(snapshotService).apply(new PortfolioDelta(0, 0, -3, BigDecimal.ZERO));
+        assertEquals(report, batchAssessmentService.getProgress().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("이미 심사된 신청과 고객 정보 없는 신청은 제외")
+    void assessPendingSkipsAssessedAndOrphanedApplications() {
+        Customer good = customer(1L, new BigDecimal("80000000"), EmploymentType.REGULAR);
+        when(applicationMapper.findByStatusAfterId("APPLIED", 0L, 3))
+                .thenReturn(List.of(application(1L, 1L), application(2L, 1L), application(3L, 9L)));
+        when(applicationMapper.findByStatusAfterId("APPLIED", 3L, 3)).thenReturn(List.of());
+        when(customerMapper.findByIds(List.of(1L, 9L))).thenReturn(List.of(good));
+        when(assessmentMapper.findByApplicationIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(CreditAssessment.builder().applicationId(2L).build()));
+        when(applicationBatchWriter.transitionStatus(List.of(1L), LoanStatus.APPLIED, LoanStatus.REVIEWING))
+                .thenReturn(List.of(1L));
+
+        BatchAssessmentReport report = batchAssessmentService.assessPending();
+
+        assertEquals(1, report.getApproved());
+        assertEquals(1, report.getSkipped());
+        assertEquals(1, report.getFailed());
+        ArgumentCaptor<List<CreditAssessment>> captor = ArgumentCaptor.captor();
+        verify(assessmentBatchWriter).insertAll(captor.capture());
+        assertEquals(1L, captor.getValue().get(0).getApplicationId());
+        assertEquals(AssessmentResult.APPROVED, captor.getValue().get(0).getResult());
+    }
+
+    @Test
+    @DisplayName("청크 처리 실패 시 해당 청크만 실패로 집계하고 계속 진행")
+    void assessPendingContinuesAfterChunkFailure() {
+        when(applicationMapper.findByStatusAfterId("APPLIED", 0L, 3))
+                .thenReturn(List.of(application(1L, 1L), application(2L, 1L)));
+        when(applicationMapper.findByStatusAfterId("APPLIED", 2L, 3)).thenReturn(List.of());
+        doThrow(new IllegalStateException("db down")).when(transactionTemplate).execute(any());
+
+        BatchAssessmentReport report = batchAssessmentService.assessPending();
+
+        assertEquals(BatchAssessmentReport.Status.COMPLETED, report.getStatus());
+        assertEquals(2, report.getFailed());
+        assertEquals(0, report.getApproved());
+    }
+}
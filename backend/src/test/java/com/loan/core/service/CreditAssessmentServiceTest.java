@@ -1,5 +1,6 @@
 package com.loan.core.service;
 
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.CreditAssessment;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.entity.LoanApplication;
@@ -7,9 +8,7 @@ import com.loan.core.domain.enums.*;
 import com.loan.core.exception.BusinessException;
 import com.loan.core.exception.InvalidStatusTransitionException;
 import com.loan.core.mapper.CreditAssessmentMapper;
-import com.loan.core.mapper.CustomerMapper;
 import com.loan.core.mapper.LoanApplicationMapper;
-import com.loan.core.mapper.StatusHistoryMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,9 +30,13 @@ class CreditAssessmentServiceTest {
     @Mock
     private LoanApplicationMapper applicationMapper;
     @Mock
-    private CustomerMapper customerMapper;
+    private CustomerCache customerCache;
     @Mock
-    private StatusHistoryMapper statusHistoryMapper;
+    private StatusHistoryRecorder statusHistoryRecorder;
+    @Mock
+    private PortfolioSnapshotService snapshotService;
+    @Mock
+    private ReadReplicaRouting readReplicaRouting;
 
     @InjectMocks
     private CreditAssessmentService assessmentService;
@@ -66,9 +69,9 @@ class CreditAssessmentServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(null);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(applicationMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
         doNothing().when(assessmentMapper).insert(any());
 
         CreditAssessment result = assessmentService.assessApplication(1L);
@@ -87,9 +90,9 @@ class CreditAssessmentServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(null);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(applicationMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
         doNothing().when(assessmentMapper).insert(any());
 
         CreditAssessment result = assessmentService.assessApplication(1L);
@@ -108,9 +111,9 @@ class CreditAssessmentServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(null);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(applicationMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
         doNothing().when(assessmentMapper).insert(any());
 
         CreditAssessment result = assessmentService.assessApplication(1L);
@@ -159,9 +162,9 @@ class CreditAssessmentServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(null);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(applicationMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
         doNothing().when(assessmentMapper).insert(any());
 
         CreditAssessment result = assessmentService.assessApplication(1L);
@@ -180,9 +183,9 @@ class CreditAssessmentServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(null);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(applicationMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
         doNothing().when(assessmentMapper).insert(any());
 
         CreditAssessment result = assessmentService.assessApplication(1L);
@@ -0,0 +1,179 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanCustomerCacheProperties;
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.dto.response.CustomerCacheStats;
+import com.loan.core.mapper.CustomerMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerCacheTest {
+
+    @Mock private CustomerMapper customerMapper;
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+    private LoanCustomerCacheProperties properties;
+    private CustomerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoanCustomerCacheProperties();
+        properties.setMaximumSize(100);
+        properties.setTtl(Duration.ofMinutes(10));
+        cache = new CustomerCache(customerMapper, properties, new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now.get());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 고객은 ID·고객번호 모두 캐시에서 반환")
+    void servesRepeatedLookupsFromCache() {
+        Customer customer = customer(1L);
+        when(customerMapper.findById(1L)).thenReturn(customer);
+
+        assertSame(customer, cache.findById(1L));
+        assertSame(customer, cache.findById(1L));
+        assertSame(customer, cache.findByCustomerNo("CUS1"));
+
+        verify(customerMapper, times(1)).findById(1L);
+        verify(customerMapper, never()).findByCustomerNo(any());
+        CustomerCacheStats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    @DisplayName("없는 고객은 캐시하지 않아 생성 직후 조회에 반영")
+    void doesNotCacheMissingCustomers() {
+        when(customerMapper.findById(1L)).thenReturn(null, customer(1L));
+
+        assertNull(cache.findById(1L));
+        assertNotNull(cache.findById(1L));
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회")
+    void reloadsAfterTtl() {
+        when(customerMapper.findById(1L)).thenReturn(customer(1L));
+        cache.findById(1L);
+
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        cache.findById(1L);
+
+        verify(customerMapper, times(2)).findById(1L);
+        assertEquals(1, cache.stats().getExpirations());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 먼저 적재된 고객부터 제거")
+    void evictsOldestBeyondMaximumSize() {
+        properties.setMaximumSize(2);
+        for (long id = 1; id <= 3; id++) {
+            when(customerMapper.findById(id)).thenReturn(customer(id));
+            cache.findById(id);
+        }
+
+        cache.findById(2L);
+        cache.findById(3L);
+        cache.findById(1L);
+
+        verify(customerMapper, times(2)).findById(1L);
+        verify(customerMapper, times(1)).findById(2L);
+        assertEquals(2, cache.stats().getEvictions());
+        assertEquals(2, cache.stats().getSize());
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 DB에서 다시 조회")
+    void reloadsAfterInvalidate() {
+        when(customerMapper.findById(1L)).thenReturn(customer(1L));
+        cache.findById(1L);
+
+        cache.invalidate(1L);
+        cache.findById(1L);
+
+        verify(customerMapper, times(2)).findById(1L);
+        assertEquals(1, cache.stats().getInvalidations());
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽은 값을 캐시하지 않음")
+    void doesNotStoreLoadThatOverlappedInvalidation() {
+        when(customerMapper.findById(1L)).thenAnswer(invocation -> {
+            cache.invalidate(1L);
+            return customer(1L);
+        }).thenReturn(customer(1L));
+
+        cache.findById(1L);
+        cache.findById(1L);
+
+        verify(customerMapper, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 트랜잭션 종료 시 한 번 더 제거")
+    void invalidatesAgainWhenTransactionEnds() {
+        when(customerMapper.findById(1L)).thenReturn(customer(1L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(1L);
+            // Before the update commits, another reader can still load and cache the old row
+            cache.findById(1L);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.findById(1L);
+
+        verify(customerMapper, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 DB에서 조회")
+    void bypassesCacheWhenDisabled() {
+        properties.setEnabled(false);
+        when(customerMapper.findById(1L)).thenReturn(customer(1L));
+
+        cache.findById(1L);
+        cache.findById(1L);
+
+        verify(customerMapper, times(2)).findById(1L);
+        assertEquals(0, cache.stats().getHits() + cache.stats().getMisses());
+    }
+
+    private static Customer customer(long id) {
+        return Customer.builder().id(id).customerNo("CUS" + id).name("고객" + id).build();
+    }
+}
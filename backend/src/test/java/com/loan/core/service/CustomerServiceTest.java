@@ -1,17 +1,27 @@
 package com.loan.core.service;
 
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.dto.request.CustomerCreateRequest;
+import com.loan.core.dto.request.CustomerUpdateRequest;
+import com.loan.core.dto.request.PageCursor;
+import com.loan.core.dto.response.CursorPage;
+import com.loan.core.exception.BusinessException;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.mapper.CustomerMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,12 +33,18 @@ class CustomerServiceTest {
 
     @Mock
     private CustomerMapper customerMapper;
+    @Mock
+    private CustomerCache customerCache;
+    @Spy
+    private IdGenerator idGenerator = new IdGenerator(0, Clock.systemDefaultZone());
+    @Mock
+    private ReadReplicaRouting readReplicaRouting;
 
     @InjectMocks
     private CustomerService customerService;
 
     @Test
-    @DisplayName("정상 고객 생성 - 고객번호 CUSyyyyMMddNNNN 형식")
+    @DisplayName("정상 고객 생성 - 고객번호 CUS + yyyyMMdd + 15자리 형식")
     void createCustomer() {
         CustomerCreateRequest request = CustomerCreateRequest.builder()
                 .name("홍길동")
@@ -46,7 +62,7 @@ class CustomerServiceTest {
 
         assertNotNull(result);
         assertTrue(result.getCustomerNo().startsWith("CUS"));
-        assertEquals(15, result.getCustomerNo().length()); // CUS + yyyyMMdd(8) + NNNN(4) = 15
+        assertEquals(26, result.getCustomerNo().length()); // CUS + yyyyMMdd(8) + 15 digits = 26
         assertEquals("홍길동", result.getName());
         verify(customerMapper).insert(any(Customer.class));
     }
@@ -55,7 +71,7 @@ class CustomerServiceTest {
     @DisplayName("존재하는 고객 조회")
     void getExistingCustomer() {
         Customer customer = Customer.builder().id(1L).name("홍길동").build();
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
 
         Customer result = customerService.getCustomer(1L);
 
@@ -65,21 +81,78 @@ class CustomerServiceTest {
     @Test
     @DisplayName("존재하지 않는 고객 조회 시 ResourceNotFoundException")
     void getCustomerNotFound() {
-        when(customerMapper.findById(999L)).thenReturn(null);
+        when(customerCache.findById(999L)).thenReturn(null);
 
         assertThrows(ResourceNotFoundException.class, () -> customerService.getCustomer(999L));
     }
 
     @Test
-    @DisplayName("전체 고객 조회")
-    void getAllCustomers() {
-        when(customerMapper.findAll()).thenReturn(List.of(
-                Customer.builder().id(1L).name("A").build(),
-                Customer.builder().id(2L).name("B").build()
+    @DisplayName("고객 정보 수정 시 고객번호·생년월일은 유지하고 캐시를 무효화")
+    void updateCustomerInvalidatesCache() {
+        Customer current = Customer.builder()
+                .id(1L).customerNo("CUS202601010001").name("홍길동")
+                .birthDate(LocalDate.of(1990, 1, 15))
+                .createdAt(LocalDateTime.of(2026, 1, 1, 9, 0))
+                .build();
+        when(customerMapper.findById(1L)).thenReturn(current);
+        CustomerUpdateRequest request = CustomerUpdateRequest.builder()
+                .name("홍길동").email("new@test.com").phone("010-9999-9999")
+                .annualIncome(new BigDecimal("80000000")).employmentType("SELF_EMPLOYED")
+                .build();
+
+        Customer result = customerService.updateCustomer(1L, request);
+
+        assertEquals("CUS202601010001", result.getCustomerNo());
+        assertEquals(LocalDate.of(1990, 1, 15), result.getBirthDate());
+        assertEquals(0, new BigDecimal("80000000").compareTo(result.getAnnualIncome()));
+        InOrder inOrder = inOrder(customerMapper, customerCache);
+        inOrder.verify(customerMapper).update(result);
+        inOrder.verify(customerCache).invalidate(1L);
+        verify(readReplicaRouting).markWritten(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 고객 수정 시 ResourceNotFoundException")
+    void updateCustomerNotFound() {
+        when(customerMapper.findById(999L)).thenReturn(null);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> customerService.updateCustomer(999L, CustomerUpdateRequest.builder().build()));
+        verify(customerCache, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("페이지 조회: size+1건 조회 후 초과분이 있으면 마지막 항목 기준 다음 커서 생성")
+    void getCustomerPageBuildsNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 9, 0, 0, 123_456_000);
+        when(customerMapper.findPage(null, 3)).thenReturn(List.of(
+                Customer.builder().id(3L).createdAt(createdAt).build(),
+                Customer.builder().id(2L).createdAt(createdAt).build(),
+                Customer.builder().id(1L).createdAt(createdAt).build()
+        ));
+
+        CursorPage<Customer> page = customerService.getCustomerPage(null, 2);
+
+        assertEquals(2, page.items().size());
+        assertEquals(new PageCursor(createdAt, 2L), PageCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대값으로 제한되고 마지막 페이지는 다음 커서 없음")
+    void getCustomerPageCapsSizeAndEndsWithoutCursor() {
+        when(customerMapper.findPage(null, CursorPage.MAX_SIZE + 1)).thenReturn(List.of(
+                Customer.builder().id(1L).createdAt(LocalDateTime.now()).build()
         ));
 
-        List<Customer> result = customerService.getAllCustomers();
+        CursorPage<Customer> page = customerService.getCustomerPage(null, 100_000);
 
-        assertEquals(2, result.size());
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 BusinessException")
+    void getCustomerPageRejectsMalformedCursor() {
+        assertThrows(BusinessException.class, () -> customerService.getCustomerPage("not-a-cursor", 10));
     }
 }
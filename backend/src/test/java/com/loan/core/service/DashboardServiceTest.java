@@ -0,0 +1,84 @@
+package com.loan.core.service;
+
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.PortfolioSnapshot;
+import com.loan.core.domain.entity.StatusCount;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.dto.response.DashboardResponse;
+import com.loan.core.mapper.LoanApplicationMapper;
+import com.loan.core.mapper.LoanContractMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock private LoanContractMapper contractMapper;
+    @Mock private LoanApplicationMapper applicationMapper;
+    @Mock private PortfolioSnapshotService snapshotService;
+    @Mock private ReadReplicaRouting readReplicaRouting;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @Test
+    @DisplayName("전체 대시보드는 포트폴리오 스냅샷에서 읽고 원본 테이블을 집계하지 않음")
+    void getDashboardFromSnapshot() {
+        when(snapshotService.getSnapshot()).thenReturn(PortfolioSnapshot.builder()
+                .activeLoans(3).overdueLoans(1).pendingApplications(4)
+                .totalOutstanding(new BigDecimal("35000000"))
+                .build());
+        when(contractMapper.findPage(null, null, 5)).thenReturn(List.of(
+                LoanContract.builder().id(1L).status(LoanStatus.ACTIVE).build()));
+        when(applicationMapper.findPage(null, null, 5)).thenReturn(List.of(
+                LoanApplication.builder().id(1L).status(LoanStatus.APPLIED).build()));
+
+        DashboardResponse dashboard = dashboardService.getDashboard(null);
+
+        assertEquals(3, dashboard.getActiveLoans());
+        assertEquals(1, dashboard.getOverdueCount());
+        assertEquals(4, dashboard.getPendingApplications());
+        assertEquals(0, dashboard.getTotalOutstanding().compareTo(new BigDecimal("35000000")));
+        assertEquals(1, dashboard.getRecentContracts().size());
+        assertEquals(1, dashboard.getRecentApplications().size());
+        verify(contractMapper, never()).countGroupByStatus(any());
+        verify(applicationMapper, never()).countGroupByStatus(any());
+    }
+
+    @Test
+    @DisplayName("고객 대시보드는 상태별 집계 결과로 지표 계산")
+    void getDashboardFromCustomerAggregates() {
+        when(contractMapper.countGroupByStatus(7L)).thenReturn(List.of(
+                new StatusCount(LoanStatus.ACTIVE, 3, new BigDecimal("30000000")),
+                new StatusCount(LoanStatus.OVERDUE, 1, new BigDecimal("5000000")),
+                new StatusCount(LoanStatus.COMPLETED, 2, BigDecimal.ZERO)));
+        when(applicationMapper.countGroupByStatus(7L)).thenReturn(List.of(
+                new StatusCount(LoanStatus.DRAFT, 1, BigDecimal.ZERO),
+                new StatusCount(LoanStatus.APPLIED, 2, BigDecimal.ZERO),
+                new StatusCount(LoanStatus.REVIEWING, 1, BigDecimal.ZERO),
+                new StatusCount(LoanStatus.APPROVED, 4, BigDecimal.ZERO)));
+        when(contractMapper.findPage(7L, null, 5)).thenReturn(List.of());
+        when(applicationMapper.findPage(7L, null, 5)).thenReturn(List.of());
+
+        DashboardResponse dashboard = dashboardService.getDashboard(7L);
+
+        assertEquals(3, dashboard.getActiveLoans());
+        assertEquals(1, dashboard.getOverdueCount());
+        assertEquals(4, dashboard.getPendingApplications());
+        assertEquals(0, dashboard.getTotalOutstanding().compareTo(new BigDecimal("35000000")));
+        verify(snapshotService, never()).getSnapshot();
+    }
+}
@@ -0,0 +1,182 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.CreditGrade;
+import com.loan.core.domain.enums.RepaymentMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link RepaymentCalculator} is the oracle: every amount produced by the fixed-point engine must match it exactly.
+ */
+class FixedPointRepaymentCalculatorTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final int[] TERMS = {1, 2, 12, 24, 36, 60, 120, 360};
+    private static final String[] PRINCIPALS = {"0.01", "1000", "999999.99", "10000000", "30000000", "123456789.87", "9999999999999.99"};
+
+    @ParameterizedTest
+    @EnumSource(RepaymentMethod.class)
+    @DisplayName("신용등급 기준금리 x 기간 x 원금 전 조합에서 BigDecimal 결과와 동일")
+    void matchesOracleForGradeRates(RepaymentMethod method) {
+        for (CreditGrade grade : CreditGrade.values()) {
+            BigDecimal rate = BigDecimal.valueOf(grade.getBaseRate());
+            for (int term : TERMS) {
+                for (String principal : PRINCIPALS) {
+                    assertSameAsOracle(new BigDecimal(principal), rate, term, method);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepaymentMethod.class)
+    @DisplayName("무작위 원금/금리/기간에서 BigDecimal 결과와 동일")
+    void matchesOracleForRandomInputs(RepaymentMethod method) {
+        Random random = new Random(20260101L);
+        for (int i = 0; i < 300; i++) {
+            BigDecimal principal = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 100_000_000_000L), 2);
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(3000), 2);
+            int term = 1 + random.nextInt(360);
+            assertSameAsOracle(principal, rate, term, method);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RepaymentMethod.class)
+    @DisplayName("금리 0%에서도 BigDecimal 결과와 동일")
+    void matchesOracleForZeroRate(RepaymentMethod method) {
+        for (int term : TERMS) {
+            assertSameAsOracle(new BigDecimal("10000000"), BigDecimal.ZERO, term, method);
+        }
+    }
+
+    @Test
+    @DisplayName("월 이율 = 연이율/100/12 (소수점 10자리 HALF_UP)")
+    void monthlyRateMatchesOracleScale() {
+        for (CreditGrade grade : CreditGrade.values()) {
+            BigDecimal annual = BigDecimal.valueOf(grade.getBaseRate());
+            BigDecimal expected = annual.divide(new BigDecimal("100"), 10, RoundingMode.HALF_UP)
+                    .divide(new BigDecimal("12"), 10, RoundingMode.HALF_UP);
+            assertEquals(expected.unscaledValue().longValueExact(), FixedPointRepaymentCalculator.monthlyRate(annual));
+        }
+    }
+
+    @Test
+    @DisplayName("이자 계산은 큰 금액에서도 오버플로 없이 정확")
+    void interestIsExactForLargeBalances() {
+        long[] balances = {0L, 1L, 99L, 1_000_000_000_000_000L, 999_999_999_999_999L, Long.MAX_VALUE / 2};
+        long[] rates = {0L, 1L, 29_166_667L, 125_000_000L, 9_999_999_999L};
+        for (long balance : balances) {
+            for (long rate : rates) {
+                long expected = BigDecimal.valueOf(balance)
+                        .multiply(BigDecimal.valueOf(rate))
+                        .divide(BigDecimal.valueOf(FixedPointRepaymentCalculator.RATE_ONE), 0, RoundingMode.HALF_UP)
+                        .longValueExact();
+                assertEquals(expected, FixedPointRepaymentCalculator.interest(balance, rate),
+                        "balance=" + balance + ", rate=" + rate);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("소수점 3자리 이상 금액은 거부")
+    void rejectsSubMinorUnitAmounts() {
+        assertThrows(ArithmeticException.class,
+                () -> FixedPointRepaymentCalculator.toMinorUnits(new BigDecimal("100.005")));
+    }
+
+    @Test
+    @DisplayName("커서는 기간만큼만 진행")
+    void cursorStopsAfterTerm() {
+        FixedPointRepaymentCalculator.InstallmentCursor cursor = FixedPointRepaymentCalculator.amortize(
+                1_000_000_00L, new BigDecimal("5.0"), 12, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        int count = 0;
+        while (cursor.next()) {
+            count++;
+        }
+        assertEquals(12, count);
+        assertEquals(0L, cursor.outstandingAfter());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    @DisplayName("월 상환액 유지 커서: 원래 원금이면 원래 기간, 원금이 줄면 같은 상환액으로 기간만 단축")
+    void keepingThePaymentShortensTheTerm() {
+        BigDecimal rate = new BigDecimal("5.0");
+        long payment = FixedPointRepaymentCalculator.calculateMonthlyPayment(
+                10_000_000_00L, rate, 24, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        assertEquals(24, FixedPointRepaymentCalculator.amortizeKeepingPayment(
+                10_000_000_00L, rate, 24, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST, payment).termMonths());
+
+        FixedPointRepaymentCalculator.InstallmentCursor cursor = FixedPointRepaymentCalculator.amortizeKeepingPayment(
+                4_000_000_00L, rate, 24, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST, payment);
+        assertEquals(10, cursor.termMonths());
+        long principal = 0;
+        while (cursor.next()) {
+            principal += cursor.principal();
+            if (cursor.installmentNo() < cursor.termMonths()) {
+                assertEquals(payment, cursor.total());
+            } else {
+                assertTrue(cursor.total() <= payment);
+            }
+        }
+        assertEquals(4_000_000_00L, principal);
+        assertEquals(0L, cursor.outstandingAfter());
+    }
+
+    @Test
+    @DisplayName("스트리밍 스케줄은 지연 생성되며 전체 생성 결과와 동일")
+    void streamSchedulesIsLazyAndMatchesGenerate() {
+        Iterator<RepaymentSchedule> stream = FixedPointRepaymentCalculator.streamSchedules(
+                1L, new BigDecimal("10000000"), new BigDecimal("5.0"), 360, RepaymentMethod.EQUAL_PRINCIPAL, START);
+        List<RepaymentSchedule> all = FixedPointRepaymentCalculator.generateSchedules(
+                1L, new BigDecimal("10000000"), new BigDecimal("5.0"), 360, RepaymentMethod.EQUAL_PRINCIPAL, START);
+
+        for (RepaymentSchedule expected : all) {
+            assertTrue(stream.hasNext());
+            RepaymentSchedule actual = stream.next();
+            assertEquals(expected.getInstallmentNo(), actual.getInstallmentNo());
+            assertEquals(0, expected.getTotalAmount().compareTo(actual.getTotalAmount()));
+        }
+        assertFalse(stream.hasNext());
+        assertThrows(NoSuchElementException.class, stream::next);
+    }
+
+    private void assertSameAsOracle(BigDecimal principal, BigDecimal rate, int term, RepaymentMethod method) {
+        String context = method + " principal=" + principal + " rate=" + rate + " term=" + term;
+
+        assertEquals(0, RepaymentCalculator.calculateMonthlyPayment(principal, rate, term, method)
+                        .compareTo(FixedPointRepaymentCalculator.calculateMonthlyPayment(principal, rate, term, method)),
+                context);
+
+        List<RepaymentSchedule> expected = RepaymentCalculator.generateSchedules(1L, principal, rate, term, method, START);
+        List<RepaymentSchedule> actual = FixedPointRepaymentCalculator.generateSchedules(1L, principal, rate, term, method, START);
+        assertEquals(expected.size(), actual.size(), context);
+
+        for (int i = 0; i < expected.size(); i++) {
+            RepaymentSchedule e = expected.get(i);
+            RepaymentSchedule a = actual.get(i);
+            String at = context + " installment=" + (i + 1);
+            assertEquals(e.getInstallmentNo(), a.getInstallmentNo(), at);
+            assertEquals(e.getDueDate(), a.getDueDate(), at);
+            assertEquals(e.getStatus(), a.getStatus(), at);
+            assertEquals(0, e.getPrincipalAmount().compareTo(a.getPrincipalAmount()), at + " principal");
+            assertEquals(0, e.getInterestAmount().compareTo(a.getInterestAmount()), at + " interest");
+            assertEquals(0, e.getTotalAmount().compareTo(a.getTotalAmount()), at + " total");
+            assertEquals(0, e.getOutstandingBalanceAfter().compareTo(a.getOutstandingBalanceAfter()), at + " balance");
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanIdProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final long NOON = Instant.parse("2026-01-01T03:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("접두어 + yyyyMMdd + 15자리 숫자 형식")
+    void formatsPrefixDateAndDigits() {
+        IdGenerator generator = new IdGenerator(7, fixedClock(new AtomicLong(NOON)));
+
+        String contractNo = generator.contractNo();
+
+        assertTrue(contractNo.matches("CNT20260101\\d{15}"), contractNo);
+        long body = Long.parseLong(contractNo.substring(11));
+        assertEquals(7, (body >>> IdGenerator.SEQUENCE_BITS) & IdGenerator.MAX_NODE_ID);
+        assertEquals(12 * 3600_000L, body >>> (IdGenerator.NODE_BITS + IdGenerator.SEQUENCE_BITS));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 4096건을 넘겨도 다음 논리 밀리초로 이어서 증가")
+    void sequenceOverflowCarriesIntoNextMillisecond() {
+        IdGenerator generator = new IdGenerator(0, fixedClock(new AtomicLong(NOON)));
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(generator.transactionNo());
+        }
+
+        assertEquals(10_000, new HashSet<>(numbers).size());
+        for (int i = 1; i < numbers.size(); i++) {
+            assertTrue(numbers.get(i).compareTo(numbers.get(i - 1)) > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 번호는 계속 증가")
+    void clockStepBackKeepsNumbersIncreasing() {
+        AtomicLong now = new AtomicLong(NOON);
+        IdGenerator generator = new IdGenerator(0, fixedClock(now));
+
+        String before = generator.applicationNo();
+        now.addAndGet(-5_000);
+        String after = generator.applicationNo();
+
+        assertTrue(after.compareTo(before) > 0);
+    }
+
+    @Test
+    @DisplayName("자정을 넘기면 날짜가 바뀌고 일중 밀리초는 0부터 시작")
+    void dateRollsOverAtMidnight() {
+        long midnight = Instant.parse("2026-01-01T15:00:00Z").toEpochMilli();
+        AtomicLong now = new AtomicLong(midnight - 1);
+        IdGenerator generator = new IdGenerator(0, fixedClock(now));
+
+        String last = generator.customerNo();
+        now.set(midnight);
+        String first = generator.customerNo();
+
+        assertTrue(last.startsWith("CUS20260101"), last);
+        assertEquals("CUS20260102000000000000000", first);
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시각에도 충돌하지 않음")
+    void distinctNodesNeverCollide() {
+        AtomicLong now = new AtomicLong(NOON);
+        IdGenerator node1 = new IdGenerator(1, fixedClock(now));
+        IdGenerator node2 = new IdGenerator(2, fixedClock(now));
+
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            numbers.add(node1.contractNo());
+            numbers.add(node2.contractNo());
+        }
+
+        assertEquals(10_000, numbers.size());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복 없음")
+    void concurrentCallersGetUniqueNumbers() throws Exception {
+        IdGenerator generator = new IdGenerator(0, Clock.system(SEOUL));
+        int threads = 8;
+        int perThread = 20_000;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        numbers.add(generator.transactionNo());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, numbers.size());
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 IllegalArgumentException")
+    void rejectsOutOfRangeNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator(1024, Clock.systemUTC()));
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator(-1, Clock.systemUTC()));
+    }
+
+    @Test
+    @DisplayName("노드 ID가 설정되지 않으면 기동 시 IllegalStateException")
+    void requiresConfiguredNodeId() {
+        LoanIdProperties properties = new LoanIdProperties();
+
+        assertThrows(IllegalStateException.class, () -> new IdGenerator(properties));
+        properties.setNodeId(3);
+        assertEquals(3, IdGenerator.requireNodeId(properties));
+    }
+
+    private static Clock fixedClock(AtomicLong millis) {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return SEOUL;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.loan.core.service;
 
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.Customer;
 import com.loan.core.domain.entity.LoanApplication;
 import com.loan.core.domain.enums.LoanStatus;
@@ -7,17 +8,17 @@ import com.loan.core.domain.enums.RepaymentMethod;
 import com.loan.core.dto.request.LoanApplicationCreateRequest;
 import com.loan.core.exception.InvalidStatusTransitionException;
 import com.loan.core.exception.ResourceNotFoundException;
-import com.loan.core.mapper.CustomerMapper;
 import com.loan.core.mapper.LoanApplicationMapper;
-import com.loan.core.mapper.StatusHistoryMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,9 +30,15 @@ class LoanApplicationServiceTest {
     @Mock
     private LoanApplicationMapper applicationMapper;
     @Mock
-    private CustomerMapper customerMapper;
+    private CustomerCache customerCache;
     @Mock
-    private StatusHistoryMapper statusHistoryMapper;
+    private StatusHistoryRecorder statusHistoryRecorder;
+    @Mock
+    private PortfolioSnapshotService snapshotService;
+    @Spy
+    private IdGenerator idGenerator = new IdGenerator(0, Clock.systemDefaultZone());
+    @Mock
+    private ReadReplicaRouting readReplicaRouting;
 
     @InjectMocks
     private LoanApplicationService applicationService;
@@ -39,9 +46,9 @@ class LoanApplicationServiceTest {
     @Test
     @DisplayName("DRAFT 상태로 신청서 생성")
     void createApplication() {
-        when(customerMapper.findById(1L)).thenReturn(Customer.builder().id(1L).build());
+        when(customerCache.findById(1L)).thenReturn(Customer.builder().id(1L).build());
         doNothing().when(applicationMapper).insert(any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
 
         LoanApplicationCreateRequest request = LoanApplicationCreateRequest.builder()
                 .customerId(1L)
@@ -55,7 +62,7 @@ class LoanApplicationServiceTest {
         assertNotNull(result);
         assertEquals(LoanStatus.DRAFT, result.getStatus());
         assertTrue(result.getApplicationNo().startsWith("APP"));
-        verify(statusHistoryMapper).insert(any());
+        verify(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -65,7 +72,7 @@ class LoanApplicationServiceTest {
                 .id(1L).status(LoanStatus.DRAFT).build();
         when(applicationMapper.findById(1L)).thenReturn(app);
         doNothing().when(applicationMapper).update(any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
 
         LoanApplication result = applicationService.submitApplication(1L);
 
@@ -89,7 +96,7 @@ class LoanApplicationServiceTest {
     @Test
     @DisplayName("존재하지 않는 고객으로 신청 시 ResourceNotFoundException")
     void createApplicationCustomerNotFound() {
-        when(customerMapper.findById(999L)).thenReturn(null);
+        when(customerCache.findById(999L)).thenReturn(null);
 
         LoanApplicationCreateRequest request = LoanApplicationCreateRequest.builder()
                 .customerId(999L)
@@ -114,9 +121,9 @@ class LoanApplicationServiceTest {
     @Test
     @DisplayName("상태이력 기록 검증")
     void statusHistoryRecorded() {
-        when(customerMapper.findById(1L)).thenReturn(Customer.builder().id(1L).build());
+        when(customerCache.findById(1L)).thenReturn(Customer.builder().id(1L).build());
         doNothing().when(applicationMapper).insert(any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
 
         LoanApplicationCreateRequest request = LoanApplicationCreateRequest.builder()
                 .customerId(1L)
@@ -127,6 +134,6 @@ class LoanApplicationServiceTest {
 
         applicationService.createApplication(request);
 
-        verify(statusHistoryMapper, times(1)).insert(any());
+        verify(statusHistoryRecorder, times(1)).record(any(), any(), any(), any(), any(), any());
     }
 }
@@ -0,0 +1,97 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.Customer;
+import com.loan.core.domain.entity.LoanApplication;
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.enums.EmploymentType;
+import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.domain.enums.RepaymentMethod;
+import com.loan.core.mapper.CustomerMapper;
+import com.loan.core.mapper.LoanApplicationMapper;
+import com.loan.core.mapper.LoanContractMapper;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Inserts the rows the batch job tests run against: one customer, and ACTIVE 12-month equal-payment contracts of
+ * {@link #PRINCIPAL} with their generated schedules.
+ */
+@TestComponent
+class LoanBookFixture {
+
+    static final BigDecimal PRINCIPAL = new BigDecimal("12000000");
+    static final int TERM_MONTHS = 12;
+
+    private final CustomerMapper customerMapper;
+    private final LoanApplicationMapper applicationMapper;
+    private final LoanContractMapper contractMapper;
+    private final RepaymentScheduleBatchWriter scheduleWriter;
+
+    LoanBookFixture(CustomerMapper customerMapper, LoanApplicationMapper applicationMapper,
+                    LoanContractMapper contractMapper, RepaymentScheduleBatchWriter scheduleWriter) {
+        this.customerMapper = customerMapper;
+        this.applicationMapper = applicationMapper;
+        this.contractMapper = contractMapper;
+        this.scheduleWriter = scheduleWriter;
+    }
+
+    Long customer() {
+        Customer customer = Customer.builder()
+                .customerNo("CUS202601010001")
+                .name("테스트고객")
+                .annualIncome(new BigDecimal("50000000"))
+                .employmentType(EmploymentType.REGULAR)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        customerMapper.insert(customer);
+        return customer.getId();
+    }
+
+    /**
+     * A contract at {@code rate} whose first installment falls due a month after {@code start}; {@code seq} keeps
+     * the business numbers of one test's contracts apart.
+     */
+    Long contract(Long customerId, int seq, BigDecimal rate, LocalDate start) {
+        LoanApplication app = LoanApplication.builder()
+                .applicationNo("APP20260101000" + seq)
+                .customerId(customerId)
+                .requestedAmount(PRINCIPAL)
+                .requestedTermMonths(TERM_MONTHS)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .existingLoanAmount(BigDecimal.ZERO)
+                .status(LoanStatus.EXECUTED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        applicationMapper.insert(app);
+
+        LoanContract contract = LoanContract.builder()
+                .contractNo("CNT20260101000" + seq)
+                .applicationId(app.getId())
+                .customerId(customerId)
+                .principalAmount(PRINCIPAL)
+                .interestRate(rate)
+                .termMonths(TERM_MONTHS)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .monthlyPayment(FixedPointRepaymentCalculator.calculateMonthlyPayment(PRINCIPAL, rate, TERM_MONTHS,
+                        RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST))
+                .outstandingBalance(PRINCIPAL)
+                .totalInterestPaid(BigDecimal.ZERO)
+                .status(LoanStatus.ACTIVE)
+                .startDate(start)
+                .endDate(start.plusMonths(TERM_MONTHS))
+                .executedAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        contractMapper.insert(contract);
+        scheduleWriter.write(FixedPointRepaymentCalculator.generateSchedules(
+                contract.getId(), PRINCIPAL, rate, TERM_MONTHS, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST, start).iterator());
+        return contract.getId();
+    }
+}
@@ -1,20 +1,31 @@
 package com.loan.core.service;
 
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.*;
 import com.loan.core.domain.enums.*;
+import com.loan.core.dto.response.BulkItemResult;
+import com.loan.core.dto.response.BulkOperationResponse;
 import com.loan.core.exception.InvalidStatusTransitionException;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.mapper.*;
+import com.loan.core.mapper.batch.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,14 +37,31 @@ class LoanContractServiceTest {
     @Mock private LoanContractMapper contractMapper;
     @Mock private LoanApplicationMapper applicationMapper;
     @Mock private CreditAssessmentMapper assessmentMapper;
-    @Mock private CustomerMapper customerMapper;
+    @Mock private CustomerCache customerCache;
     @Mock private RepaymentScheduleMapper scheduleMapper;
     @Mock private LoanTransactionMapper transactionMapper;
-    @Mock private StatusHistoryMapper statusHistoryMapper;
+    @Mock private StatusHistoryRecorder statusHistoryRecorder;
+    @Mock private RepaymentScheduleBatchWriter scheduleWriter;
+    @Mock private LoanContractBatchWriter contractBatchWriter;
+    @Mock private LoanApplicationBatchWriter applicationBatchWriter;
+    @Mock private LoanTransactionBatchWriter transactionBatchWriter;
+    @Mock private LoanBatchProperties batchProperties;
+    @Mock private PortfolioSnapshotService snapshotService;
+    @Mock private ReadReplicaRouting readReplicaRouting;
+    @Spy private IdGenerator idGenerator = new IdGenerator(0, Clock.systemDefaultZone());
+    @Mock private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private LoanContractService contractService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
     @Test
     @DisplayName("정상 대출 실행: 계약 생성 + ACTIVE + 스케줄 + 거래 기록")
     void executeLoanSuccess() {
@@ -53,12 +81,12 @@ class LoanContractServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(assessment);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(contractMapper).insert(any());
         doNothing().when(applicationMapper).updateStatus(any(), any());
         doNothing().when(contractMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
-        doNothing().when(scheduleMapper).insertBatch(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
+        when(scheduleWriter.write(any())).thenReturn(12);
         doNothing().when(transactionMapper).insert(any());
 
         LoanContract result = contractService.executeLoan(1L);
@@ -66,7 +94,7 @@ class LoanContractServiceTest {
         assertNotNull(result);
         assertEquals(LoanStatus.ACTIVE, result.getStatus());
         assertTrue(result.getContractNo().startsWith("CNT"));
-        verify(scheduleMapper).insertBatch(any());
+        verify(scheduleWriter).write(any());
         verify(transactionMapper).insert(any());
     }
 
@@ -89,12 +117,12 @@ class LoanContractServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(assessment);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(contractMapper).insert(any());
         doNothing().when(applicationMapper).updateStatus(any(), any());
         doNothing().when(contractMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
-        doNothing().when(scheduleMapper).insertBatch(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
+        when(scheduleWriter.write(any())).thenReturn(12);
         doNothing().when(transactionMapper).insert(any());
 
         contractService.executeLoan(1L);
@@ -157,12 +185,12 @@ class LoanContractServiceTest {
 
         when(applicationMapper.findById(1L)).thenReturn(app);
         when(assessmentMapper.findByApplicationId(1L)).thenReturn(assessment);
-        when(customerMapper.findById(1L)).thenReturn(customer);
+        when(customerCache.findById(1L)).thenReturn(customer);
         doNothing().when(contractMapper).insert(any());
         doNothing().when(applicationMapper).updateStatus(any(), any());
         doNothing().when(contractMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
-        doNothing().when(scheduleMapper).insertBatch(any());
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
+        when(scheduleWriter.write(any())).thenReturn(12);
         doNothing().when(transactionMapper).insert(any());
 
         LoanContract result = contractService.executeLoan(1L);
@@ -171,4 +199,124 @@ class LoanContractServiceTest {
         assertTrue(result.getMonthlyPayment().compareTo(BigDecimal.ZERO) > 0);
         assertEquals(0, result.getTotalInterestPaid().compareTo(BigDecimal.ZERO));
     }
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("일괄 대출 실행: 실행 가능 건만 계약 생성, 나머지는 건별 실패 사유 반환")
+    void executeLoansReportsPerItemResults() {
+        Customer customer = Customer.builder().id(1L).name("홍길동").build();
+        LoanApplication approved = LoanApplication.builder()
+                .id(1L).customerId(1L).customer(customer).status(LoanStatus.APPROVED)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .applicationNo("APP202601010001")
+                .build();
+        LoanApplication draft = LoanApplication.builder()
+                .id(2L).customerId(1L).customer(customer).status(LoanStatus.DRAFT).build();
+        CreditAssessment assessment = CreditAssessment.builder()
+                .applicationId(1L)
+                .approvedAmount(new BigDecimal("10000000"))
+                .approvedRate(new BigDecimal("5.0"))
+                .approvedTermMonths(12)
+                .build();
+
+        when(batchProperties.getChunkSize()).thenReturn(500);
+        when(applicationMapper.findByIds(List.of(1L, 2L, 3L))).thenReturn(List.of(approved, draft));
+        when(assessmentMapper.findByApplicationIds(List.of(1L, 2L, 3L))).thenReturn(List.of(assessment));
+        when(applicationBatchWriter.transitionStatus(List.of(1L), LoanStatus.APPROVED, LoanStatus.EXECUTED))
+                .thenReturn(List.of(1L));
+        doAnswer(invocation -> {
+            List<LoanContract> contracts = invocation.getArgument(0);
+            contracts.get(0).setId(100L);
+            return null;
+        }).when(contractBatchWriter).insertAll(any());
+
+        BulkOperationResponse response = contractService.executeLoans(List.of(1L, 2L, 1L, 3L));
+
+        assertEquals(3, response.getRequested());
+        assertEquals(1, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals(List.of(1L, 2L, 3L), response.getItems().stream().map(BulkItemResult::getId).toList());
+        assertEquals(100L, response.getItems().get(0).getResultId());
+        assertFalse(response.getItems().get(1).isSuccess());
+        assertFalse(response.getItems().get(2).isSuccess());
+
+        ArgumentCaptor<List<LoanContract>> contractCaptor = ArgumentCaptor.forClass(List.class);
+        verify(contractBatchWriter).insertAll(contractCaptor.capture());
+        assertEquals(LoanStatus.ACTIVE, contractCaptor.getValue().get(0).getStatus());
+        verify(statusHistoryRecorder).recordAll(argThat(histories -> histories.size() == 2));
+        verify(transactionBatchWriter).insertAll(argThat(txs -> txs.size() == 1
+                && txs.get(0).getType() == TransactionType.DISBURSEMENT));
+        verify(scheduleWriter).write(any());
+        verify(contractMapper, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("일괄 대출 실행 중 다른 요청이 먼저 상태를 변경한 건은 실패 처리")
+    void executeLoansSkipsConcurrentlyClaimedApplications() {
+        Customer customer = Customer.builder().id(1L).name("홍길동").build();
+        List<LoanApplication> apps = Stream.of(1L, 2L)
+                .map(id -> LoanApplication.builder()
+                        .id(id).customerId(1L).customer(customer).status(LoanStatus.APPROVED)
+                        .repaymentMethod(RepaymentMethod.BULLET)
+                        .build())
+                .toList();
+        List<CreditAssessment> assessments = Stream.of(1L, 2L)
+                .map(id -> CreditAssessment.builder()
+                        .applicationId(id)
+                        .approvedAmount(new BigDecimal("5000000"))
+                        .approvedRate(new BigDecimal("4.0"))
+                        .approvedTermMonths(6)
+                        .build())
+                .toList();
+
+        when(batchProperties.getChunkSize()).thenReturn(500);
+        when(applicationMapper.findByIds(List.of(1L, 2L))).thenReturn(apps);
+        when(assessmentMapper.findByApplicationIds(List.of(1L, 2L))).thenReturn(assessments);
+        when(applicationBatchWriter.transitionStatus(List.of(1L, 2L), LoanStatus.APPROVED, LoanStatus.EXECUTED))
+                .thenReturn(List.of(2L));
+
+        BulkOperationResponse response = contractService.executeLoans(List.of(1L, 2L));
+
+        assertEquals(1, response.getSucceeded());
+        assertFalse(response.getItems().get(0).isSuccess());
+        assertTrue(response.getItems().get(1).isSuccess());
+        verify(contractBatchWriter).insertAll(argThat(contracts -> contracts.size() == 1
+                && contracts.get(0).getApplicationId().equals(2L)));
+    }
+
+    @Test
+    @DisplayName("일괄 대출 실행: 청크 쓰기가 실패하면 그 청크만 롤백되고 건별 실패로 보고")
+    void executeLoansReportsRolledBackChunkAsFailed() {
+        Customer customer = Customer.builder().id(1L).name("홍길동").build();
+        List<LoanApplication> apps = Stream.of(1L, 2L)
+                .map(id -> LoanApplication.builder()
+                        .id(id).customerId(1L).customer(customer).status(LoanStatus.APPROVED)
+                        .repaymentMethod(RepaymentMethod.BULLET)
+                        .build())
+                .toList();
+        List<CreditAssessment> assessments = Stream.of(1L, 2L)
+                .map(id -> CreditAssessment.builder()
+                        .applicationId(id)
+                        .approvedAmount(new BigDecimal("5000000"))
+                        .approvedRate(new BigDecimal("4.0"))
+                        .approvedTermMonths(6)
+                        .build())
+                .toList();
+
+        when(batchProperties.getChunkSize()).thenReturn(1);
+        when(applicationMapper.findByIds(List.of(1L))).thenReturn(apps.subList(0, 1));
+        when(applicationMapper.findByIds(List.of(2L))).thenReturn(apps.subList(1, 2));
+        when(assessmentMapper.findByApplicationIds(List.of(1L))).thenReturn(assessments.subList(0, 1));
+        when(assessmentMapper.findByApplicationIds(List.of(2L))).thenReturn(assessments.subList(1, 2));
+        when(applicationBatchWriter.transitionStatus(any(), eq(LoanStatus.APPROVED), eq(LoanStatus.EXECUTED)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(scheduleWriter.write(any())).thenReturn(6).thenThrow(new IllegalStateException("schedule batch failed"));
+
+        BulkOperationResponse response = contractService.executeLoans(List.of(1L, 2L));
+
+        assertEquals(1, response.getSucceeded());
+        assertTrue(response.getItems().get(0).isSuccess());
+        assertFalse(response.getItems().get(1).isSuccess());
+        assertEquals(2L, response.getItems().get(1).getId());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    }
 }
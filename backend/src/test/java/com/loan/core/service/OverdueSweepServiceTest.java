@@ -0,0 +1,218 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanAuditProperties;
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.LoanOverdueProperties;
+import com.loan.core.config.LoanReplicaProperties;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.*;
+import com.loan.core.domain.enums.*;
+import com.loan.core.dto.response.OverdueSweepReport;
+import com.loan.core.mapper.*;
+import com.loan.core.mapper.batch.LoanContractBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import com.loan.core.mapper.batch.StatusHistoryBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the sweep against real commits: installment marking, contract transitions with their history, the lease
+ * that keeps a second instance out, and resuming an interrupted run from its watermark.
+ */
+@MybatisTest(properties = "loan.batch.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestDataSourceConfig.class, LoanBookFixture.class, OverdueSweepService.class, JobLeaseManager.class, PortfolioSnapshotService.class,
+        StatusHistoryRecorder.class, StatusHistoryBatchWriter.class, LoanContractBatchWriter.class, RepaymentScheduleBatchWriter.class,
+        ReadReplicaRouting.class})
+@EnableConfigurationProperties({LoanBatchProperties.class, LoanOverdueProperties.class, LoanAuditProperties.class,
+        LoanReplicaProperties.class})
+@Sql("classpath:schema-h2.sql")
+class OverdueSweepServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 6, 15);
+    private static final BigDecimal RATE = new BigDecimal("5.00");
+
+    @Autowired private OverdueSweepService sweepService;
+    @Autowired private JobLeaseManager leaseManager;
+    @Autowired private JobLeaseMapper leaseMapper;
+    @Autowired private LoanContractMapper contractMapper;
+    @Autowired private RepaymentScheduleMapper scheduleMapper;
+    @Autowired private StatusHistoryMapper statusHistoryMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private LoanBookFixture fixture;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = fixture.customer();
+    }
+
+    @Test
+    @DisplayName("유예기간에 따라 회차는 OVERDUE, 계약은 ACTIVE 유지/OVERDUE/DEFAULTED로 전환")
+    void sweepMarksInstallmentsAndTransitionsContracts() {
+        Long withinGrace = contract(1, AS_OF.minusDays(2).minusMonths(1));   // 1st installment 2 days late
+        Long overdue = contract(2, AS_OF.minusDays(14).minusMonths(1));      // 14 days late
+        Long defaulted = contract(3, AS_OF.minusDays(120).minusMonths(1));   // 120 days late, 4 installments due
+        Long current = contract(4, AS_OF.minusMonths(1).plusDays(1));        // first installment due tomorrow
+
+        OverdueSweepReport report = sweepService.sweep(AS_OF, false).orElseThrow();
+
+        assertEquals(OverdueSweepReport.Status.COMPLETED, report.getStatus());
+        assertEquals(1 + 1 + 4, report.getInstallmentsMarked());
+        assertEquals(3, report.getContractsScanned());
+        assertEquals(1, report.getContractsOverdue());
+        assertEquals(1, report.getContractsDefaulted());
+
+        assertEquals(LoanStatus.ACTIVE, contractMapper.findById(withinGrace).getStatus());
+        assertEquals(LoanStatus.OVERDUE, contractMapper.findById(overdue).getStatus());
+        assertEquals(LoanStatus.DEFAULTED, contractMapper.findById(defaulted).getStatus());
+        assertEquals(LoanStatus.ACTIVE, contractMapper.findById(current).getStatus());
+        assertEquals(1, scheduleMapper.countOverdue(withinGrace));
+        assertEquals(0, scheduleMapper.countOverdue(current));
+
+        assertEquals(List.of("OVERDUE"), toStatuses(overdue));
+        assertEquals(List.of("OVERDUE", "DEFAULTED"), toStatuses(defaulted));
+        assertTrue(toStatuses(withinGrace).isEmpty());
+
+        JobLease lease = leaseMapper.findByJobName(OverdueSweepService.JOB_NAME);
+        assertEquals(AS_OF, lease.getRunDate());
+        assertNotNull(lease.getCompletedAt());
+        assertNull(lease.getOwner());
+        assertEquals(defaulted, lease.getWatermark());
+    }
+
+    @Test
+    @DisplayName("당일 완료된 점검은 다시 실행하지 않고, 다음 날 연체 기간이 늘면 DEFAULTED로 전환")
+    void completedRunIsNotRepeatedAndLaterRunsEscalate() {
+        Long contractId = contract(1, AS_OF.minusDays(80).minusMonths(1));
+
+        sweepService.sweep(AS_OF, false).orElseThrow();
+        assertEquals(LoanStatus.OVERDUE, contractMapper.findById(contractId).getStatus());
+        assertEquals(Optional.empty(), sweepService.sweep(AS_OF, false));
+
+        OverdueSweepReport later = sweepService.sweep(AS_OF.plusDays(20), false).orElseThrow();
+
+        assertEquals(0, later.getResumedAfterId());
+        assertEquals(1, later.getContractsDefaulted());
+        assertEquals(LoanStatus.DEFAULTED, contractMapper.findById(contractId).getStatus());
+        assertEquals(List.of("OVERDUE", "DEFAULTED"), toStatuses(contractId));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 유효한 점유권을 가지면 실행하지 않음")
+    void leaseHeldElsewhereSkipsRun() {
+        Long contractId = contract(1, AS_OF.minusDays(14).minusMonths(1));
+        leaseMapper.insert(JobLease.builder()
+                .jobName(OverdueSweepService.JOB_NAME)
+                .owner("other-instance")
+                .leaseExpiresAt(LocalDateTime.now().plusMinutes(5))
+                .build());
+
+        assertEquals(Optional.empty(), sweepService.sweep(AS_OF, false));
+        assertEquals(LoanStatus.ACTIVE, contractMapper.findById(contractId).getStatus());
+
+        // Expired: the next attempt takes over
+        jdbcTemplate.update("UPDATE job_leases SET lease_expires_at = ? WHERE job_name = ?",
+                LocalDateTime.now().minusSeconds(1), OverdueSweepService.JOB_NAME);
+        assertTrue(sweepService.sweep(AS_OF, false).isPresent());
+        assertEquals(LoanStatus.OVERDUE, contractMapper.findById(contractId).getStatus());
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스에서 진행 중인 점검이 있으면 두 번째 점검은 시작하지 않음")
+    void secondRunOnTheSameInstanceIsRefused() throws Exception {
+        Long contractId = contract(1, AS_OF.minusDays(14).minusMonths(1));
+        // The scheduled run of this instance is in flight
+        leaseManager.tryAcquire(OverdueSweepService.JOB_NAME, Duration.ofMinutes(5)).orElseThrow();
+
+        assertEquals(Optional.empty(), sweepService.sweep(AS_OF, false));
+        assertEquals(LoanStatus.ACTIVE, contractMapper.findById(contractId).getStatus());
+        assertEquals(leaseManager.owner(), leaseMapper.findByJobName(OverdueSweepService.JOB_NAME).getOwner());
+
+        leaseManager.release(OverdueSweepService.JOB_NAME);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CyclicBarrier start = new CyclicBarrier(2);
+            List<Future<Optional<OverdueSweepReport>>> runs = List.of(
+                    executor.submit(() -> {
+                        start.await();
+                        return sweepService.sweep(AS_OF, false);
+                    }),
+                    executor.submit(() -> {
+                        start.await();
+                        return sweepService.sweep(AS_OF, false);
+                    }));
+            int reports = 0;
+            for (Future<Optional<OverdueSweepReport>> run : runs) {
+                reports += run.get().isPresent() ? 1 : 0;
+            }
+
+            // Overlapping, the second is refused; one after the other, it finds today's run completed
+            assertEquals(1, reports);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of("OVERDUE"), toStatuses(contractId));
+        JobLease lease = leaseMapper.findByJobName(OverdueSweepService.JOB_NAME);
+        assertNull(lease.getOwner());
+        assertNotNull(lease.getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("중단된 점검은 워터마크 이후 계약부터 재개")
+    void interruptedRunResumesAfterWatermark() {
+        Long first = contract(1, AS_OF.minusDays(14).minusMonths(1));
+        Long second = contract(2, AS_OF.minusDays(14).minusMonths(1));
+        Long third = contract(3, AS_OF.minusDays(14).minusMonths(1));
+        // A previous owner committed the chunk up to the first contract, then died with its lease expired
+        leaseMapper.insert(JobLease.builder()
+                .jobName(OverdueSweepService.JOB_NAME)
+                .owner("crashed-instance")
+                .leaseExpiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+        jdbcTemplate.update("UPDATE job_leases SET run_date = ?, watermark = ? WHERE job_name = ?",
+                AS_OF, first, OverdueSweepService.JOB_NAME);
+
+        OverdueSweepReport report = sweepService.sweep(AS_OF, false).orElseThrow();
+
+        assertEquals(first, report.getResumedAfterId());
+        assertEquals(2, report.getContractsScanned());
+        assertEquals(LoanStatus.ACTIVE, contractMapper.findById(first).getStatus());
+        assertEquals(LoanStatus.OVERDUE, contractMapper.findById(second).getStatus());
+        assertEquals(LoanStatus.OVERDUE, contractMapper.findById(third).getStatus());
+    }
+
+    private List<String> toStatuses(Long contractId) {
+        return statusHistoryMapper.findByEntity("LOAN_CONTRACT", contractId).stream()
+                .map(StatusHistory::getToStatus)
+                .toList();
+    }
+
+    private Long contract(int seq, LocalDate start) {
+        return fixture.contract(customerId, seq, RATE, start);
+    }
+}
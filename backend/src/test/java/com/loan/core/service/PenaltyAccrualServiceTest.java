@@ -0,0 +1,167 @@
+package com.loan.core.service;
+
+import com.loan.core.config.BatchExecutorConfig;
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.LoanIdProperties;
+import com.loan.core.config.LoanPenaltyProperties;
+import com.loan.core.config.LoanReplicaProperties;
+import com.loan.core.config.LoanRepricingProperties;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.*;
+import com.loan.core.domain.enums.*;
+import com.loan.core.dto.response.PenaltyAccrualReport;
+import com.loan.core.mapper.*;
+import com.loan.core.mapper.batch.LoanTransactionBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Accrues against real commits with chunks of two contracts, so a small book already spreads over several workers.
+ */
+@MybatisTest(properties = "loan.batch.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestDataSourceConfig.class, LoanBookFixture.class, PenaltyAccrualService.class, JobLeaseManager.class, IdGenerator.class,
+        RepaymentScheduleBatchWriter.class, LoanTransactionBatchWriter.class, ReadReplicaRouting.class,
+        BatchExecutorConfig.class})
+@EnableConfigurationProperties({LoanBatchProperties.class, LoanPenaltyProperties.class, LoanIdProperties.class,
+        LoanReplicaProperties.class, LoanRepricingProperties.class})
+@Sql("classpath:schema-h2.sql")
+class PenaltyAccrualServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 6, 15);
+
+    @Autowired private PenaltyAccrualService accrualService;
+    @Autowired private LoanContractMapper contractMapper;
+    @Autowired private RepaymentScheduleMapper scheduleMapper;
+    @Autowired private LoanTransactionMapper transactionMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private LoanBookFixture fixture;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = fixture.customer();
+    }
+
+    @Test
+    @DisplayName("연체이자: 미납 원리금 × (약정금리 + 가산금리, 상한 적용) × 연체일수 / 365, 소수 둘째 자리 미만 절사")
+    void penaltyFormula() {
+        assertEquals(new BigDecimal("6575.34"),
+                PenaltyAccrualService.penalty(new BigDecimal("1000000"), new BigDecimal("8.00"), 30));
+        assertEquals(new BigDecimal("8.00"), accrualService.penaltyRate(new BigDecimal("5.00")));
+        assertEquals(new BigDecimal("15.00"), accrualService.penaltyRate(new BigDecimal("14.00")));
+    }
+
+    @Test
+    @DisplayName("연체 회차 전체에 연체이자를 쌓고 계약별로 부과 거래를 기록")
+    void accruesEveryOverdueInstallmentAcrossChunks() {
+        Long oneLate = contract(1, "5.00", AS_OF.minusDays(14).minusMonths(1));
+        Long twoLate = contract(2, "5.00", AS_OF.minusDays(14).minusMonths(2));
+        Long capped = contract(3, "14.00", AS_OF.minusDays(40).minusMonths(1));    // 2 installments due
+        Long current = contract(4, "5.00", AS_OF.minusMonths(1).plusDays(1));
+        markOverdue();
+
+        PenaltyAccrualReport report = accrualService.accrue(AS_OF, false).orElseThrow();
+
+        assertEquals(PenaltyAccrualReport.Status.COMPLETED, report.getStatus());
+        assertEquals(3, report.getContractsScanned());
+        assertEquals(3, report.getContractsCharged());
+        assertEquals(1 + 2 + 2, report.getInstallmentsAccrued());
+        assertEquals(0, report.getChunksFailed());
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (Long contractId : List.of(oneLate, twoLate, capped)) {
+            BigDecimal rate = contractId.equals(capped) ? new BigDecimal("15.00") : new BigDecimal("8.00");
+            BigDecimal expected = BigDecimal.ZERO;
+            for (RepaymentSchedule schedule : overdue(contractId)) {
+                BigDecimal penalty = PenaltyAccrualService.penalty(schedule.getTotalAmount(), rate,
+                        ChronoUnit.DAYS.between(schedule.getDueDate(), AS_OF));
+                assertEquals(0, penalty.compareTo(schedule.getAccruedPenalty()));
+                assertEquals(AS_OF, schedule.getPenaltyAccruedTo());
+                expected = expected.add(penalty);
+            }
+            List<LoanTransaction> accruals = accruals(contractId);
+            assertEquals(1, accruals.size());
+            assertEquals(0, expected.compareTo(accruals.get(0).getAmount()));
+            total = total.add(expected);
+        }
+        assertEquals(0, total.compareTo(report.getPenaltyAccrued()));
+        assertTrue(accruals(current).isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 날 다시 실행하면 추가 부과 없음, 다음 날은 하루치만 더해짐")
+    void accrualIsIncremental() {
+        Long contractId = contract(1, "5.00", AS_OF.minusDays(10).minusMonths(1));
+        markOverdue();
+
+        accrualService.accrue(AS_OF, false).orElseThrow();
+        RepaymentSchedule first = overdue(contractId).get(0);
+
+        assertEquals(Optional.empty(), accrualService.accrue(AS_OF, false));
+        PenaltyAccrualReport rerun = accrualService.accrue(AS_OF, true).orElseThrow();
+        assertEquals(0, rerun.getInstallmentsAccrued());
+        assertEquals(1, accruals(contractId).size());
+
+        accrualService.accrue(AS_OF.plusDays(1), false).orElseThrow();
+
+        RepaymentSchedule next = overdue(contractId).get(0);
+        BigDecimal oneDay = PenaltyAccrualService.penalty(first.getTotalAmount(), new BigDecimal("8.00"), 1);
+        assertEquals(0, first.getAccruedPenalty().add(oneDay).compareTo(next.getAccruedPenalty()));
+        assertEquals(AS_OF.plusDays(1), next.getPenaltyAccruedTo());
+        assertEquals(2, accruals(contractId).size());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 유효한 점유권을 가지면 실행하지 않음")
+    void leaseHeldElsewhereSkipsRun() {
+        Long contractId = contract(1, "5.00", AS_OF.minusDays(10).minusMonths(1));
+        markOverdue();
+        jdbcTemplate.update("INSERT INTO job_leases (job_name, owner, lease_expires_at) VALUES (?, ?, ?)",
+                PenaltyAccrualService.JOB_NAME, "other-instance", LocalDateTime.now().plusMinutes(5));
+
+        assertEquals(Optional.empty(), accrualService.accrue(AS_OF, false));
+        assertEquals(0, BigDecimal.ZERO.compareTo(overdue(contractId).get(0).getAccruedPenalty()));
+    }
+
+    private void markOverdue() {
+        jdbcTemplate.update("UPDATE repayment_schedules SET status = 'OVERDUE' WHERE status = 'SCHEDULED' AND due_date < ?", AS_OF);
+    }
+
+    private List<RepaymentSchedule> overdue(Long contractId) {
+        return scheduleMapper.findByContractId(contractId).stream()
+                .filter(schedule -> schedule.getStatus() == RepaymentStatus.OVERDUE)
+                .toList();
+    }
+
+    private List<LoanTransaction> accruals(Long contractId) {
+        return transactionMapper.findByContractId(contractId).stream()
+                .filter(transaction -> transaction.getType() == TransactionType.PENALTY_ACCRUAL)
+                .toList();
+    }
+
+    private Long contract(int seq, String rate, LocalDate start) {
+        return fixture.contract(customerId, seq, new BigDecimal(rate), start);
+    }
+}
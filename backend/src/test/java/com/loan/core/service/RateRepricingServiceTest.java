@@ -0,0 +1,230 @@
+package com.loan.core.service;
+
+import com.loan.core.config.BatchExecutorConfig;
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.LoanPenaltyProperties;
+import com.loan.core.config.LoanReplicaProperties;
+import com.loan.core.config.LoanRepricingProperties;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.*;
+import com.loan.core.domain.enums.*;
+import com.loan.core.dto.response.RepricingReport;
+import com.loan.core.mapper.*;
+import com.loan.core.mapper.batch.LoanContractBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Reprices against real commits with chunks of two contracts, so a small book already spreads over several workers.
+ */
+@MybatisTest(properties = "loan.batch.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestDataSourceConfig.class, LoanBookFixture.class, RateRepricingService.class, JobLeaseManager.class, LoanContractBatchWriter.class,
+        RepaymentScheduleBatchWriter.class, ReadReplicaRouting.class, BatchExecutorConfig.class})
+@EnableConfigurationProperties({LoanBatchProperties.class, LoanRepricingProperties.class, LoanPenaltyProperties.class,
+        LoanReplicaProperties.class})
+@Sql("classpath:schema-h2.sql")
+class RateRepricingServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 6, 15);
+    private static final LocalDate START = LocalDate.of(2026, 3, 10);
+
+    @Autowired private RateRepricingService repricingService;
+    @Autowired private LoanContractMapper contractMapper;
+    @Autowired private RepaymentScheduleMapper scheduleMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private LoanBookFixture fixture;
+    @MockitoSpyBean private LoanContractBatchWriter contractBatchWriter;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = fixture.customer();
+        repricingService.publishRate("COFIX", LocalDate.of(2026, 1, 1), new BigDecimal("3.00"));
+    }
+
+    @Test
+    @DisplayName("연동 계약 전체를 새 기준금리로 옮기고, 새 이자 기간의 회차만 같은 만기로 재계산")
+    void repricesEveryLinkedContractAcrossChunks() {
+        List<Long> linked = List.of(contract(1, "COFIX"), contract(2, "COFIX"), contract(3, "COFIX"),
+                contract(4, "COFIX"), contract(5, "COFIX"));
+        Long fixed = contract(6, null);
+        Long otherIndex = contract(7, "OTHER");
+        List<RepaymentSchedule> before = scheduleMapper.findByContractId(linked.get(0));
+        repricingService.publishRate("COFIX", AS_OF, new BigDecimal("4.00"));
+
+        RepricingReport report = repricingService.reprice(AS_OF, false).orElseThrow();
+
+        // Installments due from 2026-08-10 start their period after the rate took effect: 8 of 12 per contract
+        assertEquals(RepricingReport.Status.COMPLETED, report.getStatus());
+        assertEquals(5, report.getContractsScanned());
+        assertEquals(5, report.getContractsRepriced());
+        assertEquals(0, report.getChunksFailed());
+        assertEquals(5 * 8, report.getInstallmentsRewritten());
+
+        for (Long contractId : linked) {
+            LoanContract contract = contractMapper.findById(contractId);
+            List<RepaymentSchedule> schedules = scheduleMapper.findByContractId(contractId);
+            List<RepaymentSchedule> tail = schedules.subList(4, 12);
+            BigDecimal tailPrincipal = tail.stream().map(RepaymentSchedule::getPrincipalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            assertEquals(0, new BigDecimal("6.00").compareTo(contract.getInterestRate()));
+            assertEquals(AS_OF, contract.getRateEffectiveDate());
+            assertEquals(0, RepaymentCalculator.calculateMonthlyPayment(tailPrincipal, new BigDecimal("6.00"), 8,
+                    RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST).compareTo(contract.getMonthlyPayment()));
+            assertEquals(0, tail.get(0).getTotalAmount().compareTo(contract.getMonthlyPayment()));
+            assertEquals(0, tail.get(7).getOutstandingBalanceAfter().signum());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(0, before.get(i).getTotalAmount().compareTo(schedules.get(i).getTotalAmount()));
+            }
+            assertEquals(0, before.subList(4, 12).stream().map(RepaymentSchedule::getPrincipalAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add).compareTo(tailPrincipal));
+        }
+        assertEquals(0, new BigDecimal("5.00").compareTo(contractMapper.findById(fixed).getInterestRate()));
+        assertEquals(0, new BigDecimal("5.00").compareTo(contractMapper.findById(otherIndex).getInterestRate()));
+    }
+
+    @Test
+    @DisplayName("새로 적용할 금리가 없으면 실행하지 않고, 중단된 실행은 남은 계약만 재산정")
+    void repricingIsResumableAndSkipsWhenNothingIsNew() {
+        Long done = contract(1, "COFIX");
+        Long pending = contract(2, "COFIX");
+        repricingService.publishRate("COFIX", AS_OF, new BigDecimal("4.00"));
+        // As if an earlier attempt repriced the first contract and then failed
+        jdbcTemplate.update("UPDATE loan_contracts SET rate_effective_date = ? WHERE id = ?", AS_OF, done);
+
+        RepricingReport report = repricingService.reprice(AS_OF, false).orElseThrow();
+
+        assertEquals(1, report.getContractsScanned());
+        assertEquals(AS_OF, contractMapper.findById(pending).getRateEffectiveDate());
+        assertEquals(Optional.empty(), repricingService.reprice(AS_OF, false));
+        assertEquals(0, repricingService.reprice(AS_OF, true).orElseThrow().getContractsScanned());
+
+        repricingService.publishRate("COFIX", AS_OF.plusDays(1), new BigDecimal("3.50"));
+        assertEquals(Optional.empty(), repricingService.reprice(AS_OF, false));
+        RepricingReport next = repricingService.reprice(AS_OF.plusDays(1), false).orElseThrow();
+        assertEquals(2, next.getContractsRepriced());
+        assertEquals(0, new BigDecimal("5.50").compareTo(contractMapper.findById(done).getInterestRate()));
+    }
+
+    @Test
+    @DisplayName("먼저 공시됐지만 나중에 시행되는 금리도 시행일 실행에서 적용")
+    void rateEffectiveAfterALaterPublishedOneIsApplied() {
+        Long contractId = contract(1, "COFIX");
+        LocalDate later = AS_OF.plusMonths(1);
+        repricingService.publishRate("COFIX", later, new BigDecimal("3.50"));
+        repricingService.publishRate("COFIX", AS_OF, new BigDecimal("4.00"));
+
+        assertEquals(1, repricingService.reprice(AS_OF, false).orElseThrow().getContractsRepriced());
+        assertEquals(Optional.empty(), repricingService.reprice(AS_OF.plusDays(1), false));
+
+        RepricingReport report = repricingService.reprice(later, false).orElseThrow();
+        assertEquals(1, report.getContractsRepriced());
+        assertEquals(later, contractMapper.findById(contractId).getRateEffectiveDate());
+        assertEquals(0, new BigDecimal("5.50").compareTo(contractMapper.findById(contractId).getInterestRate()));
+    }
+
+    @Test
+    @DisplayName("실행 중 다른 요청이 변경해 건너뛴 계약은 다음 정기 실행에서 재산정")
+    void contractsSkippedForConcurrentWritesAreRepricedByTheNextRun() {
+        Long changed = contract(1, "COFIX");
+        Long other = contract(2, "COFIX");
+        repricingService.publishRate("COFIX", AS_OF, new BigDecimal("4.00"));
+        // A repayment commits on the first contract between the chunk's read and its write
+        AtomicBoolean raced = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (raced.compareAndSet(false, true)) {
+                jdbcTemplate.update("UPDATE loan_contracts SET version = version + 1 WHERE id = ?", changed);
+            }
+            return invocation.callRealMethod();
+        }).when(contractBatchWriter).reprice(anyList());
+
+        RepricingReport report = repricingService.reprice(AS_OF, false).orElseThrow();
+
+        assertEquals(RepricingReport.Status.COMPLETED, report.getStatus());
+        assertEquals(1, report.getContractsRepriced());
+        assertEquals(1, report.getContractsSkipped());
+        assertEquals(LocalDate.of(2026, 1, 1), contractMapper.findById(changed).getRateEffectiveDate());
+        assertEquals(AS_OF, contractMapper.findById(other).getRateEffectiveDate());
+
+        RepricingReport next = repricingService.reprice(AS_OF, false).orElseThrow();
+        assertEquals(1, next.getContractsRepriced());
+        assertEquals(0, next.getContractsSkipped());
+        assertEquals(0, new BigDecimal("6.00").compareTo(contractMapper.findById(changed).getInterestRate()));
+        assertEquals(Optional.empty(), repricingService.reprice(AS_OF, false));
+    }
+
+    @Test
+    @DisplayName("변동금리로 전환하면 현재 기준금리 + 가산금리로 남은 회차를 즉시 재계산")
+    void linkingRepricesImmediately() {
+        LocalDate start = LocalDate.now().minusDays(5);
+        Long contractId = contract(1, null, start);
+
+        LoanContract contract = repricingService.linkRateIndex(contractId, "COFIX", new BigDecimal("1.50"));
+
+        List<RepaymentSchedule> expected = FixedPointRepaymentCalculator.generateSchedules(contractId, LoanBookFixture.PRINCIPAL,
+                new BigDecimal("4.50"), 12, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST, start);
+        List<RepaymentSchedule> schedules = scheduleMapper.findByContractId(contractId);
+        assertEquals("COFIX", contract.getRateIndexCode());
+        assertEquals(0, new BigDecimal("4.50").compareTo(contract.getInterestRate()));
+        assertEquals(LocalDate.of(2026, 1, 1), contract.getRateEffectiveDate());
+        assertEquals(0, RepaymentCalculator.calculateMonthlyPayment(LoanBookFixture.PRINCIPAL, new BigDecimal("4.50"), 12,
+                RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST).compareTo(contract.getMonthlyPayment()));
+        for (int i = 0; i < 12; i++) {
+            assertEquals(0, expected.get(i).getTotalAmount().compareTo(schedules.get(i).getTotalAmount()));
+            assertEquals(0, expected.get(i).getInterestAmount().compareTo(schedules.get(i).getInterestAmount()));
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 유효한 점유권을 가지면 실행하지 않음")
+    void leaseHeldElsewhereSkipsRun() {
+        Long contractId = contract(1, "COFIX");
+        repricingService.publishRate("COFIX", AS_OF, new BigDecimal("4.00"));
+        jdbcTemplate.update("INSERT INTO job_leases (job_name, owner, lease_expires_at) VALUES (?, ?, ?)",
+                RateRepricingService.JOB_NAME, "other-instance", LocalDateTime.now().plusMinutes(5));
+
+        assertEquals(Optional.empty(), repricingService.reprice(AS_OF, false));
+        assertEquals(0, new BigDecimal("5.00").compareTo(contractMapper.findById(contractId).getInterestRate()));
+    }
+
+    private Long contract(int seq, String indexCode) {
+        return contract(seq, indexCode, START);
+    }
+
+    /**
+     * A 12-month contract at 5.00%: on index {@code indexCode} (3.00 from 2026-01-01) with a 2.00 spread, or fixed.
+     */
+    private Long contract(int seq, String indexCode, LocalDate start) {
+        Long contractId = fixture.contract(customerId, seq, new BigDecimal("5.00"), start);
+        if (indexCode != null) {
+            jdbcTemplate.update("UPDATE loan_contracts SET rate_index_code = ?, rate_spread = 2.00, rate_effective_date = ? WHERE id = ?",
+                    indexCode, LocalDate.of(2026, 1, 1), contractId);
+        }
+        return contractId;
+    }
+}
@@ -0,0 +1,170 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.LoanContract;
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.ReamortizationMode;
+import com.loan.core.domain.enums.RepaymentMethod;
+import com.loan.core.domain.enums.RepaymentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepaymentAllocatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+    private static final LoanContract CONTRACT = LoanContract.builder()
+            .id(1L)
+            .interestRate(new BigDecimal("6.00"))
+            .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+            .build();
+
+    @Test
+    @DisplayName("정확한 금액은 현재 회차만 납부완료 처리")
+    void exactPaymentClosesCurrentInstallment() {
+        List<RepaymentSchedule> unpaid = List.of(
+                installment(1, TODAY.plusDays(5), "100000", "3000"),
+                installment(2, TODAY.plusDays(35), "100500", "2500"));
+
+        RepaymentAllocation allocation = RepaymentAllocator.allocate(CONTRACT, unpaid, amount("103000"), TODAY, ReamortizationMode.KEEP_PAYMENT);
+
+        assertEquals(List.of(unpaid.get(0)), allocation.changed());
+        assertEquals(RepaymentStatus.PAID, unpaid.get(0).getStatus());
+        assertEquals(TODAY, unpaid.get(0).getPaidDate());
+        assertEquals(2, allocation.nextInstallmentNo());
+        assertEquals(0, allocation.interest().compareTo(amount("3000")));
+        assertEquals(0, allocation.principal().compareTo(amount("100000")));
+        assertEquals(0, allocation.unapplied().signum());
+    }
+
+    @Test
+    @DisplayName("부족한 금액은 연체이자 → 이자 → 원금 순으로 연체 회차 전체에 배분")
+    void underpaymentRunsTheWaterfallAcrossDueInstallments() {
+        RepaymentSchedule first = installment(1, TODAY.minusDays(40), "100000", "3000");
+        first.setAccruedPenalty(amount("900"));
+        RepaymentSchedule second = installment(2, TODAY.minusDays(10), "100500", "2500");
+        second.setAccruedPenalty(amount("100"));
+        RepaymentSchedule current = installment(3, TODAY.plusDays(20), "101000", "2000");
+        RepaymentSchedule future = installment(4, TODAY.plusDays(50), "101500", "1500");
+        List<RepaymentSchedule> unpaid = List.of(first, second, current, future);
+
+        // penalties 1,000 + interest 7,500 + 50,000 of the oldest principal
+        RepaymentAllocation allocation = RepaymentAllocator.allocate(CONTRACT, unpaid, amount("58500"), TODAY, ReamortizationMode.KEEP_PAYMENT);
+
+        assertEquals(0, allocation.penalty().compareTo(amount("1000")));
+        assertEquals(0, allocation.interest().compareTo(amount("7500")));
+        assertEquals(0, allocation.principal().compareTo(amount("50000")));
+        assertEquals(List.of(first, second, current), allocation.changed());
+        assertEquals(0, first.getPaidAmount().compareTo(amount("53000")));
+        assertEquals(0, second.getPaidAmount().compareTo(amount("2500")));
+        assertEquals(0, current.getPaidAmount().compareTo(amount("2000")));
+        assertNull(future.getPaidAmount());
+        assertTrue(unpaid.stream().noneMatch(s -> s.getStatus() == RepaymentStatus.PAID));
+        assertEquals(RepaymentStatus.OVERDUE, first.getStatus());
+        assertEquals(1, allocation.nextInstallmentNo());
+        assertEquals(1, allocation.firstInstallmentNo());
+        assertEquals(3, allocation.lastInstallmentNo());
+    }
+
+    @Test
+    @DisplayName("부분 납부된 회차는 남은 원금만 받고 납부완료")
+    void partlyPaidInstallmentTakesOnlyItsRemainingPrincipal() {
+        RepaymentSchedule first = installment(1, TODAY.minusDays(40), "100000", "3000");
+        first.setPaidAmount(amount("53000"));
+        RepaymentSchedule current = installment(2, TODAY.plusDays(20), "100500", "2500");
+        List<RepaymentSchedule> unpaid = List.of(first, current);
+
+        RepaymentAllocation allocation = RepaymentAllocator.allocate(CONTRACT, unpaid, amount("52500"), TODAY, ReamortizationMode.KEEP_PAYMENT);
+
+        // interest of the current installment comes before the rest of the older principal
+        assertEquals(0, allocation.interest().compareTo(amount("2500")));
+        assertEquals(0, allocation.principal().compareTo(amount("50000")));
+        assertEquals(RepaymentStatus.PAID, first.getStatus());
+        assertEquals(RepaymentStatus.SCHEDULED, current.getStatus());
+        assertEquals(2, allocation.nextInstallmentNo());
+    }
+
+    @Test
+    @DisplayName("초과 금액은 선납 원금으로 남은 회차를 다시 계산하고, 월 상환액을 유지하면 뒤 회차가 없어짐")
+    void overpaymentKeepsThePaymentAndShortensTheTerm() {
+        RepaymentSchedule current = installment(1, TODAY.plusDays(5), "100000", "3000");
+        RepaymentSchedule second = installment(2, TODAY.plusDays(35), "100500", "2500");
+        RepaymentSchedule third = installment(3, TODAY.plusDays(65), "101000", "2000");
+        List<RepaymentSchedule> unpaid = List.of(current, second, third);
+
+        RepaymentAllocation allocation = RepaymentAllocator.allocate(CONTRACT, unpaid, amount("254000"), TODAY,
+                ReamortizationMode.KEEP_PAYMENT);
+
+        // 50,500 left is repaid by the second installment alone, with interest on the lower balance
+        assertEquals(0, allocation.prepayment().compareTo(amount("151000")));
+        assertNull(allocation.reamortization().monthlyPayment());
+        assertEquals(List.of(third), allocation.reamortization().removed());
+        assertEquals(second.getDueDate(), allocation.reamortization().endDate());
+        assertEquals(List.of(current, second), allocation.changed());
+        assertEquals(RepaymentStatus.SCHEDULED, second.getStatus());
+        assertEquals(0, second.getPrincipalAmount().compareTo(amount("50500")));
+        assertEquals(0, second.getInterestAmount().compareTo(amount("252.50")));
+        assertEquals(2, allocation.nextInstallmentNo());
+        assertEquals(0, allocation.principalReduction().compareTo(amount("251000")));
+    }
+
+    @Test
+    @DisplayName("기간 유지 재산정은 남은 회차를 같은 만기로 다시 계산하고 원금 합계는 잔액과 일치")
+    void reamortizationKeepsTheTermAndLowersThePayment() {
+        RepaymentSchedule current = installment(1, TODAY.plusDays(5), "100000", "3000");
+        RepaymentSchedule second = installment(2, TODAY.plusDays(35), "100500", "2500");
+        RepaymentSchedule third = installment(3, TODAY.plusDays(65), "101000", "2000");
+        LocalDate thirdDueDate = third.getDueDate();
+        List<RepaymentSchedule> unpaid = List.of(current, second, third);
+
+        RepaymentAllocation allocation = RepaymentAllocator.allocate(CONTRACT, unpaid, amount("203000"), TODAY,
+                ReamortizationMode.KEEP_TERM);
+
+        assertEquals(0, allocation.prepayment().compareTo(amount("100000")));
+        assertEquals(List.of(current, second, third), allocation.changed());
+        assertEquals(0, second.getPrincipalAmount().add(third.getPrincipalAmount()).compareTo(amount("101500")));
+        BigDecimal monthlyPayment = allocation.reamortization().monthlyPayment();
+        assertTrue(monthlyPayment.compareTo(amount("103000")) < 0);
+        assertEquals(0, second.getTotalAmount().compareTo(monthlyPayment));
+        assertTrue(allocation.reamortization().removed().isEmpty());
+        assertEquals(thirdDueDate, third.getDueDate());
+        assertEquals(RepaymentStatus.SCHEDULED, third.getStatus());
+    }
+
+    @Test
+    @DisplayName("갚을 금액을 모두 넘는 금액은 미적용으로 반환")
+    void amountBeyondEverythingOwedIsUnapplied() {
+        RepaymentSchedule current = installment(1, TODAY.plusDays(5), "100000", "3000");
+        RepaymentSchedule last = installment(2, TODAY.plusDays(35), "100500", "2500");
+        List<RepaymentSchedule> unpaid = List.of(current, last);
+
+        RepaymentAllocation allocation = RepaymentAllocator.allocate(CONTRACT, unpaid, amount("210000"), TODAY, ReamortizationMode.KEEP_TERM);
+
+        assertEquals(0, allocation.unapplied().compareTo(amount("6500")));
+        assertNull(allocation.reamortization());
+        assertTrue(unpaid.stream().allMatch(s -> s.getStatus() == RepaymentStatus.PAID));
+        assertEquals(3, allocation.nextInstallmentNo());
+    }
+
+    private static BigDecimal amount(String value) {
+        return new BigDecimal(value);
+    }
+
+    private static RepaymentSchedule installment(int installmentNo, LocalDate dueDate, String principal, String interest) {
+        return RepaymentSchedule.builder()
+                .id((long) installmentNo)
+                .contractId(1L)
+                .installmentNo(installmentNo)
+                .dueDate(dueDate)
+                .status(dueDate.isBefore(TODAY) ? RepaymentStatus.OVERDUE : RepaymentStatus.SCHEDULED)
+                .version(0L)
+                .principalAmount(amount(principal))
+                .interestAmount(amount(interest))
+                .totalAmount(amount(principal).add(amount(interest)))
+                .build();
+    }
+}
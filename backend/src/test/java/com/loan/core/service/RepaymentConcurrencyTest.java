@@ -0,0 +1,186 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanAuditProperties;
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.LoanIdProperties;
+import com.loan.core.config.LoanLockProperties;
+import com.loan.core.config.LoanReplicaProperties;
+import com.loan.core.config.LoanRetryProperties;
+import com.loan.core.config.ReadReplicaRouting;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.*;
+import com.loan.core.domain.enums.*;
+import com.loan.core.exception.BusinessException;
+import com.loan.core.mapper.*;
+import com.loan.core.mapper.batch.LoanContractBatchWriter;
+import com.loan.core.mapper.batch.LoanTransactionBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import com.loan.core.mapper.batch.StatusHistoryBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repayments race on one contract from many threads with real commits; the contract's lock stripe, version
+ * checks and retries must leave every installment paid exactly once and the balance equal to what the schedule says.
+ */
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestDataSourceConfig.class, RepaymentService.class, OptimisticTransactionRunner.class, StripedLockExecutor.class,
+        IdGenerator.class, PortfolioSnapshotService.class, StatusHistoryRecorder.class, LoanContractBatchWriter.class,
+        StatusHistoryBatchWriter.class, LoanTransactionBatchWriter.class, RepaymentScheduleBatchWriter.class,
+        ReadReplicaRouting.class})
+@EnableConfigurationProperties({LoanBatchProperties.class, LoanIdProperties.class, LoanRetryProperties.class,
+        LoanLockProperties.class, LoanAuditProperties.class, LoanReplicaProperties.class})
+@Sql("classpath:schema-h2.sql")
+class RepaymentConcurrencyTest {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("12000000");
+    private static final BigDecimal RATE = new BigDecimal("5.00");
+    private static final int TERM = 24;
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 4;
+
+    @Autowired private RepaymentService repaymentService;
+    @Autowired private LoanContractMapper contractMapper;
+    @Autowired private RepaymentScheduleMapper scheduleMapper;
+    @Autowired private RepaymentScheduleBatchWriter scheduleWriter;
+    @Autowired private LoanTransactionMapper transactionMapper;
+    @Autowired private LoanApplicationMapper applicationMapper;
+    @Autowired private CustomerMapper customerMapper;
+
+    private Long contractId;
+    private BigDecimal monthlyPayment;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = Customer.builder()
+                .customerNo("CUS202601010001")
+                .name("테스트고객")
+                .annualIncome(new BigDecimal("50000000"))
+                .employmentType(EmploymentType.REGULAR)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        customerMapper.insert(customer);
+
+        LoanApplication app = LoanApplication.builder()
+                .applicationNo("APP202601010001")
+                .customerId(customer.getId())
+                .requestedAmount(PRINCIPAL)
+                .requestedTermMonths(TERM)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .existingLoanAmount(BigDecimal.ZERO)
+                .status(LoanStatus.EXECUTED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        applicationMapper.insert(app);
+
+        // Nothing is due yet, so each payment covers exactly the installment of the current period
+        LocalDate start = LocalDate.now();
+        LoanContract contract = LoanContract.builder()
+                .contractNo("CNT202601010001")
+                .applicationId(app.getId())
+                .customerId(customer.getId())
+                .principalAmount(PRINCIPAL)
+                .interestRate(RATE)
+                .termMonths(TERM)
+                .repaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST)
+                .monthlyPayment(FixedPointRepaymentCalculator.calculateMonthlyPayment(
+                        PRINCIPAL, RATE, TERM, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST))
+                .outstandingBalance(PRINCIPAL)
+                .totalInterestPaid(BigDecimal.ZERO)
+                .status(LoanStatus.ACTIVE)
+                .startDate(start)
+                .endDate(start.plusMonths(TERM))
+                .executedAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        contractMapper.insert(contract);
+        contractId = contract.getId();
+        monthlyPayment = contract.getMonthlyPayment();
+
+        scheduleWriter.write(FixedPointRepaymentCalculator.generateSchedules(
+                contractId, PRINCIPAL, RATE, TERM, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST, start).iterator());
+    }
+
+    @Test
+    @DisplayName("동시 상환 요청이 몰려도 각 회차는 한 번만 상환되고 잔액은 스케줄과 일치")
+    void concurrentRepaymentsPayEachInstallmentOnce() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        try {
+                            // The last installment is a few cents smaller; the excess is reported as unapplied
+                            repaymentService.repay(contractId, monthlyPayment);
+                            succeeded.incrementAndGet();
+                        } catch (BusinessException e) {
+                            // Requests beyond the last installment find the contract COMPLETED
+                            rejected.incrementAndGet();
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected failures: " + unexpected);
+        assertEquals(TERM, succeeded.get());
+        assertEquals(THREADS * REQUESTS_PER_THREAD - TERM, rejected.get());
+
+        List<RepaymentSchedule> schedules = scheduleMapper.findByContractId(contractId);
+        assertTrue(schedules.stream().allMatch(s -> s.getStatus() == RepaymentStatus.PAID));
+        assertTrue(schedules.stream().allMatch(s -> s.getVersion() == 1L));
+        BigDecimal totalInterest = schedules.stream()
+                .map(RepaymentSchedule::getInterestAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        LoanContract contract = contractMapper.findById(contractId);
+        assertEquals(LoanStatus.COMPLETED, contract.getStatus());
+        assertEquals(0, contract.getOutstandingBalance().compareTo(BigDecimal.ZERO));
+        assertEquals(0, contract.getTotalInterestPaid().compareTo(totalInterest));
+        assertEquals(TERM + 1, contract.getNextInstallmentNo());
+
+        List<LoanTransaction> transactions = transactionMapper.findByContractId(contractId);
+        assertEquals(TERM, transactions.size());
+        assertEquals(TERM, transactions.stream().map(LoanTransaction::getDescription)
+                .map(description -> description.substring(0, description.indexOf(',')))
+                .distinct().count());
+    }
+}
@@ -1,29 +1,44 @@
 package com.loan.core.service;
 
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.ReadReplicaRouting;
 import com.loan.core.domain.entity.LoanContract;
 import com.loan.core.domain.entity.LoanTransaction;
 import com.loan.core.domain.entity.RepaymentSchedule;
 import com.loan.core.domain.enums.LoanStatus;
+import com.loan.core.domain.enums.ReamortizationMode;
+import com.loan.core.domain.enums.RepaymentMethod;
 import com.loan.core.domain.enums.RepaymentStatus;
 import com.loan.core.domain.enums.TransactionType;
+import com.loan.core.dto.response.BulkItemResult;
+import com.loan.core.dto.response.BulkOperationResponse;
 import com.loan.core.exception.BusinessException;
+import com.loan.core.exception.ConcurrentUpdateException;
 import com.loan.core.exception.ResourceNotFoundException;
 import com.loan.core.mapper.LoanContractMapper;
-import com.loan.core.mapper.LoanTransactionMapper;
 import com.loan.core.mapper.RepaymentScheduleMapper;
-import com.loan.core.mapper.StatusHistoryMapper;
+import com.loan.core.mapper.batch.LoanContractBatchWriter;
+import com.loan.core.mapper.batch.LoanTransactionBatchWriter;
+import com.loan.core.mapper.batch.RepaymentScheduleBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,63 +46,113 @@ class RepaymentServiceTest {
 
     @Mock private LoanContractMapper contractMapper;
     @Mock private RepaymentScheduleMapper scheduleMapper;
-    @Mock private LoanTransactionMapper transactionMapper;
-    @Mock private StatusHistoryMapper statusHistoryMapper;
+    @Mock private StatusHistoryRecorder statusHistoryRecorder;
+    @Mock private PortfolioSnapshotService snapshotService;
+    @Mock private ReadReplicaRouting readReplicaRouting;
+    @Mock private LoanContractBatchWriter contractBatchWriter;
+    @Mock private LoanTransactionBatchWriter transactionBatchWriter;
+    @Mock private RepaymentScheduleBatchWriter scheduleBatchWriter;
+    @Mock private LoanBatchProperties batchProperties;
+    @Mock private OptimisticTransactionRunner transactionRunner;
+    @Spy private IdGenerator idGenerator = new IdGenerator(0, Clock.systemDefaultZone());
+    @Spy private StripedLockExecutor contractLocks = new StripedLockExecutor(16, Duration.ofSeconds(1));
 
     @InjectMocks
     private RepaymentService repaymentService;
 
+    @BeforeEach
+    void runWorkInline() {
+        lenient().when(transactionRunner.run(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     private LoanContract activeContract(BigDecimal balance) {
         return LoanContract.builder()
                 .id(1L).status(LoanStatus.ACTIVE)
+                .nextInstallmentNo(1)
+                .version(3L)
                 .outstandingBalance(balance)
                 .totalInterestPaid(BigDecimal.ZERO)
                 .build();
     }
 
+    private static RepaymentSchedule installment(long id, int installmentNo, LocalDate dueDate, String principal, String interest) {
+        return RepaymentSchedule.builder()
+                .id(id).installmentNo(installmentNo).dueDate(dueDate)
+                .status(dueDate.isBefore(LocalDate.now()) ? RepaymentStatus.OVERDUE : RepaymentStatus.SCHEDULED)
+                .version(0L)
+                .principalAmount(new BigDecimal(principal))
+                .interestAmount(new BigDecimal(interest))
+                .totalAmount(new BigDecimal(principal).add(new BigDecimal(interest)))
+                .accruedPenalty(BigDecimal.ZERO)
+                .paidPenalty(BigDecimal.ZERO)
+                .build();
+    }
+
     @Test
     @DisplayName("정상 상환: 잔액 감소 + PAID + 거래 기록")
     void repaySuccess() {
         LoanContract contract = activeContract(new BigDecimal("10000000"));
-        RepaymentSchedule schedule = RepaymentSchedule.builder()
-                .id(1L).installmentNo(1).status(RepaymentStatus.SCHEDULED)
-                .principalAmount(new BigDecimal("800000"))
-                .interestAmount(new BigDecimal("41667"))
-                .totalAmount(new BigDecimal("841667"))
-                .build();
+        RepaymentSchedule first = installment(1L, 1, LocalDate.now().plusDays(10), "800000", "41667");
+        RepaymentSchedule second = installment(2L, 2, LocalDate.now().plusDays(41), "803333", "38334");
 
         when(contractMapper.findById(1L)).thenReturn(contract);
-        when(scheduleMapper.findByContractId(1L)).thenReturn(List.of(schedule));
-        doNothing().when(scheduleMapper).updateStatus(any(), any(), any(), any());
-        doNothing().when(contractMapper).updateBalance(any(), any(), any());
-        doNothing().when(transactionMapper).insert(any());
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(List.of(first, second));
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(1);
 
         LoanTransaction tx = repaymentService.repay(1L, new BigDecimal("841667"));
 
         assertNotNull(tx);
         assertEquals(TransactionType.REPAYMENT, tx.getType());
-        verify(scheduleMapper).updateStatus(eq(1L), eq("PAID"), any(), any());
-        verify(contractMapper).updateBalance(eq(1L), any(), any());
+        assertEquals(0, tx.getAmount().compareTo(new BigDecimal("841667")));
+        verify(scheduleBatchWriter).applyPayments(List.of(first));
+        assertEquals(RepaymentStatus.PAID, first.getStatus());
+        assertEquals(RepaymentStatus.SCHEDULED, second.getStatus());
+        verify(contractMapper).applyRepayment(1L, 3L, 1, new BigDecimal("9200000"), new BigDecimal("41667"));
+        verify(transactionBatchWriter).insertAll(List.of(tx));
+        verify(scheduleMapper, never()).findByContractId(any());
+    }
+
+    @Test
+    @DisplayName("다른 상환이 먼저 계약 버전을 올리면 ConcurrentUpdateException")
+    void repayLosingVersionRaceThrows() {
+        LoanContract contract = activeContract(new BigDecimal("10000000"));
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(List.of(installment(1L, 1, LocalDate.now().plusDays(10), "800000", "41667")));
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(0);
+
+        assertThrows(ConcurrentUpdateException.class,
+                () -> repaymentService.repay(1L, new BigDecimal("841667")));
+        verify(scheduleBatchWriter, never()).applyPayments(any());
+        verify(transactionBatchWriter, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("회차가 먼저 변경되면 ConcurrentUpdateException")
+    void repayLosingScheduleRaceThrows() {
+        LoanContract contract = activeContract(new BigDecimal("10000000"));
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(List.of(installment(1L, 1, LocalDate.now().plusDays(10), "800000", "41667")));
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(0);
+
+        assertThrows(ConcurrentUpdateException.class,
+                () -> repaymentService.repay(1L, new BigDecimal("841667")));
+        verify(transactionBatchWriter, never()).insertAll(any());
     }
 
     @Test
     @DisplayName("마지막 회차 상환 시 COMPLETED 전환")
     void repayLastInstallmentCompletesLoan() {
         LoanContract contract = activeContract(new BigDecimal("800000"));
-        RepaymentSchedule schedule = RepaymentSchedule.builder()
-                .id(1L).installmentNo(12).status(RepaymentStatus.SCHEDULED)
-                .principalAmount(new BigDecimal("800000"))
-                .interestAmount(new BigDecimal("3333"))
-                .totalAmount(new BigDecimal("803333"))
-                .build();
+        contract.setNextInstallmentNo(12);
 
         when(contractMapper.findById(1L)).thenReturn(contract);
-        when(scheduleMapper.findByContractId(1L)).thenReturn(List.of(schedule));
-        doNothing().when(scheduleMapper).updateStatus(any(), any(), any(), any());
-        doNothing().when(contractMapper).updateBalance(any(), any(), any());
-        doNothing().when(transactionMapper).insert(any());
-        doNothing().when(contractMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
+        when(scheduleMapper.findUnpaid(1L, 12)).thenReturn(List.of(installment(1L, 12, LocalDate.now().plusDays(10), "800000", "3333")));
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(12), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(1);
 
         LoanTransaction tx = repaymentService.repay(1L, new BigDecimal("803333"));
 
@@ -95,6 +160,144 @@ class RepaymentServiceTest {
         verify(contractMapper).updateStatus(1L, LoanStatus.COMPLETED.name());
     }
 
+    @Test
+    @DisplayName("연체 대출: 남은 연체 회차가 없으면 ACTIVE로 복귀")
+    void repayOverdueContractClearsOverdue() {
+        LoanContract contract = activeContract(new BigDecimal("10000000"));
+        contract.setStatus(LoanStatus.OVERDUE);
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(List.of(installment(1L, 1, LocalDate.now().minusDays(20), "800000", "41667")));
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(1);
+        when(scheduleMapper.countOverdue(1L)).thenReturn(0);
+
+        repaymentService.repay(1L, new BigDecimal("841667"));
+
+        verify(contractMapper).updateStatus(1L, LoanStatus.ACTIVE.name());
+        verify(statusHistoryRecorder).record("LOAN_CONTRACT", 1L, LoanStatus.OVERDUE.name(), LoanStatus.ACTIVE.name(), "SYSTEM", "연체 해소");
+        verify(snapshotService).apply(new PortfolioDelta(1, -1, 0, new BigDecimal("-800000")));
+    }
+
+    @Test
+    @DisplayName("연체이자가 쌓인 회차: 연체이자 거래와 상환 거래를 한 번에 기록")
+    void repaySettlesAccruedPenaltyFirst() {
+        LoanContract contract = activeContract(new BigDecimal("10000000"));
+        RepaymentSchedule overdue = installment(1L, 1, LocalDate.now().minusDays(20), "800000", "41667");
+        overdue.setAccruedPenalty(new BigDecimal("2075.34"));
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(List.of(overdue));
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(1);
+
+        LoanTransaction tx = repaymentService.repay(1L, new BigDecimal("843742.34"));
+
+        assertEquals(TransactionType.REPAYMENT, tx.getType());
+        assertEquals(0, tx.getAmount().compareTo(new BigDecimal("841667")));
+        assertEquals(RepaymentStatus.PAID, overdue.getStatus());
+        verify(transactionBatchWriter).insertAll(argThat(transactions -> transactions.size() == 2
+                && transactions.get(0).getType() == TransactionType.OVERDUE_INTEREST
+                && transactions.get(0).getAmount().compareTo(new BigDecimal("2075.34")) == 0));
+    }
+
+    @Test
+    @DisplayName("부분 상환: 회차는 미납으로 남고 포인터와 연체 상태 유지")
+    void repayPartialKeepsInstallmentOpen() {
+        LoanContract contract = activeContract(new BigDecimal("10000000"));
+        contract.setStatus(LoanStatus.OVERDUE);
+        RepaymentSchedule overdue = installment(1L, 1, LocalDate.now().minusDays(20), "800000", "41667");
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(List.of(overdue));
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(0), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(1);
+        when(scheduleMapper.countOverdue(1L)).thenReturn(1);
+
+        repaymentService.repay(1L, new BigDecimal("500000"));
+
+        assertEquals(RepaymentStatus.OVERDUE, overdue.getStatus());
+        assertEquals(0, overdue.getPaidAmount().compareTo(new BigDecimal("500000")));
+        verify(contractMapper).applyRepayment(1L, 3L, 0, new BigDecimal("9541667"), new BigDecimal("41667"));
+        verify(contractMapper, never()).updateStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("기간 유지 선택 시 초과 금액은 선납되고 남은 회차 월 상환액이 다시 계산됨")
+    void repayWithReamortizationUpdatesMonthlyPayment() {
+        LoanContract contract = activeContract(new BigDecimal("1200000"));
+        contract.setInterestRate(new BigDecimal("5.00"));
+        contract.setRepaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        LocalDate due = LocalDate.now().plusDays(10);
+        List<RepaymentSchedule> unpaid = List.of(
+                installment(1L, 1, due, "400000", "5000"),
+                installment(2L, 2, due.plusMonths(1), "400000", "3333"),
+                installment(3L, 3, due.plusMonths(2), "400000", "1667"));
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(unpaid);
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(3);
+
+        LoanTransaction tx = repaymentService.repay(1L, new BigDecimal("605000"), ReamortizationMode.KEEP_TERM);
+
+        verify(contractMapper).applyRepayment(1L, 3L, 1, new BigDecimal("600000"), new BigDecimal("5000"));
+        verify(contractMapper).updateAmortization(eq(1L), argThat(payment -> payment.compareTo(new BigDecimal("400000")) < 0),
+                eq(due.plusMonths(2)));
+        verify(scheduleBatchWriter).remove(List.of());
+        assertTrue(tx.getDescription().contains("선납원금: 200000"));
+    }
+
+    @Test
+    @DisplayName("상환액 유지 선택 시 필요 없어진 뒤 회차는 삭제되고 만기가 당겨짐")
+    void repayKeepingPaymentRemovesSurplusInstallments() {
+        LoanContract contract = activeContract(new BigDecimal("1200000"));
+        contract.setInterestRate(new BigDecimal("5.00"));
+        contract.setRepaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        contract.setMonthlyPayment(new BigDecimal("405000"));
+        LocalDate due = LocalDate.now().plusDays(10);
+        RepaymentSchedule last = installment(3L, 3, due.plusMonths(2), "400000", "1667");
+        List<RepaymentSchedule> unpaid = List.of(
+                installment(1L, 1, due, "400000", "5000"),
+                installment(2L, 2, due.plusMonths(1), "400000", "3333"),
+                last);
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(unpaid);
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(2);
+        when(scheduleBatchWriter.remove(List.of(last))).thenReturn(1);
+
+        // 300,000 left after a 500,000 prepayment fits in the second installment alone
+        LoanTransaction tx = repaymentService.repay(1L, new BigDecimal("905000"));
+
+        verify(contractMapper).updateAmortization(1L, new BigDecimal("405000"), due.plusMonths(1));
+        verify(scheduleBatchWriter).applyPayments(List.of(unpaid.get(0), unpaid.get(1)));
+        assertTrue(tx.getDescription().contains("만기 단축: " + due.plusMonths(1)));
+    }
+
+    @Test
+    @DisplayName("삭제할 회차를 다른 요청이 먼저 바꾸면 ConcurrentUpdateException")
+    void repayKeepingPaymentDetectsRemovalRace() {
+        LoanContract contract = activeContract(new BigDecimal("1200000"));
+        contract.setInterestRate(new BigDecimal("5.00"));
+        contract.setRepaymentMethod(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        LocalDate due = LocalDate.now().plusDays(10);
+        List<RepaymentSchedule> unpaid = List.of(
+                installment(1L, 1, due, "400000", "5000"),
+                installment(2L, 2, due.plusMonths(1), "400000", "3333"),
+                installment(3L, 3, due.plusMonths(2), "400000", "1667"));
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(unpaid);
+        when(contractMapper.applyRepayment(eq(1L), eq(3L), eq(1), any(), any())).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(any())).thenReturn(2);
+        when(scheduleBatchWriter.remove(any())).thenReturn(0);
+
+        assertThrows(ConcurrentUpdateException.class, () -> repaymentService.repay(1L, new BigDecimal("905000")));
+        verify(transactionBatchWriter, never()).insertAll(any());
+    }
+
     @Test
     @DisplayName("비활성 대출 상환 시 BusinessException")
     void repayInactiveContractThrows() {
@@ -110,11 +313,9 @@ class RepaymentServiceTest {
     @DisplayName("예정된 스케줄 없을 때 BusinessException")
     void repayNoScheduledThrows() {
         LoanContract contract = activeContract(new BigDecimal("10000000"));
-        RepaymentSchedule paidSchedule = RepaymentSchedule.builder()
-                .id(1L).status(RepaymentStatus.PAID).build();
 
         when(contractMapper.findById(1L)).thenReturn(contract);
-        when(scheduleMapper.findByContractId(1L)).thenReturn(List.of(paidSchedule));
+        when(scheduleMapper.findUnpaid(1L, 1)).thenReturn(List.of());
 
         assertThrows(BusinessException.class,
                 () -> repaymentService.repay(1L, new BigDecimal("100000")));
@@ -133,36 +334,71 @@ class RepaymentServiceTest {
     @DisplayName("조기상환: 잔액 전액 + EARLY_REPAID + 거래 기록 (미래 이자 미포함)")
     void earlyRepaySuccess() {
         LoanContract contract = activeContract(new BigDecimal("5000000"));
-        RepaymentSchedule s1 = RepaymentSchedule.builder()
-                .id(1L).status(RepaymentStatus.SCHEDULED)
-                .principalAmount(new BigDecimal("500000"))
-                .interestAmount(new BigDecimal("20000"))
-                .totalAmount(new BigDecimal("520000"))
-                .build();
-        RepaymentSchedule s2 = RepaymentSchedule.builder()
-                .id(2L).status(RepaymentStatus.SCHEDULED)
-                .principalAmount(new BigDecimal("500000"))
-                .interestAmount(new BigDecimal("15000"))
-                .totalAmount(new BigDecimal("515000"))
-                .build();
 
         when(contractMapper.findById(1L)).thenReturn(contract);
-        when(scheduleMapper.findByContractId(1L)).thenReturn(List.of(s1, s2));
-        doNothing().when(scheduleMapper).updateStatus(any(), any(), any(), any());
-        doNothing().when(contractMapper).updateBalance(any(), any(), any());
-        doNothing().when(contractMapper).updateStatus(any(), any());
-        doNothing().when(statusHistoryMapper).insert(any());
-        doNothing().when(transactionMapper).insert(any());
+        when(scheduleMapper.payOffRemaining(eq(List.of(1L)), any())).thenReturn(2);
+        when(contractMapper.payOff(1L, 3L, LoanStatus.EARLY_REPAID.name(), BigDecimal.ZERO)).thenReturn(1);
+        doNothing().when(statusHistoryRecorder).record(any(), any(), any(), any(), any(), any());
 
         LoanTransaction tx = repaymentService.earlyRepay(1L);
 
         assertEquals(TransactionType.EARLY_REPAYMENT, tx.getType());
         assertEquals(0, tx.getAmount().compareTo(new BigDecimal("5000000")));
         assertEquals(0, tx.getBalanceAfter().compareTo(BigDecimal.ZERO));
-        verify(contractMapper).updateStatus(1L, LoanStatus.EARLY_REPAID.name());
-        verify(scheduleMapper, times(2)).updateStatus(any(), eq("PAID"), any(), any());
-        // 미래 이자를 합산하지 않으므로 totalInterestPaid는 기존 값(ZERO) 그대로
-        verify(contractMapper).updateBalance(eq(1L), eq(BigDecimal.ZERO), eq(BigDecimal.ZERO));
+        verify(contractMapper).payOff(1L, 3L, LoanStatus.EARLY_REPAID.name(), BigDecimal.ZERO);
+        verify(transactionBatchWriter).insertAll(List.of(tx));
+        verify(scheduleMapper, never()).findByContractId(any());
+    }
+
+    @Test
+    @DisplayName("조기상환 중 다른 요청이 먼저 계약을 변경하면 ConcurrentUpdateException")
+    void earlyRepayLosingVersionRaceThrows() {
+        when(contractMapper.findById(1L)).thenReturn(activeContract(new BigDecimal("5000000")));
+        when(contractMapper.payOff(1L, 3L, LoanStatus.EARLY_REPAID.name(), BigDecimal.ZERO)).thenReturn(0);
+
+        assertThrows(ConcurrentUpdateException.class, () -> repaymentService.earlyRepay(1L));
+        verify(scheduleMapper, never()).payOffRemaining(any(), any());
+        verify(transactionBatchWriter, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("조기상환: 유예기간 내 연체 회차의 이자와 연체이자까지 받고 연체이자 거래를 기록")
+    void earlyRepayCollectsOverdueInterestAndPenalty() {
+        LoanContract contract = activeContract(new BigDecimal("5000000"));
+        RepaymentSchedule overdue = installment(11L, 1, LocalDate.now().minusDays(20), "800000", "41667");
+        overdue.setAccruedPenalty(new BigDecimal("2075.34"));
+
+        when(contractMapper.findById(1L)).thenReturn(contract);
+        when(scheduleMapper.findOverdueByContractIds(List.of(1L))).thenReturn(List.of(overdue));
+        when(contractMapper.payOff(1L, 3L, LoanStatus.EARLY_REPAID.name(), new BigDecimal("41667"))).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(List.of(overdue))).thenReturn(1);
+
+        LoanTransaction tx = repaymentService.earlyRepay(1L);
+
+        assertEquals(TransactionType.EARLY_REPAYMENT, tx.getType());
+        assertEquals(0, tx.getAmount().compareTo(new BigDecimal("5041667")));
+        assertEquals(RepaymentStatus.PAID, overdue.getStatus());
+        assertEquals(0, overdue.getPaidAmount().compareTo(new BigDecimal("841667")));
+        assertEquals(0, overdue.getPaidPenalty().compareTo(new BigDecimal("2075.34")));
+        verify(transactionBatchWriter).insertAll(argThat(transactions -> transactions.size() == 2
+                && transactions.get(0).getType() == TransactionType.OVERDUE_INTEREST
+                && transactions.get(0).getAmount().compareTo(new BigDecimal("2075.34")) == 0
+                && transactions.get(1) == tx));
+        verify(scheduleMapper).payOffRemaining(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("조기상환 중 연체 회차가 먼저 변경되면 ConcurrentUpdateException")
+    void earlyRepayLosingOverdueInstallmentRaceThrows() {
+        RepaymentSchedule overdue = installment(11L, 1, LocalDate.now().minusDays(20), "800000", "41667");
+        when(contractMapper.findById(1L)).thenReturn(activeContract(new BigDecimal("5000000")));
+        when(scheduleMapper.findOverdueByContractIds(List.of(1L))).thenReturn(List.of(overdue));
+        when(contractMapper.payOff(1L, 3L, LoanStatus.EARLY_REPAID.name(), new BigDecimal("41667"))).thenReturn(1);
+        when(scheduleBatchWriter.applyPayments(List.of(overdue))).thenReturn(0);
+
+        assertThrows(ConcurrentUpdateException.class, () -> repaymentService.earlyRepay(1L));
+        verify(scheduleMapper, never()).payOffRemaining(any(), any());
+        verify(transactionBatchWriter, never()).insertAll(any());
     }
 
     @Test
@@ -175,4 +411,82 @@ class RepaymentServiceTest {
         assertThrows(BusinessException.class,
                 () -> repaymentService.earlyRepay(1L));
     }
+
+    @Test
+    @DisplayName("일괄 조기상환: 대상 건만 일괄 처리, 나머지는 건별 실패 사유 반환")
+    void earlyRepayAllReportsPerItemResults() {
+        LoanContract active = activeContract(new BigDecimal("5000000"));
+        LoanContract completed = LoanContract.builder().id(2L).status(LoanStatus.COMPLETED).build();
+        LoanContract raced = LoanContract.builder()
+                .id(4L).status(LoanStatus.ACTIVE).outstandingBalance(new BigDecimal("3000000"))
+                .totalInterestPaid(BigDecimal.ZERO).build();
+
+        when(batchProperties.getChunkSize()).thenReturn(500);
+        when(contractMapper.findByIds(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(active, completed, raced));
+        when(contractBatchWriter.payOff(List.of(active, raced), LoanStatus.EARLY_REPAID)).thenReturn(List.of(active));
+        when(scheduleMapper.payOffRemaining(eq(List.of(1L)), any())).thenReturn(10);
+
+        BulkOperationResponse response = repaymentService.earlyRepayAll(List.of(1L, 2L, 1L, 3L, 4L));
+
+        assertEquals(4, response.getRequested());
+        assertEquals(1, response.getSucceeded());
+        assertEquals(List.of(1L, 2L, 3L, 4L), response.getItems().stream().map(BulkItemResult::getId).toList());
+        assertTrue(response.getItems().get(0).isSuccess());
+        assertFalse(response.getItems().get(1).isSuccess());
+        assertFalse(response.getItems().get(2).isSuccess());
+        assertEquals("다른 요청에 의해 상태가 변경되었습니다", response.getItems().get(3).getMessage());
+        verify(scheduleMapper).findOverdueByContractIds(List.of(1L, 4L));
+        verify(statusHistoryRecorder).recordAll(argThat(histories -> histories.size() == 1));
+        verify(transactionBatchWriter).insertAll(argThat(txs -> txs.size() == 1
+                && txs.get(0).getType() == TransactionType.EARLY_REPAYMENT
+                && txs.get(0).getAmount().compareTo(new BigDecimal("5000000")) == 0));
+        verify(snapshotService).apply(new PortfolioDelta(-1, 0, 0, new BigDecimal("-5000000")));
+        verify(contractMapper, never()).updateStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 조기상환: 연체 회차가 있는 계약은 이자와 연체이자를 함께 정산")
+    void earlyRepayAllSettlesOverdueInstallments() {
+        LoanContract contract = activeContract(new BigDecimal("5000000"));
+        RepaymentSchedule overdue = installment(11L, 1, LocalDate.now().minusDays(20), "800000", "41667");
+        overdue.setContractId(1L);
+        overdue.setAccruedPenalty(new BigDecimal("2075.34"));
+
+        when(batchProperties.getChunkSize()).thenReturn(500);
+        when(contractMapper.findByIds(List.of(1L))).thenReturn(List.of(contract));
+        when(scheduleMapper.findOverdueByContractIds(List.of(1L))).thenReturn(List.of(overdue));
+        when(contractBatchWriter.payOff(List.of(contract), LoanStatus.EARLY_REPAID)).thenReturn(List.of(contract));
+        when(scheduleBatchWriter.applyPayments(List.of(overdue))).thenReturn(1);
+
+        BulkOperationResponse response = repaymentService.earlyRepayAll(List.of(1L));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(0, contract.getTotalInterestPaid().compareTo(new BigDecimal("41667")));
+        assertEquals(0, overdue.getPaidPenalty().compareTo(new BigDecimal("2075.34")));
+        verify(transactionBatchWriter).insertAll(argThat(txs -> txs.size() == 2
+                && txs.get(0).getType() == TransactionType.OVERDUE_INTEREST
+                && txs.get(1).getType() == TransactionType.EARLY_REPAYMENT
+                && txs.get(1).getAmount().compareTo(new BigDecimal("5041667")) == 0));
+        verify(snapshotService).apply(new PortfolioDelta(-1, 0, 0, new BigDecimal("-5000000")));
+    }
+
+    @Test
+    @DisplayName("일괄 조기상환 청크가 롤백되면 해당 청크 전체를 실패로 보고")
+    void earlyRepayAllReportsRolledBackChunkAsFailed() {
+        LoanContract contract = activeContract(new BigDecimal("5000000"));
+        RepaymentSchedule overdue = installment(11L, 1, LocalDate.now().minusDays(20), "800000", "41667");
+        overdue.setContractId(1L);
+
+        when(batchProperties.getChunkSize()).thenReturn(500);
+        when(contractMapper.findByIds(List.of(1L))).thenReturn(List.of(contract));
+        when(scheduleMapper.findOverdueByContractIds(List.of(1L))).thenReturn(List.of(overdue));
+        when(contractBatchWriter.payOff(List.of(contract), LoanStatus.EARLY_REPAID)).thenReturn(List.of(contract));
+        when(scheduleBatchWriter.applyPayments(List.of(overdue))).thenReturn(0);
+
+        BulkOperationResponse response = repaymentService.earlyRepayAll(List.of(1L));
+
+        assertEquals(0, response.getSucceeded());
+        assertEquals("일괄 조기상환 중 오류가 발생하여 처리되지 않았습니다", response.getItems().get(0).getMessage());
+        verify(transactionBatchWriter, never()).insertAll(any());
+    }
 }
@@ -0,0 +1,126 @@
+package com.loan.core.service;
+
+import com.loan.core.domain.entity.RepaymentSchedule;
+import com.loan.core.domain.enums.ReamortizationMode;
+import com.loan.core.domain.enums.RepaymentMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleReamortizerTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 10);
+    private static final BigDecimal RATE = new BigDecimal("5.00");
+
+    @Test
+    @DisplayName("잔액이 그대로면 다시 계산해도 쓸 회차가 없음")
+    void unchangedBalanceProducesNoWrites() {
+        List<RepaymentSchedule> tail = tail(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        BigDecimal balance = principalOf(tail);
+
+        Reamortization reamortization = ScheduleReamortizer.reamortize(RATE, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST,
+                tail, balance, ReamortizationMode.KEEP_PAYMENT);
+
+        assertTrue(reamortization.updated().isEmpty());
+        assertTrue(reamortization.removed().isEmpty());
+        assertEquals(tail.get(tail.size() - 1).getDueDate(), reamortization.endDate());
+    }
+
+    @Test
+    @DisplayName("기간 유지: 같은 회차 수와 납기로 다시 나누고 월 상환액은 감소")
+    void keepTermLowersThePayment() {
+        List<RepaymentSchedule> tail = tail(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        BigDecimal payment = tail.get(0).getTotalAmount();
+        List<LocalDate> dueDates = tail.stream().map(RepaymentSchedule::getDueDate).toList();
+        BigDecimal balance = principalOf(tail).subtract(new BigDecimal("3000000"));
+
+        Reamortization reamortization = ScheduleReamortizer.reamortize(RATE, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST,
+                tail, balance, ReamortizationMode.KEEP_TERM);
+
+        assertEquals(tail, reamortization.updated());
+        assertTrue(reamortization.removed().isEmpty());
+        assertTrue(reamortization.monthlyPayment().compareTo(payment) < 0);
+        assertEquals(0, tail.get(0).getTotalAmount().compareTo(reamortization.monthlyPayment()));
+        assertEquals(0, principalOf(tail).compareTo(balance));
+        assertEquals(0, tail.get(tail.size() - 1).getOutstandingBalanceAfter().signum());
+        assertEquals(dueDates, tail.stream().map(RepaymentSchedule::getDueDate).toList());
+    }
+
+    @Test
+    @DisplayName("상환액 유지: 같은 월 상환액으로 앞 회차를 채우고 남는 뒤 회차는 삭제 대상")
+    void keepPaymentShortensTheTerm() {
+        List<RepaymentSchedule> tail = tail(RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST);
+        BigDecimal payment = tail.get(0).getTotalAmount();
+        BigDecimal balance = principalOf(tail).subtract(new BigDecimal("3000000"));
+
+        Reamortization reamortization = ScheduleReamortizer.reamortize(RATE, RepaymentMethod.EQUAL_PRINCIPAL_AND_INTEREST,
+                tail, balance, ReamortizationMode.KEEP_PAYMENT);
+
+        assertNull(reamortization.monthlyPayment());
+        assertFalse(reamortization.removed().isEmpty());
+        List<RepaymentSchedule> kept = tail.subList(0, tail.size() - reamortization.removed().size());
+        assertEquals(kept, reamortization.updated());
+        assertEquals(kept.get(kept.size() - 1).getDueDate(), reamortization.endDate());
+        for (RepaymentSchedule installment : kept.subList(0, kept.size() - 1)) {
+            assertEquals(0, installment.getTotalAmount().compareTo(payment));
+        }
+        assertTrue(kept.get(kept.size() - 1).getTotalAmount().compareTo(payment) <= 0);
+        assertEquals(0, principalOf(kept).compareTo(balance));
+        assertEquals(0, kept.get(kept.size() - 1).getOutstandingBalanceAfter().signum());
+    }
+
+    @Test
+    @DisplayName("원금균등 상환액 유지: 회차 원금을 그대로 두고 기간만 단축")
+    void keepPaymentForEqualPrincipalKeepsThePrincipalPart() {
+        List<RepaymentSchedule> tail = tail(RepaymentMethod.EQUAL_PRINCIPAL);
+        BigDecimal principalPart = tail.get(0).getPrincipalAmount();
+        BigDecimal balance = principalOf(tail).subtract(principalPart.multiply(BigDecimal.valueOf(3)));
+
+        Reamortization reamortization = ScheduleReamortizer.reamortize(RATE, RepaymentMethod.EQUAL_PRINCIPAL,
+                tail, balance, ReamortizationMode.KEEP_PAYMENT);
+
+        assertEquals(3, reamortization.removed().size());
+        List<RepaymentSchedule> kept = tail.subList(0, tail.size() - 3);
+        kept.forEach(installment -> assertEquals(0, installment.getPrincipalAmount().compareTo(principalPart)));
+        assertEquals(0, principalOf(kept).compareTo(balance));
+    }
+
+    @Test
+    @DisplayName("만기일시 상환액 유지: 기간은 그대로 두고 줄어든 잔액의 이자로 월 상환액 재산정")
+    void keepPaymentForBulletRecomputesTheInterestOnlyPayment() {
+        List<RepaymentSchedule> tail = tail(RepaymentMethod.BULLET);
+        BigDecimal payment = tail.get(0).getTotalAmount();
+        BigDecimal balance = new BigDecimal("9000000");
+
+        Reamortization reamortization = ScheduleReamortizer.reamortize(RATE, RepaymentMethod.BULLET,
+                tail, balance, ReamortizationMode.KEEP_PAYMENT);
+
+        assertTrue(reamortization.removed().isEmpty());
+        assertEquals(0, reamortization.monthlyPayment().compareTo(new BigDecimal("37500")));
+        assertTrue(reamortization.monthlyPayment().compareTo(payment) < 0);
+        assertEquals(0, tail.get(0).getTotalAmount().compareTo(reamortization.monthlyPayment()));
+        assertEquals(0, principalOf(tail).compareTo(balance));
+    }
+
+    /**
+     * Installments 4 to 12 of a 12-month schedule of 12,000,000, as loaded from the database.
+     */
+    private static List<RepaymentSchedule> tail(RepaymentMethod method) {
+        List<RepaymentSchedule> schedules = FixedPointRepaymentCalculator.generateSchedules(
+                1L, new BigDecimal("12000000"), RATE, 12, method, START);
+        for (RepaymentSchedule schedule : schedules) {
+            schedule.setId((long) schedule.getInstallmentNo());
+            schedule.setVersion(0L);
+        }
+        return schedules.subList(3, schedules.size());
+    }
+
+    private static BigDecimal principalOf(List<RepaymentSchedule> installments) {
+        return installments.stream().map(RepaymentSchedule::getPrincipalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
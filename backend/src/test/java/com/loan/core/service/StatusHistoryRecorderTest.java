@@ -0,0 +1,142 @@
+package com.loan.core.service;
+
+import com.loan.core.config.LoanAuditProperties;
+import com.loan.core.config.LoanAuditProperties.Mode;
+import com.loan.core.config.LoanBatchProperties;
+import com.loan.core.config.TestDataSourceConfig;
+import com.loan.core.domain.entity.StatusHistory;
+import com.loan.core.dto.response.AuditQueueStats;
+import com.loan.core.mapper.StatusHistoryMapper;
+import com.loan.core.mapper.batch.StatusHistoryBatchWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestDataSourceConfig.class, StatusHistoryBatchWriter.class})
+@EnableConfigurationProperties(LoanBatchProperties.class)
+@Sql("classpath:schema-h2.sql")
+class StatusHistoryRecorderTest {
+
+    @Autowired private StatusHistoryMapper statusHistoryMapper;
+    @Autowired private StatusHistoryBatchWriter statusHistoryBatchWriter;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("TRANSACTIONAL 모드는 커밋 직전에 일괄 기록하고 롤백 시 기록하지 않음")
+    void transactionalModeWritesAtCommitOnly() {
+        StatusHistoryMapper spiedMapper = spy(statusHistoryMapper);
+        StatusHistoryBatchWriter spiedWriter = spy(statusHistoryBatchWriter);
+        StatusHistoryRecorder recorder = new StatusHistoryRecorder(spiedMapper, spiedWriter, transactionManager,
+                properties(Mode.TRANSACTIONAL, 100));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            recorder.record("LOAN_CONTRACT", 1L, "EXECUTED", "ACTIVE", "SYSTEM", "대출 활성화");
+            recorder.record("LOAN_CONTRACT", 1L, "ACTIVE", "COMPLETED", "SYSTEM", "상환 완료");
+            assertTrue(statusHistoryMapper.findByEntity("LOAN_CONTRACT", 1L).isEmpty());
+        });
+        tx.executeWithoutResult(status -> {
+            recorder.record("LOAN_CONTRACT", 2L, "EXECUTED", "ACTIVE", "SYSTEM", "대출 활성화");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(2, statusHistoryMapper.findByEntity("LOAN_CONTRACT", 1L).size());
+        assertTrue(statusHistoryMapper.findByEntity("LOAN_CONTRACT", 2L).isEmpty());
+        verify(spiedWriter, times(1)).insertAll(argThat(histories -> histories.size() == 2));
+        verify(spiedMapper, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("WRITE_BEHIND 모드는 커밋된 변경만 큐에 넣고 백그라운드에서 기록")
+    void writeBehindModeQueuesCommittedEntries() throws Exception {
+        StatusHistoryRecorder recorder = new StatusHistoryRecorder(statusHistoryMapper, statusHistoryBatchWriter,
+                transactionManager, properties(Mode.WRITE_BEHIND, 100));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        recorder.start();
+        try {
+            tx.executeWithoutResult(status -> {
+                for (long id = 1; id <= 50; id++) {
+                    recorder.record("LOAN_APPLICATION", id, "APPLIED", "REVIEWING", "SYSTEM", "심사 시작");
+                }
+            });
+            tx.executeWithoutResult(status -> {
+                recorder.record("LOAN_APPLICATION", 99L, "APPLIED", "REVIEWING", "SYSTEM", "심사 시작");
+                status.setRollbackOnly();
+            });
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (recorder.stats().getWritten() < 50 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            recorder.stop();
+        }
+
+        AuditQueueStats stats = recorder.stats();
+        assertEquals(50, stats.getEnqueued());
+        assertEquals(50, stats.getWritten());
+        assertEquals(0, stats.getDepth());
+        assertEquals(0, stats.getFailed());
+        assertEquals(1, statusHistoryMapper.findByEntity("LOAN_APPLICATION", 50L).size());
+        assertTrue(statusHistoryMapper.findByEntity("LOAN_APPLICATION", 99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드가 직접 기록")
+    void fullQueueMakesCallerWrite() throws Exception {
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StatusHistoryBatchWriter blockingWriter = mock(StatusHistoryBatchWriter.class);
+        doAnswer(invocation -> {
+            writerBusy.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(blockingWriter).insertAll(any());
+        StatusHistoryMapper mapper = mock(StatusHistoryMapper.class);
+        StatusHistoryRecorder recorder = new StatusHistoryRecorder(mapper, blockingWriter, transactionManager,
+                properties(Mode.WRITE_BEHIND, 1));
+        recorder.start();
+        try {
+            recorder.record("LOAN_CONTRACT", 1L, "ACTIVE", "OVERDUE", "SYSTEM", "연체");
+            assertTrue(writerBusy.await(10, TimeUnit.SECONDS));
+            recorder.record("LOAN_CONTRACT", 2L, "ACTIVE", "OVERDUE", "SYSTEM", "연체");
+            recorder.record("LOAN_CONTRACT", 3L, "ACTIVE", "OVERDUE", "SYSTEM", "연체");
+
+            AuditQueueStats stats = recorder.stats();
+            assertEquals(1, stats.getCallerRuns());
+            assertEquals(1, stats.getDepth());
+            assertEquals(1, stats.getHighWaterMark());
+            verify(mapper).insert(argThat((StatusHistory history) -> history.getEntityId() == 3L));
+        } finally {
+            release.countDown();
+            recorder.stop();
+        }
+        assertEquals(3, recorder.stats().getWritten());
+    }
+
+    private static LoanAuditProperties properties(Mode mode, int capacity) {
+        LoanAuditProperties properties = new LoanAuditProperties();
+        properties.setMode(mode);
+        properties.setQueueCapacity(capacity);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        return properties;
+    }
+}
@@ -0,0 +1,111 @@
+package com.loan.core.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLockExecutorTest {
+
+    @Test
+    @DisplayName("스트라이프 수는 2의 거듭제곱으로 올림")
+    void roundsStripeCountUpToPowerOfTwo() {
+        assertEquals(1, new StripedLockExecutor(1, Duration.ofSeconds(1)).stripeCount());
+        assertEquals(64, new StripedLockExecutor(64, Duration.ofSeconds(1)).stripeCount());
+        assertEquals(128, new StripedLockExecutor(100, Duration.ofSeconds(1)).stripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new StripedLockExecutor(0, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("연속된 계약 ID는 스트라이프에 고르게 분산")
+    void spreadsSequentialKeysAcrossStripes() {
+        StripedLockExecutor executor = new StripedLockExecutor(64, Duration.ofSeconds(1));
+
+        long used = LongStream.rangeClosed(1, 64 * 16).map(executor::stripeOf).distinct().count();
+
+        assertEquals(64, used);
+    }
+
+    @Test
+    @DisplayName("같은 계약에 대한 작업은 한 번에 하나씩 실행")
+    void serializesWorkForSameKey() throws Exception {
+        StripedLockExecutor executor = new StripedLockExecutor(16, Duration.ofSeconds(10));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> executor.execute(42L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(20);
+                    running.decrementAndGet();
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("다른 스트라이프의 계약은 대기 없이 병렬 실행")
+    void runsOtherStripesInParallel() throws Exception {
+        StripedLockExecutor executor = new StripedLockExecutor(16, Duration.ofMillis(100));
+        long other = LongStream.rangeClosed(2, 100)
+                .filter(key -> executor.stripeOf(key) != executor.stripeOf(1L))
+                .findFirst().orElseThrow();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = pool.submit(() -> executor.execute(1L, () -> {
+                held.countDown();
+                await(release);
+                return null;
+            }));
+            assertTrue(held.await(5, TimeUnit.SECONDS));
+
+            assertEquals("done", executor.execute(other, () -> "done"));
+            assertThrows(CannotAcquireLockException.class, () -> executor.execute(1L, () -> "blocked"));
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
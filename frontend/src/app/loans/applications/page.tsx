@@ -3,9 +3,14 @@ import ApplicationListClient from "@/components/features/applications/Applicatio
 
 export default async function ApplicationListPage() {
   try {
-    const applications = await serverApplicationApi.getAll();
-    return <ApplicationListClient applications={applications} />;
+    const page = await serverApplicationApi.getPage();
+    return <ApplicationListClient initialPage={page} />;
   } catch {
-    return <ApplicationListClient applications={[]} error="데이터를 불러오는데 실패했습니다." />;
+    return (
+      <ApplicationListClient
+        initialPage={{ items: [], nextCursor: null }}
+        error="데이터를 불러오는데 실패했습니다."
+      />
+    );
   }
 }
@@ -1,10 +1,12 @@
 import { serverCustomerApi } from "@/lib/api-server";
+import { CUSTOMER_PICKER_SIZE } from "@/lib/api";
 import ApplyClient from "@/components/features/apply/ApplyClient";
+import { Customer } from "@/types/loan";
 
 export default async function LoanApplyPage() {
-  let customers: Awaited<ReturnType<typeof serverCustomerApi.getAll>> = [];
+  let customers: Customer[] = [];
   try {
-    customers = await serverCustomerApi.getAll();
+    customers = (await serverCustomerApi.getPage(CUSTOMER_PICKER_SIZE)).items;
   } catch {
     // Continue with empty customer list
   }
@@ -1,11 +1,20 @@
-import { serverContractApi } from "@/lib/api-server";
+import { serverContractApi, serverDashboardApi } from "@/lib/api-server";
 import ContractListClient from "@/components/features/contracts/ContractListClient";
 
 export default async function ContractListPage() {
   try {
-    const contracts = await serverContractApi.getAll();
-    return <ContractListClient contracts={contracts} />;
+    const [page, portfolio] = await Promise.all([
+      serverContractApi.getPage(),
+      serverDashboardApi.get().catch(() => null),
+    ]);
+    return <ContractListClient initialPage={page} portfolio={portfolio} />;
   } catch {
-    return <ContractListClient contracts={[]} error="데이터를 불러오는데 실패했습니다." />;
+    return (
+      <ContractListClient
+        initialPage={{ items: [], nextCursor: null }}
+        portfolio={null}
+        error="데이터를 불러오는데 실패했습니다."
+      />
+    );
   }
 }
@@ -2,28 +2,35 @@
 
 import React from "react";
 import Link from "next/link";
+import { CursorPage } from "@/types/api";
 import { LoanApplication } from "@/types/loan";
 import ErrorBanner from "@/components/ui/ErrorBanner";
+import LoadMoreButton from "@/components/ui/LoadMoreButton";
 import ApplicationFilterTabs from "./ApplicationFilterTabs";
 import ApplicationTable from "./ApplicationTable";
 import { useApplicationList, filterTabs } from "@/hooks/useApplicationList";
 
 interface ApplicationListClientProps {
-  applications: LoanApplication[];
+  initialPage: CursorPage<LoanApplication>;
   error?: string;
 }
 
 export default function ApplicationListClient({
-  applications,
+  initialPage,
   error,
 }: ApplicationListClientProps) {
   const {
+    applications,
     filteredApplications,
+    hasMore,
+    loadingMore,
+    loadError,
+    loadMore,
     activeTab,
     setActiveTab,
     getCountByTab,
     goToApplication,
-  } = useApplicationList(applications);
+  } = useApplicationList(initialPage);
 
   return (
     <div className="mx-auto max-w-6xl px-4 sm:px-6 lg:px-8 py-16">
@@ -33,7 +40,9 @@ export default function ApplicationListClient({
             대출 신청 현황
           </h1>
           <p className="mt-2 text-lg text-gray-600 dark:text-gray-400">
-            총 {applications.length}건의 신청 내역
+            {hasMore
+              ? `최근 신청 내역 ${applications.length}건`
+              : `총 ${applications.length}건의 신청 내역`}
           </p>
         </div>
         <Link href="/loans/apply" className="btn btn-primary">
@@ -65,6 +74,12 @@ export default function ApplicationListClient({
           activeTab={activeTab}
           onRowClick={goToApplication}
         />
+        {loadError && (
+          <div style={{ padding: "0 24px" }}>
+            <ErrorBanner message={loadError} />
+          </div>
+        )}
+        {hasMore && <LoadMoreButton loading={loadingMore} onClick={loadMore} />}
       </div>
     </div>
   );
@@ -4,6 +4,7 @@ import React from "react";
 import { Customer, EmploymentType } from "@/types/loan";
 import { formatCurrency, getEmploymentTypeLabel } from "@/lib/formatters";
 import { CustomerFormData, employmentTypes } from "@/hooks/useLoanApply";
+import { CUSTOMER_PICKER_SIZE } from "@/lib/api";
 
 interface CustomerInfoStepProps {
   isNewCustomer: boolean;
@@ -67,6 +68,11 @@ export default function CustomerInfoStep({
                 </option>
               ))}
             </select>
+            {existingCustomers.length >= CUSTOMER_PICKER_SIZE && (
+              <p style={{ fontSize: "13px", color: "var(--text-muted)", marginTop: "8px" }}>
+                최근 등록된 고객 {CUSTOMER_PICKER_SIZE}명까지 표시됩니다.
+              </p>
+            )}
             {selectedCustomer && (
               <div className="rounded-xl border border-gray-200 dark:border-gray-800 bg-white dark:bg-gray-900 p-6 mt-4">
                 <div
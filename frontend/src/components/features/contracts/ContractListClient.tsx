@@ -2,22 +2,26 @@
 
 import React from "react";
 import ErrorBanner from "@/components/ui/ErrorBanner";
+import LoadMoreButton from "@/components/ui/LoadMoreButton";
 import ContractSummaryCards from "./ContractSummaryCards";
 import ContractTable from "./ContractTable";
 import { useContractList } from "@/hooks/useContractList";
-import { LoanContract } from "@/types/loan";
+import { CursorPage } from "@/types/api";
+import { DashboardData, LoanContract } from "@/types/loan";
 
 interface ContractListClientProps {
-  contracts: LoanContract[];
+  initialPage: CursorPage<LoanContract>;
+  portfolio: DashboardData | null;
   error?: string;
 }
 
 export default function ContractListClient({
-  contracts: initialContracts,
+  initialPage,
+  portfolio,
   error,
 }: ContractListClientProps) {
-  const { contracts, summaryCards, goToContract } =
-    useContractList(initialContracts);
+  const { contracts, summaryCards, hasMore, loadingMore, loadError, loadMore, goToContract } =
+    useContractList(initialPage, portfolio);
 
   return (
     <div className="mx-auto max-w-6xl px-4 sm:px-6 lg:px-8 py-16">
@@ -32,8 +36,12 @@ export default function ContractListClient({
 
       <div className="space-y-10">
         {error && <ErrorBanner message={error} />}
-        <ContractSummaryCards summaryCards={summaryCards} />
-        <ContractTable contracts={contracts} onRowClick={goToContract} />
+        {summaryCards.length > 0 && <ContractSummaryCards summaryCards={summaryCards} />}
+        <div>
+          <ContractTable contracts={contracts} onRowClick={goToContract} />
+          {loadError && <ErrorBanner message={loadError} />}
+          {hasMore && <LoadMoreButton loading={loadingMore} onClick={loadMore} />}
+        </div>
       </div>
     </div>
   );
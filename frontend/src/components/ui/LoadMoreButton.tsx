@@ -0,0 +1,16 @@
+import React from "react";
+
+interface LoadMoreButtonProps {
+  loading: boolean;
+  onClick: () => void;
+}
+
+export default function LoadMoreButton({ loading, onClick }: LoadMoreButtonProps) {
+  return (
+    <div style={{ display: "flex", justifyContent: "center", padding: "24px 0" }}>
+      <button className="btn btn-secondary" onClick={onClick} disabled={loading}>
+        {loading ? "불러오는 중..." : "더 보기"}
+      </button>
+    </div>
+  );
+}
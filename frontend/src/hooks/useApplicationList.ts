@@ -2,6 +2,9 @@
 
 import { useState } from "react";
 import { useRouter } from "next/navigation";
+import { applicationApi } from "@/lib/api";
+import { useCursorList } from "@/hooks/useCursorList";
+import { CursorPage } from "@/types/api";
 import { LoanApplication, LoanStatus } from "@/types/loan";
 
 export type FilterTab = "ALL" | LoanStatus;
@@ -19,19 +22,24 @@ export const filterTabs: TabItem[] = [
   { key: "REJECTED", label: "거절" },
 ];
 
-export function useApplicationList(initialApplications: LoanApplication[]) {
+// Tabs filter and count the pages read so far
+export function useApplicationList(initialPage: CursorPage<LoanApplication>) {
   const router = useRouter();
   const [activeTab, setActiveTab] = useState<FilterTab>("ALL");
+  const { items, hasMore, loadingMore, loadError, loadMore } = useCursorList(
+    initialPage,
+    (cursor) => applicationApi.getPage(cursor)
+  );
 
   const filteredApplications =
     activeTab === "ALL"
-      ? initialApplications
-      : initialApplications.filter((app) => app.status === activeTab);
+      ? items
+      : items.filter((app) => app.status === activeTab);
 
   function getCountByTab(tabKey: FilterTab): number {
     return tabKey === "ALL"
-      ? initialApplications.length
-      : initialApplications.filter((a) => a.status === tabKey).length;
+      ? items.length
+      : items.filter((a) => a.status === tabKey).length;
   }
 
   function goToApplication(id: number) {
@@ -43,7 +51,12 @@ export function useApplicationList(initialApplications: LoanApplication[]) {
   }
 
   return {
+    applications: items,
     filteredApplications,
+    hasMore,
+    loadingMore,
+    loadError,
+    loadMore,
     activeTab,
     setActiveTab,
     getCountByTab,
@@ -0,0 +1,40 @@
+"use client";
+
+import { useState } from "react";
+import { CursorPage } from "@/types/api";
+
+// Rows of a keyset-paginated list: starts from the server-rendered first page and reads the next one on demand
+export function useCursorList<T>(
+  initialPage: CursorPage<T>,
+  fetchPage: (cursor: string) => Promise<CursorPage<T>>
+) {
+  const [items, setItems] = useState<T[]>(initialPage.items);
+  const [nextCursor, setNextCursor] = useState<string | null>(initialPage.nextCursor);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [loadError, setLoadError] = useState<string | null>(null);
+
+  async function loadMore() {
+    if (!nextCursor || loadingMore) return;
+    try {
+      setLoadingMore(true);
+      setLoadError(null);
+      const page = await fetchPage(nextCursor);
+      setItems((prev) => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setLoadError(
+        err instanceof Error ? err.message : "목록을 더 불러오지 못했습니다."
+      );
+    } finally {
+      setLoadingMore(false);
+    }
+  }
+
+  return {
+    items,
+    hasMore: nextCursor !== null,
+    loadingMore,
+    loadError,
+    loadMore,
+  };
+}
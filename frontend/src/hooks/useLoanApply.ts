@@ -2,7 +2,7 @@
 
 import { useState, useEffect } from "react";
 import { useRouter } from "next/navigation";
-import { customerApi, applicationApi } from "@/lib/api";
+import { customerApi, applicationApi, CUSTOMER_PICKER_SIZE } from "@/lib/api";
 import { Customer, RepaymentMethod, EmploymentType } from "@/types/loan";
 
 export const steps = [
@@ -77,7 +77,10 @@ export function useLoanApply(initialCustomers?: Customer[]) {
 
   useEffect(() => {
     if (!initialCustomers) {
-      customerApi.getAll().then(setExistingCustomers).catch(() => {});
+      customerApi
+        .getPage(null, CUSTOMER_PICKER_SIZE)
+        .then((page) => setExistingCustomers(page.items))
+        .catch(() => {});
     }
   }, []);
 
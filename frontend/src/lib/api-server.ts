@@ -1,4 +1,4 @@
-import { ApiResponse } from "@/types/api";
+import { ApiResponse, CursorPage } from "@/types/api";
 import {
   Customer,
   LoanApplication,
@@ -12,8 +12,9 @@ import {
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
 const BASE_URL = `${API_BASE_URL}/api/v1`;
+const PAGE_SIZE = 20;
 
-async function serverFetch<T>(endpoint: string): Promise<T> {
+async function serverFetchResponse<T>(endpoint: string): Promise<ApiResponse<T>> {
   const res = await fetch(`${BASE_URL}${endpoint}`, {
     cache: "no-store",
   });
@@ -35,7 +36,18 @@ async function serverFetch<T>(endpoint: string): Promise<T> {
     throw new Error(result.message || "요청 처리 중 오류가 발생했습니다.");
   }
 
-  return result.data;
+  return result;
+}
+
+async function serverFetch<T>(endpoint: string): Promise<T> {
+  return (await serverFetchResponse<T>(endpoint)).data;
+}
+
+// List endpoints are keyset-paginated; pages render the first page and read the rest on demand
+async function serverFetchPage<T>(endpoint: string, size: number = PAGE_SIZE): Promise<CursorPage<T>> {
+  const params = new URLSearchParams({ size: String(size) });
+  const page = await serverFetchResponse<T[]>(`${endpoint}?${params}`);
+  return { items: page.data, nextCursor: page.nextCursor ?? null };
 }
 
 export const serverDashboardApi = {
@@ -45,8 +57,8 @@ export const serverDashboardApi = {
 };
 
 export const serverCustomerApi = {
-  getAll(): Promise<Customer[]> {
-    return serverFetch<Customer[]>("/customers");
+  getPage(size?: number): Promise<CursorPage<Customer>> {
+    return serverFetchPage<Customer>("/customers", size);
   },
   getById(id: number): Promise<Customer> {
     return serverFetch<Customer>(`/customers/${id}`);
@@ -54,8 +66,8 @@ export const serverCustomerApi = {
 };
 
 export const serverApplicationApi = {
-  getAll(): Promise<LoanApplication[]> {
-    return serverFetch<LoanApplication[]>("/loans/applications");
+  getPage(): Promise<CursorPage<LoanApplication>> {
+    return serverFetchPage<LoanApplication>("/loans/applications");
   },
   getById(id: number): Promise<LoanApplication> {
     return serverFetch<LoanApplication>(`/loans/applications/${id}`);
@@ -69,8 +81,8 @@ export const serverApplicationApi = {
 };
 
 export const serverContractApi = {
-  getAll(): Promise<LoanContract[]> {
-    return serverFetch<LoanContract[]>("/loans/contracts");
+  getPage(): Promise<CursorPage<LoanContract>> {
+    return serverFetchPage<LoanContract>("/loans/contracts");
   },
   getById(id: number): Promise<LoanContract> {
     return serverFetch<LoanContract>(`/loans/contracts/${id}`);
@@ -1,4 +1,4 @@
-import { ApiResponse, CustomerCreateRequest, LoanApplicationCreateRequest, RepaymentRequest } from "@/types/api";
+import { ApiResponse, CursorPage, CustomerCreateRequest, LoanApplicationCreateRequest, RepaymentRequest } from "@/types/api";
 import {
   Customer,
   LoanApplication,
@@ -11,6 +11,9 @@ import {
 } from "@/types/loan";
 
 const BASE_URL = "/api/v1";
+const PAGE_SIZE = 20;
+// The apply form's customer picker lists one page of the most recently registered customers
+export const CUSTOMER_PICKER_SIZE = 100;
 
 class ApiError extends Error {
   status: number;
@@ -21,10 +24,10 @@ class ApiError extends Error {
   }
 }
 
-async function request<T>(
+async function fetchResponse<T>(
   endpoint: string,
   options: RequestInit = {}
-): Promise<T> {
+): Promise<ApiResponse<T>> {
   const url = `${BASE_URL}${endpoint}`;
   const config: RequestInit = {
     headers: {
@@ -53,7 +56,29 @@ async function request<T>(
     throw new ApiError(result.message || "요청 처리 중 오류가 발생했습니다.", 400);
   }
 
-  return result.data;
+  return result;
+}
+
+async function request<T>(
+  endpoint: string,
+  options: RequestInit = {}
+): Promise<T> {
+  return (await fetchResponse<T>(endpoint, options)).data;
+}
+
+// List endpoints are keyset-paginated; pass the previous page's nextCursor to read the next one
+async function requestPage<T>(
+  endpoint: string,
+  cursor?: string | null,
+  size: number = PAGE_SIZE
+): Promise<CursorPage<T>> {
+  const params = new URLSearchParams({ size: String(size) });
+  if (cursor) {
+    params.set("cursor", cursor);
+  }
+  const separator = endpoint.includes("?") ? "&" : "?";
+  const page = await fetchResponse<T[]>(`${endpoint}${separator}${params}`);
+  return { items: page.data, nextCursor: page.nextCursor ?? null };
 }
 
 // Customer API
@@ -69,8 +94,8 @@ export const customerApi = {
     return request<Customer>(`/customers/${id}`);
   },
 
-  getAll(): Promise<Customer[]> {
-    return request<Customer[]>("/customers");
+  getPage(cursor?: string | null, size?: number): Promise<CursorPage<Customer>> {
+    return requestPage<Customer>("/customers", cursor, size);
   },
 };
 
@@ -99,9 +124,9 @@ export const applicationApi = {
     return request<LoanApplication>(`/loans/applications/${id}`);
   },
 
-  getAll(customerId?: number): Promise<LoanApplication[]> {
+  getPage(cursor?: string | null, customerId?: number): Promise<CursorPage<LoanApplication>> {
     const params = customerId ? `?customerId=${customerId}` : "";
-    return request<LoanApplication[]>(`/loans/applications${params}`);
+    return requestPage<LoanApplication>(`/loans/applications${params}`, cursor);
   },
 
   getAssessment(id: number): Promise<CreditAssessment> {
@@ -125,9 +150,9 @@ export const contractApi = {
     return request<LoanContract>(`/loans/contracts/${id}`);
   },
 
-  getAll(customerId?: number): Promise<LoanContract[]> {
+  getPage(cursor?: string | null, customerId?: number): Promise<CursorPage<LoanContract>> {
     const params = customerId ? `?customerId=${customerId}` : "";
-    return request<LoanContract[]>(`/loans/contracts${params}`);
+    return requestPage<LoanContract>(`/loans/contracts${params}`, cursor);
   },
 
   getSchedules(id: number): Promise<RepaymentSchedule[]> {
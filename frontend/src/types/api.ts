@@ -3,6 +3,14 @@ export interface ApiResponse<T> {
   message: string;
   data: T;
   timestamp: string;
+  /** Set on list responses when another page follows */
+  nextCursor?: string | null;
+}
+
+/** One page of a list endpoint; nextCursor reads the page after it and is null on the last page */
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
 }
 
 export interface CustomerCreateRequest {